@@ -0,0 +1,95 @@
+package cs3500.animator.controller;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import cs3500.animator.model.AnimationModel;
+
+/**
+ * Represents an edit held in it's compressed binary form, which is read back each time the edit
+ * is undone or redone. Edits of shapes repeat the same keys, types and mostly the same numbers
+ * across key frames, so they compress well, at the cost of reading the edit back when it's used.
+ */
+final class CompressedEdit implements Edit {
+
+  //represents the number of bytes of memory held by an edit apart from it's data
+  private static final long OVERHEAD = 32;
+
+  private final byte[] data;
+
+  /**
+   * Constructs an edit from the given compressed data.
+   *
+   * @param data the compressed data
+   */
+  private CompressedEdit(byte[] data) {
+    this.data = data;
+  }
+
+  /**
+   * Compresses the given edit.
+   *
+   * @param edit the edit
+   * @return the compressed edit, or the given edit if it's already compressed
+   * @throws IllegalArgumentException if the edit is null
+   */
+  static CompressedEdit compress(Edit edit) throws IllegalArgumentException {
+    if (edit == null) {
+      throw new IllegalArgumentException("Edit can't be null.");
+    } else if (edit instanceof CompressedEdit) {
+      return (CompressedEdit) edit;
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+      edit.write(out);
+    } catch (IOException e) {
+      throw new IllegalStateException("Edit could not be compressed.");
+    } finally {
+      //a deflater given to a stream isn't ended when the stream is closed
+      deflater.end();
+    }
+    return new CompressedEdit(bytes.toByteArray());
+  }
+
+  /**
+   * Reads back the edit this was compressed from.
+   *
+   * @return an equal edit
+   */
+  Edit decompress() {
+    try (DataInputStream in = new DataInputStream(
+            new InflaterInputStream(new ByteArrayInputStream(this.data)))) {
+      return EditCodec.read(in);
+    } catch (IOException e) {
+      throw new IllegalStateException("Edit could not be decompressed.");
+    }
+  }
+
+  @Override
+  public AnimationModel undo(AnimationModel model) throws IllegalArgumentException {
+    return this.decompress().undo(model);
+  }
+
+  @Override
+  public AnimationModel redo(AnimationModel model) throws IllegalArgumentException {
+    return this.decompress().redo(model);
+  }
+
+  @Override
+  public long getSize() {
+    return this.data.length + OVERHEAD;
+  }
+
+  @Override
+  public void write(DataOutputStream out) throws IOException {
+    this.decompress().write(out);
+  }
+}
@@ -2,15 +2,12 @@ package cs3500.animator.controller;
 
 import java.awt.event.ActionEvent;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.util.ArrayList;
-import java.util.EmptyStackException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Stack;
+import java.util.function.Consumer;
 
 import javax.swing.Timer;
 import javax.swing.JList;
@@ -18,7 +15,6 @@ import javax.swing.JSlider;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ListSelectionEvent;
 
-import cs3500.animator.model.Animation;
 import cs3500.animator.model.AnimationModel;
 import cs3500.animator.model.Ellipse;
 import cs3500.animator.model.ImmutableAnimation;
@@ -27,9 +23,6 @@ import cs3500.animator.model.KeyFrameModel;
 import cs3500.animator.model.Rectangle;
 import cs3500.animator.model.Shape;
 import cs3500.animator.model.ShapeModel;
-import cs3500.animator.util.AnimationReader;
-import cs3500.animator.view.SVGView;
-import cs3500.animator.view.TextView;
 import cs3500.animator.view.View;
 import cs3500.animator.view.ViewEditable;
 
@@ -47,9 +40,34 @@ public class Controller implements ControllerModel {
   private EndOperation endOperation = EndOperation.OPEN;
   private int ticksPerSecond;
 
-  //represents edit states to the model in the past and future of the current edit state
-  private Stack<AnimationModel> history = new Stack<>();
-  private Stack<AnimationModel> future = new Stack<>();
+  //represents the edits made to the model, which can be undone and redone
+  private final EditLog edits;
+
+  //represents the saves running in the background, by the path of the file each saves to, where
+  //the console is the empty path
+  private final HashMap<String, SaveTask> saves = new HashMap<>();
+
+  //represents the file loading in the background, or null if no file is loading
+  private LoadTask load;
+
+  /**
+   * Constructs a controller keeping the default amount of edit history.
+   */
+  public Controller() {
+    this.edits = new EditLog();
+  }
+
+  /**
+   * Constructs a controller keeping at most the given number of edits, holding at most about the
+   * given number of bytes, in it's edit history. The oldest edits are discarded past either limit.
+   *
+   * @param historyDepth the number of edits that can be undone
+   * @param historyBytes the estimated bytes of memory the edit history can hold
+   * @throws IllegalArgumentException if either limit isn't positive
+   */
+  public Controller(int historyDepth, long historyBytes) throws IllegalArgumentException {
+    this.edits = new EditLog(EditLog.DEFAULT_RECENT, historyDepth, historyBytes);
+  }
 
   @Override
   public void control(AnimationModel model, View view, int ticksPerSecond) {
@@ -147,16 +165,9 @@ public class Controller implements ControllerModel {
    * @param shape the given shape
    */
   private void addShape(ShapeModel shape) {
-    Stack<AnimationModel> temp = (Stack<AnimationModel>) this.future.clone();
-    try {
-      this.addToHistory();
-      this.model.addShape(shape);
-      this.applyModelUpdateToView("Shape has been added");
-    } catch (IllegalArgumentException e) {
-      this.history.pop();
-      this.future = temp;
-      this.view.displayMessage(e.getMessage());
-    }
+    String key = shape == null ? null : shape.getKey();
+    this.editShapes(Collections.singletonList(key), m -> m.addShape(shape),
+            "Shape has been added");
   }
 
   /**
@@ -165,16 +176,8 @@ public class Controller implements ControllerModel {
    * @param key the key of the shape
    */
   private void removeShape(String key) {
-    Stack<AnimationModel> temp = (Stack<AnimationModel>) this.future.clone();
-    try {
-      this.addToHistory();
-      this.model.removeShape(key);
-      this.applyModelUpdateToView("Shape has been removed");
-    } catch (IllegalArgumentException e) {
-      this.history.pop();
-      this.future = temp;
-      this.view.displayMessage(e.getMessage());
-    }
+    this.editShapes(Collections.singletonList(key), m -> m.removeShape(key),
+            "Shape has been removed");
   }
 
   /**
@@ -184,14 +187,11 @@ public class Controller implements ControllerModel {
    * @param keyFrame the given key frame
    */
   private void addFrame(String key, KeyFrameModel keyFrame) {
-    Stack<AnimationModel> temp = (Stack<AnimationModel>) this.future.clone();
     try {
-      this.addToHistory();
       this.model.addKeyFrame(key, keyFrame);
+      this.edits.record(new KeyFrameEdit(key, null, keyFrame));
       this.applyModelUpdateToView("Key frame has been added");
     } catch (IllegalArgumentException e) {
-      this.history.pop();
-      this.future = temp;
       this.view.displayMessage(e.getMessage());
     }
   }
@@ -203,14 +203,11 @@ public class Controller implements ControllerModel {
    * @param keyFrame the given key frame
    */
   private void removeFrame(String key, KeyFrameModel keyFrame) {
-    Stack<AnimationModel> temp = (Stack<AnimationModel>) this.future.clone();
     try {
-      this.addToHistory();
       this.model.removeKeyFrame(key, keyFrame);
+      this.edits.record(new KeyFrameEdit(key, keyFrame, null));
       this.applyModelUpdateToView("Key frame has been removed");
     } catch (IllegalArgumentException e) {
-      this.history.pop();
-      this.future = temp;
       this.view.displayMessage(e.getMessage());
     }
   }
@@ -223,15 +220,18 @@ public class Controller implements ControllerModel {
    * @param input    the key frame input from the user
    */
   private void modifyFrame(String key, KeyFrameModel selected, KeyFrameModel input) {
-    Stack<AnimationModel> temp = (Stack<AnimationModel>) this.future.clone();
+    boolean removed = false;
     try {
-      this.addToHistory();
       this.model.removeKeyFrame(key, selected);
+      removed = true;
       this.model.addKeyFrame(key, input);
+      this.edits.record(new KeyFrameEdit(key, selected, input));
       this.applyModelUpdateToView("Key frame has been modified");
     } catch (IllegalArgumentException e) {
-      this.history.pop();
-      this.future = temp;
+      //puts the selected key frame back if the input key frame couldn't replace it
+      if (removed) {
+        this.model.addKeyFrame(key, selected);
+      }
       this.view.displayMessage(e.getMessage());
     }
   }
@@ -256,48 +256,52 @@ public class Controller implements ControllerModel {
   }
 
   /**
-   * Saves a new animation of the given type to the given out.
+   * Starts saving a new animation of the given type to the given path in the background, unless
+   * a save to the same path is already running. The animation saved is a snapshot of the model as
+   * it is now.
    *
-   * @param typeAndOut the animations view type and out
+   * @param typeAndPath the animations view type and file path, where an empty path is the console
    */
-  private void saveAnimation(HashMap<String, Appendable> typeAndOut) {
-    String type = new ArrayList<>(typeAndOut.keySet()).get(0);
-    Appendable out = new ArrayList<>(typeAndOut.values()).get(0);
-    if (out == null) {
-      this.view.displayMessage("File path not found");
+  private void saveAnimation(HashMap<String, String> typeAndPath) {
+    String type = new ArrayList<>(typeAndPath.keySet()).get(0);
+    String path = new ArrayList<>(typeAndPath.values()).get(0);
+    if (type == null || path == null) {
       return;
     }
 
-    //creates the view
-    View view;
-    if (type == null) {
+    File file = path.isEmpty() ? null : new File(path).getAbsoluteFile();
+    String target = file == null ? "" : file.getPath();
+    if (this.saves.containsKey(target)) {
+      this.view.displayMessage("A save to this file is already running");
       return;
-    } else if (type.equals("Svg")) {
-      view = new SVGView(new ImmutableAnimation(this.model), out, this.ticksPerSecond);
-    } else {
-      view = new TextView(new ImmutableAnimation(this.model), out);
     }
 
-    //tries to save the view
-    try {
-      view.makeVisible();
-      if (out instanceof FileWriter) {
-        ((FileWriter) out).flush();
-        ((FileWriter) out).close();
-      }
+    SaveTask save = new SaveTask(type, file, new ImmutableAnimation(this.model.makeCopy()),
+            this.ticksPerSecond, this.view, () -> this.saves.remove(target));
+    this.saves.put(target, save);
+    save.execute();
+    this.view.displayMessage("Saving " + type + " file");
+  }
 
-      if (out == System.out) {
-        this.view.displayMessage(type + " file has been saved to console");
-      } else {
-        this.view.displayMessage(type + " file has been saved");
-      }
-    } catch (IOException e) {
-      this.view.displayMessage("File path not found");
+  /**
+   * Cancels every save running in the background, leaving the files they were saving to as they
+   * were.
+   */
+  private void cancelSaves() {
+    if (this.saves.isEmpty()) {
+      this.view.displayMessage("No save is running");
+      return;
+    }
+
+    //cancelling a save removes it from the map of saves once it's done
+    for (SaveTask save : new ArrayList<>(this.saves.values())) {
+      save.cancel(false);
     }
   }
 
   /**
-   * Loads a new animation based on the given file.
+   * Starts loading a new animation from the given file in the background, unless a file is
+   * already loading. The current animation is replaced once the file has been loaded.
    *
    * @param file the given file
    */
@@ -305,18 +309,35 @@ public class Controller implements ControllerModel {
     if (file == null) {
       this.view.displayMessage("Specified file not found.");
       return;
+    } else if (this.load != null) {
+      this.view.displayMessage("A file is already loading");
+      return;
     }
 
-    FileReader fileReader;
-    try {
-      fileReader = new FileReader(file);
-    } catch (FileNotFoundException e) {
-      this.view.displayMessage("Specified file not found.");
-      return;
+    this.load = new LoadTask(file, this.view, this::replaceModel, () -> this.load = null);
+    this.load.execute();
+    this.view.displayMessage("Loading " + file.getName());
+  }
+
+  /**
+   * Cancels the file loading in the background, leaving the current animation as it is.
+   */
+  private void cancelLoad() {
+    if (this.load == null) {
+      this.view.displayMessage("No file is loading");
+    } else {
+      this.load.cancel(false);
     }
+  }
 
-    this.addToHistory();
-    this.model = AnimationReader.parseFile(fileReader, new Animation.Builder());
+  /**
+   * Replaces the model with the given loaded model as a single edit, and restarts the animation.
+   *
+   * @param loaded the loaded model
+   */
+  private void replaceModel(AnimationModel loaded) {
+    this.edits.record(new ModelEdit(this.model, loaded));
+    this.model = loaded;
     this.applyModelUpdateToView("");
     this.view.updateFrameSize();
     this.view.updateLists();
@@ -325,39 +346,47 @@ public class Controller implements ControllerModel {
   }
 
   /**
-   * Reverses the model/view to a state prior to the last edit if one exists.
+   * Reverses the model/view to a state prior to the last edit if one exists. If the edit can't be
+   * undone, the exception's error message is displayed and the history is left as it was.
    */
   private void undo() {
-    try {
-      AnimationModel p = this.history.pop();
-      this.future.add(this.model.makeCopy());
-      this.model = p;
-
-      this.applyAnimationUpdateToView("");
-      this.applyModelUpdateToView("");
-      this.view.updateLists();
-      this.view.displayMessage("Undo performed");
-    } catch (EmptyStackException e) {
+    if (!this.edits.canUndo()) {
       this.view.displayMessage("No undo history");
+      return;
+    }
+
+    try {
+      this.model = this.edits.undo(this.model);
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      this.view.displayMessage(e.getMessage());
+      return;
     }
+    this.applyAnimationUpdateToView("");
+    this.applyModelUpdateToView("");
+    this.view.updateLists();
+    this.view.displayMessage("Undo performed");
   }
 
   /**
-   * Forwards the model/view to a state previous to the last undo if one exists.
+   * Forwards the model/view to a state previous to the last undo if one exists. If the edit can't
+   * be redone, the exception's error message is displayed and the history is left as it was.
    */
   private void redo() {
-    try {
-      AnimationModel p = this.future.pop();
-      this.history.add(this.model.makeCopy());
-      this.model = p;
-
-      this.applyAnimationUpdateToView("");
-      this.applyModelUpdateToView("");
-      this.view.updateLists();
-      this.view.displayMessage("Redo performed");
-    } catch (EmptyStackException e) {
+    if (!this.edits.canRedo()) {
       this.view.displayMessage("No redo history");
+      return;
     }
+
+    try {
+      this.model = this.edits.redo(this.model);
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      this.view.displayMessage(e.getMessage());
+      return;
+    }
+    this.applyAnimationUpdateToView("");
+    this.applyModelUpdateToView("");
+    this.view.updateLists();
+    this.view.displayMessage("Redo performed");
   }
 
   /**
@@ -383,11 +412,22 @@ public class Controller implements ControllerModel {
   }
 
   /**
-   * Adds the current state of the model and view to the history of edits.
+   * Applies an edit to the shapes of the given keys and records it in the history of edits, and
+   * applies the update to the view. If the edit can't be applied, the exception's error message
+   * is displayed.
+   *
+   * @param keys          the keys of the shapes the edit changes
+   * @param edit          the edit
+   * @param updateMessage the message to display
    */
-  private void addToHistory() {
-    this.history.add(this.model.makeCopy());
-    this.future = new Stack<>();
+  private void editShapes(Collection<String> keys, Consumer<AnimationModel> edit,
+                          String updateMessage) {
+    try {
+      this.edits.record(ShapeEdit.apply(this.model, keys, edit));
+      this.applyModelUpdateToView(updateMessage);
+    } catch (IllegalArgumentException e) {
+      this.view.displayMessage(e.getMessage());
+    }
   }
 
   @Override
@@ -462,57 +502,59 @@ public class Controller implements ControllerModel {
         this.saveAnimation(this.view.savePopup());
         break;
       }
+      case "Cancel Save":
+        this.cancelSaves();
+        break;
       case "Load File": {
         this.timer.stop();
         this.loadFile(this.view.loadFile());
         break;
       }
+      case "Cancel Load":
+        this.cancelLoad();
+        break;
       case "Undo Edit":
         this.undo();
         break;
       case "Redo Edit":
         this.redo();
         break;
-      case "Add Shape To Layer":
+      case "Add Shape To Layer": {
         this.timer.stop();
         try {
           int value = this.view.getLayerValue();
           ShapeModel shape = this.view.getSelectedShape();
-          if (shape == null) {
-            this.model.addShapeToLayer(null, value);
-          } else {
-            this.model.addShapeToLayer(shape.getKey(), value);
-          }
-          this.applyModelUpdateToView("Shape has been added to layer " + value);
+          String key = shape == null ? null : shape.getKey();
+          this.editShapes(Collections.singletonList(key), m -> m.addShapeToLayer(key, value),
+                  "Shape has been added to layer " + value);
           this.view.updateLists();
         } catch (IllegalArgumentException e3) {
           this.view.displayMessage(e3.getMessage());
         }
         break;
-      case "Delete Layer":
+      }
+      case "Delete Layer": {
         this.timer.stop();
         try {
           int value = this.view.getLayerValue();
-          this.model.deleteLayer(value);
-          this.applyModelUpdateToView("layer " + value + " has been deleted");
+          this.editShapes(ShapeEdit.keysOnLayer(this.model, value), m -> m.deleteLayer(value),
+                  "layer " + value + " has been deleted");
           this.view.updateLists();
         } catch (IllegalArgumentException e4) {
           this.view.displayMessage(e4.getMessage());
         }
         break;
-      case "Reorder Layer":
+      }
+      case "Reorder Layer": {
         this.timer.stop();
         Map.Entry<Integer, Integer> l = this.view.getLayerValues().entrySet().iterator().next();
         Integer i1 = l.getKey();
         Integer i2 = l.getValue();
-        try {
-          this.model.reorderLayer(i1, i2);
-          this.applyModelUpdateToView("Layer " + i1 + " has been reordered to " + i2);
-          this.view.updateLists();
-        } catch (IllegalArgumentException e5) {
-          this.view.displayMessage(e5.getMessage());
-        }
+        this.editShapes(ShapeEdit.keysOnLayer(this.model, i1), m -> m.reorderLayer(i1, i2),
+                "Layer " + i1 + " has been reordered to " + i2);
+        this.view.updateLists();
         break;
+      }
       default:
         this.view.displayMessage("Unknown action event.");
         break;
@@ -16,7 +16,7 @@ import cs3500.animator.view.View;
  *
  * <p>ActionListener: 'Run', 'Pause', 'Rewind', 'Restart', 'Loop', 'Set Speed:', 'Add Key Frame',
  * 'Remove Key Frame', 'Add Shape', 'Remove Shape', 'Modify Selected Key Frame', 'Save Animation',
- * 'Load File', 'Undo Edit', 'Redo Edit'.</p>
+ * 'Cancel Save', 'Load File', 'Cancel Load', 'Undo Edit', 'Redo Edit'.</p>
  *
  * <p>ListSelectionListener: 'shape list', 'frame list'.</p>
  *
@@ -0,0 +1,49 @@
+package cs3500.animator.controller;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import cs3500.animator.model.AnimationModel;
+
+/**
+ * Represents a single edit made to a model, which can be undone and redone. An edit only holds
+ * the parts of the model it changed, so the history of edits grows with the size of each edit
+ * rather than the size of the model.
+ */
+interface Edit {
+
+  /**
+   * Reverses this edit, given the model as it was directly after the edit was made.
+   *
+   * @param model the model
+   * @return the model as it was directly before the edit was made
+   * @throws IllegalArgumentException if the edit can't be reversed on the given model
+   */
+  AnimationModel undo(AnimationModel model) throws IllegalArgumentException;
+
+  /**
+   * Applies this edit again, given the model as it was directly before the edit was made.
+   *
+   * @param model the model
+   * @return the model as it was directly after the edit was made
+   * @throws IllegalArgumentException if the edit can't be applied to the given model
+   */
+  AnimationModel redo(AnimationModel model) throws IllegalArgumentException;
+
+  /**
+   * Estimates the bytes of memory held by this edit, which is counted against the memory budget
+   * of the history of edits.
+   *
+   * @return the estimated number of bytes
+   */
+  long getSize();
+
+  /**
+   * Writes this edit, starting with it's type, such that {@link EditCodec#read} reads back an
+   * equal edit.
+   *
+   * @param out the stream
+   * @throws IOException if the stream can't be written to
+   */
+  void write(DataOutputStream out) throws IOException;
+}
@@ -0,0 +1,219 @@
+package cs3500.animator.controller;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import cs3500.animator.model.Animation;
+import cs3500.animator.model.AnimationModel;
+import cs3500.animator.model.Canvas;
+import cs3500.animator.model.CanvasModel;
+import cs3500.animator.model.Ellipse;
+import cs3500.animator.model.KeyFrame;
+import cs3500.animator.model.KeyFrameModel;
+import cs3500.animator.model.PersistentAnimation;
+import cs3500.animator.model.Rectangle;
+import cs3500.animator.model.Shape;
+import cs3500.animator.model.ShapeModel;
+
+/**
+ * Represents the binary format of edits, used to compress edits once they're old enough that
+ * they're unlikely to be undone soon. Each edit is written as it's type followed by it's own
+ * fields. Positions, sizes and angles of shapes are written at full precision, and colors as the
+ * whole numbers a shape reports, so an edit read back restores a model exactly. Also estimates
+ * the memory held by the shapes and key frames of an edit, which decides when the history of
+ * edits is over it's budget.
+ */
+final class EditCodec {
+
+  //represents the type of edit written first, so the edit can be read back
+  static final byte KEY_FRAME_EDIT = 0;
+  static final byte SHAPE_EDIT = 1;
+  static final byte MODEL_EDIT = 2;
+
+  //represents the estimated bytes of memory held by a shape, and a key frame and it's shape
+  static final long SHAPE_SIZE = 96;
+  static final long KEY_FRAME_SIZE = 128;
+
+  /**
+   * Prevents construction, as the class only has static methods.
+   */
+  private EditCodec() {
+  }
+
+  /**
+   * Reads an edit written by {@link Edit#write}.
+   *
+   * @param in the stream
+   * @return the edit
+   * @throws IOException if the stream can't be read, or doesn't hold an edit
+   */
+  static Edit read(DataInputStream in) throws IOException {
+    byte type = in.readByte();
+    switch (type) {
+      case KEY_FRAME_EDIT:
+        return KeyFrameEdit.read(in);
+      case SHAPE_EDIT:
+        return ShapeEdit.read(in);
+      case MODEL_EDIT:
+        return ModelEdit.read(in);
+      default:
+        throw new IOException("Unknown edit type " + type + ".");
+    }
+  }
+
+  /**
+   * Writes the given shape.
+   *
+   * @param out   the stream
+   * @param shape the shape
+   * @throws IOException if the stream can't be written to
+   */
+  static void writeShape(DataOutputStream out, ShapeModel shape) throws IOException {
+    out.writeBoolean(shape.getType().equals("Ellipse"));
+    out.writeUTF(shape.getKey());
+    out.writeInt(shape.getLayer());
+    out.writeDouble(shape.getPointTopLeft().getX());
+    out.writeDouble(shape.getPointTopLeft().getY());
+    out.writeDouble(shape.getDimensions().getX());
+    out.writeDouble(shape.getDimensions().getY());
+    out.writeByte(shape.getColor().getRed());
+    out.writeByte(shape.getColor().getGreen());
+    out.writeByte(shape.getColor().getBlue());
+    out.writeDouble(shape.getTheta());
+  }
+
+  /**
+   * Reads a shape written by {@link #writeShape}.
+   *
+   * @param in the stream
+   * @return the shape
+   * @throws IOException if the stream can't be read
+   */
+  static ShapeModel readShape(DataInputStream in) throws IOException {
+    boolean ellipse = in.readBoolean();
+    Shape.ShapeBuilder b = new Shape.ShapeBuilder().setKey(in.readUTF()).setLayer(in.readInt())
+            .setX(in.readDouble()).setY(in.readDouble())
+            .setWidth(in.readDouble()).setHeight(in.readDouble())
+            .setRed(in.readUnsignedByte()).setGreen(in.readUnsignedByte())
+            .setBlue(in.readUnsignedByte()).setTheta(in.readDouble());
+    return ellipse ? new Ellipse(b) : new Rectangle(b);
+  }
+
+  /**
+   * Writes the given key frame, which may be null.
+   *
+   * @param out   the stream
+   * @param frame the key frame, or null
+   * @throws IOException if the stream can't be written to
+   */
+  static void writeKeyFrame(DataOutputStream out, KeyFrameModel frame) throws IOException {
+    out.writeBoolean(frame != null);
+    if (frame != null) {
+      out.writeDouble(frame.getTime());
+      writeShape(out, frame.getShape());
+    }
+  }
+
+  /**
+   * Reads a key frame written by {@link #writeKeyFrame}.
+   *
+   * @param in the stream
+   * @return the key frame, or null if a null key frame was written
+   * @throws IOException if the stream can't be read
+   */
+  static KeyFrameModel readKeyFrame(DataInputStream in) throws IOException {
+    if (!in.readBoolean()) {
+      return null;
+    }
+    double time = in.readDouble();
+    return new KeyFrame(time, readShape(in));
+  }
+
+  /**
+   * Writes the given list of key frames.
+   *
+   * @param out    the stream
+   * @param frames the key frames
+   * @throws IOException if the stream can't be written to
+   */
+  static void writeKeyFrames(DataOutputStream out, ArrayList<KeyFrameModel> frames)
+          throws IOException {
+    out.writeInt(frames.size());
+    for (KeyFrameModel k : frames) {
+      writeKeyFrame(out, k);
+    }
+  }
+
+  /**
+   * Reads a list of key frames written by {@link #writeKeyFrames}.
+   *
+   * @param in the stream
+   * @return the key frames
+   * @throws IOException if the stream can't be read
+   */
+  static ArrayList<KeyFrameModel> readKeyFrames(DataInputStream in) throws IOException {
+    int size = in.readInt();
+    ArrayList<KeyFrameModel> frames = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      frames.add(readKeyFrame(in));
+    }
+    return frames;
+  }
+
+  /**
+   * Writes the canvas, shapes and key frames of the given model.
+   *
+   * @param out   the stream
+   * @param model the model
+   * @throws IOException if the stream can't be written to
+   */
+  static void writeModel(DataOutputStream out, AnimationModel model) throws IOException {
+    CanvasModel canvas = model.getCanvas();
+    out.writeInt(canvas.getX());
+    out.writeInt(canvas.getY());
+    out.writeInt(canvas.getWidth());
+    out.writeInt(canvas.getHeight());
+
+    LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> rep =
+            model.getShapeKeyFrameRepresentation();
+    out.writeInt(rep.size());
+    for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry : rep.entrySet()) {
+      writeShape(out, entry.getKey());
+      writeKeyFrames(out, entry.getValue());
+    }
+  }
+
+  /**
+   * Reads a model written by {@link #writeModel}, as a persistent animation.
+   *
+   * @param in the stream
+   * @return the model
+   * @throws IOException if the stream can't be read
+   */
+  static AnimationModel readModel(DataInputStream in) throws IOException {
+    Canvas canvas = new Canvas(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+
+    int size = in.readInt();
+    LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> rep = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      ShapeModel shape = readShape(in);
+      rep.put(shape, readKeyFrames(in));
+    }
+    return new PersistentAnimation(new Animation(rep, canvas));
+  }
+
+  /**
+   * Estimates the bytes of memory held by the shapes and key frames of the given model.
+   *
+   * @param model the model
+   * @return the estimated number of bytes
+   */
+  static long sizeOf(AnimationModel model) {
+    return model.getShapes().size() * SHAPE_SIZE
+            + model.getKeyFrames().size() * KEY_FRAME_SIZE;
+  }
+}
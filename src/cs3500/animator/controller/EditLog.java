@@ -0,0 +1,199 @@
+package cs3500.animator.controller;
+
+import java.util.ArrayDeque;
+
+import cs3500.animator.model.AnimationModel;
+
+/**
+ * Represents the history of edits made to a model, as the edits that can be undone and the edits
+ * that have been undone and can be redone. Making a new edit discards the edits that could be
+ * redone.
+ *
+ * <p>The history is bounded by a number of edits and an estimated number of bytes. The most
+ * recent edits are kept as they are so they're undone immediately, older edits are compressed,
+ * and once the history is over either bound the oldest edits are discarded. Edits replacing the
+ * whole model are never compressed, as they hold copies of persistent models that take constant
+ * time to make, while compressing them writes both models whole on the event thread.
+ */
+final class EditLog {
+
+  //represents the default bounds of the history
+  static final int DEFAULT_RECENT = 32;
+  static final int DEFAULT_DEPTH = 1000;
+  static final long DEFAULT_BUDGET = 64L << 20;
+
+  //represents the edits in the past of the current edit state, most recent first, where the
+  //recent edits are uncompressed and the older edits are compressed unless they replace the model
+  private final ArrayDeque<Edit> recent = new ArrayDeque<>();
+  private final ArrayDeque<Edit> older = new ArrayDeque<>();
+
+  //represents the edits in the future of the current edit state, most recent first
+  private final ArrayDeque<Edit> future = new ArrayDeque<>();
+
+  //represents the bounds of the history, and the estimated bytes of memory it holds
+  private final int recentLimit;
+  private final int depth;
+  private final long budget;
+  private long size;
+
+  /**
+   * Constructs an empty edit log with the default bounds.
+   */
+  EditLog() {
+    this(DEFAULT_RECENT, DEFAULT_DEPTH, DEFAULT_BUDGET);
+  }
+
+  /**
+   * Constructs an empty edit log with the given bounds.
+   *
+   * @param recentLimit the number of most recent edits kept uncompressed
+   * @param depth       the number of edits that can be undone
+   * @param budget      the estimated bytes of memory the edits can hold
+   * @throws IllegalArgumentException if the number of recent edits is negative, or the depth or
+   *                                  budget isn't positive
+   */
+  EditLog(int recentLimit, int depth, long budget) throws IllegalArgumentException {
+    if (recentLimit < 0) {
+      throw new IllegalArgumentException("Number of recent edits can't be negative.");
+    } else if (depth <= 0 || budget <= 0) {
+      throw new IllegalArgumentException("Depth and budget must be greater than zero.");
+    }
+
+    this.recentLimit = recentLimit;
+    this.depth = depth;
+    this.budget = budget;
+    this.size = 0;
+  }
+
+  /**
+   * Records the given edit, which has just been made.
+   *
+   * @param edit the edit
+   * @throws IllegalArgumentException if the edit is null
+   */
+  void record(Edit edit) throws IllegalArgumentException {
+    if (edit == null) {
+      throw new IllegalArgumentException("Edit can't be null.");
+    }
+
+    for (Edit e : this.future) {
+      this.size -= e.getSize();
+    }
+    this.future.clear();
+    this.push(edit);
+  }
+
+  /**
+   * Returns if there's an edit that can be undone.
+   *
+   * @return if there's an edit that can be undone
+   */
+  boolean canUndo() {
+    return !this.recent.isEmpty() || !this.older.isEmpty();
+  }
+
+  /**
+   * Returns if there's an edit that can be redone.
+   *
+   * @return if there's an edit that can be redone
+   */
+  boolean canRedo() {
+    return !this.future.isEmpty();
+  }
+
+  /**
+   * Gets the number of edits that can be undone.
+   *
+   * @return the number of edits
+   */
+  int getDepth() {
+    return this.recent.size() + this.older.size();
+  }
+
+  /**
+   * Gets the estimated bytes of memory held by the edits that can be undone and redone.
+   *
+   * @return the estimated number of bytes
+   */
+  long getSize() {
+    return this.size;
+  }
+
+  /**
+   * Undoes the most recent edit.
+   *
+   * @param model the current model
+   * @return the model after undoing the edit
+   * @throws IllegalStateException if there's no edit to undo
+   */
+  AnimationModel undo(AnimationModel model) throws IllegalStateException {
+    if (!this.canUndo()) {
+      throw new IllegalStateException("No undo history.");
+    }
+
+    //the edit is only moved once it has been undone, so an edit that fails stays in the history
+    Edit edit = this.recent.isEmpty() ? this.older.peek() : this.recent.peek();
+    AnimationModel undone = edit.undo(model);
+    if (this.recent.isEmpty()) {
+      this.older.pop();
+    } else {
+      this.recent.pop();
+    }
+    this.future.push(edit);
+    return undone;
+  }
+
+  /**
+   * Redoes the most recently undone edit.
+   *
+   * @param model the current model
+   * @return the model after redoing the edit
+   * @throws IllegalStateException if there's no edit to redo
+   */
+  AnimationModel redo(AnimationModel model) throws IllegalStateException {
+    if (this.future.isEmpty()) {
+      throw new IllegalStateException("No redo history.");
+    }
+
+    Edit edit = this.future.peek();
+    AnimationModel redone = edit.redo(model);
+    this.future.pop();
+    this.size -= edit.getSize();
+    this.push(edit);
+    return redone;
+  }
+
+  /**
+   * Adds the given edit to the past of the current edit state, compressing the edit that's no
+   * longer one of the recent edits unless it replaces the model, and discarding the oldest edits until the history is within
+   * it's bounds. The most recent edit is never discarded, so the last edit can always be undone.
+   *
+   * @param edit the edit
+   */
+  private void push(Edit edit) {
+    this.recent.push(edit);
+    this.size += edit.getSize();
+
+    if (this.recent.size() > this.recentLimit) {
+      Edit e = this.recent.removeLast();
+      if (e instanceof ModelEdit) {
+        this.older.push(e);
+      } else {
+        Edit compressed = CompressedEdit.compress(e);
+        this.size += compressed.getSize() - e.getSize();
+        this.older.push(compressed);
+      }
+    }
+
+    while (this.getDepth() > this.depth
+            || (this.size > this.budget && this.getDepth() + this.future.size() > 1)) {
+      Edit e;
+      if (this.getDepth() > 1) {
+        e = this.older.isEmpty() ? this.recent.removeLast() : this.older.removeLast();
+      } else {
+        e = this.future.removeLast();
+      }
+      this.size -= e.getSize();
+    }
+  }
+}
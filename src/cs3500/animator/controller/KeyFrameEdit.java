@@ -0,0 +1,103 @@
+package cs3500.animator.controller;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import cs3500.animator.model.AnimationModel;
+import cs3500.animator.model.KeyFrameModel;
+
+/**
+ * Represents adding, removing, or modifying a key frame of a shape, as the key frame removed from
+ * the shape and the key frame added to it, either of which may be null.
+ */
+final class KeyFrameEdit implements Edit {
+
+  private final String key;
+  private final KeyFrameModel removed;
+  private final KeyFrameModel added;
+
+  /**
+   * Constructs an edit to the key frames of the shape of the given key.
+   *
+   * @param key     the key of the shape
+   * @param removed the key frame removed, or null if none was removed
+   * @param added   the key frame added, or null if none was added
+   * @throws IllegalArgumentException if the key is null, or both key frames are null
+   */
+  KeyFrameEdit(String key, KeyFrameModel removed, KeyFrameModel added)
+          throws IllegalArgumentException {
+    if (key == null) {
+      throw new IllegalArgumentException("Key can't be null.");
+    } else if (removed == null && added == null) {
+      throw new IllegalArgumentException("Removed and added key frames can't both be null.");
+    }
+
+    this.key = key;
+    this.removed = removed;
+    this.added = added;
+  }
+
+  /**
+   * Reads an edit written by {@link #write}, after it's type has been read.
+   *
+   * @param in the stream
+   * @return the edit
+   * @throws IOException if the stream can't be read
+   */
+  static KeyFrameEdit read(DataInputStream in) throws IOException {
+    String key = in.readUTF();
+    KeyFrameModel removed = EditCodec.readKeyFrame(in);
+    return new KeyFrameEdit(key, removed, EditCodec.readKeyFrame(in));
+  }
+
+  @Override
+  public AnimationModel undo(AnimationModel model) throws IllegalArgumentException {
+    this.replace(model, this.added, this.removed);
+    return model;
+  }
+
+  @Override
+  public AnimationModel redo(AnimationModel model) throws IllegalArgumentException {
+    this.replace(model, this.removed, this.added);
+    return model;
+  }
+
+  @Override
+  public long getSize() {
+    return (this.removed == null ? 0 : EditCodec.KEY_FRAME_SIZE)
+            + (this.added == null ? 0 : EditCodec.KEY_FRAME_SIZE);
+  }
+
+  @Override
+  public void write(DataOutputStream out) throws IOException {
+    out.writeByte(EditCodec.KEY_FRAME_EDIT);
+    out.writeUTF(this.key);
+    EditCodec.writeKeyFrame(out, this.removed);
+    EditCodec.writeKeyFrame(out, this.added);
+  }
+
+  /**
+   * Removes the first key frame from the shape and adds the second, skipping either if it's null.
+   * The key frame removed is the one the shape has at the time of the first, as an edit read back
+   * from it's compressed form holds an equal key frame rather than the same one.
+   *
+   * @param model    the model
+   * @param toRemove the key frame to remove
+   * @param toAdd    the key frame to add
+   */
+  private void replace(AnimationModel model, KeyFrameModel toRemove, KeyFrameModel toAdd) {
+    if (toRemove != null) {
+      for (KeyFrameModel k : model.getKeyFrames(this.key)) {
+        if (k.getTime() == toRemove.getTime()) {
+          toRemove = k;
+          break;
+        }
+      }
+      model.removeKeyFrame(this.key, toRemove);
+    }
+    if (toAdd != null) {
+      model.addKeyFrame(this.key, toAdd);
+    }
+  }
+}
@@ -0,0 +1,211 @@
+package cs3500.animator.controller;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+import javax.swing.SwingWorker;
+
+import cs3500.animator.model.Animation;
+import cs3500.animator.model.AnimationModel;
+import cs3500.animator.model.PersistentAnimation;
+import cs3500.animator.util.AnimationBuilder;
+import cs3500.animator.util.AnimationReader;
+import cs3500.animator.util.BinaryAnimationReader;
+import cs3500.animator.view.ViewEditable;
+
+/**
+ * Represents loading an animation from a file in the background, so the editor stays responsive
+ * while a large file is parsed. The number of lines parsed is reported to the user as the file is
+ * read, and the load can be cancelled until it's done. The loaded animation is only given to the
+ * editor once the whole file has been parsed, so a cancelled or failed load leaves the current
+ * animation as it was.
+ */
+final class LoadTask extends SwingWorker<AnimationModel, Long> {
+
+  //represents the number of lines parsed between reports of progress
+  private static final long PROGRESS_INTERVAL = 1 << 12;
+
+  private final File file;
+  private final ViewEditable view;
+
+  //represents what's run on the event dispatch thread with the loaded animation, and what's run
+  //on it once the load is done, cancelled or has failed
+  private final Consumer<AnimationModel> onLoaded;
+  private final Runnable onDone;
+
+  /**
+   * Constructs a load of the given file, which is started by {@link #execute()}.
+   *
+   * @param file     the file, which is read as a binary animation if it has the binary extension
+   * @param view     the editor reporting the load
+   * @param onLoaded what's given the loaded animation
+   * @param onDone   what's run once the load is done, before the animation is given
+   * @throws IllegalArgumentException if any argument is null
+   */
+  LoadTask(File file, ViewEditable view, Consumer<AnimationModel> onLoaded, Runnable onDone)
+          throws IllegalArgumentException {
+    if (file == null || view == null || onLoaded == null || onDone == null) {
+      throw new IllegalArgumentException("File, view and callbacks can't be null.");
+    }
+
+    this.file = file;
+    this.view = view;
+    this.onLoaded = onLoaded;
+    this.onDone = onDone;
+  }
+
+  @Override
+  protected AnimationModel doInBackground() throws IOException {
+    ProgressBuilder builder = new ProgressBuilder(new Animation.Builder());
+    Animation loaded;
+    if (BinaryAnimationReader.isBinaryFile(this.file.getName())) {
+      loaded = BinaryAnimationReader.parseFile(this.file, builder);
+    } else {
+      loaded = AnimationReader.parseFileParallel(this.file, builder);
+    }
+
+    //the loaded animation is edited the same way as the one the editor was started with
+    return new PersistentAnimation(loaded);
+  }
+
+  @Override
+  protected void process(List<Long> chunks) {
+    if (!this.isCancelled()) {
+      this.view.displayMessage("Loading " + this.file.getName() + ", "
+              + chunks.get(chunks.size() - 1) + " lines parsed");
+    }
+  }
+
+  @Override
+  protected void done() {
+    this.onDone.run();
+    if (this.isCancelled()) {
+      this.view.displayMessage("File load cancelled");
+      return;
+    }
+
+    AnimationModel loaded;
+    try {
+      loaded = this.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof FileNotFoundException) {
+        this.view.displayMessage("Specified file not found.");
+      } else if (e.getCause() instanceof IOException) {
+        this.view.displayMessage("Specified file could not be read.");
+      } else {
+        this.view.displayMessage(e.getCause().getMessage());
+      }
+      return;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    this.onLoaded.accept(loaded);
+  }
+
+  /**
+   * Represents a builder that counts the lines given to another builder, reporting them as
+   * progress and failing once the load is cancelled. Every reader calls the builder on the thread
+   * the load runs on, once per line of a text file or per entry of a binary file.
+   */
+  private final class ProgressBuilder implements AnimationBuilder<Animation> {
+
+    private final AnimationBuilder<Animation> builder;
+
+    //represents the number of lines parsed
+    private long lines;
+
+    /**
+     * Constructs a builder passing each line to the given builder.
+     *
+     * @param builder the builder
+     */
+    private ProgressBuilder(AnimationBuilder<Animation> builder) {
+      this.builder = builder;
+      this.lines = 0;
+    }
+
+    @Override
+    public Animation build() {
+      this.check();
+      return this.builder.build();
+    }
+
+    @Override
+    public AnimationBuilder<Animation> setBounds(int x, int y, int width, int height) {
+      this.count();
+      this.builder.setBounds(x, y, width, height);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<Animation> declareShape(String name, String type) {
+      this.count();
+      this.builder.declareShape(name, type);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<Animation> addMotion(String name, int t1, int x1, int y1, int w1,
+                                                 int h1, int r1, int g1, int b1, int t2, int x2,
+                                                 int y2, int w2, int h2, int r2, int g2, int b2) {
+      this.count();
+      this.builder.addMotion(name, t1, x1, y1, w1, h1, r1, g1, b1,
+              t2, x2, y2, w2, h2, r2, g2, b2);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<Animation> addKeyframe(String name, int t, int x, int y, int w,
+                                                   int h, int r, int g, int b) {
+      this.count();
+      this.builder.addKeyframe(name, t, x, y, w, h, r, g, b);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<Animation> rotateKeyFrame(String name, int t, double theta) {
+      this.count();
+      this.builder.rotateKeyFrame(name, t, theta);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<Animation> declareShapeWithLayer(String name, String type,
+                                                             int layer) {
+      this.count();
+      this.builder.declareShapeWithLayer(name, type, layer);
+      return this;
+    }
+
+    /**
+     * Stops the load if it has been cancelled.
+     *
+     * @throws CancellationException if the load has been cancelled
+     */
+    private void check() throws CancellationException {
+      if (LoadTask.this.isCancelled()) {
+        throw new CancellationException("Load cancelled.");
+      }
+    }
+
+    /**
+     * Counts a line as parsed unless the load has been cancelled, reporting progress once enough
+     * lines have been parsed since the last report.
+     *
+     * @throws CancellationException if the load has been cancelled
+     */
+    private void count() throws CancellationException {
+      this.check();
+      this.lines++;
+      if (this.lines % PROGRESS_INTERVAL == 0) {
+        LoadTask.this.publish(this.lines);
+      }
+    }
+  }
+}
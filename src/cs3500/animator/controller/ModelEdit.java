@@ -0,0 +1,79 @@
+package cs3500.animator.controller;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import cs3500.animator.model.AnimationModel;
+
+/**
+ * Represents replacing the whole model with another, such as when a file is loaded. The previous
+ * model is kept as it is rather than copied, as it's no longer edited once it has been replaced.
+ * The replacement is copied, as it's edited after the edit is made and must be written as it was
+ * directly after the edit if the edit is compressed, and redoing the edit returns a copy of it for
+ * the same reason.
+ */
+final class ModelEdit implements Edit {
+
+  private final AnimationModel previous;
+  private final AnimationModel replacement;
+
+  //represents the estimated bytes of memory held by both models
+  private final long size;
+
+  /**
+   * Constructs an edit replacing the given model with another. Copying a persistent animation
+   * takes constant time, so the replacement should be one when it's large.
+   *
+   * @param previous    the model being replaced
+   * @param replacement the model replacing it
+   * @throws IllegalArgumentException if either model is null
+   */
+  ModelEdit(AnimationModel previous, AnimationModel replacement) throws IllegalArgumentException {
+    if (previous == null || replacement == null) {
+      throw new IllegalArgumentException("Models can't be null.");
+    }
+
+    this.previous = previous;
+    this.replacement = replacement.makeCopy();
+    this.size = EditCodec.sizeOf(previous) + EditCodec.sizeOf(replacement);
+  }
+
+  /**
+   * Reads an edit written by {@link #write}, after it's type has been read.
+   *
+   * @param in the stream
+   * @return the edit
+   * @throws IOException if the stream can't be read
+   */
+  static ModelEdit read(DataInputStream in) throws IOException {
+    AnimationModel previous = EditCodec.readModel(in);
+    return new ModelEdit(previous, EditCodec.readModel(in));
+  }
+
+  @Override
+  public AnimationModel undo(AnimationModel model) {
+    return this.previous;
+  }
+
+  @Override
+  public AnimationModel redo(AnimationModel model) {
+    return this.replacement.makeCopy();
+  }
+
+  /**
+   * Counts both models, even though they usually share most of their structure with the current
+   * model or the next edit replacing the model, as they stop sharing it as the models are edited.
+   */
+  @Override
+  public long getSize() {
+    return this.size;
+  }
+
+  @Override
+  public void write(DataOutputStream out) throws IOException {
+    out.writeByte(EditCodec.MODEL_EDIT);
+    EditCodec.writeModel(out, this.previous);
+    EditCodec.writeModel(out, this.replacement);
+  }
+}
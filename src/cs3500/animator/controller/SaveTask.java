@@ -0,0 +1,246 @@
+package cs3500.animator.controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import javax.swing.SwingWorker;
+
+import cs3500.animator.model.ImmutableModel;
+import cs3500.animator.view.SVGView;
+import cs3500.animator.view.TextView;
+import cs3500.animator.view.View;
+import cs3500.animator.view.ViewEditable;
+
+/**
+ * Represents saving an animation in the background, so the editor stays responsive while a large
+ * animation is written. The animation is saved from a snapshot taken when the save starts, so
+ * edits made during the save aren't written. A file is written to a temporary file beside it,
+ * which replaces the file only once it's complete, so a cancelled or failed save leaves the file
+ * as it was. The saved file keeps the permissions of the file it replaces, or has the default
+ * permissions of a new file if there was none. Progress, completion and failure are reported to the user through the editor.
+ */
+final class SaveTask extends SwingWorker<Void, Long> {
+
+  //represents the number of characters written between reports of progress
+  private static final long PROGRESS_INTERVAL = 1 << 16;
+
+  private final String type;
+  private final File file;
+  private final ImmutableModel snapshot;
+  private final int ticksPerSecond;
+  private final ViewEditable view;
+
+  //represents what's run on the event dispatch thread once the save is done or cancelled
+  private final Runnable onDone;
+
+  /**
+   * Constructs a save of the given snapshot, which is started by {@link #execute()}.
+   *
+   * @param type           the type of view to save, "Svg" or "Text"
+   * @param file           the file to save to, or null to save to the console
+   * @param snapshot       the animation, which mustn't change during the save
+   * @param ticksPerSecond the speed of the animation
+   * @param view           the editor reporting the save
+   * @param onDone         what's run once the save is done or cancelled
+   * @throws IllegalArgumentException if the type, snapshot, view or callback is null
+   */
+  SaveTask(String type, File file, ImmutableModel snapshot, int ticksPerSecond,
+           ViewEditable view, Runnable onDone) throws IllegalArgumentException {
+    if (type == null || snapshot == null || view == null || onDone == null) {
+      throw new IllegalArgumentException("Type, snapshot, view and callback can't be null.");
+    }
+
+    this.type = type;
+    this.file = file;
+    this.snapshot = snapshot;
+    this.ticksPerSecond = ticksPerSecond;
+    this.view = view;
+    this.onDone = onDone;
+  }
+
+  @Override
+  protected Void doInBackground() throws IOException {
+    if (this.file == null) {
+      this.write(System.out);
+      return null;
+    }
+
+    Path target = this.file.toPath();
+    Path temp = createTempFile(target);
+    try {
+      try (Writer out = Files.newBufferedWriter(temp)) {
+        this.write(out);
+      }
+      if (!this.isCancelled()) {
+        if (Files.exists(target)) {
+          try {
+            Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+          } catch (UnsupportedOperationException e) {
+            //the file system has no POSIX permissions to keep
+          }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    return null;
+  }
+
+  /**
+   * Creates a new temporary file beside the given file with the default permissions of a new file,
+   * unlike {@link Files#createTempFile}, which only lets the owner read and write it.
+   *
+   * @param target the file
+   * @return the temporary file
+   * @throws IOException if the file can't be created
+   */
+  private static Path createTempFile(Path target) throws IOException {
+    Path directory = target.toAbsolutePath().getParent();
+    String name = target.getFileName().toString();
+    for (int i = 0; ; i++) {
+      try {
+        return Files.createFile(directory.resolve(name + "." + i + ".tmp"));
+      } catch (FileAlreadyExistsException e) {
+        //a temporary file of another save is in the way, so the next name is tried
+      }
+    }
+  }
+
+  /**
+   * Writes the snapshot as the given type of view to the given appendable object, stopping as
+   * soon as the save is cancelled.
+   *
+   * @param out the appendable object
+   * @throws IOException if the appendable object can't be written to, or the save is cancelled
+   */
+  private void write(Appendable out) throws IOException {
+    Appendable progress = new ProgressAppendable(out);
+    View v;
+    if (this.type.equals("Svg")) {
+      v = new SVGView(this.snapshot, progress, this.ticksPerSecond);
+    } else {
+      v = new TextView(this.snapshot, progress);
+    }
+
+    //the views report a failure to write as an illegal state, which is reported here as the
+    //failure to write it is
+    try {
+      v.makeVisible();
+    } catch (IllegalStateException e) {
+      throw new IOException(e.getMessage());
+    }
+  }
+
+  @Override
+  protected void process(List<Long> chunks) {
+    if (!this.isCancelled()) {
+      long written = chunks.get(chunks.size() - 1);
+      this.view.displayMessage("Saving " + this.type + " file, " + (written >> 10)
+              + " KB written");
+    }
+  }
+
+  @Override
+  protected void done() {
+    this.onDone.run();
+    if (this.isCancelled()) {
+      this.view.displayMessage(this.type + " file save cancelled");
+      return;
+    }
+
+    try {
+      this.get();
+      if (this.file == null) {
+        this.view.displayMessage(this.type + " file has been saved to console");
+      } else {
+        this.view.displayMessage(this.type + " file has been saved");
+      }
+    } catch (ExecutionException e) {
+      this.view.displayMessage("File path not found");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Represents an appendable object that counts the characters written to another, reporting
+   * them as progress and failing once the save is cancelled.
+   */
+  private final class ProgressAppendable implements Appendable {
+
+    private final Appendable out;
+
+    //represents the number of characters written, and the number at the last report
+    private long written;
+    private long reported;
+
+    /**
+     * Constructs an appendable object writing to the given one.
+     *
+     * @param out the appendable object
+     */
+    private ProgressAppendable(Appendable out) {
+      this.out = out;
+      this.written = 0;
+      this.reported = 0;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+      this.check();
+      this.out.append(csq);
+      this.count(csq == null ? 4 : csq.length());
+      return this;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+      this.check();
+      this.out.append(csq, start, end);
+      this.count(end - start);
+      return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+      this.check();
+      this.out.append(c);
+      this.count(1);
+      return this;
+    }
+
+    /**
+     * Stops the save if it has been cancelled.
+     *
+     * @throws InterruptedIOException if the save has been cancelled
+     */
+    private void check() throws InterruptedIOException {
+      if (SaveTask.this.isCancelled()) {
+        throw new InterruptedIOException("Save cancelled.");
+      }
+    }
+
+    /**
+     * Counts the given number of characters as written, reporting progress once enough have been
+     * written since the last report.
+     *
+     * @param count the number of characters
+     */
+    private void count(long count) {
+      this.written += count;
+      if (this.written - this.reported >= PROGRESS_INTERVAL) {
+        this.reported = this.written;
+        SaveTask.this.publish(this.written);
+      }
+    }
+  }
+}
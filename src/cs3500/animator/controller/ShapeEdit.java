@@ -0,0 +1,212 @@
+package cs3500.animator.controller;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.function.Consumer;
+
+import cs3500.animator.model.AnimationModel;
+import cs3500.animator.model.KeyFrameModel;
+import cs3500.animator.model.ShapeModel;
+
+/**
+ * Represents an edit to one or more whole shapes, such as adding or removing a shape or changing
+ * the layer of shapes, as the affected shapes and their key frames before and after the edit.
+ * Undoing the edit removes the shapes as they are after it and puts the shapes as they were
+ * before it back at the same positions in the list of shapes, and redoing it does the reverse.
+ */
+final class ShapeEdit implements Edit {
+
+  private final ArrayList<Entry> before;
+  private final ArrayList<Entry> after;
+
+  /**
+   * Represents a shape, it's key frames, and it's position in the list of shapes of a model.
+   */
+  private static final class Entry {
+
+    private final int index;
+    private final ShapeModel shape;
+    private final ArrayList<KeyFrameModel> frames;
+
+    /**
+     * Constructs an entry for the given shape.
+     *
+     * @param index  the index of the shape
+     * @param shape  the shape
+     * @param frames the shape's key frames
+     */
+    private Entry(int index, ShapeModel shape, ArrayList<KeyFrameModel> frames) {
+      this.index = index;
+      this.shape = shape;
+      this.frames = frames;
+    }
+  }
+
+  /**
+   * Constructs an edit from the affected shapes before and after the edit.
+   *
+   * @param before the affected shapes before the edit, in increasing order of index
+   * @param after  the affected shapes after the edit, in increasing order of index
+   */
+  private ShapeEdit(ArrayList<Entry> before, ArrayList<Entry> after) {
+    this.before = before;
+    this.after = after;
+  }
+
+  /**
+   * Applies the given edit to the given model, recording the shapes of the given keys before and
+   * after it. Only the shapes of the given keys may be changed by the edit.
+   *
+   * @param model the model
+   * @param keys  the keys of the shapes the edit changes, which may not all exist before or after
+   * @param edit  the edit
+   * @return the applied edit
+   * @throws IllegalArgumentException if the edit can't be applied, in which case the model is
+   *                                  left as it was
+   */
+  static ShapeEdit apply(AnimationModel model, Collection<String> keys,
+                         Consumer<AnimationModel> edit) throws IllegalArgumentException {
+    HashSet<String> affected = new HashSet<>(keys);
+    ArrayList<Entry> before = capture(model, affected);
+    edit.accept(model);
+    return new ShapeEdit(before, capture(model, affected));
+  }
+
+  /**
+   * Reads an edit written by {@link #write}, after it's type has been read.
+   *
+   * @param in the stream
+   * @return the edit
+   * @throws IOException if the stream can't be read
+   */
+  static ShapeEdit read(DataInputStream in) throws IOException {
+    ArrayList<Entry> before = readEntries(in);
+    return new ShapeEdit(before, readEntries(in));
+  }
+
+  /**
+   * Gets the keys of the shapes on the given layer of the given model.
+   *
+   * @param model the model
+   * @param layer the layer
+   * @return the keys of the shapes
+   */
+  static ArrayList<String> keysOnLayer(AnimationModel model, int layer) {
+    ArrayList<String> keys = new ArrayList<>();
+    for (ShapeModel s : model.getShapes()) {
+      if (s.getLayer() == layer) {
+        keys.add(s.getKey());
+      }
+    }
+    return keys;
+  }
+
+  @Override
+  public AnimationModel undo(AnimationModel model) throws IllegalArgumentException {
+    replace(model, this.after, this.before);
+    return model;
+  }
+
+  @Override
+  public AnimationModel redo(AnimationModel model) throws IllegalArgumentException {
+    replace(model, this.before, this.after);
+    return model;
+  }
+
+  @Override
+  public long getSize() {
+    long size = 0;
+    for (Entry e : this.before) {
+      size += EditCodec.SHAPE_SIZE + e.frames.size() * EditCodec.KEY_FRAME_SIZE;
+    }
+    for (Entry e : this.after) {
+      size += EditCodec.SHAPE_SIZE + e.frames.size() * EditCodec.KEY_FRAME_SIZE;
+    }
+    return size;
+  }
+
+  @Override
+  public void write(DataOutputStream out) throws IOException {
+    out.writeByte(EditCodec.SHAPE_EDIT);
+    writeEntries(out, this.before);
+    writeEntries(out, this.after);
+  }
+
+  /**
+   * Writes the given shapes, with their indices and key frames.
+   *
+   * @param out     the stream
+   * @param entries the shapes
+   * @throws IOException if the stream can't be written to
+   */
+  private static void writeEntries(DataOutputStream out, ArrayList<Entry> entries)
+          throws IOException {
+    out.writeInt(entries.size());
+    for (Entry e : entries) {
+      out.writeInt(e.index);
+      EditCodec.writeShape(out, e.shape);
+      EditCodec.writeKeyFrames(out, e.frames);
+    }
+  }
+
+  /**
+   * Reads shapes written by {@link #writeEntries}.
+   *
+   * @param in the stream
+   * @return the shapes
+   * @throws IOException if the stream can't be read
+   */
+  private static ArrayList<Entry> readEntries(DataInputStream in) throws IOException {
+    int size = in.readInt();
+    ArrayList<Entry> entries = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      int index = in.readInt();
+      ShapeModel shape = EditCodec.readShape(in);
+      entries.add(new Entry(index, shape, EditCodec.readKeyFrames(in)));
+    }
+    return entries;
+  }
+
+  /**
+   * Records the shapes of the given keys, copying each shape and it's list of key frames so that
+   * later edits to the model don't change them.
+   *
+   * @param model the model
+   * @param keys  the keys of the shapes
+   * @return the shapes in increasing order of index
+   */
+  private static ArrayList<Entry> capture(AnimationModel model, HashSet<String> keys) {
+    ArrayList<Entry> entries = new ArrayList<>();
+    ArrayList<ShapeModel> shapes = model.getShapes();
+    for (int i = 0; i < shapes.size() && entries.size() < keys.size(); i++) {
+      ShapeModel s = shapes.get(i);
+      if (keys.contains(s.getKey())) {
+        entries.add(new Entry(i, s.makeCopy(), model.getKeyFrames(s.getKey())));
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Removes the first shapes from the model, and inserts the second shapes at their positions.
+   * Inserting in increasing order of index puts every shape back at exactly the index it was
+   * recorded at.
+   *
+   * @param model    the model
+   * @param toRemove the shapes to remove
+   * @param toInsert the shapes to insert, in increasing order of index
+   */
+  private static void replace(AnimationModel model, ArrayList<Entry> toRemove,
+                              ArrayList<Entry> toInsert) {
+    for (Entry e : toRemove) {
+      model.removeShape(e.shape.getKey());
+    }
+    for (Entry e : toInsert) {
+      model.insertShape(e.index, e.shape.makeCopy(), e.frames);
+    }
+  }
+}
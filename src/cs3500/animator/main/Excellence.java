@@ -2,17 +2,22 @@ package cs3500.animator.main;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
 
 import cs3500.animator.controller.Controller;
 import cs3500.animator.model.Animation;
+import cs3500.animator.model.AnimationModel;
 import cs3500.animator.model.ImmutableAnimation;
 import cs3500.animator.model.ImmutableModel;
+import cs3500.animator.model.PersistentAnimation;
 import cs3500.animator.util.AnimationReader;
+import cs3500.animator.util.BinaryAnimationReader;
+import cs3500.animator.view.FrameRange;
 import cs3500.animator.view.View;
 import cs3500.animator.view.ViewFactory;
 
@@ -30,8 +35,8 @@ public final class Excellence {
     //if arguments length is invalid
     if (args.length == 0) {
       throw new IllegalArgumentException("Empty input is invalid. Must specify in and view type.");
-    } else if (args.length > 8) {
-      throw new IllegalArgumentException("No more than 4 pairs of input are allowed to be given.");
+    } else if (args.length > 10) {
+      throw new IllegalArgumentException("No more than 5 pairs of input are allowed to be given.");
     }
 
     //stores arguments into a hash map to resemble pairs
@@ -52,26 +57,26 @@ public final class Excellence {
     }
 
     String in = null;
-    Appendable out = System.out;
+    String out = null;
     String type = null;
     int speed = 1;
+    FrameRange frames = null;
 
-    //sets in, out, view, and speed based on the pairs
+    //sets in, out, view, frames, and speed based on the pairs
     for (Map.Entry<String, String> entry : pairs.entrySet()) {
       switch (entry.getKey()) {
         case "-in":
           in = entry.getValue();
           break;
         case "-out":
-          try {
-            out = new FileWriter(new File(entry.getValue()));
-          } catch (IOException e) {
-            throw new IllegalArgumentException("Out could not be found.");
-          }
+          out = entry.getValue();
           break;
         case "-view":
           type = entry.getValue();
           break;
+        case "-frames":
+          frames = FrameRange.parse(entry.getValue());
+          break;
         case "-speed": {
           try {
             speed = Integer.parseInt(entry.getValue());
@@ -88,36 +93,69 @@ public final class Excellence {
       }
     }
 
+    //an output file with the binary extension implies the binary view
+    if (type == null && BinaryAnimationReader.isBinaryFile(out)) {
+      type = "bin";
+    }
+
     if (in == null || type == null) {
       throw new IllegalArgumentException("in and view type must be specified.");
     }
 
-    //creates an immutable model if the file can be found
+    //creates an immutable model if the file can be found, reading binary files by their extension
     File file = new File(in);
-    FileReader fileReader;
+    Animation model;
     try {
-      fileReader = new FileReader(file);
+      if (BinaryAnimationReader.isBinaryFile(in)) {
+        model = BinaryAnimationReader.parseFile(file, new Animation.Builder());
+      } else {
+        model = AnimationReader.parseFileParallel(file, new Animation.Builder());
+      }
     } catch (FileNotFoundException e) {
       throw new IllegalArgumentException("Specified file not found.");
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Specified file could not be read.");
+    }
+
+    //edited animations are stored persistently, so the copies the view takes of them are cheap
+    AnimationModel editable = model;
+    if (ViewFactory.isEditView(type)) {
+      editable = new PersistentAnimation(model);
     }
 
-    Animation model = AnimationReader.parseFile(fileReader,
-            new Animation.Builder());
-    ImmutableModel immutableModel = new ImmutableAnimation(model);
+    ImmutableModel immutableModel = new ImmutableAnimation(editable);
 
-    //Creates and displays a view which is created by the view factory
-    View view = ViewFactory.getView(type, immutableModel, out, speed);
+    //Creates and displays a view which is created by the view factory, rendering frames to a file,
+    //writing bytes to a stream, or writing text to an appendable object depending on the view
+    View view;
     try {
-      view.makeVisible();
-      if (out instanceof FileWriter) {
-        ((FileWriter) out).flush();
-        ((FileWriter) out).close();
+      if (ViewFactory.isFrameView(type)) {
+        if (out == null) {
+          throw new IllegalArgumentException("out must be specified for the " + type + " view.");
+        }
+        view = ViewFactory.getFrameView(type, immutableModel, new File(out), frames, speed);
+        view.makeVisible();
+      } else if (ViewFactory.isStreamView(type)) {
+        OutputStream stream = out == null ? System.out : new FileOutputStream(out);
+        view = ViewFactory.getStreamView(type, immutableModel, stream, frames, speed);
+        view.makeVisible();
+        if (stream instanceof FileOutputStream) {
+          stream.close();
+        }
+      } else {
+        Appendable appendable = out == null ? System.out : new FileWriter(new File(out));
+        view = ViewFactory.getView(type, immutableModel, appendable, speed);
+        view.makeVisible();
+        if (appendable instanceof FileWriter) {
+          ((FileWriter) appendable).flush();
+          ((FileWriter) appendable).close();
+        }
       }
     } catch (IOException e) {
-      e.printStackTrace();
+      throw new IllegalArgumentException("Out could not be found.");
     }
 
     Controller controller = new Controller();
-    controller.control(model, view, speed);
+    controller.control(editable, view, speed);
   }
 }
@@ -2,6 +2,8 @@ package cs3500.animator.model;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -15,15 +17,26 @@ public final class Animation implements AnimationModel {
   //represents an ordered dictionary of shapes, to sorted list of key frames by time
   private LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> keyFrames;
 
+  //represents an index of the shapes in keyFrames by their key, kept in sync with keyFrames
+  private HashMap<String, ShapeModel> shapesByKey;
+
   //represents the bounds of the animation
   private Canvas canvas;
 
+  //represent the times of the first and last key frame among all shapes, kept in sync with
+  //keyFrames, where startTime is -1 if there are no key frames
+  private int startTime;
+  private int endTime;
+
   /**
    * Creates a new default instance with no motions and a default canvas.
    */
   public Animation() {
     this.keyFrames = new LinkedHashMap<>();
+    this.shapesByKey = new HashMap<>();
     this.canvas = new Canvas();
+    this.startTime = -1;
+    this.endTime = 0;
   }
 
   /**
@@ -41,10 +54,16 @@ public final class Animation implements AnimationModel {
     }
 
     this.keyFrames = keyFrames;
+    this.shapesByKey = new HashMap<>();
     this.canvas = canvas;
 
+    for (ShapeModel s : this.keyFrames.keySet()) {
+      this.shapesByKey.put(s.getKey(), s);
+    }
+
     this.updateFrames();
     this.updateLayers();
+    this.updateTimes();
   }
 
   /**
@@ -53,18 +72,28 @@ public final class Animation implements AnimationModel {
   public static final class Builder implements AnimationBuilder<Animation> {
 
     private LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> keyFrames;
+    private HashMap<String, ShapeModel> shapesByKey;
     private Canvas canvas;
 
+    //represents the shapes whose key frames have been added out of order by time since they were
+    //last sorted, the key frames of all other shapes are sorted by time
+    private HashSet<ShapeModel> unsorted;
+
     /**
      * Default constructor for builder sets variables to default values.
      */
     public Builder() {
       this.keyFrames = new LinkedHashMap<>();
+      this.shapesByKey = new HashMap<>();
       this.canvas = new Canvas();
+      this.unsorted = new HashSet<>();
     }
 
     @Override
     public Animation build() {
+      for (ShapeModel s : new ArrayList<>(this.unsorted)) {
+        this.sortedKeyFrames(s);
+      }
       return new Animation(this.keyFrames, this.canvas);
     }
 
@@ -95,6 +124,7 @@ public final class Animation implements AnimationModel {
       }
 
       this.keyFrames.put(shape, new ArrayList<>());
+      this.shapesByKey.put(name, shape);
       return this;
     }
 
@@ -121,24 +151,27 @@ public final class Animation implements AnimationModel {
         throw new IllegalArgumentException("Shape of the given key doesn't exist.");
       }
 
-      Shape shape = (Shape) this.getShape(name).makeCopy();
-      switch (shape.getType()) {
+      ShapeModel current = this.getShape(name);
+      Shape shape;
+      switch (current.getType()) {
         case "Rectangle":
-          shape = new Rectangle(new Shape.ShapeBuilder().setKey(shape.getKey()).setX(x).setY(y)
+          shape = new Rectangle(new Shape.ShapeBuilder().setKey(name).setX(x).setY(y)
                   .setWidth(w).setHeight(h).setRed(r).setGreen(g).setBlue(b).build());
           break;
         case "Ellipse":
-          shape = new Ellipse(new Shape.ShapeBuilder().setKey(shape.getKey()).setX(x).setY(y)
+          shape = new Ellipse(new Shape.ShapeBuilder().setKey(name).setX(x).setY(y)
                   .setWidth(w).setHeight(h).setRed(r).setGreen(g).setBlue(b).build());
           break;
         default:
           throw new IllegalArgumentException("Unsupported shape type.");
       }
 
-      ArrayList<KeyFrameModel> list = this.keyFrames.get(this.getShape(name));
+      //appends the key frame, only sorting the list once it's needed if it's now out of order
+      ArrayList<KeyFrameModel> list = this.keyFrames.get(current);
+      if (!list.isEmpty() && list.get(list.size() - 1).getTime() > t) {
+        this.unsorted.add(current);
+      }
       list.add(new KeyFrame(t, shape));
-
-      this.keyFrames.replace(this.getShape(name), new ArrayList<>(list));
       return this;
     }
 
@@ -148,12 +181,15 @@ public final class Animation implements AnimationModel {
         throw new IllegalArgumentException("Key can't be null.");
       } else if (!this.containsKey(name)) {
         throw new IllegalArgumentException("Shape of the given key doesn't exist.");
-      } else if (!this.hasKeyFrame(name, t)) {
+      }
+
+      ArrayList<KeyFrameModel> l = this.sortedKeyFrames(this.getShape(name));
+      int first = this.firstKeyFrame(l, t);
+      if (first == l.size() || l.get(first).getTime() != t) {
         throw new IllegalArgumentException("Key frame at time " + t + " doesn't exist.");
       }
 
-      ArrayList<KeyFrameModel> l = this.keyFrames.get(this.getShape(name));
-      KeyFrameModel k = this.getKeyFrame(name, t);
+      KeyFrameModel k = l.get(first);
       Shape s = (Shape) k.getShape();
 
       KeyFrameModel newKeyFrame;
@@ -172,10 +208,14 @@ public final class Animation implements AnimationModel {
           throw new IllegalArgumentException("Unsupported shape type.");
       }
 
-      l.remove(k);
-      l.add(newKeyFrame);
-
-      this.keyFrames.replace(this.getShape(name), new ArrayList<>(l));
+      //replaces the first key frame at the time with the rotated one, which is moved after the
+      //other key frames at the time as it was given last
+      int last = first;
+      while (last + 1 < l.size() && l.get(last + 1).getTime() == t) {
+        l.set(last, l.get(last + 1));
+        last++;
+      }
+      l.set(last, newKeyFrame);
       return this;
     }
 
@@ -200,6 +240,7 @@ public final class Animation implements AnimationModel {
       }
 
       this.keyFrames.put(shape, new ArrayList<>());
+      this.shapesByKey.put(name, shape);
       return this;
     }
 
@@ -210,61 +251,59 @@ public final class Animation implements AnimationModel {
      * @return if the key exists in a shape
      */
     private boolean containsKey(String key) {
-      for (ShapeModel s : this.keyFrames.keySet()) {
-        if (s.getKey().equals(key)) {
-          return true;
-        }
-      }
-      return false;
+      return this.shapesByKey.containsKey(key);
     }
 
     /**
-     * Returns true if the shape has a key frame as the same time as that given.
+     * Returns the key frames of the given shape, stably sorting them by time first if they were
+     * added out of order, so that key frames at the same time stay in the order they were given.
      *
-     * @param name the name of the shape
-     * @param time the time of the key frame
-     * @return true if the shape has the key frame
+     * @param shape the shape
+     * @return the shape's key frames sorted by time
      */
-    private boolean hasKeyFrame(String name, int time) {
-      for (KeyFrameModel k : this.keyFrames.get(this.getShape(name))) {
-        if (k.getTime() == time) {
-          return true;
-        }
+    private ArrayList<KeyFrameModel> sortedKeyFrames(ShapeModel shape) {
+      ArrayList<KeyFrameModel> list = this.keyFrames.get(shape);
+      if (this.unsorted.remove(shape)) {
+        list.sort(Comparator.comparingDouble(KeyFrameModel::getTime));
       }
-      return false;
+      return list;
     }
 
     /**
-     * Returns the shape corresponding to the key.
+     * Binary searches the given list of key frames sorted by time for the first key frame at or
+     * after the given time.
      *
-     * @param key the given key
-     * @return the shape with the key
-     * @throws IllegalArgumentException if the key doesn't exist
+     * @param frames a list of key frames sorted by time
+     * @param time   the time
+     * @return the index of the key frame, or the size of the list if there is none
      */
-    private ShapeModel getShape(String key) throws IllegalArgumentException {
-      for (ShapeModel s : this.keyFrames.keySet()) {
-        if (s.getKey().equals(key)) {
-          return s;
+    private int firstKeyFrame(ArrayList<KeyFrameModel> frames, int time) {
+      int low = 0;
+      int high = frames.size();
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (frames.get(mid).getTime() < time) {
+          low = mid + 1;
+        } else {
+          high = mid;
         }
       }
-      throw new IllegalArgumentException("key doesn't exist");
+      return low;
     }
 
     /**
-     * Returns the key frame with the given name and time, if one exists.
+     * Returns the shape corresponding to the key.
      *
-     * @param name the name of the shape
-     * @param time the time of the key frame
-     * @return the key frame
-     * @throws IllegalArgumentException if the key frame doesn't exist
+     * @param key the given key
+     * @return the shape with the key
+     * @throws IllegalArgumentException if the key doesn't exist
      */
-    private KeyFrameModel getKeyFrame(String name, int time) {
-      for (KeyFrameModel k : this.keyFrames.get(this.getShape(name))) {
-        if (k.getTime() == time) {
-          return k;
-        }
+    private ShapeModel getShape(String key) throws IllegalArgumentException {
+      ShapeModel s = this.shapesByKey.get(key);
+      if (s == null) {
+        throw new IllegalArgumentException("key doesn't exist");
       }
-      throw new IllegalArgumentException("key doesn't exist");
+      return s;
     }
   }
 
@@ -274,15 +313,73 @@ public final class Animation implements AnimationModel {
    */
   private void updateFrames() {
     for (ArrayList<KeyFrameModel> keyFrames : this.keyFrames.values()) {
-      keyFrames.sort((o1, o2) -> (int) (o1.getTime() - o2.getTime()));
+      updateFrames(keyFrames);
+    }
+  }
 
-      for (int i = 0; i < keyFrames.size() - 1; i++) {
-        if (keyFrames.get(i).getTime() == keyFrames.get(i + 1).getTime()) {
-          keyFrames.remove(i);
-          i--;
-        }
+  /**
+   * Sorts the given list of key frames by time and removes duplicates, keeping the last key frame
+   * given at each time.
+   *
+   * @param keyFrames a list of key frames
+   */
+  private static void updateFrames(ArrayList<KeyFrameModel> keyFrames) {
+    keyFrames.sort((o1, o2) -> (int) (o1.getTime() - o2.getTime()));
+
+    //compacts the list in one pass, rather than removing each duplicate from the middle
+    int kept = 0;
+    for (int i = 0; i < keyFrames.size(); i++) {
+      if (i == keyFrames.size() - 1
+              || keyFrames.get(i).getTime() != keyFrames.get(i + 1).getTime()) {
+        keyFrames.set(kept++, keyFrames.get(i));
       }
     }
+    keyFrames.subList(kept, keyFrames.size()).clear();
+  }
+
+  /**
+   * Recomputes the start and end time of the animation from the first and last key frame of each
+   * shape, which is linear in the number of shapes rather than key frames.
+   */
+  private void updateTimes() {
+    this.startTime = -1;
+    this.endTime = 0;
+    for (ArrayList<KeyFrameModel> frames : this.keyFrames.values()) {
+      this.extendTimes(frames);
+    }
+  }
+
+  /**
+   * Extends the start and end time of the animation to include the given sorted list of key
+   * frames.
+   *
+   * @param frames a list of key frames sorted by time
+   */
+  private void extendTimes(ArrayList<KeyFrameModel> frames) {
+    if (frames.isEmpty()) {
+      return;
+    }
+
+    int first = (int) frames.get(0).getTime();
+    int last = (int) frames.get(frames.size() - 1).getTime();
+    if (this.startTime == -1 || first < this.startTime) {
+      this.startTime = first;
+    }
+    if (last > this.endTime) {
+      this.endTime = last;
+    }
+  }
+
+  /**
+   * Recomputes the start and end time of the animation if a key frame at the given time was the
+   * first or last key frame of the animation.
+   *
+   * @param time the time of a removed key frame
+   */
+  private void retractTimes(double time) {
+    if ((int) time <= this.startTime || (int) time >= this.endTime) {
+      this.updateTimes();
+    }
   }
 
   /**
@@ -306,12 +403,7 @@ public final class Animation implements AnimationModel {
    * @return if the key exists in a shape
    */
   private boolean containsKey(String key) {
-    for (ShapeModel s : this.keyFrames.keySet()) {
-      if (s.getKey().equals(key)) {
-        return true;
-      }
-    }
-    return false;
+    return this.shapesByKey.containsKey(key);
   }
 
   /**
@@ -322,12 +414,11 @@ public final class Animation implements AnimationModel {
    * @throws IllegalArgumentException if the key doesn't exist
    */
   private ShapeModel getShape(String key) throws IllegalArgumentException {
-    for (ShapeModel s : this.keyFrames.keySet()) {
-      if (s.getKey().equals(key)) {
-        return s;
-      }
+    ShapeModel s = this.shapesByKey.get(key);
+    if (s == null) {
+      throw new IllegalArgumentException("key doesn't exist");
     }
-    throw new IllegalArgumentException("key doesn't exist");
+    return s;
   }
 
   /**
@@ -354,10 +445,43 @@ public final class Animation implements AnimationModel {
       throw new IllegalArgumentException("Shape's key already exists, try a different key.");
     } else {
       this.keyFrames.put(shape, new ArrayList<>());
+      this.shapesByKey.put(shape.getKey(), shape);
       this.updateLayers();
     }
   }
 
+  @Override
+  public void insertShape(int index, ShapeModel shape, ArrayList<KeyFrameModel> frames)
+          throws IllegalArgumentException {
+    if (shape == null || frames == null) {
+      throw new IllegalArgumentException("Shape and key frames can't be null.");
+    } else if (this.containsKey(shape.getKey())) {
+      throw new IllegalArgumentException("Shape's key already exists, try a different key.");
+    } else if (index < 0 || index > this.keyFrames.size()) {
+      throw new IllegalArgumentException("Index is out of bounds.");
+    }
+
+    ArrayList<KeyFrameModel> list = new ArrayList<>(frames);
+    updateFrames(list);
+
+    //rebuilds the map, as a linked hash map can only be added to at it's end
+    LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> inserted = new LinkedHashMap<>();
+    int i = 0;
+    for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry : this.keyFrames.entrySet()) {
+      if (i++ == index) {
+        inserted.put(shape, list);
+      }
+      inserted.put(entry.getKey(), entry.getValue());
+    }
+    if (index == this.keyFrames.size()) {
+      inserted.put(shape, list);
+    }
+
+    this.keyFrames = inserted;
+    this.shapesByKey.put(shape.getKey(), shape);
+    this.extendTimes(list);
+  }
+
   @Override
   public void removeShape(String key) throws IllegalArgumentException {
     if (key == null) {
@@ -366,7 +490,13 @@ public final class Animation implements AnimationModel {
       throw new IllegalArgumentException("The given key doesn't exist.");
     } else {
       ShapeModel toRemove = this.getShape(key);
-      this.keyFrames.remove(toRemove);
+      ArrayList<KeyFrameModel> frames = this.keyFrames.remove(toRemove);
+      this.shapesByKey.remove(key);
+
+      if (!frames.isEmpty()) {
+        this.retractTimes(frames.get(0).getTime());
+        this.retractTimes(frames.get(frames.size() - 1).getTime());
+      }
     }
   }
 
@@ -385,7 +515,8 @@ public final class Animation implements AnimationModel {
 
       //checks that the new list of motions is consistent and doesn't have time gaps
       this.keyFrames.replace(this.getShape(key), new ArrayList<>(list));
-      this.updateFrames();
+      updateFrames(this.keyFrames.get(this.getShape(key)));
+      this.extendTimes(this.keyFrames.get(this.getShape(key)));
     }
   }
 
@@ -401,8 +532,12 @@ public final class Animation implements AnimationModel {
       throw new IllegalArgumentException("Motion isn't contained in this shape's list of "
               + "key frames.");
     } else {
-      this.keyFrames.get(this.getShape(key)).remove(motion.getInitial());
-      this.keyFrames.get(this.getShape(key)).remove(motion.getFinal());
+      if (this.keyFrames.get(this.getShape(key)).remove(motion.getInitial())) {
+        this.retractTimes(motion.getInitial().getTime());
+      }
+      if (this.keyFrames.get(this.getShape(key)).remove(motion.getFinal())) {
+        this.retractTimes(motion.getFinal().getTime());
+      }
     }
   }
 
@@ -422,7 +557,8 @@ public final class Animation implements AnimationModel {
 
       //checks that the new list of motions is consistent and doesn't have time gaps
       this.keyFrames.replace(this.getShape(key), new ArrayList<>(list));
-      this.updateFrames();
+      updateFrames(this.keyFrames.get(this.getShape(key)));
+      this.extendTimes(this.keyFrames.get(this.getShape(key)));
     }
   }
 
@@ -437,6 +573,7 @@ public final class Animation implements AnimationModel {
               + "key frames.");
     } else {
       this.keyFrames.get(this.getShape(key)).remove(frame);
+      this.retractTimes(frame.getTime());
     }
   }
 
@@ -447,6 +584,11 @@ public final class Animation implements AnimationModel {
 
   @Override
   public ArrayList<ShapeModel> getShapes(int time) throws IllegalArgumentException {
+    return this.getShapes((double) time);
+  }
+
+  @Override
+  public ArrayList<ShapeModel> getShapes(double time) throws IllegalArgumentException {
     if (time < 0) {
       throw new IllegalArgumentException("Time can't be negative.");
     } else if (time > this.getEndTime()) {
@@ -456,27 +598,74 @@ public final class Animation implements AnimationModel {
     ArrayList<ShapeModel> newShapes = new ArrayList<>();
     //iterates through the map of shape to list of motions
     for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry : this.keyFrames.entrySet()) {
-      ShapeModel shape = entry.getKey();
-      ShapeModel newShape = null;
       ArrayList<KeyFrameModel> frames = entry.getValue();
 
-      //applies motions to their respective shapes if within the time bounds
-      for (int i = 0; i < frames.size() - 1; i++) {
-        KeyFrameModel f1 = frames.get(i);
-        KeyFrameModel f2 = frames.get(i + 1);
+      //applies the motion to it's respective shape if one is within the time bounds
+      int i = this.segmentAt(frames, time);
+      if (i != -1) {
+        Motion motion = new Motion(frames.get(i), frames.get(i + 1));
+        newShapes.add(motion.getShape(entry.getKey(), time));
+      }
+    }
 
-        if (time >= f1.getTime() && time <= f2.getTime()) {
-          Motion motion = new Motion(f1, f2);
-          newShape = motion.getShape(shape, time);
-        }
+    return newShapes;
+  }
+
+  @Override
+  public void getFrame(int time, FrameBuffer frame) throws IllegalArgumentException {
+    this.getFrame((double) time, frame);
+  }
+
+  @Override
+  public void getFrame(double time, FrameBuffer frame) throws IllegalArgumentException {
+    if (frame == null) {
+      throw new IllegalArgumentException("Frame can't be null.");
+    } else if (time < 0) {
+      throw new IllegalArgumentException("Time can't be negative.");
+    } else if (time > this.getEndTime()) {
+      throw new IllegalArgumentException("The final time of the last motion has been reached.");
+    }
+
+    frame.clear();
+    for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry : this.keyFrames.entrySet()) {
+      ArrayList<KeyFrameModel> frames = entry.getValue();
+
+      int i = this.segmentAt(frames, time);
+      if (i != -1) {
+        Motion.addToFrame(frames.get(i), frames.get(i + 1), entry.getKey(), time, frame);
       }
-      //updates the shapes based on the motions into a new map
-      if (newShape != null) {
-        newShapes.add(newShape);
+    }
+  }
+
+  /**
+   * Finds the motion of the given key frames which is applied at the given time by binary searching
+   * the key frame times, where the motion is represented by the index of it's initial key frame.
+   * When the time is shared by two motions (it's the final time of one motion and the initial time
+   * of the next) the later motion is applied.
+   *
+   * @param frames a list of key frames sorted by time
+   * @param time   the given time
+   * @return the index of the motion's initial key frame, or -1 if no motion contains the time
+   */
+  private int segmentAt(ArrayList<KeyFrameModel> frames, double time) {
+    int last = frames.size() - 1;
+    if (last < 1 || time < frames.get(0).getTime() || time > frames.get(last).getTime()) {
+      return -1;
+    }
+
+    //finds the greatest index whose key frame time is at most the given time
+    int low = 0;
+    int high = last;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (frames.get(mid).getTime() <= time) {
+        low = mid;
+      } else {
+        high = mid - 1;
       }
     }
 
-    return newShapes;
+    return Math.min(low, last - 1);
   }
 
   @Override
@@ -489,6 +678,14 @@ public final class Animation implements AnimationModel {
     return values;
   }
 
+  @Override
+  public ArrayList<KeyFrameModel> getKeyFrames(String key) throws IllegalArgumentException {
+    if (key == null) {
+      throw new IllegalArgumentException("Key can't be null.");
+    }
+    return new ArrayList<>(this.keyFrames.get(this.getShape(key)));
+  }
+
   @Override
   public LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> getShapeKeyFrameRepresentation() {
     return this.keyFrames;
@@ -496,29 +693,7 @@ public final class Animation implements AnimationModel {
 
   @Override
   public String getStringRepresentation() {
-    StringBuilder sb = new StringBuilder();
-
-    for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry : this.keyFrames.entrySet()) {
-      ShapeModel shape = entry.getKey();
-      ArrayList<KeyFrameModel> value = entry.getValue();
-
-      sb.append("Shape ").append(shape.getKey()).append(" ").append(shape.getType())
-              .append("\n");
-      for (int i = 0; i < value.size() - 1; i++) {
-        sb.append(new Motion(value.get(i), value.get(i + 1)).toString());
-      }
-      sb.append("\n");
-    }
-
-    //removes the last 2 \n characters
-    for (int i = 0; i < 2; i++) {
-      int last = sb.lastIndexOf("\n");
-      if (last >= 0) {
-        sb.delete(last, sb.length());
-      }
-    }
-
-    return sb.toString();
+    return TextExporter.toString(this.keyFrames);
   }
 
   @Override
@@ -527,16 +702,13 @@ public final class Animation implements AnimationModel {
   }
 
   @Override
-  public int getEndTime() {
-    ArrayList<KeyFrameModel> frames = this.getKeyFrames();
+  public int getStartTime() {
+    return Math.max(this.startTime, 0);
+  }
 
-    int greatest = 0;
-    for (KeyFrameModel a : frames) {
-      if (a.getTime() > greatest) {
-        greatest = (int) a.getTime();
-      }
-    }
-    return greatest;
+  @Override
+  public int getEndTime() {
+    return this.endTime;
   }
 
   @Override
@@ -604,6 +776,7 @@ public final class Animation implements AnimationModel {
       }
 
       this.keyFrames.put(newShape, frames);
+      this.shapesByKey.put(name, newShape);
       this.updateLayers();
     }
   }
@@ -615,8 +788,10 @@ public final class Animation implements AnimationModel {
       ShapeModel s = shapes.get(i);
       if (s.getLayer() == layer) {
         this.keyFrames.remove(s);
+        this.shapesByKey.remove(s.getKey());
       }
     }
+    this.updateTimes();
   }
 
   @Override
@@ -18,6 +18,21 @@ public interface AnimationModel {
    */
   void addShape(ShapeModel shape) throws IllegalArgumentException;
 
+  /**
+   * Inserts a shape and it's key frames at the given index of the list of shapes, which is used to
+   * put a removed shape back exactly where it was. The index isn't checked against the shape's
+   * layer, so it should be one the shape was previously at.
+   *
+   * @param index  the index in the list of shapes
+   * @param shape  the shape being inserted
+   * @param frames the shape's key frames
+   * @throws IllegalArgumentException if the shape or key frames are null
+   * @throws IllegalArgumentException if the shape's key already exists
+   * @throws IllegalArgumentException if the index is out of bounds
+   */
+  void insertShape(int index, ShapeModel shape, ArrayList<KeyFrameModel> frames)
+          throws IllegalArgumentException;
+
   /**
    * Removes a shape by searching for it's key, and it's motions.
    *
@@ -91,6 +106,43 @@ public interface AnimationModel {
    */
   ArrayList<ShapeModel> getShapes(int time) throws IllegalArgumentException;
 
+  /**
+   * Gets the shapes being animated at the given time in the same way as {@link #getShapes(int)},
+   * where the time may fall between two ticks, so that an animation can be shown at more frames
+   * per second than it has ticks.
+   *
+   * @param time the given time
+   * @return a list of shapes at the given time
+   * @throws IllegalArgumentException if time < 0 or time is greater than the final time of the last
+   *                                  animation.
+   */
+  ArrayList<ShapeModel> getShapes(double time) throws IllegalArgumentException;
+
+  /**
+   * Applies motions to their respective shapes in the same way as {@link #getShapes(int)}, but
+   * writes the attributes of the shapes being animated at the given time into the given frame
+   * rather than into the shapes themselves. The frame is cleared first, and is meant to be reused
+   * from one call to the next so that evaluating a frame doesn't allocate per shape.
+   *
+   * @param time  the given time
+   * @param frame the frame being written to
+   * @throws IllegalArgumentException if the frame is null, time < 0, or time is greater than the
+   *                                  final time of the last animation.
+   */
+  void getFrame(int time, FrameBuffer frame) throws IllegalArgumentException;
+
+  /**
+   * Writes the attributes of the shapes being animated at the given time into the given frame in
+   * the same way as {@link #getFrame(int, FrameBuffer)}, where the time may fall between two
+   * ticks, so that an animation can be shown at more frames per second than it has ticks.
+   *
+   * @param time  the given time
+   * @param frame the frame being written to
+   * @throws IllegalArgumentException if the frame is null, time < 0, or time is greater than the
+   *                                  final time of the last animation.
+   */
+  void getFrame(double time, FrameBuffer frame) throws IllegalArgumentException;
+
   /**
    * gets the list of key frames.
    *
@@ -98,6 +150,15 @@ public interface AnimationModel {
    */
   ArrayList<KeyFrameModel> getKeyFrames();
 
+  /**
+   * Gets the list of key frames of the shape of the given key, sorted by time.
+   *
+   * @param key the key of the shape
+   * @return list of the shape's key frames
+   * @throws IllegalArgumentException if the key is null or doesn't exist
+   */
+  ArrayList<KeyFrameModel> getKeyFrames(String key) throws IllegalArgumentException;
+
   /**
    * Gets a data representation of both shapes and key frames, where each shape in the map's keys
    * represent the initial shape during instantiation and the map's values represent a list of key
@@ -122,6 +183,13 @@ public interface AnimationModel {
    */
   CanvasModel getCanvas();
 
+  /**
+   * Gets the time of the first key frame of the animation, or 0 if there are no key frames.
+   *
+   * @return the time of the first key frame
+   */
+  int getStartTime();
+
   /**
    * Gets the final time of the last animation.
    *
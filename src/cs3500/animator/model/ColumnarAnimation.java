@@ -0,0 +1,1054 @@
+package cs3500.animator.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import cs3500.animator.util.AnimationBuilder;
+
+/**
+ * Represents and manipulates information regarding numerous shapes and their respective motions,
+ * storing each shape's key frames as parallel primitive arrays (one array of times and one array
+ * per attribute) rather than as key frame and shape objects. Key frame times are whole ticks. The
+ * position, size and color of a shape are stored as floats, which represent the whole numbers an
+ * animation file gives exactly up to 2^24, while other values are rounded to the nearest float.
+ * Rotations are stored as doubles, so they're kept exactly.
+ * Key frames given to or returned by this model are converted to and from their columns, so
+ * returned key frames and representations are copies that don't reflect later edits.
+ */
+public final class ColumnarAnimation implements AnimationModel {
+
+  //represents the tracks of key frames of each shape, sorted by the shape's layer
+  private ArrayList<Track> tracks;
+
+  //represents an index of the tracks by their shape's key, kept in sync with tracks
+  private HashMap<String, Track> tracksByKey;
+
+  //represents the bounds of the animation
+  private Canvas canvas;
+
+  /**
+   * Creates a new default instance with no motions and a default canvas.
+   */
+  public ColumnarAnimation() {
+    this.tracks = new ArrayList<>();
+    this.tracksByKey = new HashMap<>();
+    this.canvas = new Canvas();
+  }
+
+  /**
+   * Creates a new instance with the same shapes, key frames, and canvas as the given model.
+   *
+   * @param model the given model
+   * @throws IllegalArgumentException if the model is null, or contains key frames whose times
+   *                                  aren't whole ticks
+   */
+  public ColumnarAnimation(AnimationModel model) throws IllegalArgumentException {
+    this();
+    if (model == null) {
+      throw new IllegalArgumentException("Model can't be null.");
+    }
+
+    this.canvas = new Canvas(model.getCanvas().getX(), model.getCanvas().getY(),
+            model.getCanvas().getWidth(), model.getCanvas().getHeight());
+
+    for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry :
+            model.getShapeKeyFrameRepresentation().entrySet()) {
+      Track t = new Track(this.asShape(entry.getKey().makeCopy()), entry.getValue().size());
+      for (KeyFrameModel k : entry.getValue()) {
+        t.put(this.checkTime(k.getTime()), (Shape) k.getShape());
+      }
+      this.insertTrack(t);
+    }
+  }
+
+  /**
+   * Represents the key frames of a single shape, as a column of times sorted in increasing order
+   * and a column for each of the shape's attributes.
+   */
+  private static final class Track {
+
+    //represents the shape during instantiation, which also holds it's attributes at the last time
+    //given to getShapes(int)
+    private Shape shape;
+
+    private int size;
+    private int[] times;
+    private float[] x;
+    private float[] y;
+    private float[] width;
+    private float[] height;
+    private float[] red;
+    private float[] green;
+    private float[] blue;
+    private double[] theta;
+
+    /**
+     * Constructs an empty track for the given shape.
+     *
+     * @param shape    the shape
+     * @param capacity the number of key frames the track can hold before growing
+     */
+    private Track(Shape shape, int capacity) {
+      this.shape = shape;
+      this.size = 0;
+      this.times = new int[capacity];
+      this.x = new float[capacity];
+      this.y = new float[capacity];
+      this.width = new float[capacity];
+      this.height = new float[capacity];
+      this.red = new float[capacity];
+      this.green = new float[capacity];
+      this.blue = new float[capacity];
+      this.theta = new double[capacity];
+    }
+
+    /**
+     * Constructs a copy of the given track, for the given shape.
+     *
+     * @param shape the shape
+     * @param that  the track being copied
+     */
+    private Track(Shape shape, Track that) {
+      this.shape = shape;
+      this.size = that.size;
+      this.times = Arrays.copyOf(that.times, that.size);
+      this.x = Arrays.copyOf(that.x, that.size);
+      this.y = Arrays.copyOf(that.y, that.size);
+      this.width = Arrays.copyOf(that.width, that.size);
+      this.height = Arrays.copyOf(that.height, that.size);
+      this.red = Arrays.copyOf(that.red, that.size);
+      this.green = Arrays.copyOf(that.green, that.size);
+      this.blue = Arrays.copyOf(that.blue, that.size);
+      this.theta = Arrays.copyOf(that.theta, that.size);
+    }
+
+    /**
+     * Binary searches for the key frame at the given time.
+     *
+     * @param time the time
+     * @return the index of the key frame, or (-(insertion point) - 1) if there isn't one
+     */
+    private int indexOf(int time) {
+      return Arrays.binarySearch(this.times, 0, this.size, time);
+    }
+
+    /**
+     * Sets the key frame at the given time to the given shape's attributes, adding it if there
+     * isn't one at that time.
+     *
+     * @param time  the time
+     * @param shape the shape's attributes
+     */
+    private void put(int time, Shape shape) {
+      int i = this.indexOf(time);
+      if (i < 0) {
+        i = -i - 1;
+        this.insertAt(i);
+        this.times[i] = time;
+      }
+      this.set(i, shape);
+    }
+
+    /**
+     * Sets the attributes of the key frame at the given index to the given shape's attributes.
+     *
+     * @param i     the index
+     * @param shape the shape's attributes
+     */
+    private void set(int i, Shape shape) {
+      this.x[i] = (float) shape.x;
+      this.y[i] = (float) shape.y;
+      this.width[i] = (float) shape.width;
+      this.height[i] = (float) shape.height;
+      this.red[i] = (float) shape.red;
+      this.green[i] = (float) shape.green;
+      this.blue[i] = (float) shape.blue;
+      this.theta[i] = shape.theta;
+    }
+
+    /**
+     * Opens a key frame at the given index, shifting later key frames back and growing the columns
+     * if they're full.
+     *
+     * @param i the index
+     */
+    private void insertAt(int i) {
+      if (this.size == this.times.length) {
+        int capacity = Math.max(4, this.size * 2);
+        this.times = Arrays.copyOf(this.times, capacity);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.width = Arrays.copyOf(this.width, capacity);
+        this.height = Arrays.copyOf(this.height, capacity);
+        this.red = Arrays.copyOf(this.red, capacity);
+        this.green = Arrays.copyOf(this.green, capacity);
+        this.blue = Arrays.copyOf(this.blue, capacity);
+        this.theta = Arrays.copyOf(this.theta, capacity);
+      }
+
+      int moved = this.size - i;
+      System.arraycopy(this.times, i, this.times, i + 1, moved);
+      System.arraycopy(this.x, i, this.x, i + 1, moved);
+      System.arraycopy(this.y, i, this.y, i + 1, moved);
+      System.arraycopy(this.width, i, this.width, i + 1, moved);
+      System.arraycopy(this.height, i, this.height, i + 1, moved);
+      System.arraycopy(this.red, i, this.red, i + 1, moved);
+      System.arraycopy(this.green, i, this.green, i + 1, moved);
+      System.arraycopy(this.blue, i, this.blue, i + 1, moved);
+      System.arraycopy(this.theta, i, this.theta, i + 1, moved);
+      this.size++;
+    }
+
+    /**
+     * Removes the key frame at the given index, shifting later key frames forward.
+     *
+     * @param i the index
+     */
+    private void removeAt(int i) {
+      int moved = this.size - i - 1;
+      System.arraycopy(this.times, i + 1, this.times, i, moved);
+      System.arraycopy(this.x, i + 1, this.x, i, moved);
+      System.arraycopy(this.y, i + 1, this.y, i, moved);
+      System.arraycopy(this.width, i + 1, this.width, i, moved);
+      System.arraycopy(this.height, i + 1, this.height, i, moved);
+      System.arraycopy(this.red, i + 1, this.red, i, moved);
+      System.arraycopy(this.green, i + 1, this.green, i, moved);
+      System.arraycopy(this.blue, i + 1, this.blue, i, moved);
+      System.arraycopy(this.theta, i + 1, this.theta, i, moved);
+      this.size--;
+    }
+
+    /**
+     * Returns true if the key frame at the given index has the same attributes as the given key
+     * frame.
+     *
+     * @param i     the index
+     * @param frame the key frame
+     * @return true if the attributes are the same
+     */
+    private boolean matches(int i, KeyFrameModel frame) {
+      Shape s = (Shape) frame.getShape();
+      return this.times[i] == frame.getTime() && this.x[i] == (float) s.x
+              && this.y[i] == (float) s.y && this.width[i] == (float) s.width
+              && this.height[i] == (float) s.height && this.red[i] == (float) s.red
+              && this.green[i] == (float) s.green && this.blue[i] == (float) s.blue
+              && this.theta[i] == s.theta;
+    }
+
+    /**
+     * Finds the motion applied at the given time, where the motion is represented by the index of
+     * it's initial key frame. When the time is shared by two motions the later motion is applied.
+     *
+     * @param time the time
+     * @return the index of the motion's initial key frame, or -1 if no motion contains the time
+     */
+    private int segmentAt(double time) {
+      int last = this.size - 1;
+      if (last < 1 || time < this.times[0] || time > this.times[last]) {
+        return -1;
+      }
+
+      int low = 0;
+      int high = last;
+      while (low < high) {
+        int mid = (low + high + 1) >>> 1;
+        if (this.times[mid] <= time) {
+          low = mid;
+        } else {
+          high = mid - 1;
+        }
+      }
+      return Math.min(low, last - 1);
+    }
+
+    /**
+     * Creates a key frame from the key frame at the given index.
+     *
+     * @param i the index
+     * @return the key frame
+     */
+    private KeyFrameModel toKeyFrame(int i) {
+      Shape.ShapeBuilder b = new Shape.ShapeBuilder().setKey(this.shape.getKey())
+              .setX(this.x[i]).setY(this.y[i]).setWidth(this.width[i]).setHeight(this.height[i])
+              .setRed(this.red[i]).setGreen(this.green[i]).setBlue(this.blue[i])
+              .setTheta(this.theta[i]);
+
+      switch (this.shape.getType()) {
+        case "Rectangle":
+          return new KeyFrame(this.times[i], new Rectangle(b));
+        case "Ellipse":
+          return new KeyFrame(this.times[i], new Ellipse(b));
+        default:
+          throw new IllegalArgumentException("Unsupported shape type.");
+      }
+    }
+
+    /**
+     * Creates a list of key frames from the key frames of this track.
+     *
+     * @return the list of key frames
+     */
+    private ArrayList<KeyFrameModel> toKeyFrames() {
+      ArrayList<KeyFrameModel> frames = new ArrayList<>(this.size);
+      for (int i = 0; i < this.size; i++) {
+        frames.add(this.toKeyFrame(i));
+      }
+      return frames;
+    }
+  }
+
+  /**
+   * Represents a builder class for a columnar animation.
+   */
+  public static final class Builder implements AnimationBuilder<ColumnarAnimation> {
+
+    //represents the shapes in declaration order, and their key frames in the order they were given
+    private ArrayList<Track> tracks;
+    private HashMap<String, Track> tracksByKey;
+
+    //represents the order in which each track's key frames and rotations were given
+    private HashMap<Track, Given> given;
+    private int order;
+
+    private Canvas canvas;
+
+    /**
+     * Default constructor for builder sets variables to default values.
+     */
+    public Builder() {
+      this.tracks = new ArrayList<>();
+      this.tracksByKey = new HashMap<>();
+      this.given = new HashMap<>();
+      this.order = 0;
+      this.canvas = new Canvas();
+    }
+
+    /**
+     * Represents the order in which a track's buffered key frames were given, and the rotations
+     * given for the track, which are only applied to the key frames once they're sorted by time.
+     */
+    private static final class Given {
+
+      private int[] order;
+
+      //represents the track's times sorted, up to the sorted size, or null while the key frames
+      //have been given in order by time, so that the track's own times are sorted
+      private int[] sortedTimes;
+      private int sortedSize;
+
+      //represents the time, order, and angle of each rotation, in the order they were given
+      private int[] rotationTimes;
+      private int[] rotationOrders;
+      private double[] rotationThetas;
+      private int rotations;
+
+      /**
+       * Constructs an empty order for a track of the given capacity.
+       *
+       * @param capacity the number of key frames the track can hold before growing
+       */
+      private Given(int capacity) {
+        this.order = new int[capacity];
+        this.rotationTimes = new int[4];
+        this.rotationOrders = new int[4];
+        this.rotationThetas = new double[4];
+      }
+
+      /**
+       * Records the order of the key frame just added to the given track at the given index.
+       *
+       * @param track the track
+       * @param i     the index of the key frame, which is the last in the track
+       * @param order the order the key frame was given in
+       */
+      private void add(Track track, int i, int order) {
+        if (this.order.length < track.times.length) {
+          this.order = Arrays.copyOf(this.order, track.times.length);
+        }
+        this.order[i] = order;
+
+        int time = track.times[i];
+        if (this.sortedTimes == null) {
+          if (i > 0 && track.times[i - 1] > time) {
+            this.sortedTimes = new int[0];
+          }
+        } else if (this.sortedSize == i
+                && (i == 0 || this.sortedTimes[i - 1] <= time)) {
+          //keeps the sorted times up to date while key frames are again given in order
+          if (this.sortedTimes.length == i) {
+            this.sortedTimes = Arrays.copyOf(this.sortedTimes, Math.max(4, i * 2));
+          }
+          this.sortedTimes[i] = time;
+          this.sortedSize++;
+        }
+      }
+
+      /**
+       * Returns whether the given track has a key frame at the given time, sorting a copy of the
+       * track's times if they were given out of order since they were last sorted.
+       *
+       * @param track the track
+       * @param time  the time
+       * @return if the track has a key frame at the time
+       */
+      private boolean contains(Track track, int time) {
+        if (this.sortedTimes == null) {
+          return track.indexOf(time) >= 0;
+        }
+
+        if (this.sortedSize != track.size) {
+          this.sortedTimes = Arrays.copyOf(track.times, track.times.length);
+          Arrays.sort(this.sortedTimes, 0, track.size);
+          this.sortedSize = track.size;
+        }
+        return Arrays.binarySearch(this.sortedTimes, 0, this.sortedSize, time) >= 0;
+      }
+
+      /**
+       * Records a rotation of the track's key frame at the given time.
+       *
+       * @param time  the time
+       * @param order the order the rotation was given in
+       * @param theta the angle of the rotation
+       */
+      private void rotate(int time, int order, double theta) {
+        int r = this.rotations;
+        if (r == this.rotationTimes.length) {
+          this.rotationTimes = Arrays.copyOf(this.rotationTimes, r * 2);
+          this.rotationOrders = Arrays.copyOf(this.rotationOrders, r * 2);
+          this.rotationThetas = Arrays.copyOf(this.rotationThetas, r * 2);
+        }
+        this.rotationTimes[r] = time;
+        this.rotationOrders[r] = order;
+        this.rotationThetas[r] = theta;
+        this.rotations++;
+      }
+    }
+
+    @Override
+    public ColumnarAnimation build() {
+      ColumnarAnimation animation = new ColumnarAnimation();
+      animation.canvas = this.canvas;
+
+      for (Track t : this.tracks) {
+        animation.insertTrack(this.sorted(t));
+      }
+      return animation;
+    }
+
+    /**
+     * Creates a track with the key frames of the given track sorted by time, such that only the
+     * last key frame given at each time is kept. The track's rotations are replayed at each time
+     * in the order they were given, each rotating the earliest given key frame at the time, which
+     * then counts as given last.
+     *
+     * @param t the given track
+     * @return the sorted track
+     */
+    private Track sorted(Track t) {
+      Given given = this.given.get(t);
+      int[] order = given.order;
+
+      //sorts the key frames by time, where key frames at the same time stay in the order given as
+      //they're indexed in that order
+      long[] byTime = new long[t.size];
+      for (int i = 0; i < t.size; i++) {
+        byTime[i] = ((long) t.times[i] << 32) | i;
+      }
+      Arrays.sort(byTime);
+
+      //sorts the rotations by time in the same way
+      long[] rotationsByTime = new long[given.rotations];
+      for (int r = 0; r < given.rotations; r++) {
+        rotationsByTime[r] = ((long) given.rotationTimes[r] << 32) | r;
+      }
+      Arrays.sort(rotationsByTime);
+
+      //represents the key frames at one time from the earliest to the latest given, and their
+      //angles, as a circular queue
+      int[] queue = new int[0];
+      double[] thetas = new double[0];
+
+      Track sorted = new Track(t.shape, t.size);
+      int q = 0;
+      for (int k = 0; k < byTime.length; ) {
+        long time = byTime[k] >>> 32;
+        int end = k + 1;
+        while (end < byTime.length && (byTime[end] >>> 32) == time) {
+          end++;
+        }
+        int rotationEnd = q;
+        while (rotationEnd < rotationsByTime.length
+                && (rotationsByTime[rotationEnd] >>> 32) == time) {
+          rotationEnd++;
+        }
+
+        if (queue.length < end - k) {
+          queue = new int[end - k];
+          thetas = new double[end - k];
+        }
+
+        //replays the key frames and rotations at the time in the order they were given
+        int head = 0;
+        int count = 0;
+        int f = k;
+        while (f < end || q < rotationEnd) {
+          int r = q < rotationEnd ? (int) rotationsByTime[q] : -1;
+          if (r != -1 && (f == end || given.rotationOrders[r] < order[(int) byTime[f]])) {
+            int last = (head + count) % queue.length;
+            queue[last] = queue[head];
+            thetas[last] = given.rotationThetas[r];
+            head = (head + 1) % queue.length;
+            q++;
+          } else {
+            int last = (head + count) % queue.length;
+            queue[last] = (int) byTime[f];
+            thetas[last] = 0;
+            count++;
+            f++;
+          }
+        }
+
+        int last = (head + count - 1) % queue.length;
+        int i = queue[last];
+        int j = sorted.size;
+        sorted.insertAt(j);
+        sorted.times[j] = t.times[i];
+        sorted.x[j] = t.x[i];
+        sorted.y[j] = t.y[i];
+        sorted.width[j] = t.width[i];
+        sorted.height[j] = t.height[i];
+        sorted.red[j] = t.red[i];
+        sorted.green[j] = t.green[i];
+        sorted.blue[j] = t.blue[i];
+        sorted.theta[j] = thetas[last];
+        k = end;
+      }
+      return sorted;
+    }
+
+    @Override
+    public AnimationBuilder<ColumnarAnimation> setBounds(int x, int y, int width, int height) {
+      this.canvas = new Canvas(x, y, width, height);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<ColumnarAnimation> declareShape(String name, String type) {
+      return this.declareShapeWithLayer(name, type, 0);
+    }
+
+    @Override
+    public AnimationBuilder<ColumnarAnimation> addMotion(String name, int t1, int x1, int y1,
+                                                         int w1, int h1, int r1, int g1, int b1,
+                                                         int t2, int x2, int y2, int w2, int h2,
+                                                         int r2, int g2, int b2) {
+      if (t1 > t2) {
+        throw new IllegalArgumentException("Initial time must be less than final time.");
+      }
+
+      this.addKeyframe(name, t1, x1, y1, w1, h1, r1, g1, b1);
+      this.addKeyframe(name, t2, x2, y2, w2, h2, r2, g2, b2);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<ColumnarAnimation> addKeyframe(String name, int t, int x, int y,
+                                                           int w, int h, int r, int g, int b) {
+      if (name == null) {
+        throw new IllegalArgumentException("Key can't be null.");
+      } else if (!this.tracksByKey.containsKey(name)) {
+        throw new IllegalArgumentException("Shape of the given key doesn't exist.");
+      } else if (w < 0) {
+        throw new IllegalArgumentException("Width can't be negative.");
+      } else if (h < 0) {
+        throw new IllegalArgumentException("Height can't be negative.");
+      } else if (r < 0 || r > 255) {
+        throw new IllegalArgumentException("Invalid red color, not within [0,255].");
+      } else if (g < 0 || g > 255) {
+        throw new IllegalArgumentException("Invalid green color, not within [0,255].");
+      } else if (b < 0 || b > 255) {
+        throw new IllegalArgumentException("Invalid blue color, not within [0,255].");
+      } else if (t < 0) {
+        throw new IllegalArgumentException("Time can't be negative.");
+      }
+
+      Track track = this.tracksByKey.get(name);
+      int i = track.size;
+      track.insertAt(i);
+      track.times[i] = t;
+      track.x[i] = x;
+      track.y[i] = y;
+      track.width[i] = w;
+      track.height[i] = h;
+      track.red[i] = r;
+      track.green[i] = g;
+      track.blue[i] = b;
+      track.theta[i] = 0;
+
+      this.given.get(track).add(track, i, this.order++);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<ColumnarAnimation> rotateKeyFrame(String name, int t, double theta) {
+      if (name == null) {
+        throw new IllegalArgumentException("Key can't be null.");
+      } else if (!this.tracksByKey.containsKey(name)) {
+        throw new IllegalArgumentException("Shape of the given key doesn't exist.");
+      }
+
+      //the rotation is applied to the earliest given key frame at the time once they're sorted
+      Track track = this.tracksByKey.get(name);
+      Given given = this.given.get(track);
+      if (!given.contains(track, t)) {
+        throw new IllegalArgumentException("Key frame at time " + t + " doesn't exist.");
+      }
+
+      given.rotate(t, this.order++, theta);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<ColumnarAnimation> declareShapeWithLayer(String name, String type,
+                                                                     int layer) {
+      if (name == null || type == null) {
+        throw new IllegalArgumentException("Shape name and type can't be null.");
+      } else if (this.tracksByKey.containsKey(name)) {
+        throw new IllegalArgumentException("Shape's key already exists, try a different key.");
+      }
+
+      Shape shape;
+      switch (type) {
+        case "rectangle":
+          shape = new Rectangle(new Shape.ShapeBuilder().setKey(name).setLayer(layer).build());
+          break;
+        case "ellipse":
+          shape = new Ellipse(new Shape.ShapeBuilder().setKey(name).setLayer(layer).build());
+          break;
+        default:
+          throw new IllegalArgumentException("Unsupported shape type.");
+      }
+
+      Track track = new Track(shape, 4);
+      this.tracks.add(track);
+      this.tracksByKey.put(name, track);
+      this.given.put(track, new Given(4));
+      return this;
+    }
+  }
+
+  /**
+   * Adds the given track after every track whose shape's layer is less than or equal to it's
+   * shape's layer, keeping tracks sorted by layer.
+   *
+   * @param track the given track
+   */
+  private void insertTrack(Track track) {
+    int i = this.tracks.size();
+    while (i > 0 && this.tracks.get(i - 1).shape.getLayer() > track.shape.getLayer()) {
+      i--;
+    }
+    this.tracks.add(i, track);
+    this.tracksByKey.put(track.shape.getKey(), track);
+  }
+
+  /**
+   * Returns the track of the shape corresponding to the key.
+   *
+   * @param key the given key
+   * @return the track
+   * @throws IllegalArgumentException if the key doesn't exist
+   */
+  private Track getTrack(String key) throws IllegalArgumentException {
+    Track t = this.tracksByKey.get(key);
+    if (t == null) {
+      throw new IllegalArgumentException("key doesn't exist");
+    }
+    return t;
+  }
+
+  /**
+   * Checks that the given time is a whole tick that can be stored in a column of times.
+   *
+   * @param time the given time
+   * @return the time as a tick
+   * @throws IllegalArgumentException if the time isn't a whole tick
+   */
+  private int checkTime(double time) throws IllegalArgumentException {
+    if (time != (int) time) {
+      throw new IllegalArgumentException("Key frame times must be whole ticks.");
+    }
+    return (int) time;
+  }
+
+  /**
+   * Casts the given shape to a shape whose attributes can be stored in columns.
+   *
+   * @param shape the given shape
+   * @return the shape
+   * @throws IllegalArgumentException if the shape isn't supported
+   */
+  private Shape asShape(ShapeModel shape) throws IllegalArgumentException {
+    if (!(shape instanceof Shape)) {
+      throw new IllegalArgumentException("Unsupported shape type.");
+    }
+    return (Shape) shape;
+  }
+
+  @Override
+  public void addShape(ShapeModel shape) throws IllegalArgumentException {
+    if (shape == null) {
+      throw new IllegalArgumentException("Shape can't be null.");
+    } else if (this.tracksByKey.containsKey(shape.getKey())) {
+      throw new IllegalArgumentException("Shape's key already exists, try a different key.");
+    } else {
+      this.insertTrack(new Track(this.asShape(shape), 4));
+    }
+  }
+
+  @Override
+  public void insertShape(int index, ShapeModel shape, ArrayList<KeyFrameModel> frames)
+          throws IllegalArgumentException {
+    if (shape == null || frames == null) {
+      throw new IllegalArgumentException("Shape and key frames can't be null.");
+    } else if (this.tracksByKey.containsKey(shape.getKey())) {
+      throw new IllegalArgumentException("Shape's key already exists, try a different key.");
+    } else if (index < 0 || index > this.tracks.size()) {
+      throw new IllegalArgumentException("Index is out of bounds.");
+    }
+
+    Track t = new Track(this.asShape(shape), Math.max(frames.size(), 4));
+    for (KeyFrameModel k : frames) {
+      t.put(this.checkTime(k.getTime()), (Shape) k.getShape());
+    }
+    this.tracks.add(index, t);
+    this.tracksByKey.put(shape.getKey(), t);
+  }
+
+  @Override
+  public void removeShape(String key) throws IllegalArgumentException {
+    if (key == null) {
+      throw new IllegalArgumentException("Key can't be null.");
+    } else if (!this.tracksByKey.containsKey(key)) {
+      throw new IllegalArgumentException("The given key doesn't exist.");
+    } else {
+      this.tracks.remove(this.tracksByKey.remove(key));
+    }
+  }
+
+  @Override
+  public void addMotion(String key, MotionModel motion) throws IllegalArgumentException {
+    if (key == null || motion == null) {
+      throw new IllegalArgumentException("Neither key or motion can be null.");
+    } else if (!this.tracksByKey.containsKey(key)) {
+      throw new IllegalArgumentException("Shape of the given key doesn't exist.");
+    } else if (motion.getInitial().getTime() > motion.getFinal().getTime()) {
+      throw new IllegalArgumentException("Initial time must be less than final time.");
+    } else {
+      int initialTime = this.checkTime(motion.getInitial().getTime());
+      int finalTime = this.checkTime(motion.getFinal().getTime());
+
+      //a motion's key frames replace any existing key frames at the same times
+      Track t = this.getTrack(key);
+      t.put(initialTime, (Shape) motion.getInitial().getShape());
+      t.put(finalTime, (Shape) motion.getFinal().getShape());
+    }
+  }
+
+  @Override
+  public void removeMotion(String key, MotionModel motion) throws IllegalArgumentException {
+    if (key == null || motion == null) {
+      throw new IllegalArgumentException("Neither key or motion can be null.");
+    } else if (!this.tracksByKey.containsKey(key)) {
+      throw new IllegalArgumentException("Shape of the given key doesn't exist.");
+    }
+
+    Track t = this.getTrack(key);
+    int i1 = this.indexOf(t, motion.getInitial());
+    int i2 = this.indexOf(t, motion.getFinal());
+    if (i1 == -1 && i2 == -1) {
+      throw new IllegalArgumentException("Motion isn't contained in this shape's list of "
+              + "key frames.");
+    }
+
+    if (i2 != -1) {
+      t.removeAt(i2);
+    }
+    if (i1 != -1 && i1 != i2) {
+      t.removeAt(i1 < i2 || i2 == -1 ? i1 : i1 - 1);
+    }
+  }
+
+  /**
+   * Finds the index of the key frame of the given track with the same time and attributes as the
+   * given key frame.
+   *
+   * @param t     the given track
+   * @param frame the given key frame
+   * @return the index of the key frame, or -1 if the track doesn't contain it
+   */
+  private int indexOf(Track t, KeyFrameModel frame) {
+    double time = frame.getTime();
+    if (time != (int) time) {
+      return -1;
+    }
+
+    int i = t.indexOf((int) time);
+    return i >= 0 && t.matches(i, frame) ? i : -1;
+  }
+
+  @Override
+  public void addKeyFrame(String key, KeyFrameModel frame) throws IllegalArgumentException {
+    if (key == null || frame == null) {
+      throw new IllegalArgumentException("Neither key or frame can be null.");
+    } else if (!this.tracksByKey.containsKey(key)) {
+      throw new IllegalArgumentException("Shape of the given key doesn't exist.");
+    }
+
+    Track t = this.getTrack(key);
+    int time = this.checkTime(frame.getTime());
+    if (t.indexOf(time) >= 0) {
+      throw new IllegalArgumentException("Key frame at time " + frame.getTime()
+              + " already exists.");
+    }
+    t.put(time, (Shape) frame.getShape());
+  }
+
+  @Override
+  public void removeKeyFrame(String key, KeyFrameModel frame) throws IllegalArgumentException {
+    if (key == null || frame == null) {
+      throw new IllegalArgumentException("Neither key or frame can be null.");
+    } else if (!this.tracksByKey.containsKey(key)) {
+      throw new IllegalArgumentException("Shape of the given key doesn't exist.");
+    }
+
+    Track t = this.getTrack(key);
+    int i = this.indexOf(t, frame);
+    if (i == -1) {
+      throw new IllegalArgumentException("Key frame isn't contained in this shape's list of "
+              + "key frames.");
+    }
+    t.removeAt(i);
+  }
+
+  @Override
+  public ArrayList<ShapeModel> getShapes() {
+    ArrayList<ShapeModel> shapes = new ArrayList<>(this.tracks.size());
+    for (Track t : this.tracks) {
+      shapes.add(t.shape);
+    }
+    return shapes;
+  }
+
+  @Override
+  public ArrayList<ShapeModel> getShapes(int time) throws IllegalArgumentException {
+    return this.getShapes((double) time);
+  }
+
+  @Override
+  public ArrayList<ShapeModel> getShapes(double time) throws IllegalArgumentException {
+    if (time < 0) {
+      throw new IllegalArgumentException("Time can't be negative.");
+    } else if (time > this.getEndTime()) {
+      throw new IllegalArgumentException("The final time of the last motion has been reached.");
+    }
+
+    ArrayList<ShapeModel> newShapes = new ArrayList<>();
+    for (Track t : this.tracks) {
+      int i = t.segmentAt(time);
+      if (i == -1) {
+        continue;
+      }
+
+      Shape s = t.shape;
+      double initialTime = t.times[i];
+      double finalTime = t.times[i + 1];
+      double difference = 1 - ((finalTime - time) / (finalTime - initialTime));
+
+      s.x = t.x[i] + ((t.x[i + 1] - (double) t.x[i]) * difference);
+      s.y = t.y[i] + ((t.y[i + 1] - (double) t.y[i]) * difference);
+      s.width = t.width[i] + ((t.width[i + 1] - (double) t.width[i]) * difference);
+      s.height = t.height[i] + ((t.height[i + 1] - (double) t.height[i]) * difference);
+      s.red = t.red[i] + ((t.red[i + 1] - (double) t.red[i]) * difference);
+      s.green = t.green[i] + ((t.green[i + 1] - (double) t.green[i]) * difference);
+      s.blue = t.blue[i] + ((t.blue[i + 1] - (double) t.blue[i]) * difference);
+      s.theta = t.theta[i] + ((t.theta[i + 1] - t.theta[i]) * difference);
+      newShapes.add(s);
+    }
+    return newShapes;
+  }
+
+  @Override
+  public void getFrame(int time, FrameBuffer frame) throws IllegalArgumentException {
+    this.getFrame((double) time, frame);
+  }
+
+  @Override
+  public void getFrame(double time, FrameBuffer frame) throws IllegalArgumentException {
+    if (frame == null) {
+      throw new IllegalArgumentException("Frame can't be null.");
+    } else if (time < 0) {
+      throw new IllegalArgumentException("Time can't be negative.");
+    } else if (time > this.getEndTime()) {
+      throw new IllegalArgumentException("The final time of the last motion has been reached.");
+    }
+
+    frame.clear();
+    for (int k = 0; k < this.tracks.size(); k++) {
+      Track t = this.tracks.get(k);
+      int i = t.segmentAt(time);
+      if (i == -1) {
+        continue;
+      }
+
+      double initialTime = t.times[i];
+      double finalTime = t.times[i + 1];
+      double difference = 1 - ((finalTime - time) / (finalTime - initialTime));
+
+      frame.add(t.shape,
+              t.x[i] + ((t.x[i + 1] - (double) t.x[i]) * difference),
+              t.y[i] + ((t.y[i + 1] - (double) t.y[i]) * difference),
+              t.width[i] + ((t.width[i + 1] - (double) t.width[i]) * difference),
+              t.height[i] + ((t.height[i + 1] - (double) t.height[i]) * difference),
+              t.red[i] + ((t.red[i + 1] - (double) t.red[i]) * difference),
+              t.green[i] + ((t.green[i + 1] - (double) t.green[i]) * difference),
+              t.blue[i] + ((t.blue[i + 1] - (double) t.blue[i]) * difference),
+              t.theta[i] + ((t.theta[i + 1] - t.theta[i]) * difference));
+    }
+  }
+
+  @Override
+  public ArrayList<KeyFrameModel> getKeyFrames() {
+    ArrayList<KeyFrameModel> values = new ArrayList<>();
+    for (Track t : this.tracks) {
+      values.addAll(t.toKeyFrames());
+    }
+    return values;
+  }
+
+  @Override
+  public ArrayList<KeyFrameModel> getKeyFrames(String key) throws IllegalArgumentException {
+    if (key == null) {
+      throw new IllegalArgumentException("Key can't be null.");
+    }
+    return this.getTrack(key).toKeyFrames();
+  }
+
+  @Override
+  public LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> getShapeKeyFrameRepresentation() {
+    LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> rep = new LinkedHashMap<>();
+    for (Track t : this.tracks) {
+      rep.put(t.shape, t.toKeyFrames());
+    }
+    return rep;
+  }
+
+  @Override
+  public String getStringRepresentation() {
+    return new Animation(this.getShapeKeyFrameRepresentation(), this.canvas)
+            .getStringRepresentation();
+  }
+
+  @Override
+  public CanvasModel getCanvas() {
+    return this.canvas;
+  }
+
+  @Override
+  public int getStartTime() {
+    int least = -1;
+    for (Track t : this.tracks) {
+      if (t.size > 0 && (least == -1 || t.times[0] < least)) {
+        least = t.times[0];
+      }
+    }
+    return Math.max(least, 0);
+  }
+
+  @Override
+  public int getEndTime() {
+    int greatest = 0;
+    for (Track t : this.tracks) {
+      if (t.size > 0 && t.times[t.size - 1] > greatest) {
+        greatest = t.times[t.size - 1];
+      }
+    }
+    return greatest;
+  }
+
+  @Override
+  public ColumnarAnimation makeCopy() {
+    ColumnarAnimation copy = new ColumnarAnimation();
+    copy.canvas = new Canvas(this.canvas.getX(), this.canvas.getY(), this.canvas.getWidth(),
+            this.canvas.getHeight());
+
+    for (Track t : this.tracks) {
+      Track c = new Track((Shape) t.shape.makeCopy(), t);
+      copy.tracks.add(c);
+      copy.tracksByKey.put(c.shape.getKey(), c);
+    }
+    return copy;
+  }
+
+  @Override
+  public void addShapeToLayer(String name, int layer) {
+    if (name == null) {
+      throw new IllegalArgumentException("Shape name can't be null.");
+    } else if (!this.tracksByKey.containsKey(name)) {
+      throw new IllegalArgumentException("Shape doesn't exist.");
+    } else if (layer < 0) {
+      throw new IllegalArgumentException("Layer can't be negative.");
+    }
+
+    Track t = this.getTrack(name);
+    Shape current = t.shape;
+    Shape.ShapeBuilder b = new Shape.ShapeBuilder().setX(current.x).setY(current.y)
+            .setWidth(current.width).setHeight(current.height)
+            .setRed(current.getColor().getRed()).setGreen(current.getColor().getGreen())
+            .setBlue(current.getColor().getBlue()).setKey(name).setLayer(layer);
+
+    switch (current.getType()) {
+      case "Rectangle":
+        t.shape = new Rectangle(b.build());
+        break;
+      case "Ellipse":
+        t.shape = new Ellipse(b.build());
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported shape type.");
+    }
+
+    this.tracks.remove(t);
+    this.insertTrack(t);
+  }
+
+  @Override
+  public void deleteLayer(int layer) {
+    ArrayList<Track> kept = new ArrayList<>(this.tracks.size());
+    for (Track t : this.tracks) {
+      if (t.shape.getLayer() == layer) {
+        this.tracksByKey.remove(t.shape.getKey());
+      } else {
+        kept.add(t);
+      }
+    }
+    this.tracks = kept;
+  }
+
+  @Override
+  public void reorderLayer(int layer, int newLayer) {
+    if (layer < 0 || newLayer < 0) {
+      throw new IllegalArgumentException("Layer's can't be negative.");
+    }
+
+    for (Track t : new ArrayList<>(this.tracks)) {
+      if (t.shape.getLayer() == layer) {
+        this.addShapeToLayer(t.shape.getKey(), newLayer);
+      }
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package cs3500.animator.model;
+
+import java.util.Arrays;
+
+/**
+ * Represents the shapes being animated at a single time, stored as parallel primitive arrays so
+ * that one instance can be reused for every frame of an animation without allocating per shape.
+ * The arrays only grow when a frame holds more shapes than any frame before it.
+ */
+public final class FrameBuffer {
+
+  //represents the shapes of the frame, used for their key, type, and layer
+  private ShapeModel[] shapes;
+
+  //represent the interpolated attributes of each shape in the frame
+  private double[] x;
+  private double[] y;
+  private double[] width;
+  private double[] height;
+  private double[] theta;
+
+  //represents the interpolated color of each shape, packed as 0xRRGGBB
+  private int[] rgb;
+
+  //represents the number of shapes in the frame
+  private int size;
+
+  /**
+   * Constructs an empty frame buffer with a default capacity.
+   */
+  public FrameBuffer() {
+    this(16);
+  }
+
+  /**
+   * Constructs an empty frame buffer able to hold the given number of shapes before growing.
+   *
+   * @param capacity the initial capacity
+   * @throws IllegalArgumentException if the capacity is negative
+   */
+  public FrameBuffer(int capacity) throws IllegalArgumentException {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity can't be negative.");
+    }
+
+    this.shapes = new ShapeModel[capacity];
+    this.x = new double[capacity];
+    this.y = new double[capacity];
+    this.width = new double[capacity];
+    this.height = new double[capacity];
+    this.theta = new double[capacity];
+    this.rgb = new int[capacity];
+    this.size = 0;
+  }
+
+  /**
+   * Gets the number of shapes in the frame.
+   *
+   * @return the number of shapes
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Gets the shape at the given index, which is used for it's key, type, and layer. The shape's own
+   * attributes don't represent it's attributes in this frame.
+   *
+   * @param i the index
+   * @return the shape
+   */
+  public ShapeModel getShape(int i) {
+    return this.shapes[this.check(i)];
+  }
+
+  /**
+   * Gets the x coordinate of the top left corner of the shape at the given index.
+   *
+   * @param i the index
+   * @return the x coordinate
+   */
+  public double getX(int i) {
+    return this.x[this.check(i)];
+  }
+
+  /**
+   * Gets the y coordinate of the top left corner of the shape at the given index.
+   *
+   * @param i the index
+   * @return the y coordinate
+   */
+  public double getY(int i) {
+    return this.y[this.check(i)];
+  }
+
+  /**
+   * Gets the width of the shape at the given index.
+   *
+   * @param i the index
+   * @return the width
+   */
+  public double getWidth(int i) {
+    return this.width[this.check(i)];
+  }
+
+  /**
+   * Gets the height of the shape at the given index.
+   *
+   * @param i the index
+   * @return the height
+   */
+  public double getHeight(int i) {
+    return this.height[this.check(i)];
+  }
+
+  /**
+   * Gets the theta in degrees of the shape at the given index.
+   *
+   * @param i the index
+   * @return theta
+   */
+  public double getTheta(int i) {
+    return this.theta[this.check(i)];
+  }
+
+  /**
+   * Gets the color of the shape at the given index, packed as 0xRRGGBB.
+   *
+   * @param i the index
+   * @return the packed color
+   */
+  public int getRGB(int i) {
+    return this.rgb[this.check(i)];
+  }
+
+  /**
+   * Removes all shapes from the frame, keeping it's capacity.
+   */
+  public void clear() {
+    Arrays.fill(this.shapes, 0, this.size, null);
+    this.size = 0;
+  }
+
+  /**
+   * Adds a shape to the end of the frame with the given attributes.
+   *
+   * @param shape  the shape
+   * @param x      the x coordinate
+   * @param y      the y coordinate
+   * @param width  the width
+   * @param height the height
+   * @param red    the red color value
+   * @param green  the green color value
+   * @param blue   the blue color value
+   * @param theta  the theta in degrees
+   */
+  void add(ShapeModel shape, double x, double y, double width, double height, double red,
+           double green, double blue, double theta) {
+    if (this.size == this.shapes.length) {
+      this.grow();
+    }
+
+    int i = this.size++;
+    this.shapes[i] = shape;
+    this.x[i] = x;
+    this.y[i] = y;
+    this.width[i] = width;
+    this.height[i] = height;
+    this.theta[i] = theta;
+    this.rgb[i] = ((int) red << 16) | ((int) green << 8) | (int) blue;
+  }
+
+  /**
+   * Doubles the capacity of the frame.
+   */
+  private void grow() {
+    int capacity = Math.max(16, this.shapes.length * 2);
+    this.shapes = Arrays.copyOf(this.shapes, capacity);
+    this.x = Arrays.copyOf(this.x, capacity);
+    this.y = Arrays.copyOf(this.y, capacity);
+    this.width = Arrays.copyOf(this.width, capacity);
+    this.height = Arrays.copyOf(this.height, capacity);
+    this.theta = Arrays.copyOf(this.theta, capacity);
+    this.rgb = Arrays.copyOf(this.rgb, capacity);
+  }
+
+  /**
+   * Checks that the given index is within the frame.
+   *
+   * @param i the index
+   * @return the index
+   * @throws IndexOutOfBoundsException if the index isn't within the frame
+   */
+  private int check(int i) throws IndexOutOfBoundsException {
+    if (i < 0 || i >= this.size) {
+      throw new IndexOutOfBoundsException("Index " + i + " is out of bounds for frame of size "
+              + this.size + ".");
+    }
+    return i;
+  }
+}
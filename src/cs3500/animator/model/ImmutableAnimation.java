@@ -22,6 +22,12 @@ public class ImmutableAnimation implements ImmutableModel {
     throw new UnsupportedOperationException("Model is immutable.");
   }
 
+  @Override
+  public void insertShape(int index, ShapeModel shape, ArrayList<KeyFrameModel> frames)
+          throws IllegalArgumentException {
+    throw new UnsupportedOperationException("Model is immutable.");
+  }
+
   @Override
   public void removeShape(String key) throws IllegalArgumentException {
     throw new UnsupportedOperationException("Model is immutable.");
@@ -57,11 +63,31 @@ public class ImmutableAnimation implements ImmutableModel {
     return this.model.getShapes(time);
   }
 
+  @Override
+  public ArrayList<ShapeModel> getShapes(double time) throws IllegalArgumentException {
+    return this.model.getShapes(time);
+  }
+
+  @Override
+  public void getFrame(int time, FrameBuffer frame) throws IllegalArgumentException {
+    this.model.getFrame(time, frame);
+  }
+
+  @Override
+  public void getFrame(double time, FrameBuffer frame) throws IllegalArgumentException {
+    this.model.getFrame(time, frame);
+  }
+
   @Override
   public ArrayList<KeyFrameModel> getKeyFrames() {
     return this.model.getKeyFrames();
   }
 
+  @Override
+  public ArrayList<KeyFrameModel> getKeyFrames(String key) throws IllegalArgumentException {
+    return this.model.getKeyFrames(key);
+  }
+
   @Override
   public LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> getShapeKeyFrameRepresentation() {
     return this.model.getShapeKeyFrameRepresentation();
@@ -77,6 +103,11 @@ public class ImmutableAnimation implements ImmutableModel {
     return this.model.getCanvas();
   }
 
+  @Override
+  public int getStartTime() {
+    return this.model.getStartTime();
+  }
+
   @Override
   public int getEndTime() {
     return this.model.getEndTime();
@@ -34,6 +34,11 @@ public class Motion implements MotionModel {
 
   @Override
   public ShapeModel getShape(ShapeModel shape, int currentTime) {
+    return this.getShape(shape, (double) currentTime);
+  }
+
+  @Override
+  public ShapeModel getShape(ShapeModel shape, double currentTime) {
     double initialTime = this.k1.getTime();
     double finalTime = this.k2.getTime();
     Shape initialShape = (Shape) this.k1.getShape();
@@ -63,6 +68,43 @@ public class Motion implements MotionModel {
     return shape;
   }
 
+  /**
+   * Calculates the shape's attributes at the given time, based on the initial and final key
+   * frames, and adds them to the given frame instead of applying them to the shape.
+   *
+   * @param k1          the initial key frame
+   * @param k2          the final key frame
+   * @param shape       the shape being animated
+   * @param currentTime the current time
+   * @param frame       the frame the attributes are added to
+   */
+  static void addToFrame(KeyFrameModel k1, KeyFrameModel k2, ShapeModel shape, double currentTime,
+                         FrameBuffer frame) {
+    double initialTime = k1.getTime();
+    double finalTime = k2.getTime();
+    Shape initialShape = (Shape) k1.getShape();
+    Shape finalShape = (Shape) k2.getShape();
+
+    if (finalTime - initialTime == 0) {
+      frame.add(shape, finalShape.x, finalShape.y, finalShape.width, finalShape.height,
+              finalShape.red, finalShape.green, finalShape.blue, finalShape.theta);
+      return;
+    }
+
+    //represents how far along the animation is, with respect to time.
+    double difference = 1 - ((finalTime - currentTime) / (finalTime - initialTime));
+
+    frame.add(shape,
+            initialShape.x + ((finalShape.x - initialShape.x) * difference),
+            initialShape.y + ((finalShape.y - initialShape.y) * difference),
+            initialShape.width + ((finalShape.width - initialShape.width) * difference),
+            initialShape.height + ((finalShape.height - initialShape.height) * difference),
+            initialShape.red + ((finalShape.red - initialShape.red) * difference),
+            initialShape.green + ((finalShape.green - initialShape.green) * difference),
+            initialShape.blue + ((finalShape.blue - initialShape.blue) * difference),
+            initialShape.theta + ((finalShape.theta - initialShape.theta) * difference));
+  }
+
   @Override
   public String toString() {
     return "motion " + this.k1.getShape().getKey() + " " + this.k1.getTime() + " "
@@ -16,6 +16,15 @@ public interface MotionModel {
    */
   ShapeModel getShape(ShapeModel shape, int currentTime);
 
+  /**
+   * Calculates the shape's attributes at the given time in the same way as {@link
+   * #getShape(ShapeModel, int)}, where the time may fall between two ticks.
+   *
+   * @param shape       the given shape
+   * @param currentTime the current time
+   */
+  ShapeModel getShape(ShapeModel shape, double currentTime);
+
   /**
    * gets a string representation of the shape by it's type (Color, Fade, etc.. ) and fields.
    *
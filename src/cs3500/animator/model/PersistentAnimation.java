@@ -0,0 +1,638 @@
+package cs3500.animator.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import cs3500.animator.util.AnimationBuilder;
+
+/**
+ * Represents and manipulates information regarding numerous shapes and their respective motions,
+ * storing the shapes and each shape's key frames in {@link PersistentTree}s. Edits copy only the
+ * path to what they change, taking logarithmic time, and share the rest of the model with the
+ * model as it was before, so {@link #makeCopy()} takes constant time. A copy is never changed by
+ * edits to the model it was copied from, so it can be read on another thread, such as by an
+ * exporter or a render thread, while the model is edited. Shapes and key frames given to the
+ * model are kept rather than copied, and must not be changed once given, so unlike an {@link
+ * Animation}, getting the shapes at a time doesn't change the shapes returned by {@link
+ * #getShapes()}.
+ */
+public final class PersistentAnimation implements AnimationModel {
+
+  //represents the tracks of key frames of each shape, sorted by the shape's layer and then by
+  //it's position within the layer
+  private PersistentTree<Order, Track> tracks;
+
+  //represents the order of each shape's track by the shape's key
+  private PersistentTree<String, Order> orders;
+
+  //represents the number of shapes whose first key frame, and whose last key frame, is at each
+  //tick, from which the start and end time of the animation are found
+  private PersistentTree<Integer, Integer> starts;
+  private PersistentTree<Integer, Integer> ends;
+
+  //represents the position of the next shape added to the end of it's layer
+  private long nextPosition;
+
+  //represents the bounds of the animation
+  private Canvas canvas;
+
+  /**
+   * Represents where a shape's track is in the order of tracks, by the shape's layer and then by
+   * a position within the layer. Positions of tracks added later are greater, and a track
+   * inserted between two others is given a position between theirs.
+   */
+  private static final class Order implements Comparable<Order> {
+
+    private final int layer;
+    private final double position;
+
+    /**
+     * Constructs an order of the given layer and position.
+     *
+     * @param layer    the layer
+     * @param position the position within the layer
+     */
+    private Order(int layer, double position) {
+      this.layer = layer;
+      this.position = position;
+    }
+
+    @Override
+    public int compareTo(Order o) {
+      if (this.layer != o.layer) {
+        return Integer.compare(this.layer, o.layer);
+      }
+      return Double.compare(this.position, o.position);
+    }
+  }
+
+  /**
+   * Represents a shape and it's key frames by time, which is never changed once it's constructed.
+   */
+  private static final class Track {
+
+    private final ShapeModel shape;
+    private final PersistentTree<Double, KeyFrameModel> frames;
+
+    /**
+     * Constructs a track of the given shape and key frames.
+     *
+     * @param shape  the shape
+     * @param frames the key frames by time
+     */
+    private Track(ShapeModel shape, PersistentTree<Double, KeyFrameModel> frames) {
+      this.shape = shape;
+      this.frames = frames;
+    }
+  }
+
+  /**
+   * Creates a new default instance with no motions and a default canvas.
+   */
+  public PersistentAnimation() {
+    this.tracks = PersistentTree.empty();
+    this.orders = PersistentTree.empty();
+    this.starts = PersistentTree.empty();
+    this.ends = PersistentTree.empty();
+    this.nextPosition = 0;
+    this.canvas = new Canvas();
+  }
+
+  /**
+   * Creates a new instance with copies of the shapes and key frames of the given model, and the
+   * same canvas.
+   *
+   * @param model the given model
+   * @throws IllegalArgumentException if the model is null
+   */
+  public PersistentAnimation(AnimationModel model) throws IllegalArgumentException {
+    this();
+    if (model == null) {
+      throw new IllegalArgumentException("Model can't be null.");
+    }
+
+    this.canvas = new Canvas(model.getCanvas().getX(), model.getCanvas().getY(),
+            model.getCanvas().getWidth(), model.getCanvas().getHeight());
+
+    for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry :
+            model.getShapeKeyFrameRepresentation().entrySet()) {
+      PersistentTree<Double, KeyFrameModel> frames = PersistentTree.empty();
+      for (KeyFrameModel k : entry.getValue()) {
+        frames = frames.put(k.getTime(), new KeyFrame(k.getTime(), k.getShape().makeCopy()));
+      }
+
+      ShapeModel shape = entry.getKey().makeCopy();
+      Order order = new Order(shape.getLayer(), this.nextPosition++);
+      this.orders = this.orders.put(shape.getKey(), order);
+      this.setTrack(order, null, new Track(shape, frames));
+    }
+  }
+
+  /**
+   * Creates a new instance sharing the shapes, key frames, and canvas of the given instance.
+   *
+   * @param that the instance being copied
+   */
+  private PersistentAnimation(PersistentAnimation that) {
+    this.tracks = that.tracks;
+    this.orders = that.orders;
+    this.starts = that.starts;
+    this.ends = that.ends;
+    this.nextPosition = that.nextPosition;
+    this.canvas = that.canvas;
+  }
+
+  /**
+   * Represents a builder class for a persistent animation, which reads the animation the same way
+   * as an {@link Animation.Builder} and stores it in a persistent animation.
+   */
+  public static final class Builder implements AnimationBuilder<PersistentAnimation> {
+
+    //represents the builder the animation is read by
+    private Animation.Builder builder;
+
+    /**
+     * Constructs a builder with a default canvas and no shapes.
+     */
+    public Builder() {
+      this.builder = new Animation.Builder();
+    }
+
+    @Override
+    public PersistentAnimation build() {
+      return new PersistentAnimation(this.builder.build());
+    }
+
+    @Override
+    public AnimationBuilder<PersistentAnimation> setBounds(int x, int y, int width, int height) {
+      this.builder.setBounds(x, y, width, height);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<PersistentAnimation> declareShape(String name, String type) {
+      this.builder.declareShape(name, type);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<PersistentAnimation> addMotion(String name, int t1, int x1, int y1,
+                                                           int w1, int h1, int r1, int g1, int b1,
+                                                           int t2, int x2, int y2, int w2, int h2,
+                                                           int r2, int g2, int b2) {
+      this.builder.addMotion(name, t1, x1, y1, w1, h1, r1, g1, b1, t2, x2, y2, w2, h2, r2, g2,
+              b2);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<PersistentAnimation> addKeyframe(String name, int t, int x, int y,
+                                                             int w, int h, int r, int g, int b) {
+      this.builder.addKeyframe(name, t, x, y, w, h, r, g, b);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<PersistentAnimation> rotateKeyFrame(String name, int t,
+                                                                double theta) {
+      this.builder.rotateKeyFrame(name, t, theta);
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<PersistentAnimation> declareShapeWithLayer(String name, String type,
+                                                                       int layer) {
+      this.builder.declareShapeWithLayer(name, type, layer);
+      return this;
+    }
+  }
+
+  /**
+   * Replaces the track at the given order, keeping the counts of first and last key frame times
+   * up to date.
+   *
+   * @param order    the order of the track
+   * @param previous the track being replaced, or null if there isn't one
+   * @param track    the new track, or null to remove the track
+   */
+  private void setTrack(Order order, Track previous, Track track) {
+    if (previous != null) {
+      this.countTimes(previous, -1);
+    }
+
+    if (track == null) {
+      this.tracks = this.tracks.remove(order);
+    } else {
+      this.tracks = this.tracks.put(order, track);
+      this.countTimes(track, 1);
+    }
+  }
+
+  /**
+   * Adds the given amount to the counts of the times of the first and last key frame of the given
+   * track.
+   *
+   * @param track  the track
+   * @param amount the amount to add
+   */
+  private void countTimes(Track track, int amount) {
+    if (!track.frames.isEmpty()) {
+      this.starts = count(this.starts, (int) track.frames.firstKey().doubleValue(), amount);
+      this.ends = count(this.ends, (int) track.frames.lastKey().doubleValue(), amount);
+    }
+  }
+
+  /**
+   * Creates a tree of counts with the given amount added to the count of the given time, removing
+   * the time once it's count is zero.
+   *
+   * @param counts the counts of each time
+   * @param time   the time
+   * @param amount the amount to add
+   * @return the new tree of counts
+   */
+  private static PersistentTree<Integer, Integer> count(PersistentTree<Integer, Integer> counts,
+                                                        int time, int amount) {
+    Integer current = counts.get(time);
+    int updated = (current == null ? 0 : current) + amount;
+    return updated == 0 ? counts.remove(time) : counts.put(time, updated);
+  }
+
+  /**
+   * Returns the order of the shape corresponding to the key.
+   *
+   * @param key the given key
+   * @return the order of the shape's track
+   * @throws IllegalArgumentException if the key doesn't exist
+   */
+  private Order getOrder(String key) throws IllegalArgumentException {
+    Order o = this.orders.get(key);
+    if (o == null) {
+      throw new IllegalArgumentException("key doesn't exist");
+    }
+    return o;
+  }
+
+  /**
+   * Finds the motion of the given key frames which is applied at the given time, where the motion
+   * is represented by the index of it's initial key frame. When the time is shared by two motions
+   * the later motion is applied, as it is by an {@link Animation}.
+   *
+   * @param frames the key frames by time
+   * @param time   the given time
+   * @return the index of the motion's initial key frame, or -1 if no motion contains the time
+   */
+  private static int segmentAt(PersistentTree<Double, KeyFrameModel> frames, double time) {
+    int last = frames.size() - 1;
+    if (last < 1 || time < frames.firstKey() || time > frames.lastKey()) {
+      return -1;
+    }
+    return Math.min(PersistentTree.headSize(frames, time) - 1, last - 1);
+  }
+
+  /**
+   * Finds the position within the given layer of a shape inserted at the given index of the list
+   * of shapes, between the positions of the shapes on either side of it. If there's no room left
+   * between them, every shape is given a new position first.
+   *
+   * @param index the index of the shape
+   * @param layer the layer of the shape
+   * @return the position
+   */
+  private double positionAt(int index, int layer) {
+    Order before = index > 0 ? this.tracks.keyAt(index - 1) : null;
+    Order after = index < this.tracks.size() ? this.tracks.keyAt(index) : null;
+    boolean hasBefore = before != null && before.layer == layer;
+    boolean hasAfter = after != null && after.layer == layer;
+
+    if (!hasAfter) {
+      return this.nextPosition++;
+    } else if (!hasBefore) {
+      return after.position - 1;
+    }
+
+    double middle = (before.position + after.position) / 2;
+    if (middle > before.position && middle < after.position) {
+      return middle;
+    }
+    this.renumber();
+    return this.positionAt(index, layer);
+  }
+
+  /**
+   * Gives every shape a new whole position in the same order, making room between them.
+   */
+  private void renumber() {
+    ArrayList<Track> all = this.tracks.values();
+    this.tracks = PersistentTree.empty();
+    this.orders = PersistentTree.empty();
+    this.nextPosition = 0;
+    for (Track t : all) {
+      Order order = new Order(t.shape.getLayer(), this.nextPosition++);
+      this.tracks = this.tracks.put(order, t);
+      this.orders = this.orders.put(t.shape.getKey(), order);
+    }
+  }
+
+  @Override
+  public void addShape(ShapeModel shape) throws IllegalArgumentException {
+    if (shape == null) {
+      throw new IllegalArgumentException("Shape can't be null.");
+    } else if (this.orders.containsKey(shape.getKey())) {
+      throw new IllegalArgumentException("Shape's key already exists, try a different key.");
+    }
+
+    Order order = new Order(shape.getLayer(), this.nextPosition++);
+    this.orders = this.orders.put(shape.getKey(), order);
+    this.setTrack(order, null, new Track(shape, PersistentTree.empty()));
+  }
+
+  @Override
+  public void insertShape(int index, ShapeModel shape, ArrayList<KeyFrameModel> frames)
+          throws IllegalArgumentException {
+    if (shape == null || frames == null) {
+      throw new IllegalArgumentException("Shape and key frames can't be null.");
+    } else if (this.orders.containsKey(shape.getKey())) {
+      throw new IllegalArgumentException("Shape's key already exists, try a different key.");
+    } else if (index < 0 || index > this.tracks.size()) {
+      throw new IllegalArgumentException("Index is out of bounds.");
+    }
+
+    //keeps the last key frame given at each time
+    PersistentTree<Double, KeyFrameModel> tree = PersistentTree.empty();
+    for (KeyFrameModel k : frames) {
+      tree = tree.put(k.getTime(), k);
+    }
+
+    Order order = new Order(shape.getLayer(), this.positionAt(index, shape.getLayer()));
+    this.orders = this.orders.put(shape.getKey(), order);
+    this.setTrack(order, null, new Track(shape, tree));
+  }
+
+  @Override
+  public void removeShape(String key) throws IllegalArgumentException {
+    if (key == null) {
+      throw new IllegalArgumentException("Key can't be null.");
+    } else if (!this.orders.containsKey(key)) {
+      throw new IllegalArgumentException("The given key doesn't exist.");
+    }
+
+    Order order = this.getOrder(key);
+    this.orders = this.orders.remove(key);
+    this.setTrack(order, this.tracks.get(order), null);
+  }
+
+  @Override
+  public void addMotion(String key, MotionModel motion) throws IllegalArgumentException {
+    if (key == null || motion == null) {
+      throw new IllegalArgumentException("Neither key or motion can be null.");
+    } else if (!this.orders.containsKey(key)) {
+      throw new IllegalArgumentException("Shape of the given key doesn't exist.");
+    } else if (motion.getInitial().getTime() > motion.getFinal().getTime()) {
+      throw new IllegalArgumentException("Initial time must be less than final time.");
+    }
+
+    //a motion's key frames replace any existing key frames at the same times
+    Order order = this.getOrder(key);
+    Track t = this.tracks.get(order);
+    this.setTrack(order, t, new Track(t.shape, t.frames
+            .put(motion.getInitial().getTime(), motion.getInitial())
+            .put(motion.getFinal().getTime(), motion.getFinal())));
+  }
+
+  @Override
+  public void removeMotion(String key, MotionModel motion) throws IllegalArgumentException {
+    if (key == null || motion == null) {
+      throw new IllegalArgumentException("Neither key or motion can be null.");
+    } else if (!this.orders.containsKey(key)) {
+      throw new IllegalArgumentException("Shape of the given key doesn't exist.");
+    }
+
+    Order order = this.getOrder(key);
+    Track t = this.tracks.get(order);
+    boolean initial = motion.getInitial().equals(t.frames.get(motion.getInitial().getTime()));
+    boolean last = motion.getFinal().equals(t.frames.get(motion.getFinal().getTime()));
+    if (!initial && !last) {
+      throw new IllegalArgumentException("Motion isn't contained in this shape's list of "
+              + "key frames.");
+    }
+
+    PersistentTree<Double, KeyFrameModel> frames = t.frames;
+    if (initial) {
+      frames = frames.remove(motion.getInitial().getTime());
+    }
+    if (last) {
+      frames = frames.remove(motion.getFinal().getTime());
+    }
+    this.setTrack(order, t, new Track(t.shape, frames));
+  }
+
+  @Override
+  public void addKeyFrame(String key, KeyFrameModel frame) throws IllegalArgumentException {
+    if (key == null || frame == null) {
+      throw new IllegalArgumentException("Neither key or frame can be null.");
+    } else if (!this.orders.containsKey(key)) {
+      throw new IllegalArgumentException("Shape of the given key doesn't exist.");
+    }
+
+    Order order = this.getOrder(key);
+    Track t = this.tracks.get(order);
+    if (t.frames.containsKey(frame.getTime())) {
+      throw new IllegalArgumentException("Key frame at time " + frame.getTime()
+              + " already exists.");
+    }
+    this.setTrack(order, t, new Track(t.shape, t.frames.put(frame.getTime(), frame)));
+  }
+
+  @Override
+  public void removeKeyFrame(String key, KeyFrameModel frame) throws IllegalArgumentException {
+    if (key == null || frame == null) {
+      throw new IllegalArgumentException("Neither key or frame can be null.");
+    } else if (!this.orders.containsKey(key)) {
+      throw new IllegalArgumentException("Shape of the given key doesn't exist.");
+    }
+
+    Order order = this.getOrder(key);
+    Track t = this.tracks.get(order);
+    if (!frame.equals(t.frames.get(frame.getTime()))) {
+      throw new IllegalArgumentException("Key frame isn't contained in this shape's list of "
+              + "key frames.");
+    }
+    this.setTrack(order, t, new Track(t.shape, t.frames.remove(frame.getTime())));
+  }
+
+  @Override
+  public ArrayList<ShapeModel> getShapes() {
+    ArrayList<ShapeModel> shapes = new ArrayList<>(this.tracks.size());
+    this.tracks.forEachValue(t -> shapes.add(t.shape));
+    return shapes;
+  }
+
+  @Override
+  public ArrayList<ShapeModel> getShapes(int time) throws IllegalArgumentException {
+    return this.getShapes((double) time);
+  }
+
+  @Override
+  public ArrayList<ShapeModel> getShapes(double time) throws IllegalArgumentException {
+    if (time < 0) {
+      throw new IllegalArgumentException("Time can't be negative.");
+    } else if (time > this.getEndTime()) {
+      throw new IllegalArgumentException("The final time of the last motion has been reached.");
+    }
+
+    ArrayList<ShapeModel> newShapes = new ArrayList<>();
+    this.tracks.forEachValue(t -> {
+      //the motion is applied to a copy of the shape, as the shape is shared with copies
+      int i = segmentAt(t.frames, time);
+      if (i != -1) {
+        Motion motion = new Motion(t.frames.valueAt(i), t.frames.valueAt(i + 1));
+        newShapes.add(motion.getShape(t.shape.makeCopy(), time));
+      }
+    });
+    return newShapes;
+  }
+
+  @Override
+  public void getFrame(int time, FrameBuffer frame) throws IllegalArgumentException {
+    this.getFrame((double) time, frame);
+  }
+
+  @Override
+  public void getFrame(double time, FrameBuffer frame) throws IllegalArgumentException {
+    if (frame == null) {
+      throw new IllegalArgumentException("Frame can't be null.");
+    } else if (time < 0) {
+      throw new IllegalArgumentException("Time can't be negative.");
+    } else if (time > this.getEndTime()) {
+      throw new IllegalArgumentException("The final time of the last motion has been reached.");
+    }
+
+    frame.clear();
+    this.tracks.forEachValue(t -> {
+      int i = segmentAt(t.frames, time);
+      if (i != -1) {
+        Motion.addToFrame(t.frames.valueAt(i), t.frames.valueAt(i + 1), t.shape, time, frame);
+      }
+    });
+  }
+
+  @Override
+  public ArrayList<KeyFrameModel> getKeyFrames() {
+    ArrayList<KeyFrameModel> values = new ArrayList<>();
+    this.tracks.forEachValue(t -> t.frames.forEachValue(values::add));
+    return values;
+  }
+
+  @Override
+  public ArrayList<KeyFrameModel> getKeyFrames(String key) throws IllegalArgumentException {
+    if (key == null) {
+      throw new IllegalArgumentException("Key can't be null.");
+    }
+    return this.tracks.get(this.getOrder(key)).frames.values();
+  }
+
+  @Override
+  public LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> getShapeKeyFrameRepresentation() {
+    LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> rep = new LinkedHashMap<>();
+    this.tracks.forEachValue(t -> rep.put(t.shape, t.frames.values()));
+    return rep;
+  }
+
+  @Override
+  public String getStringRepresentation() {
+    return TextExporter.toString(this.getShapeKeyFrameRepresentation());
+  }
+
+  @Override
+  public CanvasModel getCanvas() {
+    return this.canvas;
+  }
+
+  @Override
+  public int getStartTime() {
+    return this.starts.isEmpty() ? 0 : Math.max(this.starts.firstKey(), 0);
+  }
+
+  @Override
+  public int getEndTime() {
+    return this.ends.isEmpty() ? 0 : Math.max(this.ends.lastKey(), 0);
+  }
+
+  @Override
+  public PersistentAnimation makeCopy() {
+    return new PersistentAnimation(this);
+  }
+
+  @Override
+  public void addShapeToLayer(String name, int layer) {
+    if (name == null) {
+      throw new IllegalArgumentException("Shape name can't be null.");
+    } else if (!this.orders.containsKey(name)) {
+      throw new IllegalArgumentException("Shape doesn't exist.");
+    } else if (layer < 0) {
+      throw new IllegalArgumentException("Layer can't be negative.");
+    }
+
+    Order order = this.getOrder(name);
+    Track t = this.tracks.get(order);
+    ShapeModel current = t.shape;
+    Shape.ShapeBuilder b = new Shape.ShapeBuilder().setX(current.getPointTopLeft().x)
+            .setY(current.getPointTopLeft().y).setWidth(current.getDimensions().x)
+            .setHeight(current.getDimensions().y).setRed(current.getColor().getRed())
+            .setGreen(current.getColor().getGreen()).setBlue(current.getColor().getBlue())
+            .setKey(name).setLayer(layer);
+
+    Shape newShape;
+    switch (current.getType()) {
+      case "Rectangle":
+        newShape = new Rectangle(b.build());
+        break;
+      case "Ellipse":
+        newShape = new Ellipse(b.build());
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported shape type.");
+    }
+
+    //the shape is moved to the end of it's new layer
+    Order moved = new Order(layer, this.nextPosition++);
+    this.tracks = this.tracks.remove(order).put(moved, new Track(newShape, t.frames));
+    this.orders = this.orders.put(name, moved);
+  }
+
+  @Override
+  public void deleteLayer(int layer) {
+    int from = this.tracks.headSize(new Order(layer, Double.NEGATIVE_INFINITY), false);
+    int to = this.tracks.headSize(new Order(layer, Double.POSITIVE_INFINITY), false);
+    ArrayList<Order> deleted = new ArrayList<>();
+    for (int i = from; i < to; i++) {
+      deleted.add(this.tracks.keyAt(i));
+    }
+
+    for (Order o : deleted) {
+      Track t = this.tracks.get(o);
+      this.orders = this.orders.remove(t.shape.getKey());
+      this.setTrack(o, t, null);
+    }
+  }
+
+  @Override
+  public void reorderLayer(int layer, int newLayer) {
+    if (layer < 0 || newLayer < 0) {
+      throw new IllegalArgumentException("Layer's can't be negative.");
+    }
+
+    int from = this.tracks.headSize(new Order(layer, Double.NEGATIVE_INFINITY), false);
+    int to = this.tracks.headSize(new Order(layer, Double.POSITIVE_INFINITY), false);
+    ArrayList<String> keys = new ArrayList<>();
+    for (int i = from; i < to; i++) {
+      keys.add(this.tracks.valueAt(i).shape.getKey());
+    }
+
+    for (String key : keys) {
+      this.addShapeToLayer(key, newLayer);
+    }
+  }
+}
@@ -0,0 +1,441 @@
+package cs3500.animator.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.function.Consumer;
+
+/**
+ * Represents an immutable sorted map, stored as a balanced (AVL) binary search tree. Adding or
+ * removing an entry copies only the nodes on the path to it and returns a new tree, which shares
+ * every other node with this one, so both trees stay valid and each edit takes logarithmic time.
+ * Each node also holds the size of it's subtree, so entries can be found by their index.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class PersistentTree<K, V> {
+
+  private final Comparator<? super K> comparator;
+  private final Node<K, V> root;
+
+  /**
+   * Represents a node of the tree, which is never changed once it's constructed.
+   *
+   * @param <K> the type of the key
+   * @param <V> the type of the value
+   */
+  private static final class Node<K, V> {
+
+    private final K key;
+    private final V value;
+    private final Node<K, V> left;
+    private final Node<K, V> right;
+
+    //represents the height and number of nodes of the subtree rooted at this node
+    private final int height;
+    private final int size;
+
+    /**
+     * Constructs a node with the given entry and children.
+     *
+     * @param key   the key
+     * @param value the value
+     * @param left  the subtree of smaller keys
+     * @param right the subtree of larger keys
+     */
+    private Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+      this.key = key;
+      this.value = value;
+      this.left = left;
+      this.right = right;
+      this.height = Math.max(height(left), height(right)) + 1;
+      this.size = size(left) + size(right) + 1;
+    }
+  }
+
+  /**
+   * Constructs a tree with the given ordering and root.
+   *
+   * @param comparator the ordering of the keys
+   * @param root       the root, or null if the tree is empty
+   */
+  private PersistentTree(Comparator<? super K> comparator, Node<K, V> root) {
+    this.comparator = comparator;
+    this.root = root;
+  }
+
+  /**
+   * Creates an empty tree ordering it's keys by their natural ordering.
+   *
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   * @return an empty tree
+   */
+  static <K extends Comparable<? super K>, V> PersistentTree<K, V> empty() {
+    return new PersistentTree<>(Comparator.naturalOrder(), null);
+  }
+
+  /**
+   * Gets the number of entries in the tree.
+   *
+   * @return the number of entries
+   */
+  int size() {
+    return size(this.root);
+  }
+
+  /**
+   * Returns if the tree has no entries.
+   *
+   * @return if the tree is empty
+   */
+  boolean isEmpty() {
+    return this.root == null;
+  }
+
+  /**
+   * Gets the value of the given key.
+   *
+   * @param key the key
+   * @return the value, or null if the key isn't in the tree
+   */
+  V get(K key) {
+    Node<K, V> n = this.root;
+    while (n != null) {
+      int c = this.comparator.compare(key, n.key);
+      if (c == 0) {
+        return n.value;
+      }
+      n = c < 0 ? n.left : n.right;
+    }
+    return null;
+  }
+
+  /**
+   * Returns if the given key is in the tree.
+   *
+   * @param key the key
+   * @return if the key is in the tree
+   */
+  boolean containsKey(K key) {
+    Node<K, V> n = this.root;
+    while (n != null) {
+      int c = this.comparator.compare(key, n.key);
+      if (c == 0) {
+        return true;
+      }
+      n = c < 0 ? n.left : n.right;
+    }
+    return false;
+  }
+
+  /**
+   * Creates a tree with the given entry added, replacing the value of the key if it's already in
+   * the tree.
+   *
+   * @param key   the key
+   * @param value the value
+   * @return the new tree
+   */
+  PersistentTree<K, V> put(K key, V value) {
+    return new PersistentTree<>(this.comparator, this.put(this.root, key, value));
+  }
+
+  /**
+   * Creates a tree with the entry of the given key removed.
+   *
+   * @param key the key
+   * @return the new tree, or this tree if the key isn't in it
+   */
+  PersistentTree<K, V> remove(K key) {
+    if (!this.containsKey(key)) {
+      return this;
+    }
+    return new PersistentTree<>(this.comparator, this.remove(this.root, key));
+  }
+
+  /**
+   * Gets the key at the given index of the tree's keys in increasing order.
+   *
+   * @param index the index
+   * @return the key
+   * @throws IndexOutOfBoundsException if the index isn't less than the size of the tree
+   */
+  K keyAt(int index) throws IndexOutOfBoundsException {
+    return this.nodeAt(index).key;
+  }
+
+  /**
+   * Gets the value at the given index of the tree's keys in increasing order.
+   *
+   * @param index the index
+   * @return the value
+   * @throws IndexOutOfBoundsException if the index isn't less than the size of the tree
+   */
+  V valueAt(int index) throws IndexOutOfBoundsException {
+    return this.nodeAt(index).value;
+  }
+
+  /**
+   * Gets the number of keys less than the given key, or if inclusive, less than or equal to it.
+   *
+   * @param key       the key
+   * @param inclusive if the given key is counted when it's in the tree
+   * @return the number of keys
+   */
+  int headSize(K key, boolean inclusive) {
+    int count = 0;
+    Node<K, V> n = this.root;
+    while (n != null) {
+      int c = this.comparator.compare(key, n.key);
+      if (c < 0 || (c == 0 && !inclusive)) {
+        n = n.left;
+      } else {
+        count += size(n.left) + 1;
+        n = n.right;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Gets the number of keys of the given tree less than or equal to the given key. The keys are
+   * compared as primitive doubles rather than through the tree's comparator, so searching the
+   * tree doesn't box the key.
+   *
+   * @param tree the tree, whose keys are ordered by their natural ordering
+   * @param key  the key
+   * @param <V>  the type of the values
+   * @return the number of keys
+   */
+  static <V> int headSize(PersistentTree<Double, V> tree, double key) {
+    int count = 0;
+    Node<Double, V> n = tree.root;
+    while (n != null) {
+      if (key < n.key) {
+        n = n.left;
+      } else {
+        count += size(n.left) + 1;
+        n = n.right;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Gets the smallest key of the tree.
+   *
+   * @return the smallest key
+   * @throws IndexOutOfBoundsException if the tree is empty
+   */
+  K firstKey() throws IndexOutOfBoundsException {
+    return this.keyAt(0);
+  }
+
+  /**
+   * Gets the largest key of the tree.
+   *
+   * @return the largest key
+   * @throws IndexOutOfBoundsException if the tree is empty
+   */
+  K lastKey() throws IndexOutOfBoundsException {
+    return this.keyAt(this.size() - 1);
+  }
+
+  /**
+   * Gets the values of the tree in increasing order of their keys.
+   *
+   * @return the values
+   */
+  ArrayList<V> values() {
+    ArrayList<V> values = new ArrayList<>(this.size());
+    addValues(this.root, values);
+    return values;
+  }
+
+  /**
+   * Gives each value of the tree to the given action in increasing order of their keys, visiting
+   * the nodes in place rather than copying the values to a list first.
+   *
+   * @param action the action
+   */
+  void forEachValue(Consumer<? super V> action) {
+    forEachValue(this.root, action);
+  }
+
+  /**
+   * Gets the node at the given index of the tree's keys in increasing order.
+   *
+   * @param index the index
+   * @return the node
+   * @throws IndexOutOfBoundsException if the index isn't less than the size of the tree
+   */
+  private Node<K, V> nodeAt(int index) throws IndexOutOfBoundsException {
+    if (index < 0 || index >= this.size()) {
+      throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+    }
+
+    Node<K, V> n = this.root;
+    while (true) {
+      int leftSize = size(n.left);
+      if (index < leftSize) {
+        n = n.left;
+      } else if (index > leftSize) {
+        index -= leftSize + 1;
+        n = n.right;
+      } else {
+        return n;
+      }
+    }
+  }
+
+  /**
+   * Adds the given entry to the subtree rooted at the given node, copying the nodes on it's path.
+   *
+   * @param n     the root of the subtree, or null if it's empty
+   * @param key   the key
+   * @param value the value
+   * @return the root of the new subtree
+   */
+  private Node<K, V> put(Node<K, V> n, K key, V value) {
+    if (n == null) {
+      return new Node<>(key, value, null, null);
+    }
+
+    int c = this.comparator.compare(key, n.key);
+    if (c < 0) {
+      return balance(n.key, n.value, this.put(n.left, key, value), n.right);
+    } else if (c > 0) {
+      return balance(n.key, n.value, n.left, this.put(n.right, key, value));
+    } else {
+      return new Node<>(n.key, value, n.left, n.right);
+    }
+  }
+
+  /**
+   * Removes the given key from the subtree rooted at the given node, which contains it, copying
+   * the nodes on it's path.
+   *
+   * @param n   the root of the subtree
+   * @param key the key
+   * @return the root of the new subtree, or null if it's empty
+   */
+  private Node<K, V> remove(Node<K, V> n, K key) {
+    int c = this.comparator.compare(key, n.key);
+    if (c < 0) {
+      return balance(n.key, n.value, this.remove(n.left, key), n.right);
+    } else if (c > 0) {
+      return balance(n.key, n.value, n.left, this.remove(n.right, key));
+    } else if (n.left == null) {
+      return n.right;
+    } else if (n.right == null) {
+      return n.left;
+    }
+
+    //replaces the removed node with the smallest node of it's right subtree
+    Node<K, V> successor = n.right;
+    while (successor.left != null) {
+      successor = successor.left;
+    }
+    return balance(successor.key, successor.value, n.left, removeFirst(n.right));
+  }
+
+  /**
+   * Removes the smallest key from the subtree rooted at the given node.
+   *
+   * @param n   the root of the subtree
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   * @return the root of the new subtree, or null if it's empty
+   */
+  private static <K, V> Node<K, V> removeFirst(Node<K, V> n) {
+    if (n.left == null) {
+      return n.right;
+    }
+    return balance(n.key, n.value, removeFirst(n.left), n.right);
+  }
+
+  /**
+   * Constructs a node with the given entry and children, rotating it such that the heights of
+   * it's subtrees differ by at most one. The heights of the given children differ by at most two,
+   * as they do after a single entry is added or removed.
+   *
+   * @param key   the key
+   * @param value the value
+   * @param l     the subtree of smaller keys
+   * @param r     the subtree of larger keys
+   * @param <K>   the type of the keys
+   * @param <V>   the type of the values
+   * @return the balanced node
+   */
+  private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> l, Node<K, V> r) {
+    if (height(l) > height(r) + 1) {
+      if (height(l.left) >= height(l.right)) {
+        return new Node<>(l.key, l.value, l.left, new Node<>(key, value, l.right, r));
+      }
+      Node<K, V> lr = l.right;
+      return new Node<>(lr.key, lr.value, new Node<>(l.key, l.value, l.left, lr.left),
+              new Node<>(key, value, lr.right, r));
+    } else if (height(r) > height(l) + 1) {
+      if (height(r.right) >= height(r.left)) {
+        return new Node<>(r.key, r.value, new Node<>(key, value, l, r.left), r.right);
+      }
+      Node<K, V> rl = r.left;
+      return new Node<>(rl.key, rl.value, new Node<>(key, value, l, rl.left),
+              new Node<>(r.key, r.value, rl.right, r.right));
+    }
+    return new Node<>(key, value, l, r);
+  }
+
+  /**
+   * Adds the values of the subtree rooted at the given node to the given list in order.
+   *
+   * @param n      the root of the subtree, or null if it's empty
+   * @param values the list of values
+   * @param <K>    the type of the keys
+   * @param <V>    the type of the values
+   */
+  private static <K, V> void addValues(Node<K, V> n, ArrayList<V> values) {
+    if (n != null) {
+      addValues(n.left, values);
+      values.add(n.value);
+      addValues(n.right, values);
+    }
+  }
+
+  /**
+   * Gives each value of the subtree rooted at the given node to the given action in order.
+   *
+   * @param n      the root of the subtree, or null if it's empty
+   * @param action the action
+   * @param <K>    the type of the keys
+   * @param <V>    the type of the values
+   */
+  private static <K, V> void forEachValue(Node<K, V> n, Consumer<? super V> action) {
+    if (n != null) {
+      forEachValue(n.left, action);
+      action.accept(n.value);
+      forEachValue(n.right, action);
+    }
+  }
+
+  /**
+   * Gets the height of the given subtree.
+   *
+   * @param n the root of the subtree, or null if it's empty
+   * @return the height
+   */
+  private static int height(Node<?, ?> n) {
+    return n == null ? 0 : n.height;
+  }
+
+  /**
+   * Gets the number of nodes of the given subtree.
+   *
+   * @param n the root of the subtree, or null if it's empty
+   * @return the number of nodes
+   */
+  private static int size(Node<?, ?> n) {
+    return n == null ? 0 : n.size;
+  }
+}
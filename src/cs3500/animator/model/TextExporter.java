@@ -0,0 +1,127 @@
+package cs3500.animator.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * A helper for writing the textual description of an animation, shape by shape and motion by
+ * motion. Each shape is described by a line declaring it followed by a line for each of it's
+ * motions, and shapes are separated by a blank line. Each line is written to the appendable object
+ * as soon as it's formatted, so describing an animation takes the same memory however long the
+ * description is.
+ */
+public final class TextExporter {
+
+  /**
+   * Prevents instantiation of this helper.
+   */
+  private TextExporter() {
+  }
+
+  /**
+   * Writes the textual description of the given shapes and key frames to the given appendable
+   * object.
+   *
+   * @param keyFrames each shape mapped to it's key frames, sorted by time
+   * @param ap        the appendable object
+   * @throws IOException if the appendable object can't be written to
+   */
+  public static void write(Map<ShapeModel, ArrayList<KeyFrameModel>> keyFrames, Appendable ap)
+          throws IOException {
+    write(keyFrames, new StringBuilder(), ap);
+  }
+
+  /**
+   * Gets the textual description of the given shapes and key frames.
+   *
+   * @param keyFrames each shape mapped to it's key frames, sorted by time
+   * @return the textual description
+   */
+  public static String toString(Map<ShapeModel, ArrayList<KeyFrameModel>> keyFrames) {
+    StringBuilder sb = new StringBuilder();
+    try {
+      write(keyFrames, sb, sb);
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to successfully transmit output.");
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Writes the textual description of the given shapes and key frames to the given appendable
+   * object, formatting each line in the given string builder first. The line separating a line
+   * from the previous one is written before it, so nothing trails the last line.
+   *
+   * @param keyFrames each shape mapped to it's key frames, sorted by time
+   * @param line      the string builder lines are formatted in, which may be the appendable object
+   * @param ap        the appendable object
+   * @throws IOException if the appendable object can't be written to
+   */
+  private static void write(Map<ShapeModel, ArrayList<KeyFrameModel>> keyFrames,
+                            StringBuilder line, Appendable ap) throws IOException {
+    boolean first = true;
+    for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry : keyFrames.entrySet()) {
+      ShapeModel shape = entry.getKey();
+      ArrayList<KeyFrameModel> value = entry.getValue();
+
+      if (!first) {
+        line.append("\n\n");
+      }
+      first = false;
+      line.append("Shape ").append(shape.getKey()).append(" ").append(shape.getType());
+      flush(line, ap);
+
+      for (int i = 0; i < value.size() - 1; i++) {
+        KeyFrameModel k1 = value.get(i);
+        KeyFrameModel k2 = value.get(i + 1);
+        line.append("\nmotion ").append(k1.getShape().getKey()).append(" ").append(k1.getTime())
+                .append(" ");
+        appendShape(line, k1.getShape());
+        line.append(" ").append(k2.getTime()).append(" ");
+        appendShape(line, k2.getShape());
+        flush(line, ap);
+      }
+    }
+
+    //writes the empty description of an animation without shapes, so an appendable object that
+    //can't be written to is still reported
+    if (first) {
+      flush(line, ap);
+    }
+  }
+
+  /**
+   * Appends the attributes of the given shape to the given string builder, as the shape's
+   * toString would.
+   *
+   * @param line  the string builder
+   * @param shape the shape
+   */
+  private static void appendShape(StringBuilder line, ShapeModel shape) {
+    if (!(shape instanceof Shape)) {
+      line.append(shape.toString());
+      return;
+    }
+
+    Shape s = (Shape) shape;
+    line.append(s.x).append(" ").append(s.y).append(" ").append(s.width).append(" ")
+            .append(s.height).append(" ").append(s.red).append(" ").append(s.green).append(" ")
+            .append(s.blue).append(" ").append(s.theta);
+  }
+
+  /**
+   * Writes the formatted line to the appendable object and clears it, unless the line is being
+   * formatted in the appendable object itself.
+   *
+   * @param line the string builder holding the line
+   * @param ap   the appendable object
+   * @throws IOException if the appendable object can't be written to
+   */
+  private static void flush(StringBuilder line, Appendable ap) throws IOException {
+    if (line != ap) {
+      ap.append(line);
+      line.setLength(0);
+    }
+  }
+}
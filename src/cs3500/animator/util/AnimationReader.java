@@ -1,15 +1,25 @@
 package cs3500.animator.util;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.Objects;
-import java.util.Scanner;
-import java.util.regex.Pattern;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A helper to read animation data and construct an animation from it.
  */
 public class AnimationReader {
+
+  //represent the names of the fields of each line, used in error messages
+  private static final String[] CANVAS_FIELDS = {"left", "top", "width", "height"};
+  private static final String[] MOTION_FIELDS = {"initial time", "initial x-coordinate",
+          "initial y-coordinate", "initial width", "initial height", "initial red value",
+          "initial green value", "initial blue value", "final time", "final x-coordinate",
+          "final y-coordinate", "final width", "final height", "final red value",
+          "final green value", "final blue value"};
+
   /**
    * A factory for producing new animations, given a source of shapes and a builder for constructing
    * animations.
@@ -28,6 +38,11 @@ public class AnimationReader {
    * </ul>
    * </p>
    *
+   * <p>
+   * Tokens are separated by whitespace, and '#' starts a comment that runs to the end of the line.
+   * Errors report the line and column of the offending token.
+   * </p>
+   *
    * @param readable The source of data for the animation
    * @param builder  A builder for helping to construct a new animation
    * @param <Doc>    The main model interface type describing animations
@@ -35,41 +50,112 @@ public class AnimationReader {
   public static <Doc> Doc parseFile(Readable readable, AnimationBuilder<Doc> builder) {
     Objects.requireNonNull(readable, "Must have non-null readable source");
     Objects.requireNonNull(builder, "Must provide a non-null AnimationBuilder");
-    Scanner s = new Scanner(readable);
-    s.useDelimiter(Pattern.compile("(\\p{Space}+|#.*)+")); // Split at whitespace, and ignore #
-    // comment lines
+    read(new AnimationTokenizer(readable), builder);
+    return builder.build();
+  }
+
+  /**
+   * Makes a call on the given builder for each line read from the given tokenizer, without building
+   * the animation.
+   *
+   * @param s       The tokens of the animation
+   * @param builder A builder for helping to construct a new animation
+   * @param <Doc>   The main model interface type describing animations
+   */
+  static <Doc> void read(AnimationTokenizer s, AnimationBuilder<Doc> builder) {
     while (s.hasNext()) {
-      String word = s.next();
-      switch (word) {
-        case "canvas":
-          readCanvas(s, builder);
-          break;
-        case "shape":
-          readShape(s, builder);
-          break;
-        case "motion":
-          readMotion(s, builder);
-          break;
-        case "rotation":
-          readRotation(s, builder);
-          break;
-        default:
-          throw new IllegalStateException("Unexpected keyword: " + word + s.nextLine());
+      if (s.nextIs("canvas")) {
+        s.next();
+        readCanvas(s, builder);
+      } else if (s.nextIs("shape")) {
+        s.next();
+        readShape(s, builder);
+      } else if (s.nextIs("motion")) {
+        s.next();
+        readMotion(s, builder);
+      } else if (s.nextIs("rotation")) {
+        s.next();
+        readRotation(s, builder);
+      } else {
+        String position = s.position();
+        throw new IllegalStateException("Unexpected keyword at " + position + ": " + s.nextLine());
       }
     }
-    return builder.build();
   }
 
-  private static <Doc> void readCanvas(Scanner s, AnimationBuilder<Doc> builder) {
+  /**
+   * Produces a new animation from the given file, in the same format as {@link #parseFile(Readable,
+   * AnimationBuilder)}. The file is memory-mapped and it's bytes are read directly, so large files
+   * are never copied onto the heap as a whole.
+   *
+   * @param file    The file containing the animation
+   * @param builder A builder for helping to construct a new animation
+   * @param <Doc>   The main model interface type describing animations
+   * @throws FileNotFoundException if the file doesn't exist or can't be opened
+   * @throws IOException           if the file's size can't be read
+   */
+  public static <Doc> Doc parseFile(File file, AnimationBuilder<Doc> builder)
+          throws FileNotFoundException, IOException {
+    Objects.requireNonNull(file, "Must have non-null file");
+    Objects.requireNonNull(builder, "Must provide a non-null AnimationBuilder");
+    try (FileInputStream in = new FileInputStream(file);
+         MappedFileSource source = new MappedFileSource(in.getChannel())) {
+      return parseFile(source, builder);
+    }
+  }
+
+  /**
+   * Produces a new animation from the given file like {@link #parseFile(File, AnimationBuilder)},
+   * parsing parts of the file at the same time on the common fork join pool.
+   *
+   * @param file    The file containing the animation
+   * @param builder A builder for helping to construct a new animation
+   * @param <Doc>   The main model interface type describing animations
+   * @throws FileNotFoundException if the file doesn't exist or can't be opened
+   * @throws IOException           if the file can't be mapped
+   */
+  public static <Doc> Doc parseFileParallel(File file, AnimationBuilder<Doc> builder)
+          throws FileNotFoundException, IOException {
+    return parseFileParallel(file, builder, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Produces a new animation from the given file like {@link #parseFile(File, AnimationBuilder)},
+   * parsing parts of the file at the same time on the given pool. The file is split into chunks at
+   * lines starting with a keyword, and the parsed chunks are given to the builder in file order, so
+   * the builder receives the same calls in the same order as a sequential parse. A pool with a
+   * single thread parses the file sequentially.
+   *
+   * @param file    The file containing the animation
+   * @param builder A builder for helping to construct a new animation
+   * @param pool    The pool to parse chunks of the file on
+   * @param <Doc>   The main model interface type describing animations
+   * @throws FileNotFoundException if the file doesn't exist or can't be opened
+   * @throws IOException           if the file can't be mapped
+   */
+  public static <Doc> Doc parseFileParallel(File file, AnimationBuilder<Doc> builder,
+                                            ForkJoinPool pool)
+          throws FileNotFoundException, IOException {
+    Objects.requireNonNull(file, "Must have non-null file");
+    Objects.requireNonNull(builder, "Must provide a non-null AnimationBuilder");
+    Objects.requireNonNull(pool, "Must provide a non-null ForkJoinPool");
+
+    //recording and replaying chunks only pays off with more than one thread
+    if (pool.getParallelism() < 2) {
+      return parseFile(file, builder);
+    }
+    return new ParallelAnimationParser(pool).parse(file, builder);
+  }
+
+  private static <Doc> void readCanvas(AnimationTokenizer s, AnimationBuilder<Doc> builder) {
     int[] vals = new int[4];
-    String[] fieldNames = {"left", "top", "width", "height"};
     for (int i = 0; i < 4; i++) {
-      vals[i] = getInt(s, "Canvas", fieldNames[i]);
+      vals[i] = getInt(s, "Canvas", CANVAS_FIELDS[i]);
     }
     builder.setBounds(vals[0], vals[1], vals[2], vals[3]);
   }
 
-  private static <Doc> void readShape(Scanner s, AnimationBuilder<Doc> builder) {
+  private static <Doc> void readShape(AnimationTokenizer s, AnimationBuilder<Doc> builder) {
     String name;
     String type;
     int layer = 0;
@@ -89,16 +175,7 @@ public class AnimationReader {
     builder.declareShapeWithLayer(name, type, layer);
   }
 
-  private static <Doc> void readMotion(Scanner s, AnimationBuilder<Doc> builder) {
-    ArrayList<String> temp = new ArrayList<>(Arrays.asList("initial time", "initial x-coordinate",
-            "initial y-coordinate", "initial width", "initial height", "initial red value",
-            "initial green value", "initial blue value", "final time", "final x-coordinate",
-            "final y-coordinate", "final width", "final height", "final red value",
-            "final green value", "final blue value"));
-
-    String[] fieldNames = new String[temp.size()];
-    fieldNames = temp.toArray(fieldNames);
-
+  private static <Doc> void readMotion(AnimationTokenizer s, AnimationBuilder<Doc> builder) {
     int[] vals = new int[16];
     String name;
     if (s.hasNext()) {
@@ -107,14 +184,14 @@ public class AnimationReader {
       throw new IllegalStateException("Motion: Expected a shape name, but no more input available");
     }
     for (int i = 0; i < 16; i++) {
-      vals[i] = getInt(s, "Motion", fieldNames[i]);
+      vals[i] = getInt(s, "Motion", MOTION_FIELDS[i]);
     }
     builder.addMotion(name,
             vals[0], vals[1], vals[2], vals[3], vals[4], vals[5], vals[6], vals[7],
             vals[8], vals[9], vals[10], vals[11], vals[12], vals[13], vals[14], vals[15]);
   }
 
-  private static <Doc> void readRotation(Scanner s, AnimationBuilder<Doc> builder) {
+  private static <Doc> void readRotation(AnimationTokenizer s, AnimationBuilder<Doc> builder) {
     String name;
     int time;
     double theta;
@@ -125,21 +202,22 @@ public class AnimationReader {
       throw new IllegalStateException("Rotation: Expected a name, but no more input available");
     }
 
-    if (s.hasNext()) {
-      try {
-        time = Integer.parseInt(s.next());
-      } catch (NumberFormatException e) {
-        throw new IllegalStateException("Rotation: Expected a time, but not given an integer");
-      }
+    if (s.hasNextInt()) {
+      time = s.nextInt();
+    } else if (s.hasNext()) {
+      throw new IllegalStateException("Rotation: Expected a time at " + s.position()
+              + ", but not given an integer");
     } else {
       throw new IllegalStateException("Rotation: Expected a time, but no more input available");
     }
 
     if (s.hasNext()) {
+      String position = s.position();
       try {
         theta = Double.parseDouble(s.next());
       } catch (NumberFormatException e) {
-        throw new IllegalStateException("Rotation: Expected a theta, but not given a double");
+        throw new IllegalStateException("Rotation: Expected a theta at " + position
+                + ", but not given a double");
       }
     } else {
       throw new IllegalStateException("Rotation: Expected a theta, but no more input available");
@@ -148,12 +226,14 @@ public class AnimationReader {
     builder.rotateKeyFrame(name, time, theta);
   }
 
-  private static int getInt(Scanner s, String label, String fieldName) {
+  private static int getInt(AnimationTokenizer s, String label, String fieldName) {
     if (s.hasNextInt()) {
       return s.nextInt();
     } else if (s.hasNext()) {
+      String position = s.position();
       throw new IllegalStateException(
-              String.format("%s: expected integer for %s, got: %s", label, fieldName, s.next()));
+              String.format("%s: expected integer for %s at %s, got: %s", label, fieldName,
+                      position, s.next()));
     } else {
       throw new IllegalStateException(
               String.format("%s: expected integer for %s, but no more input available", label,
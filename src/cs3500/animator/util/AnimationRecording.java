@@ -0,0 +1,206 @@
+package cs3500.animator.util;
+
+import java.util.Arrays;
+
+/**
+ * Represents a builder that records the calls made to it in compact arrays, so that they can be
+ * replayed in order into another builder later. This lets parts of a file be parsed at the same
+ * time while the calls reach the real builder in the same order as a sequential parse.
+ */
+final class AnimationRecording implements AnimationBuilder<AnimationRecording> {
+
+  //represent the kinds of calls that can be recorded
+  private static final byte BOUNDS = 0;
+  private static final byte SHAPE = 1;
+  private static final byte SHAPE_WITH_LAYER = 2;
+  private static final byte MOTION = 3;
+  private static final byte KEYFRAME = 4;
+  private static final byte ROTATION = 5;
+
+  //represents the kind of each recorded call, in order
+  private byte[] calls;
+  private int callCount;
+
+  //represent the arguments of the recorded calls, in order, by type
+  private int[] ints;
+  private int intCount;
+  private String[] strings;
+  private int stringCount;
+  private double[] doubles;
+  private int doubleCount;
+
+  /**
+   * Constructs an empty recording.
+   */
+  AnimationRecording() {
+    this.calls = new byte[64];
+    this.ints = new int[1024];
+    this.strings = new String[128];
+    this.doubles = new double[8];
+  }
+
+  /**
+   * Makes the recorded calls on the given builder in the order they were recorded.
+   *
+   * @param builder the builder
+   * @param <Doc>   the type of document the builder constructs
+   */
+  <Doc> void replay(AnimationBuilder<Doc> builder) {
+    int[] v = this.ints;
+    int i = 0;
+    int s = 0;
+    int d = 0;
+    for (int c = 0; c < this.callCount; c++) {
+      switch (this.calls[c]) {
+        case BOUNDS:
+          builder.setBounds(v[i], v[i + 1], v[i + 2], v[i + 3]);
+          i += 4;
+          break;
+        case SHAPE:
+          builder.declareShape(this.strings[s], this.strings[s + 1]);
+          s += 2;
+          break;
+        case SHAPE_WITH_LAYER:
+          builder.declareShapeWithLayer(this.strings[s], this.strings[s + 1], v[i]);
+          s += 2;
+          i += 1;
+          break;
+        case MOTION:
+          builder.addMotion(this.strings[s], v[i], v[i + 1], v[i + 2], v[i + 3], v[i + 4],
+                  v[i + 5], v[i + 6], v[i + 7], v[i + 8], v[i + 9], v[i + 10], v[i + 11],
+                  v[i + 12], v[i + 13], v[i + 14], v[i + 15]);
+          s += 1;
+          i += 16;
+          break;
+        case KEYFRAME:
+          builder.addKeyframe(this.strings[s], v[i], v[i + 1], v[i + 2], v[i + 3], v[i + 4],
+                  v[i + 5], v[i + 6], v[i + 7]);
+          s += 1;
+          i += 8;
+          break;
+        case ROTATION:
+          builder.rotateKeyFrame(this.strings[s], v[i], this.doubles[d]);
+          s += 1;
+          i += 1;
+          d += 1;
+          break;
+        default:
+          throw new IllegalStateException("Unknown recorded call.");
+      }
+    }
+  }
+
+  @Override
+  public AnimationRecording build() {
+    return this;
+  }
+
+  @Override
+  public AnimationBuilder<AnimationRecording> setBounds(int x, int y, int width, int height) {
+    this.record(BOUNDS, 4, 0, 0);
+    this.ints[this.intCount++] = x;
+    this.ints[this.intCount++] = y;
+    this.ints[this.intCount++] = width;
+    this.ints[this.intCount++] = height;
+    return this;
+  }
+
+  @Override
+  public AnimationBuilder<AnimationRecording> declareShape(String name, String type) {
+    this.record(SHAPE, 0, 2, 0);
+    this.strings[this.stringCount++] = name;
+    this.strings[this.stringCount++] = type;
+    return this;
+  }
+
+  @Override
+  public AnimationBuilder<AnimationRecording> addMotion(String name, int t1, int x1, int y1,
+                                                        int w1, int h1, int r1, int g1, int b1,
+                                                        int t2, int x2, int y2, int w2, int h2,
+                                                        int r2, int g2, int b2) {
+    this.record(MOTION, 16, 1, 0);
+    this.strings[this.stringCount++] = name;
+    int[] v = this.ints;
+    int i = this.intCount;
+    v[i] = t1;
+    v[i + 1] = x1;
+    v[i + 2] = y1;
+    v[i + 3] = w1;
+    v[i + 4] = h1;
+    v[i + 5] = r1;
+    v[i + 6] = g1;
+    v[i + 7] = b1;
+    v[i + 8] = t2;
+    v[i + 9] = x2;
+    v[i + 10] = y2;
+    v[i + 11] = w2;
+    v[i + 12] = h2;
+    v[i + 13] = r2;
+    v[i + 14] = g2;
+    v[i + 15] = b2;
+    this.intCount += 16;
+    return this;
+  }
+
+  @Override
+  public AnimationBuilder<AnimationRecording> addKeyframe(String name, int t, int x, int y, int w,
+                                                          int h, int r, int g, int b) {
+    this.record(KEYFRAME, 8, 1, 0);
+    this.strings[this.stringCount++] = name;
+    int[] v = this.ints;
+    int i = this.intCount;
+    v[i] = t;
+    v[i + 1] = x;
+    v[i + 2] = y;
+    v[i + 3] = w;
+    v[i + 4] = h;
+    v[i + 5] = r;
+    v[i + 6] = g;
+    v[i + 7] = b;
+    this.intCount += 8;
+    return this;
+  }
+
+  @Override
+  public AnimationBuilder<AnimationRecording> rotateKeyFrame(String name, int t, double theta) {
+    this.record(ROTATION, 1, 1, 1);
+    this.strings[this.stringCount++] = name;
+    this.ints[this.intCount++] = t;
+    this.doubles[this.doubleCount++] = theta;
+    return this;
+  }
+
+  @Override
+  public AnimationBuilder<AnimationRecording> declareShapeWithLayer(String name, String type,
+                                                                    int layer) {
+    this.record(SHAPE_WITH_LAYER, 1, 2, 0);
+    this.strings[this.stringCount++] = name;
+    this.strings[this.stringCount++] = type;
+    this.ints[this.intCount++] = layer;
+    return this;
+  }
+
+  /**
+   * Records a call of the given kind, making room for the given number of arguments of each type.
+   *
+   * @param call    the kind of call
+   * @param ints    the number of int arguments
+   * @param strings the number of String arguments
+   * @param doubles the number of double arguments
+   */
+  private void record(byte call, int ints, int strings, int doubles) {
+    if (this.callCount == this.calls.length) {
+      this.calls = Arrays.copyOf(this.calls, this.calls.length * 2);
+    }
+    if (this.intCount + ints > this.ints.length) {
+      this.ints = Arrays.copyOf(this.ints, Math.max(this.ints.length * 2, this.intCount + ints));
+    }
+    if (this.stringCount + strings > this.strings.length) {
+      this.strings = Arrays.copyOf(this.strings, this.strings.length * 2);
+    }
+    if (this.doubleCount + doubles > this.doubles.length) {
+      this.doubles = Arrays.copyOf(this.doubles, this.doubles.length * 2);
+    }
+    this.calls[this.callCount++] = call;
+  }
+}
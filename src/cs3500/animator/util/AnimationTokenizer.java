@@ -0,0 +1,292 @@
+package cs3500.animator.util;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Splits the text of an animation file into whitespace separated tokens, skipping comments that
+ * start with '#' and run to the end of the line. Characters are read in blocks into a reused
+ * buffer and each token is copied into a reused array, so keywords can be matched and integers
+ * parsed without creating a String per token. The line and column of each token are kept for
+ * error messages.
+ */
+final class AnimationTokenizer {
+
+  //represents the source of characters
+  private final Readable source;
+
+  //represents the block of characters most recently read from the source
+  private final CharBuffer buffer;
+  private final char[] chars;
+  private int position;
+  private int limit;
+  private boolean exhausted;
+
+  //represents the line and column of the next character in the buffer
+  private int line;
+  private int column;
+
+  //represents the current token, which has been read but not consumed
+  private char[] token;
+  private int tokenLength;
+  private int tokenLine;
+  private int tokenColumn;
+  private boolean hasToken;
+
+  /**
+   * Constructs a tokenizer reading from the given source.
+   *
+   * @param source the source of characters
+   */
+  AnimationTokenizer(Readable source) {
+    this(source, 1);
+  }
+
+  /**
+   * Constructs a tokenizer reading from the given source, which starts at the given line of a
+   * larger file.
+   *
+   * @param source the source of characters
+   * @param line   the line the source starts at
+   */
+  AnimationTokenizer(Readable source, int line) {
+    this.source = source;
+    this.buffer = CharBuffer.allocate(8192);
+    this.chars = this.buffer.array();
+    this.position = 0;
+    this.limit = 0;
+    this.exhausted = false;
+    this.line = line;
+    this.column = 1;
+    this.token = new char[32];
+    this.tokenLength = 0;
+    this.hasToken = false;
+  }
+
+  /**
+   * Returns true if there is another token.
+   *
+   * @return if there is another token
+   */
+  boolean hasNext() {
+    if (!this.hasToken) {
+      this.hasToken = this.readToken();
+    }
+    return this.hasToken;
+  }
+
+  /**
+   * Returns true if the next token is an integer.
+   *
+   * @return if the next token is an integer
+   */
+  boolean hasNextInt() {
+    if (!this.hasNext()) {
+      return false;
+    }
+
+    int start = this.token[0] == '-' || this.token[0] == '+' ? 1 : 0;
+    if (start == this.tokenLength) {
+      return false;
+    }
+
+    long value = 0;
+    for (int i = start; i < this.tokenLength; i++) {
+      char c = this.token[i];
+      if (c < '0' || c > '9') {
+        return false;
+      }
+      value = value * 10 + (c - '0');
+      if (value > (long) Integer.MAX_VALUE + 1) {
+        return false;
+      }
+    }
+    return start == 1 && this.token[0] == '-' || value <= Integer.MAX_VALUE;
+  }
+
+  /**
+   * Returns true if the next token is the given word.
+   *
+   * @param word the word
+   * @return if the next token is the word
+   */
+  boolean nextIs(String word) {
+    if (!this.hasNext() || this.tokenLength != word.length()) {
+      return false;
+    }
+
+    for (int i = 0; i < this.tokenLength; i++) {
+      if (this.token[i] != word.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Consumes and returns the next token.
+   *
+   * @return the next token
+   * @throws IllegalStateException if there are no more tokens
+   */
+  String next() throws IllegalStateException {
+    if (!this.hasNext()) {
+      throw new IllegalStateException("No more input available.");
+    }
+
+    this.hasToken = false;
+    return new String(this.token, 0, this.tokenLength);
+  }
+
+  /**
+   * Consumes and returns the next token as an integer.
+   *
+   * @return the next integer
+   * @throws IllegalStateException if the next token isn't an integer
+   */
+  int nextInt() throws IllegalStateException {
+    if (!this.hasNextInt()) {
+      throw new IllegalStateException("Expected an integer at " + this.position() + ".");
+    }
+
+    boolean negative = this.token[0] == '-';
+    int start = negative || this.token[0] == '+' ? 1 : 0;
+
+    //accumulates negatively so that Integer.MIN_VALUE can be represented
+    int value = 0;
+    for (int i = start; i < this.tokenLength; i++) {
+      value = value * 10 - (this.token[i] - '0');
+    }
+
+    this.hasToken = false;
+    return negative ? value : -value;
+  }
+
+  /**
+   * Consumes the next token and the rest of it's line, returning them.
+   *
+   * @return the next token and the rest of it's line
+   */
+  String nextLine() {
+    StringBuilder sb = new StringBuilder();
+    if (this.hasNext()) {
+      sb.append(this.token, 0, this.tokenLength);
+      this.hasToken = false;
+    }
+
+    while (this.fill() && this.chars[this.position] != '\n') {
+      sb.append(this.chars[this.position]);
+      this.consume();
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Gets the line and column of the next token, or of the end of input if there are no more
+   * tokens.
+   *
+   * @return the position of the next token
+   */
+  String position() {
+    if (this.hasNext()) {
+      return "line " + this.tokenLine + ", column " + this.tokenColumn;
+    }
+    return "line " + this.line + ", column " + this.column;
+  }
+
+  /**
+   * Gets the line of the next character, which is the number of lines read once all tokens have
+   * been read.
+   *
+   * @return the current line
+   */
+  int getLine() {
+    return this.line;
+  }
+
+  /**
+   * Reads the next token into the token array, skipping whitespace and comments.
+   *
+   * @return false if the end of input was reached before a token
+   */
+  private boolean readToken() {
+    while (this.fill()) {
+      char c = this.chars[this.position];
+      if (c == '#') {
+        while (this.fill() && this.chars[this.position] != '\n'
+                && this.chars[this.position] != '\r') {
+          this.consume();
+        }
+      } else if (isSpace(c)) {
+        this.consume();
+      } else {
+        this.tokenLine = this.line;
+        this.tokenColumn = this.column;
+        this.tokenLength = 0;
+        while (this.fill() && !isSpace(this.chars[this.position])
+                && this.chars[this.position] != '#') {
+          if (this.tokenLength == this.token.length) {
+            this.token = Arrays.copyOf(this.token, this.token.length * 2);
+          }
+          this.token[this.tokenLength++] = this.chars[this.position];
+          this.consume();
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Advances past the next character in the buffer, keeping the line and column up to date.
+   */
+  private void consume() {
+    if (this.chars[this.position++] == '\n') {
+      this.line++;
+      this.column = 1;
+    } else {
+      this.column++;
+    }
+  }
+
+  /**
+   * Reads the next block of characters from the source if the buffer has been consumed.
+   *
+   * @return false if there are no more characters
+   * @throws IllegalStateException if the source can't be read
+   */
+  private boolean fill() throws IllegalStateException {
+    while (this.position == this.limit) {
+      if (this.exhausted) {
+        return false;
+      }
+
+      this.buffer.clear();
+      int read;
+      try {
+        read = this.source.read(this.buffer);
+      } catch (IOException e) {
+        throw new IllegalStateException("Unable to read animation: " + e.getMessage());
+      }
+
+      if (read < 0) {
+        this.exhausted = true;
+      } else {
+        this.position = 0;
+        this.limit = read;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if the given character separates tokens, matching \p{Space}.
+   *
+   * @param c the character
+   * @return if the character is whitespace
+   */
+  private static boolean isSpace(char c) {
+    return c == ' ' || c == '\n' || c == '\t' || c == '\r' || c == '\f' || c == '\u000B';
+  }
+}
@@ -0,0 +1,282 @@
+package cs3500.animator.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A helper to read animations stored in the compact binary format and construct an animation from
+ * them. Integers are stored as unsigned LEB128 varints, and signed integers are zigzag encoded
+ * first. The format, in order, is:
+ *
+ * <ul>
+ * <li>Header: the bytes "ANIM", then the version of the format as a varint.</li>
+ * <li>Canvas: the left, top, width and height as signed varints.</li>
+ * <li>String table: the number of strings, then each string's length in bytes and it's UTF-8
+ * bytes. Shape names and types are stored once here and referred to by index.</li>
+ * <li>Shape table: the number of shapes, then each shape's name index, type index, and layer as a
+ * signed varint, in the order the shapes are declared.</li>
+ * <li>Key frame blocks: for each shape in the order of the shape table, the number of key frames,
+ * then each key frame sorted by time. A key frame is the difference from the previous key frame's
+ * time shifted left once as a varint of up to 64 bits, with the low bit set if the key frame is
+ * rotated, then the x, y, width and height as signed varints, the red, green and blue values as one
+ * byte each, and the rotation as an 8 byte big-endian double if the low bit was set.</li>
+ * </ul>
+ */
+public class BinaryAnimationReader {
+
+  //represents the ASCII characters every binary animation starts with
+  public static final String MAGIC = "ANIM";
+
+  //represents the version of the format this reader reads and writers should write
+  public static final int VERSION = 1;
+
+  //represents the file extension of binary animations
+  public static final String EXTENSION = ".anim";
+
+  //represents the bytes read from the source but not yet decoded
+  private final ReadableByteChannel source;
+  private final ByteBuffer buffer;
+
+  /**
+   * Constructs a reader decoding bytes from the given source.
+   *
+   * @param source the source of bytes
+   */
+  private BinaryAnimationReader(ReadableByteChannel source) {
+    this.source = source;
+    this.buffer = ByteBuffer.allocate(1 << 16);
+    this.buffer.flip();
+  }
+
+  /**
+   * Produces a new animation from the binary animation in the given file.
+   *
+   * @param file    The file containing the animation
+   * @param builder A builder for helping to construct a new animation
+   * @param <Doc>   The main model interface type describing animations
+   * @return the animation
+   * @throws FileNotFoundException if the file doesn't exist or can't be opened
+   * @throws IOException           if the file can't be read
+   * @throws IllegalStateException if the file isn't a binary animation of a supported version
+   */
+  public static <Doc> Doc parseFile(File file, AnimationBuilder<Doc> builder)
+          throws FileNotFoundException, IOException, IllegalStateException {
+    Objects.requireNonNull(file, "Must have non-null file");
+    Objects.requireNonNull(builder, "Must provide a non-null AnimationBuilder");
+    try (FileChannel channel = new FileInputStream(file).getChannel()) {
+      return new BinaryAnimationReader(channel).read(builder);
+    }
+  }
+
+  /**
+   * Produces a new animation from the binary animation in the given stream. The stream is read in
+   * blocks, so bytes after the end of the animation may also be read.
+   *
+   * @param in      The stream containing the animation
+   * @param builder A builder for helping to construct a new animation
+   * @param <Doc>   The main model interface type describing animations
+   * @return the animation
+   * @throws IOException           if the stream can't be read
+   * @throws IllegalStateException if the stream isn't a binary animation of a supported version
+   */
+  public static <Doc> Doc parse(InputStream in, AnimationBuilder<Doc> builder)
+          throws IOException, IllegalStateException {
+    Objects.requireNonNull(in, "Must have non-null input stream");
+    Objects.requireNonNull(builder, "Must provide a non-null AnimationBuilder");
+    return new BinaryAnimationReader(Channels.newChannel(in)).read(builder);
+  }
+
+  /**
+   * Returns true if the given file name has the binary animation extension.
+   *
+   * @param name the file name
+   * @return if the file is a binary animation
+   */
+  public static boolean isBinaryFile(String name) {
+    return name != null && name.endsWith(EXTENSION);
+  }
+
+  /**
+   * Decodes an animation into the given builder.
+   *
+   * @param builder the builder
+   * @param <Doc>   the main model interface type describing animations
+   * @return the animation
+   * @throws IOException           if the source can't be read
+   * @throws IllegalStateException if the source isn't a binary animation of a supported version
+   */
+  private <Doc> Doc read(AnimationBuilder<Doc> builder) throws IOException {
+    for (int i = 0; i < MAGIC.length(); i++) {
+      if (this.readByte() != MAGIC.charAt(i)) {
+        throw new IllegalStateException("Not a binary animation.");
+      }
+    }
+
+    int version = this.readVarint();
+    if (version != VERSION) {
+      throw new IllegalStateException("Unsupported binary animation version: " + version + ".");
+    }
+
+    builder.setBounds(this.readSigned(), this.readSigned(), this.readSigned(), this.readSigned());
+
+    String[] strings = new String[this.readCount()];
+    for (int i = 0; i < strings.length; i++) {
+      byte[] bytes = new byte[this.readCount()];
+      for (int j = 0; j < bytes.length; j++) {
+        bytes[j] = this.readByte();
+      }
+      strings[i] = new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    String[] names = new String[this.readCount()];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = this.readString(strings);
+      builder.declareShapeWithLayer(names[i], this.readString(strings), this.readSigned());
+    }
+
+    for (String name : names) {
+      int count = this.readCount();
+      long time = 0;
+      for (int i = 0; i < count; i++) {
+        long header = this.readLongVarint();
+        time += header >>> 1;
+        if (time > Integer.MAX_VALUE) {
+          throw new IllegalStateException("Key frame time is out of range: " + time + ".");
+        }
+        builder.addKeyframe(name, (int) time, this.readSigned(), this.readSigned(),
+                this.readSigned(), this.readSigned(), this.readByte() & 0xFF,
+                this.readByte() & 0xFF, this.readByte() & 0xFF);
+        if ((header & 1) == 1) {
+          builder.rotateKeyFrame(name, (int) time, Double.longBitsToDouble(this.readLong()));
+        }
+      }
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Reads an index into the given string table, returning the string.
+   *
+   * @param strings the string table
+   * @return the string
+   * @throws IOException           if the source can't be read
+   * @throws IllegalStateException if the index isn't in the table
+   */
+  private String readString(String[] strings) throws IOException {
+    int i = this.readVarint();
+    if (i < 0 || i >= strings.length) {
+      throw new IllegalStateException("Invalid string index: " + i + ".");
+    }
+    return strings[i];
+  }
+
+  /**
+   * Reads a varint that counts something, so can't be negative.
+   *
+   * @return the count
+   * @throws IOException           if the source can't be read
+   * @throws IllegalStateException if the count is negative
+   */
+  private int readCount() throws IOException {
+    int count = this.readVarint();
+    if (count < 0) {
+      throw new IllegalStateException("Invalid count: " + count + ".");
+    }
+    return count;
+  }
+
+  /**
+   * Reads a zigzag encoded varint.
+   *
+   * @return the signed integer
+   * @throws IOException if the source can't be read
+   */
+  private int readSigned() throws IOException {
+    int v = this.readVarint();
+    return (v >>> 1) ^ -(v & 1);
+  }
+
+  /**
+   * Reads an unsigned LEB128 varint of at most 5 bytes.
+   *
+   * @return the integer
+   * @throws IOException           if the source can't be read
+   * @throws IllegalStateException if the varint is longer than 5 bytes
+   */
+  private int readVarint() throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      byte b = this.readByte();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("Malformed varint.");
+  }
+
+  /**
+   * Reads an unsigned LEB128 varint of at most 10 bytes.
+   *
+   * @return the integer
+   * @throws IOException           if the source can't be read
+   * @throws IllegalStateException if the varint is longer than 10 bytes
+   */
+  private long readLongVarint() throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 70; shift += 7) {
+      byte b = this.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("Malformed varint.");
+  }
+
+  /**
+   * Reads an 8 byte big-endian integer.
+   *
+   * @return the integer
+   * @throws IOException if the source can't be read
+   */
+  private long readLong() throws IOException {
+    long value = 0;
+    for (int i = 0; i < 8; i++) {
+      value = (value << 8) | (this.readByte() & 0xFF);
+    }
+    return value;
+  }
+
+  /**
+   * Reads the next byte, refilling the buffer from the source if it's empty.
+   *
+   * @return the byte
+   * @throws IOException           if the source can't be read
+   * @throws IllegalStateException if the source ends
+   */
+  private byte readByte() throws IOException {
+    if (!this.buffer.hasRemaining()) {
+      this.buffer.clear();
+      int read = 0;
+      while (read == 0) {
+        read = this.source.read(this.buffer);
+      }
+      this.buffer.flip();
+      if (read < 0) {
+        throw new IllegalStateException("Unexpected end of binary animation.");
+      }
+    }
+    return this.buffer.get();
+  }
+}
@@ -0,0 +1,180 @@
+package cs3500.animator.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Represents a file that is memory-mapped and read as characters, so that it's bytes are never
+ * copied onto the heap as a whole. The file is mapped in windows of at most 1GB, and each read
+ * widens ASCII bytes straight into the given buffer. If a byte outside of ASCII is found the rest
+ * of the file is decoded as UTF-8, with malformed input replaced.
+ */
+final class MappedFileSource implements Readable, Closeable {
+
+  //represents the largest number of bytes mapped at once
+  private static final long WINDOW = 1L << 30;
+
+  //represents the file being read, or null if given an already mapped region, it's size in bytes,
+  //and the size of each mapped window
+  private final FileChannel channel;
+  private final long size;
+  private final long window;
+
+  //represents the currently mapped window of the file, and it's offset in the file
+  private ByteBuffer bytes;
+  private long offset;
+
+  //represents the decoder used once a byte outside of ASCII is found, or null before then
+  private CharsetDecoder decoder;
+
+  /**
+   * Constructs a source reading the given open file from it's start.
+   *
+   * @param channel the file
+   * @throws IOException if the file's size can't be read
+   */
+  MappedFileSource(FileChannel channel) throws IOException {
+    this(channel, WINDOW);
+  }
+
+  /**
+   * Constructs a source reading the given open file from it's start, mapping at most the given
+   * number of bytes at once. At least 4 bytes are mapped at once, so that any UTF-8 character fits
+   * in a window.
+   *
+   * @param channel the file
+   * @param window  the largest number of bytes mapped at once
+   * @throws IOException if the file's size can't be read
+   */
+  MappedFileSource(FileChannel channel, long window) throws IOException {
+    this.channel = channel;
+    this.size = channel.size();
+    this.window = Math.max(window, 4);
+    this.bytes = null;
+    this.offset = 0;
+    this.decoder = null;
+  }
+
+  /**
+   * Constructs a source reading the given region of an already mapped file.
+   *
+   * @param bytes the region of the file
+   */
+  MappedFileSource(ByteBuffer bytes) {
+    this.channel = null;
+    this.size = bytes.remaining();
+    this.window = this.size;
+    this.bytes = bytes.slice();
+    this.offset = 0;
+    this.decoder = null;
+  }
+
+  @Override
+  public int read(CharBuffer cb) throws IOException {
+    if (!this.map()) {
+      return -1;
+    } else if (this.decoder != null) {
+      return this.decode(cb);
+    }
+
+    int start = cb.position();
+    int count = Math.min(cb.remaining(), this.bytes.remaining());
+
+    if (cb.hasArray()) {
+      char[] chars = cb.array();
+      int base = cb.arrayOffset() + start;
+      for (int i = 0; i < count; i++) {
+        byte b = this.bytes.get();
+        if (b < 0) {
+          //steps back so the byte is decoded
+          this.bytes.position(this.bytes.position() - 1);
+          count = i;
+          this.startDecoding();
+          break;
+        }
+        chars[base + i] = (char) b;
+      }
+      cb.position(start + count);
+    } else {
+      for (int i = 0; i < count; i++) {
+        byte b = this.bytes.get(this.bytes.position());
+        if (b < 0) {
+          count = i;
+          this.startDecoding();
+          break;
+        }
+        cb.put((char) this.bytes.get());
+      }
+    }
+
+    return count == 0 && this.decoder != null ? this.decode(cb) : count;
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.bytes = null;
+    if (this.channel != null) {
+      this.channel.close();
+    }
+  }
+
+  /**
+   * Decodes bytes from the current window into the given buffer.
+   *
+   * @param cb the buffer
+   * @return the number of characters decoded
+   */
+  private int decode(CharBuffer cb) {
+    int start = cb.position();
+    boolean last = this.offset + this.bytes.limit() == this.size;
+    this.decoder.decode(this.bytes, cb, last);
+    if (last && !this.bytes.hasRemaining()) {
+      this.decoder.flush(cb);
+    }
+
+    //a character split across windows is decoded after the next window is mapped
+    if (cb.position() == start && this.bytes.hasRemaining() && !last) {
+      this.offset += this.bytes.position();
+      this.bytes = null;
+    }
+    return cb.position() - start;
+  }
+
+  /**
+   * Switches to decoding the rest of the file as UTF-8.
+   */
+  private void startDecoding() {
+    this.decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  }
+
+  /**
+   * Maps the next window of the file if the current one has been read.
+   *
+   * @return false if the whole file has been read
+   * @throws IOException if the file can't be mapped
+   */
+  private boolean map() throws IOException {
+    if (this.bytes != null && this.bytes.hasRemaining()) {
+      return true;
+    } else if (this.bytes != null) {
+      this.offset += this.bytes.limit();
+      this.bytes = null;
+    }
+
+    if (this.offset >= this.size) {
+      return false;
+    }
+
+    this.bytes = this.channel.map(FileChannel.MapMode.READ_ONLY, this.offset,
+            Math.min(this.window, this.size - this.offset));
+    return true;
+  }
+}
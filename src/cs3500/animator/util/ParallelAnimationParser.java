@@ -0,0 +1,265 @@
+package cs3500.animator.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Represents a parser that reads an animation file on many threads at once. The file is
+ * memory-mapped and split into chunks at lines starting with a keyword, and each chunk is parsed
+ * on a fork join pool into an {@link AnimationRecording}. The recordings are replayed into the real
+ * builder in file order, so shapes are declared and key frames are added in the same order as a
+ * sequential parse.
+ *
+ * <p>
+ * A keyword at the start of a line almost always starts a statement, but a statement may span
+ * lines and a name may be a keyword. If a chunk ends partway through a statement it fails to
+ * parse, and the rest of the mapped window is then parsed sequentially from the start of that
+ * chunk, which also reports any real error at the right line.
+ * </p>
+ */
+final class ParallelAnimationParser {
+
+  //represents the largest number of bytes mapped at once
+  private static final long WINDOW = 1L << 30;
+
+  //represents the smallest number of bytes worth parsing in it's own task
+  private static final int MIN_CHUNK = 1 << 20;
+
+  //represents the keywords that start a statement
+  private static final String[] KEYWORDS = {"canvas", "shape", "motion", "rotation"};
+
+  //represents the pool chunks are parsed on
+  private final ForkJoinPool pool;
+
+  //represents the largest number of bytes mapped at once
+  private final long window;
+
+  //represents the number of bytes in each chunk, or 0 to split each window evenly among threads
+  private final int chunkSize;
+
+  /**
+   * Constructs a parser that parses chunks on the given pool.
+   *
+   * @param pool the pool
+   */
+  ParallelAnimationParser(ForkJoinPool pool) {
+    this(pool, WINDOW, 0);
+  }
+
+  /**
+   * Constructs a parser that parses chunks of the given size on the given pool, mapping at most
+   * the given number of bytes at once.
+   *
+   * @param pool      the pool
+   * @param window    the largest number of bytes mapped at once
+   * @param chunkSize the number of bytes in each chunk, or 0 to split each window evenly
+   */
+  ParallelAnimationParser(ForkJoinPool pool, long window, int chunkSize) {
+    this.pool = pool;
+    this.window = window;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Produces a new animation from the given file.
+   *
+   * @param file    the file containing the animation
+   * @param builder a builder for helping to construct a new animation
+   * @param <Doc>   the main model interface type describing animations
+   * @return the animation
+   * @throws IOException if the file can't be opened or mapped
+   */
+  <Doc> Doc parse(File file, AnimationBuilder<Doc> builder) throws IOException {
+    try (FileChannel channel = new FileInputStream(file).getChannel()) {
+      long size = channel.size();
+      long offset = 0;
+      int line = 1;
+
+      while (offset < size) {
+        long length = Math.min(this.window, size - offset);
+        ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+
+        int end = (int) length;
+        if (offset + length < size) {
+          end = lastStatement(bytes, end);
+        }
+
+        line = this.parseWindow(bytes, end, line, builder);
+        offset += end;
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Parses the start of a mapped window of the file into the given builder, keeping at most a few
+   * chunks per thread parsed ahead of the builder.
+   *
+   * @param bytes   the mapped window
+   * @param end     the number of bytes of the window to parse
+   * @param line    the line of the file the window starts at
+   * @param builder the builder
+   * @param <Doc>   the main model interface type describing animations
+   * @return the line of the file after the parsed bytes
+   */
+  private <Doc> int parseWindow(ByteBuffer bytes, int end, int line,
+                                AnimationBuilder<Doc> builder) {
+    int ahead = this.pool.getParallelism() * 2;
+    int size = this.chunkSize > 0 ? this.chunkSize
+            : Math.max(MIN_CHUNK, end / (this.pool.getParallelism() * 4));
+
+    ArrayDeque<Chunk> chunks = new ArrayDeque<>();
+    int next = 0;
+    try {
+      while (next < end || !chunks.isEmpty()) {
+        //submits chunks until enough are being parsed ahead of the builder
+        while (next < end && chunks.size() < ahead) {
+          int stop = nextStatement(bytes, (int) Math.min((long) next + size, end), end);
+          Chunk c = new Chunk(region(bytes, next, stop), next);
+          this.pool.execute(c);
+          chunks.add(c);
+          next = stop;
+        }
+
+        Chunk c = chunks.remove();
+        c.join();
+        if (c.recording == null) {
+          //parses the rest of the window sequentially from the chunk that failed
+          AnimationTokenizer s = new AnimationTokenizer(
+                  new MappedFileSource(region(bytes, c.start, end)), line);
+          AnimationReader.read(s, builder);
+          return s.getLine();
+        }
+
+        c.recording.replay(builder);
+        line += c.lines;
+      }
+      return line;
+    } finally {
+      for (Chunk c : chunks) {
+        c.cancel(false);
+      }
+    }
+  }
+
+  /**
+   * Gets the given region of the given bytes.
+   *
+   * @param bytes the bytes
+   * @param start the index of the first byte of the region
+   * @param end   the index after the last byte of the region
+   * @return the region
+   */
+  private static ByteBuffer region(ByteBuffer bytes, int start, int end) {
+    ByteBuffer region = bytes.duplicate();
+    region.position(start);
+    region.limit(end);
+    return region;
+  }
+
+  /**
+   * Finds the first line at or after the given index that starts with a keyword.
+   *
+   * @param bytes the bytes
+   * @param from  the index to search from
+   * @param end   the index after the last byte to search
+   * @return the index of the start of the line, or end if there is no such line
+   */
+  private static int nextStatement(ByteBuffer bytes, int from, int end) {
+    for (int i = Math.max(from, 1); i < end; i++) {
+      if (bytes.get(i - 1) == '\n' && startsWithKeyword(bytes, i, end)) {
+        return i;
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Finds the last line before the given index that starts with a keyword.
+   *
+   * @param bytes the bytes
+   * @param end   the index after the last byte to search
+   * @return the index of the start of the line
+   * @throws IllegalStateException if there is no such line
+   */
+  private static int lastStatement(ByteBuffer bytes, int end) throws IllegalStateException {
+    for (int i = end - 1; i > 0; i--) {
+      if (bytes.get(i - 1) == '\n' && startsWithKeyword(bytes, i, end)) {
+        return i;
+      }
+    }
+    throw new IllegalStateException("No statement starts within " + end + " bytes.");
+  }
+
+  /**
+   * Returns true if a keyword followed by whitespace starts at the given index.
+   *
+   * @param bytes the bytes
+   * @param i     the index
+   * @param end   the index after the last byte that can be read
+   * @return if a keyword starts at the index
+   */
+  private static boolean startsWithKeyword(ByteBuffer bytes, int i, int end) {
+    for (String k : KEYWORDS) {
+      int length = k.length();
+      if (i + length < end) {
+        int j = 0;
+        while (j < length && bytes.get(i + j) == k.charAt(j)) {
+          j++;
+        }
+
+        byte after = bytes.get(i + length);
+        if (j == length && (after == ' ' || after == '\t' || after == '\r' || after == '\n')) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Represents a task that parses a chunk of the file into a recording.
+   */
+  private static final class Chunk extends RecursiveAction {
+
+    //represents the bytes of the chunk, and the index of it's first byte in the window
+    private final ByteBuffer bytes;
+    private final int start;
+
+    //represents the parsed chunk, or null if it failed to parse
+    private AnimationRecording recording;
+
+    //represents the number of lines in the chunk
+    private int lines;
+
+    /**
+     * Constructs a task parsing the given chunk.
+     *
+     * @param bytes the bytes of the chunk
+     * @param start the index of the chunk's first byte in the window
+     */
+    Chunk(ByteBuffer bytes, int start) {
+      this.bytes = bytes;
+      this.start = start;
+    }
+
+    @Override
+    protected void compute() {
+      AnimationTokenizer s = new AnimationTokenizer(new MappedFileSource(this.bytes));
+      AnimationRecording r = new AnimationRecording();
+      try {
+        AnimationReader.read(s, r);
+        this.lines = s.getLine() - 1;
+        this.recording = r;
+      } catch (IllegalStateException e) {
+        this.recording = null;
+      }
+    }
+  }
+}
@@ -4,16 +4,13 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.awt.geom.Ellipse2D;
-import java.awt.geom.Rectangle2D;
-import java.util.ArrayList;
 
 import javax.swing.JPanel;
 
 import cs3500.animator.controller.EndOperation;
 import cs3500.animator.controller.State;
+import cs3500.animator.model.FrameBuffer;
 import cs3500.animator.model.ImmutableModel;
-import cs3500.animator.model.ShapeModel;
 
 /**
  * Represents a JPanel which displays graphical information regarding an animation model.
@@ -26,18 +23,50 @@ public class AnimationPanel extends JPanel implements ActionListener {
   protected State state = State.RUN;
   protected EndOperation endOperation = EndOperation.OPEN;
 
+  //represents the clock the time of the animation is read from when a frame is drawn
+  private final PlaybackClock clock;
+
+  //represents if frames show the animation between ticks, rather than at the last tick passed
+  private final boolean interpolated;
+
+  //represents the shapes of the current frame, and the renderer drawing them, which are reused
+  //from one frame to the next
+  private final FrameBuffer frame = new FrameBuffer();
+  private final FrameRenderer renderer = new FrameRenderer();
+
+  /**
+   * Default constructor takes in an immutable model and the speed of the animation.
+   *
+   * @param model          the animation model
+   * @param ticksPerSecond the speed of the animation
+   * @throws IllegalArgumentException if the model is null, or ticks per second isn't greater than
+   *                                  zero
+   */
+  protected AnimationPanel(ImmutableModel model, int ticksPerSecond)
+          throws IllegalArgumentException {
+    this(model, ticksPerSecond, false);
+  }
+
   /**
-   * Default constructor takes in an immutable model.
+   * Constructor takes in an immutable model, the speed of the animation, and whether frames show
+   * the animation between ticks, so that it moves smoothly when shown at more frames per second
+   * than it has ticks.
    *
-   * @param model the animation model
-   * @throws IllegalArgumentException if the model is null
+   * @param model          the animation model
+   * @param ticksPerSecond the speed of the animation
+   * @param interpolated   if frames show the animation between ticks
+   * @throws IllegalArgumentException if the model is null, or ticks per second isn't greater than
+   *                                  zero
    */
-  protected AnimationPanel(ImmutableModel model) throws IllegalArgumentException {
+  AnimationPanel(ImmutableModel model, int ticksPerSecond, boolean interpolated)
+          throws IllegalArgumentException {
     if (model == null) {
       throw new IllegalArgumentException("Model can't be null.");
     }
 
     this.model = model;
+    this.clock = new PlaybackClock(ticksPerSecond);
+    this.interpolated = interpolated;
   }
 
   @Override
@@ -48,70 +77,116 @@ public class AnimationPanel extends JPanel implements ActionListener {
   @Override
   protected void paintComponent(Graphics g) {
     super.paintComponent(g);
+    this.paintFrame((Graphics2D) g);
+  }
 
-    ArrayList<ShapeModel> shapes = new ArrayList<>();
+  /**
+   * Draws the next frame of the animation onto the panel.
+   *
+   * @param g2d the graphics of the panel
+   */
+  void paintFrame(Graphics2D g2d) {
+    this.nextFrame(this.model, this.frame);
+    this.renderer.paint(g2d, this.frame, this.model.getCanvas());
+  }
 
+  /**
+   * Evaluates the given model into the given frame at the time read from the playback clock,
+   * applying the end operation if the animation is over. Ticks passed since the last frame are
+   * skipped, so a frame drawn late shows the tick it's drawn at, and if the panel is interpolated
+   * the frame shows the animation between ticks in one pass over the shapes.
+   *
+   * @param model the model to evaluate
+   * @param frame the frame the shapes are written to
+   */
+  void nextFrame(ImmutableModel model, FrameBuffer frame) {
     try {
-      shapes = this.model.getShapes(this.time);
+      if (this.interpolated) {
+        double t = this.clock.getTime();
+        this.time = (int) Math.floor(t);
+        model.getFrame(t, frame);
+      } else {
+        this.time = this.clock.getTick();
+        model.getFrame(this.time, frame);
+      }
     } catch (IllegalArgumentException e) {
-      this.applyEndOperation();
+      this.applyEndOperation(model);
+      this.clock.setTick(this.time);
       if (this.endOperation != EndOperation.CLOSE) {
-        shapes = this.model.getShapes(this.time);
+        model.getFrame(this.time, frame);
+      } else {
+        frame.clear();
       }
     }
+  }
 
-    Graphics2D g2d = (Graphics2D) g;
-    for (ShapeModel s : shapes) {
-      g2d.setColor(s.getColor());
-
-      //applies the shape's rotation
-      g2d.translate(s.getPointTopLeft().x + s.getDimensions().x / 2,
-              s.getPointTopLeft().y + s.getDimensions().y / 2);
-      g2d.rotate(Math.toRadians(s.getTheta()));
-      g2d.translate(-s.getPointTopLeft().x - s.getDimensions().x / 2,
-              -s.getPointTopLeft().y - s.getDimensions().y / 2);
-
-      switch (s.getType()) {
-        case "Rectangle":
-          g2d.fill(new Rectangle2D.Double(s.getPointTopLeft().x - this.model.getCanvas().getX(),
-                  s.getPointTopLeft().y - this.model.getCanvas().getY(),
-                  s.getDimensions().x, s.getDimensions().y));
-          break;
-        case "Ellipse":
-          g2d.fill(new Ellipse2D.Double(s.getPointTopLeft().x - this.model.getCanvas().getX(),
-                  s.getPointTopLeft().y - -this.model.getCanvas().getY(),
-                  s.getDimensions().x, s.getDimensions().y));
-          break;
-        default:
-          throw new IllegalArgumentException("Invalid shape type.");
-      }
-    }
+  /**
+   * Sets the model displayed by the panel.
+   *
+   * @param model the model
+   */
+  void setModel(ImmutableModel model) {
+    this.model = model;
+    this.repaint();
+  }
+
+  /**
+   * Sets the current time of the animation.
+   *
+   * @param time the time
+   */
+  void setTime(int time) {
+    this.time = time;
+    this.clock.setTick(time);
+  }
+
+  /**
+   * Sets the speed and state of animation, and what happens when the animation is over.
+   *
+   * @param ticksPerSecond the speed of the animation
+   * @param state          the state of animation
+   * @param endOperation   the end operation
+   * @throws IllegalArgumentException if ticks per second isn't greater than zero
+   */
+  void setAnimation(int ticksPerSecond, State state, EndOperation endOperation)
+          throws IllegalArgumentException {
+    this.clock.setTicksPerSecond(ticksPerSecond);
+    this.clock.setDirection(state.getDirection());
+    this.state = state;
+    this.endOperation = endOperation;
+    this.repaint();
+  }
 
-    //increments time by the direction of animation
-    this.time += this.state.getDirection();
+  /**
+   * Hides the panel once the animation is over, when the end operation is to close it.
+   */
+  void close() {
+    this.setVisible(false);
   }
 
   /**
    * Applies what should be done to the JPanel when the animation is over, based on EndOperation.
+   *
+   * @param model the model being evaluated
    */
-  private void applyEndOperation() {
+  private void applyEndOperation(ImmutableModel model) {
     switch (endOperation) {
       case OPEN: {
         if (this.time < 0) {
           this.time = 0;
         } else {
-          this.time = this.model.getEndTime();
+          this.time = model.getEndTime();
         }
         break;
       }
       case CLOSE:
-        this.setVisible(false);
+        this.close();
         break;
       case LOOP: {
         if (this.time >= 0) {
           this.time = 0;
         } else {
-          this.time = this.model.getEndTime();
+          this.time = model.getEndTime();
         }
         break;
       }
@@ -0,0 +1,218 @@
+package cs3500.animator.view;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.swing.Timer;
+
+import cs3500.animator.model.ImmutableModel;
+import cs3500.animator.model.KeyFrameModel;
+import cs3500.animator.model.ShapeModel;
+import cs3500.animator.util.BinaryAnimationReader;
+
+/**
+ * Represents an animation written in the compact binary format read by a {@link
+ * BinaryAnimationReader}. Positions and dimensions are rounded to integers, as they are in
+ * animation files, while rotations are stored exactly.
+ */
+public class BinaryView implements View {
+
+  private ImmutableModel model;
+  private OutputStream out;
+
+  //represents the bytes encoded but not yet written to the output stream
+  private byte[] buffer;
+  private int size;
+
+  /**
+   * Constructor initializes a new binary view given an immutable model and an output stream.
+   *
+   * @param model an immutable model
+   * @param out   an output stream
+   * @throws IllegalArgumentException if the model or output stream is null
+   */
+  public BinaryView(ImmutableModel model, OutputStream out) throws IllegalArgumentException {
+    if (model == null || out == null) {
+      throw new IllegalArgumentException("Model and output stream can't be null.");
+    }
+
+    this.model = model;
+    this.out = out;
+    this.buffer = new byte[1 << 16];
+    this.size = 0;
+  }
+
+  @Override
+  public void makeVisible() throws IllegalStateException {
+    try {
+      this.write();
+      this.flush();
+      this.out.flush();
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to successfully transmit output.");
+    }
+  }
+
+  @Override
+  public void animate(Timer timer) throws UnsupportedOperationException {
+    throw new UnsupportedOperationException("Binary view has no graphical display to animate on.");
+  }
+
+  /**
+   * Encodes the model into the output stream.
+   *
+   * @throws IOException if the output stream can't be written to
+   */
+  private void write() throws IOException {
+    for (int i = 0; i < BinaryAnimationReader.MAGIC.length(); i++) {
+      this.writeByte(BinaryAnimationReader.MAGIC.charAt(i));
+    }
+    this.writeVarint(BinaryAnimationReader.VERSION);
+
+    this.writeSigned(this.model.getCanvas().getX());
+    this.writeSigned(this.model.getCanvas().getY());
+    this.writeSigned(this.model.getCanvas().getWidth());
+    this.writeSigned(this.model.getCanvas().getHeight());
+
+    //interns shape names and types, which are the same for many shapes
+    HashMap<String, Integer> indices = new HashMap<>();
+    ArrayList<String> strings = new ArrayList<>();
+    ArrayList<ShapeModel> shapes = this.model.getShapes();
+    int[] table = new int[shapes.size() * 2];
+    for (int i = 0; i < shapes.size(); i++) {
+      ShapeModel s = shapes.get(i);
+      table[i * 2] = intern(s.getKey(), indices, strings);
+      table[i * 2 + 1] = intern(s.getType().toLowerCase(), indices, strings);
+    }
+
+    this.writeVarint(strings.size());
+    for (String s : strings) {
+      byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+      this.writeVarint(bytes.length);
+      for (byte b : bytes) {
+        this.writeByte(b);
+      }
+    }
+
+    this.writeVarint(shapes.size());
+    for (int i = 0; i < shapes.size(); i++) {
+      this.writeVarint(table[i * 2]);
+      this.writeVarint(table[i * 2 + 1]);
+      this.writeSigned(shapes.get(i).getLayer());
+    }
+
+    for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry :
+            this.model.getShapeKeyFrameRepresentation().entrySet()) {
+      ArrayList<KeyFrameModel> frames = entry.getValue();
+      this.writeVarint(frames.size());
+
+      int time = 0;
+      for (KeyFrameModel k : frames) {
+        ShapeModel s = k.getShape();
+        int t = (int) k.getTime();
+        boolean rotated = s.getTheta() != 0;
+
+        //the difference is widened first, as shifting it can overflow an int
+        this.writeVarint((long) (t - time) << 1 | (rotated ? 1 : 0));
+        this.writeSigned((int) Math.round(s.getPointTopLeft().x));
+        this.writeSigned((int) Math.round(s.getPointTopLeft().y));
+        this.writeSigned((int) Math.round(s.getDimensions().x));
+        this.writeSigned((int) Math.round(s.getDimensions().y));
+        this.writeByte(s.getColor().getRed());
+        this.writeByte(s.getColor().getGreen());
+        this.writeByte(s.getColor().getBlue());
+        if (rotated) {
+          long bits = Double.doubleToLongBits(s.getTheta());
+          for (int shift = 56; shift >= 0; shift -= 8) {
+            this.writeByte((int) (bits >>> shift));
+          }
+        }
+        time = t;
+      }
+    }
+  }
+
+  /**
+   * Gets the index of the given string in the string table, adding it if it's not yet there.
+   *
+   * @param s       the string
+   * @param indices the index of each string in the table
+   * @param strings the string table
+   * @return the index of the string
+   */
+  private static int intern(String s, HashMap<String, Integer> indices, ArrayList<String> strings) {
+    Integer i = indices.get(s);
+    if (i == null) {
+      i = strings.size();
+      indices.put(s, i);
+      strings.add(s);
+    }
+    return i;
+  }
+
+  /**
+   * Writes a zigzag encoded varint.
+   *
+   * @param v the signed integer
+   * @throws IOException if the output stream can't be written to
+   */
+  private void writeSigned(int v) throws IOException {
+    this.writeVarint((v << 1) ^ (v >> 31));
+  }
+
+  /**
+   * Writes an unsigned LEB128 varint.
+   *
+   * @param v the integer
+   * @throws IOException if the output stream can't be written to
+   */
+  private void writeVarint(int v) throws IOException {
+    while ((v & ~0x7F) != 0) {
+      this.writeByte((v & 0x7F) | 0x80);
+      v >>>= 7;
+    }
+    this.writeByte(v);
+  }
+
+  /**
+   * Writes an unsigned LEB128 varint of up to 64 bits.
+   *
+   * @param v the integer
+   * @throws IOException if the output stream can't be written to
+   */
+  private void writeVarint(long v) throws IOException {
+    while ((v & ~0x7FL) != 0) {
+      this.writeByte((int) (v & 0x7F) | 0x80);
+      v >>>= 7;
+    }
+    this.writeByte((int) v);
+  }
+
+  /**
+   * Writes the low 8 bits of the given integer, writing the buffer to the output stream if it's
+   * full.
+   *
+   * @param b the byte
+   * @throws IOException if the output stream can't be written to
+   */
+  private void writeByte(int b) throws IOException {
+    if (this.size == this.buffer.length) {
+      this.flush();
+    }
+    this.buffer[this.size++] = (byte) b;
+  }
+
+  /**
+   * Writes the buffer to the output stream.
+   *
+   * @throws IOException if the output stream can't be written to
+   */
+  private void flush() throws IOException {
+    this.out.write(this.buffer, 0, this.size);
+    this.size = 0;
+  }
+}
@@ -0,0 +1,304 @@
+package cs3500.animator.view;
+
+import java.awt.Color;
+import java.awt.DisplayMode;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.event.ActionEvent;
+import java.awt.image.BufferedImage;
+
+import javax.swing.SwingUtilities;
+
+import cs3500.animator.controller.EndOperation;
+import cs3500.animator.controller.State;
+import cs3500.animator.model.CanvasModel;
+import cs3500.animator.model.FrameBuffer;
+import cs3500.animator.model.ImmutableAnimation;
+import cs3500.animator.model.ImmutableModel;
+
+/**
+ * Represents an animation panel whose frames are drawn by a dedicated render thread rather than
+ * on the event dispatch thread. The render thread evaluates a copy of the model and draws each
+ * frame into the back of a pair of images, then swaps it to the front, so painting the panel only
+ * draws the most recently completed frame and the rest of the window stays responsive however
+ * long frames take to draw. While the animation plays, frames are drawn at the refresh rate of the
+ * display rather than once per tick, showing the animation between ticks. The render thread runs
+ * from when the panel is constructed or added to a window until it's removed from one, or is
+ * stopped.
+ */
+final class BufferedAnimationPanel extends AnimationPanel {
+
+  //represents the frame rate used when the refresh rate of the display can't be found
+  private static final int DEFAULT_FRAME_RATE = 60;
+
+  //guards the time, state, end operation, and copy of the model, which are shared with the render
+  //thread
+  private final Object lock = new Object();
+
+  //guards the pair of images, which are swapped by the render thread and drawn by the panel
+  private final Object buffers = new Object();
+
+  //represents the copy of the model evaluated by the render thread, which is never edited
+  private ImmutableModel snapshot;
+
+  //represents if the render thread has been asked to draw the next frame
+  private boolean requested;
+
+  //represents if the animation has closed at it's end, after which frames are only drawn as
+  //they're asked for until the time or animation is set again
+  private boolean closed;
+
+  //represents the most recently completed frame, and the image the next frame is drawn into
+  private BufferedImage front;
+  private BufferedImage back;
+
+  //represents the number of frames the render thread has completed
+  private volatile int rendered;
+
+  //represents the nanoseconds between frames drawn while the animation plays
+  private final long frameNanos;
+
+  //represents the render thread, or null if it isn't running
+  private Thread thread;
+
+  //represents the background of the panel, which is read by the render thread as it can't ask the
+  //panel for it off the event dispatch thread
+  private volatile Color background;
+
+  /**
+   * Constructs a panel drawing frames of the given model on a new render thread.
+   *
+   * @param model          the animation model
+   * @param ticksPerSecond the speed of the animation
+   * @throws IllegalArgumentException if the model is null, or ticks per second isn't greater than
+   *                                  zero
+   */
+  BufferedAnimationPanel(ImmutableModel model, int ticksPerSecond)
+          throws IllegalArgumentException {
+    this(model, ticksPerSecond, displayRate());
+  }
+
+  /**
+   * Constructs a panel drawing frames of the given model on a new render thread, at the given
+   * number of frames per second while the animation plays.
+   *
+   * @param model          the animation model
+   * @param ticksPerSecond the speed of the animation
+   * @param frameRate      the frames drawn per second while the animation plays
+   * @throws IllegalArgumentException if the model is null, or ticks per second or the frame rate
+   *                                  isn't greater than zero
+   */
+  BufferedAnimationPanel(ImmutableModel model, int ticksPerSecond, int frameRate)
+          throws IllegalArgumentException {
+    super(model, ticksPerSecond, true);
+    if (frameRate <= 0) {
+      throw new IllegalArgumentException("Frame rate must be greater than zero.");
+    }
+
+    this.frameNanos = 1_000_000_000L / frameRate;
+    this.snapshot = new ImmutableAnimation(model.makeCopy());
+    this.background = this.getBackground();
+    this.start();
+  }
+
+  @Override
+  public void setBackground(Color bg) {
+    super.setBackground(bg);
+    this.background = this.getBackground();
+  }
+
+  @Override
+  public void addNotify() {
+    super.addNotify();
+    this.start();
+  }
+
+  @Override
+  public void removeNotify() {
+    this.stop();
+    super.removeNotify();
+  }
+
+  @Override
+  public void actionPerformed(ActionEvent e) {
+    //frames are paced by the render thread at the frame rate rather than by the ticks of the timer
+  }
+
+  @Override
+  void paintFrame(Graphics2D g2d) {
+    synchronized (this.buffers) {
+      if (this.front != null) {
+        g2d.drawImage(this.front, 0, 0, null);
+      }
+    }
+  }
+
+  @Override
+  void setModel(ImmutableModel model) {
+    //copies the model here, as the model is only ever edited on this thread
+    ImmutableModel snapshot = new ImmutableAnimation(model.makeCopy());
+    synchronized (this.lock) {
+      this.model = model;
+      this.snapshot = snapshot;
+      this.request();
+    }
+  }
+
+  @Override
+  void setTime(int time) {
+    synchronized (this.lock) {
+      super.setTime(time);
+      this.closed = false;
+      this.request();
+    }
+  }
+
+  @Override
+  void setAnimation(int ticksPerSecond, State state, EndOperation endOperation)
+          throws IllegalArgumentException {
+    synchronized (this.lock) {
+      super.setAnimation(ticksPerSecond, state, endOperation);
+      this.closed = false;
+      this.request();
+    }
+  }
+
+  @Override
+  void close() {
+    //called by the render thread while holding the lock
+    this.closed = true;
+    SwingUtilities.invokeLater(super::close);
+  }
+
+  /**
+   * Starts the render thread drawing the current frame, if it isn't already running.
+   */
+  void start() {
+    if (this.thread != null) {
+      return;
+    }
+
+    synchronized (this.lock) {
+      this.request();
+    }
+    this.thread = new Thread(this::render, "animation-renderer");
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * Stops the render thread, waiting for it to finish the frame it's drawing, and releases the
+   * images it drew into. The thread is started again once the panel is added to a window.
+   */
+  void stop() {
+    if (this.thread == null) {
+      return;
+    }
+
+    this.thread.interrupt();
+    try {
+      this.thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    this.thread = null;
+    synchronized (this.buffers) {
+      this.front = null;
+      this.back = null;
+    }
+  }
+
+  /**
+   * Gets the number of frames the render thread has completed.
+   *
+   * @return the number of frames
+   */
+  int getFramesRendered() {
+    return this.rendered;
+  }
+
+  /**
+   * Gets the refresh rate of the default display, or a default rate if it can't be found.
+   *
+   * @return the refresh rate in frames per second
+   */
+  static int displayRate() {
+    if (GraphicsEnvironment.isHeadless()) {
+      return DEFAULT_FRAME_RATE;
+    }
+
+    int rate = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+            .getDisplayMode().getRefreshRate();
+    return rate == DisplayMode.REFRESH_RATE_UNKNOWN ? DEFAULT_FRAME_RATE : rate;
+  }
+
+  /**
+   * Asks the render thread to draw the next frame, while holding the lock. Requests made while a
+   * frame is being drawn are merged into one, just as repaints are.
+   */
+  private void request() {
+    this.requested = true;
+    this.lock.notifyAll();
+  }
+
+  /**
+   * Draws frames until the render thread is interrupted, on the render thread. Frames are drawn at
+   * the frame rate while the animation plays, and only as they're asked for while it's paused or
+   * once it has closed.
+   */
+  private void render() {
+    FrameBuffer frame = new FrameBuffer();
+    FrameRenderer renderer = new FrameRenderer();
+    long next = System.nanoTime();
+
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        ImmutableModel model;
+        synchronized (this.lock) {
+          while (!this.requested) {
+            long wait = next - System.nanoTime();
+            if (this.state.getDirection() == 0 || this.closed) {
+              this.lock.wait();
+            } else if (wait > 0) {
+              this.lock.wait(wait / 1_000_000, (int) (wait % 1_000_000));
+            } else {
+              break;
+            }
+          }
+          this.requested = false;
+          model = this.snapshot;
+          this.nextFrame(model, frame);
+        }
+
+        CanvasModel canvas = model.getCanvas();
+        int width = Math.max(canvas.getWidth(), 1);
+        int height = Math.max(canvas.getHeight(), 1);
+        BufferedImage image = this.back;
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+          image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+
+        Graphics2D g2d = image.createGraphics();
+        try {
+          g2d.setColor(this.background);
+          g2d.fillRect(0, 0, width, height);
+          renderer.paint(g2d, frame, canvas);
+        } finally {
+          g2d.dispose();
+        }
+
+        synchronized (this.buffers) {
+          this.back = this.front;
+          this.front = image;
+        }
+        this.rendered++;
+        this.repaint();
+
+        //frames that are late are skipped rather than drawn back to back to catch up
+        next = Math.max(next + this.frameNanos, System.nanoTime());
+      }
+    } catch (InterruptedException e) {
+      //the render thread was stopped
+    }
+  }
+}
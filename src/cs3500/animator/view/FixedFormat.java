@@ -0,0 +1,103 @@
+package cs3500.animator.view;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * A helper for appending numbers to a string builder exactly as {@link String#format} would with
+ * the {@code %f} and {@code %Nd} conversions, without parsing a format string or creating any
+ * intermediate strings for the numbers that make up animations.
+ */
+final class FixedFormat {
+
+  //represents the scale of the six digits after the decimal point
+  private static final double SCALE = 1e6;
+
+  //represents the largest magnitude formatted with the fast path, small enough that the rounding
+  //errors of scaling are far below the margin checked around a half
+  private static final double FAST_LIMIT = 1e6;
+
+  //represents how close to a half the scaled value may be before the exact path is used
+  private static final double MARGIN = 1e-3;
+
+  /**
+   * Prevents instantiation of this helper.
+   */
+  private FixedFormat() {
+  }
+
+  /**
+   * Appends the given value with six digits after the decimal point, as {@code %f} would. Like
+   * {@link java.util.Formatter}, the shortest decimal representation of the value is rounded half
+   * up, and negative values that round to zero keep their sign.
+   *
+   * @param sb the string builder
+   * @param v  the value
+   */
+  static void appendFixed(StringBuilder sb, double v) {
+    if (Double.isNaN(v)) {
+      sb.append("NaN");
+      return;
+    } else if (Double.isInfinite(v)) {
+      sb.append(v > 0 ? "Infinity" : "-Infinity");
+      return;
+    }
+
+    boolean negative = Double.doubleToRawLongBits(v) < 0;
+    double abs = Math.abs(v);
+    if (abs < FAST_LIMIT) {
+      double scaled = abs * SCALE;
+      double floor = Math.floor(scaled);
+      double fraction = scaled - floor;
+
+      //a value near a half may round differently in decimal than it does in binary
+      if (Math.abs(fraction - 0.5) > MARGIN) {
+        long r = (long) floor + (fraction > 0.5 ? 1 : 0);
+        if (negative) {
+          sb.append('-');
+        }
+        sb.append(r / 1000000).append('.');
+        appendFraction(sb, (int) (r % 1000000));
+        return;
+      }
+    }
+
+    String s = new BigDecimal(Double.toString(v)).setScale(6, RoundingMode.HALF_UP)
+            .toPlainString();
+    if (negative && s.charAt(0) != '-') {
+      sb.append('-');
+    }
+    sb.append(s);
+  }
+
+  /**
+   * Appends the given integer padded on the left with spaces to the given width, as {@code %Nd}
+   * would.
+   *
+   * @param sb    the string builder
+   * @param v     the integer
+   * @param width the smallest number of characters to append
+   */
+  static void appendInt(StringBuilder sb, int v, int width) {
+    int length = v < 0 ? 2 : 1;
+    for (long rest = Math.abs((long) v) / 10; rest > 0; rest /= 10) {
+      length++;
+    }
+    for (int i = length; i < width; i++) {
+      sb.append(' ');
+    }
+    sb.append(v);
+  }
+
+  /**
+   * Appends the given fraction of a million as exactly six digits.
+   *
+   * @param sb       the string builder
+   * @param fraction the fraction, from 0 to 999999
+   */
+  private static void appendFraction(StringBuilder sb, int fraction) {
+    for (int div = 100000; div > 0; div /= 10) {
+      sb.append((char) ('0' + fraction / div % 10));
+    }
+  }
+}
@@ -0,0 +1,256 @@
+package cs3500.animator.view;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cs3500.animator.model.FrameBuffer;
+import cs3500.animator.model.ImmutableModel;
+
+/**
+ * Represents the rendering of many frames of an animation offscreen at once. Frames are handed out
+ * to a pool of worker threads, each drawing onto it's own image with it's own {@link
+ * FrameRenderer} and encoding the result, while the calling thread writes the encoded frames in
+ * order. At most a fixed number of encoded frames wait to be written, so rendering and writing
+ * overlap without the encoded frames piling up in memory.
+ *
+ * @param <T> the type of an encoded frame
+ */
+final class FramePipeline<T> {
+
+  /**
+   * Represents the two stages of turning a rendered frame into output. Frames are encoded on the
+   * worker threads in any order, and written on the calling thread in the order of their ticks.
+   *
+   * @param <T> the type of an encoded frame
+   */
+  interface FrameEncoder<T> {
+
+    /**
+     * Encodes the image of a frame. The image is reused for later frames once this returns, so
+     * the encoded frame mustn't refer to it.
+     *
+     * @param tick  the tick of the frame
+     * @param image the image of the frame
+     * @return the encoded frame, which can't be null
+     * @throws IOException if the frame can't be encoded
+     */
+    T encode(int tick, BufferedImage image) throws IOException;
+
+    /**
+     * Writes an encoded frame.
+     *
+     * @param tick    the tick of the frame
+     * @param encoded the encoded frame
+     * @throws IOException if the frame can't be written
+     */
+    void write(int tick, T encoded) throws IOException;
+  }
+
+  private final ImmutableModel model;
+  private final int threads;
+
+  //represents the largest number of encoded frames waiting to be written
+  private final int queueSize;
+
+  /**
+   * Constructs a pipeline rendering frames of the given model on the given number of threads.
+   *
+   * @param model     the model
+   * @param threads   the number of threads frames are rendered on
+   * @param queueSize the largest number of encoded frames waiting to be written
+   * @throws IllegalArgumentException if the model is null, or threads or the queue size isn't
+   *                                  greater than zero
+   */
+  FramePipeline(ImmutableModel model, int threads, int queueSize) throws IllegalArgumentException {
+    if (model == null) {
+      throw new IllegalArgumentException("Model can't be null.");
+    } else if (threads <= 0 || queueSize <= 0) {
+      throw new IllegalArgumentException("Threads and queue size must be greater than zero.");
+    }
+
+    this.model = model;
+    this.threads = threads;
+    this.queueSize = queueSize;
+  }
+
+  /**
+   * Renders, encodes, and writes every frame of the given range.
+   *
+   * @param range   the range of ticks
+   * @param encoder the encoder of the frames
+   * @throws IOException           if a frame can't be encoded or written
+   * @throws IllegalStateException if the rendering is interrupted
+   */
+  void run(FrameRange range, FrameEncoder<T> encoder) throws IOException, IllegalStateException {
+    int count = range.count(this.model.getEndTime());
+    if (count == 0) {
+      return;
+    }
+
+    Run<T> run = new Run<>(range, encoder, this.queueSize);
+    int workers = Math.min(this.threads, count);
+    ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+      Thread t = new Thread(r, "frame-renderer");
+      t.setDaemon(true);
+      return t;
+    });
+    try {
+      for (int i = 0; i < workers; i++) {
+        pool.execute(() -> this.render(run, count));
+      }
+
+      //writes the frames in order as soon as they're encoded
+      for (int i = 0; i < count; i++) {
+        T encoded = run.take(i);
+        encoder.write(range.getTick(i), encoded);
+        run.permits.release();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Rendering was interrupted.");
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Renders and encodes frames of the given run until every frame has been handed out, on a worker
+   * thread.
+   *
+   * @param run   the run
+   * @param count the number of frames
+   */
+  private void render(Run<T> run, int count) {
+    Graphics2D g2d = null;
+    try {
+      //each thread draws onto it's own image, reused for every frame it renders, which is created
+      //here so that failing to create it fails the run rather than leaving the writer waiting
+      BufferedImage image = new BufferedImage(this.model.getCanvas().getWidth(),
+              this.model.getCanvas().getHeight(), BufferedImage.TYPE_INT_RGB);
+      g2d = image.createGraphics();
+      FrameBuffer frame = new FrameBuffer();
+      FrameRenderer renderer = new FrameRenderer();
+
+      while (true) {
+        //waits for room in the queue before taking a frame, so the frame the writer needs next
+        //is never stuck waiting behind later frames
+        run.permits.acquire();
+        int i = run.next.getAndIncrement();
+        if (i >= count) {
+          return;
+        }
+
+        int tick = run.range.getTick(i);
+        this.model.getFrame(tick, frame);
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+        renderer.paint(g2d, frame, this.model.getCanvas());
+        run.put(i, run.encoder.encode(tick, image));
+      }
+    } catch (InterruptedException e) {
+      //the run was stopped
+    } catch (IOException | RuntimeException | Error e) {
+      run.fail(e);
+    } finally {
+      if (g2d != null) {
+        g2d.dispose();
+      }
+    }
+  }
+
+  /**
+   * Represents the state of rendering one range of frames, shared by the worker threads and the
+   * writing thread.
+   *
+   * @param <T> the type of an encoded frame
+   */
+  private static final class Run<T> {
+
+    private final FrameRange range;
+    private final FrameEncoder<T> encoder;
+
+    //represents the index of the next frame to hand out to a worker
+    private final AtomicInteger next;
+
+    //represents the room left for frames being rendered or waiting to be written
+    private final Semaphore permits;
+
+    //represents the encoded frames waiting to be written, at the index of the frame modulo the
+    //number of slots, as no two frames waiting at once can share a slot
+    private final Object[] slots;
+
+    //represents the first error of a worker, or null if there was none
+    private Throwable error;
+
+    /**
+     * Constructs the state of rendering the given range of frames.
+     *
+     * @param range     the range of ticks
+     * @param encoder   the encoder of the frames
+     * @param queueSize the largest number of encoded frames waiting to be written
+     */
+    Run(FrameRange range, FrameEncoder<T> encoder, int queueSize) {
+      this.range = range;
+      this.encoder = encoder;
+      this.next = new AtomicInteger();
+      this.permits = new Semaphore(queueSize);
+      this.slots = new Object[queueSize];
+    }
+
+    /**
+     * Hands the given encoded frame to the writer.
+     *
+     * @param i       the index of the frame
+     * @param encoded the encoded frame
+     */
+    synchronized void put(int i, T encoded) {
+      this.slots[i % this.slots.length] = encoded;
+      this.notifyAll();
+    }
+
+    /**
+     * Records the given error of a worker, which the writer then throws.
+     *
+     * @param e the error
+     */
+    synchronized void fail(Throwable e) {
+      if (this.error == null) {
+        this.error = e;
+      }
+      this.notifyAll();
+    }
+
+    /**
+     * Waits for the frame at the given index to be encoded and takes it.
+     *
+     * @param i the index of the frame
+     * @return the encoded frame
+     * @throws IOException          if a worker failed to encode a frame
+     * @throws InterruptedException if the writer is interrupted while waiting
+     */
+    @SuppressWarnings("unchecked")
+    synchronized T take(int i) throws IOException, InterruptedException {
+      int slot = i % this.slots.length;
+      while (this.slots[slot] == null) {
+        if (this.error instanceof IOException) {
+          throw (IOException) this.error;
+        } else if (this.error instanceof Error) {
+          throw (Error) this.error;
+        } else if (this.error != null) {
+          throw (RuntimeException) this.error;
+        }
+        this.wait();
+      }
+
+      T encoded = (T) this.slots[slot];
+      this.slots[slot] = null;
+      return encoded;
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package cs3500.animator.view;
+
+/**
+ * Represents the ticks of an animation rendered as frames, from a start tick to an end tick
+ * inclusive, rendering every stride'th tick.
+ */
+public final class FrameRange {
+
+  private final int start;
+  private final int end;
+  private final int stride;
+
+  /**
+   * Constructs a range of ticks.
+   *
+   * @param start  the first tick
+   * @param end    the last tick, which is rendered only if it's a whole number of strides from the
+   *               first
+   * @param stride the number of ticks between frames
+   * @throws IllegalArgumentException if start is negative, end is less than start, or stride isn't
+   *                                  greater than zero
+   */
+  public FrameRange(int start, int end, int stride) throws IllegalArgumentException {
+    if (start < 0) {
+      throw new IllegalArgumentException("Start tick can't be negative.");
+    } else if (end < start) {
+      throw new IllegalArgumentException("End tick can't be less than start tick.");
+    } else if (stride <= 0) {
+      throw new IllegalArgumentException("Stride must be greater than zero.");
+    }
+
+    this.start = start;
+    this.end = end;
+    this.stride = stride;
+  }
+
+  /**
+   * Parses a range of ticks given as {@code start:end} or {@code start:end:stride}, where the
+   * stride is 1 if it isn't given.
+   *
+   * @param range the range
+   * @return the range of ticks
+   * @throws IllegalArgumentException if the range is null, isn't of either form, or isn't a valid
+   *                                  range
+   */
+  public static FrameRange parse(String range) throws IllegalArgumentException {
+    if (range == null) {
+      throw new IllegalArgumentException("Frame range can't be null.");
+    }
+
+    String[] parts = range.split(":", -1);
+    if (parts.length < 2 || parts.length > 3) {
+      throw new IllegalArgumentException("Frame range must be start:end or start:end:stride.");
+    }
+
+    try {
+      return new FrameRange(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+              parts.length == 3 ? Integer.parseInt(parts[2]) : 1);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Frame range must be made of integers.");
+    }
+  }
+
+  /**
+   * Gets the first tick.
+   *
+   * @return the first tick
+   */
+  public int getStart() {
+    return this.start;
+  }
+
+  /**
+   * Gets the last tick of the range, which may not be rendered.
+   *
+   * @return the last tick
+   */
+  public int getEnd() {
+    return this.end;
+  }
+
+  /**
+   * Gets the number of ticks between frames.
+   *
+   * @return the stride
+   */
+  public int getStride() {
+    return this.stride;
+  }
+
+  /**
+   * Gets the number of frames rendered from this range for an animation ending at the given tick.
+   *
+   * @param endTime the tick the animation ends at
+   * @return the number of frames
+   */
+  public int count(int endTime) {
+    int last = Math.min(this.end, endTime);
+    return last < this.start ? 0 : (last - this.start) / this.stride + 1;
+  }
+
+  /**
+   * Gets the tick rendered as the given frame of this range.
+   *
+   * @param frame the index of the frame
+   * @return the tick
+   */
+  public int getTick(int frame) {
+    return this.start + frame * this.stride;
+  }
+}
@@ -0,0 +1,75 @@
+package cs3500.animator.view;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+
+import cs3500.animator.model.CanvasModel;
+import cs3500.animator.model.FrameBuffer;
+
+/**
+ * Represents the drawing of a single frame of an animation onto a graphics object, shared by the
+ * views that display animations on screen and those that draw them offscreen. The objects used to
+ * draw shapes are reused from one frame to the next.
+ */
+final class FrameRenderer {
+
+  //represent the objects used to draw shapes, which are reused from one shape to the next
+  private final Rectangle2D.Double rectangle = new Rectangle2D.Double();
+  private final Ellipse2D.Double ellipse = new Ellipse2D.Double();
+  private Color color;
+
+  /**
+   * Draws the shapes of the given frame onto the given graphics object, in order, relative to the
+   * top left corner of the given canvas.
+   *
+   * @param g2d    the graphics object
+   * @param frame  the frame
+   * @param canvas the canvas of the animation
+   * @throws IllegalArgumentException if the frame has an invalid shape type
+   */
+  void paint(Graphics2D g2d, FrameBuffer frame, CanvasModel canvas)
+          throws IllegalArgumentException {
+    for (int i = 0; i < frame.size(); i++) {
+      double x = frame.getX(i) - canvas.getX();
+      double y = frame.getY(i) - canvas.getY();
+      double width = frame.getWidth(i);
+      double height = frame.getHeight(i);
+      double theta = frame.getTheta(i);
+
+      //only creates a new color when it differs from the last shape's color
+      int rgb = frame.getRGB(i);
+      if (this.color == null || this.color.getRGB() != (0xFF000000 | rgb)) {
+        this.color = new Color(rgb);
+      }
+      g2d.setColor(this.color);
+
+      //applies the shape's rotation, restoring the transform afterwards so it doesn't apply to the
+      //shapes drawn after it
+      AffineTransform saved = null;
+      if (theta != 0) {
+        saved = g2d.getTransform();
+        g2d.rotate(Math.toRadians(theta), x + width / 2, y + height / 2);
+      }
+
+      switch (frame.getShape(i).getType()) {
+        case "Rectangle":
+          this.rectangle.setFrame(x, y, width, height);
+          g2d.fill(this.rectangle);
+          break;
+        case "Ellipse":
+          this.ellipse.setFrame(x, y, width, height);
+          g2d.fill(this.ellipse);
+          break;
+        default:
+          throw new IllegalArgumentException("Invalid shape type.");
+      }
+
+      if (saved != null) {
+        g2d.setTransform(saved);
+      }
+    }
+  }
+}
@@ -0,0 +1,254 @@
+package cs3500.animator.view;
+
+import java.awt.image.IndexColorModel;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import cs3500.animator.model.ImmutableModel;
+import cs3500.animator.model.KeyFrameModel;
+import cs3500.animator.model.ShapeModel;
+
+/**
+ * Represents the 256 color palette every frame of an animation is quantized to when it's written
+ * as a GIF, chosen once for the whole animation. The palette holds the white background and the
+ * colors of the animation's key frames, reduced by median cut if there are too many, and the rest
+ * of it is filled with an even spread of colors so that colors between key frames are close to
+ * one of them.
+ */
+final class GIFPalette {
+
+  //represents the number of colors in a palette
+  private static final int SIZE = 256;
+
+  //represents the levels of each channel of the colors spread evenly through the palette
+  private static final int LEVELS = 6;
+
+  //represents the packed 0xRRGGBB colors of the palette
+  private final int[] colors;
+
+  //represents the index of the palette color nearest to each color, with 5 bits per channel
+  private final byte[] lookup;
+
+  /**
+   * Constructs the palette of the given animation.
+   *
+   * @param model the animation
+   */
+  GIFPalette(ImmutableModel model) {
+    LinkedHashSet<Integer> keyColors = new LinkedHashSet<>();
+    for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry :
+            model.getShapeKeyFrameRepresentation().entrySet()) {
+      for (KeyFrameModel k : entry.getValue()) {
+        keyColors.add(k.getShape().getColor().getRGB() & 0xFFFFFF);
+      }
+    }
+    keyColors.remove(0xFFFFFF);
+
+    LinkedHashSet<Integer> palette = new LinkedHashSet<>();
+    palette.add(0xFFFFFF);
+    if (keyColors.size() < SIZE) {
+      palette.addAll(keyColors);
+    } else {
+      palette.addAll(medianCut(new ArrayList<>(keyColors), SIZE - 1));
+    }
+
+    //fills the rest of the palette with colors spread evenly through the color cube
+    for (int i = 0; i < LEVELS * LEVELS * LEVELS && palette.size() < SIZE; i++) {
+      int step = 255 / (LEVELS - 1);
+      palette.add((i / (LEVELS * LEVELS) * step) << 16 | (i / LEVELS % LEVELS * step) << 8
+              | (i % LEVELS * step));
+    }
+
+    this.colors = new int[palette.size()];
+    int n = 0;
+    for (int c : palette) {
+      this.colors[n++] = c;
+    }
+
+    this.lookup = new byte[1 << 15];
+    for (int i = 0; i < this.lookup.length; i++) {
+      this.lookup[i] = (byte) this.nearest((i >> 10 << 19) | (i >> 5 & 31) << 11
+              | (i & 31) << 3 | 0x040404);
+    }
+
+    //maps each color of the palette to itself, rather than to another color in it's bucket
+    for (int i = this.colors.length - 1; i >= 0; i--) {
+      this.lookup[bucket(this.colors[i])] = (byte) i;
+    }
+  }
+
+  /**
+   * Gets the color model of indexed images using this palette.
+   *
+   * @return the color model
+   */
+  IndexColorModel getColorModel() {
+    byte[] r = new byte[this.colors.length];
+    byte[] g = new byte[this.colors.length];
+    byte[] b = new byte[this.colors.length];
+    for (int i = 0; i < this.colors.length; i++) {
+      r[i] = (byte) (this.colors[i] >> 16);
+      g[i] = (byte) (this.colors[i] >> 8);
+      b[i] = (byte) this.colors[i];
+    }
+    return new IndexColorModel(8, this.colors.length, r, g, b);
+  }
+
+  /**
+   * Gets the number of colors in the palette.
+   *
+   * @return the number of colors
+   */
+  int size() {
+    return this.colors.length;
+  }
+
+  /**
+   * Gets the color at the given index of the palette.
+   *
+   * @param i the index
+   * @return the packed 0xRRGGBB color
+   */
+  int getColor(int i) {
+    return this.colors[i];
+  }
+
+  /**
+   * Gets the index of the palette color used for the given color.
+   *
+   * @param rgb the packed 0xRRGGBB color
+   * @return the index
+   */
+  int indexOf(int rgb) {
+    return this.lookup[bucket(rgb)] & 0xFF;
+  }
+
+  /**
+   * Quantizes the given pixels to indices of the palette.
+   *
+   * @param pixels  the packed 0xRRGGBB pixels
+   * @param indices the array the indices are written to, at least as long as the pixels
+   */
+  void quantize(int[] pixels, byte[] indices) {
+    int last = -1;
+    byte index = 0;
+    for (int i = 0; i < pixels.length; i++) {
+      //rows of the same color are common, so the last color's index is reused
+      int rgb = pixels[i];
+      if (rgb != last) {
+        last = rgb;
+        index = this.lookup[bucket(rgb)];
+      }
+      indices[i] = index;
+    }
+  }
+
+  /**
+   * Gets the index of the palette color nearest to the given color.
+   *
+   * @param rgb the packed 0xRRGGBB color
+   * @return the index
+   */
+  private int nearest(int rgb) {
+    int best = 0;
+    int bestDistance = Integer.MAX_VALUE;
+    for (int i = 0; i < this.colors.length; i++) {
+      int dr = (rgb >> 16 & 0xFF) - (this.colors[i] >> 16 & 0xFF);
+      int dg = (rgb >> 8 & 0xFF) - (this.colors[i] >> 8 & 0xFF);
+      int db = (rgb & 0xFF) - (this.colors[i] & 0xFF);
+      int distance = dr * dr + dg * dg + db * db;
+      if (distance < bestDistance) {
+        best = i;
+        bestDistance = distance;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Gets the bucket of the lookup table the given color falls in.
+   *
+   * @param rgb the packed 0xRRGGBB color
+   * @return the bucket
+   */
+  private static int bucket(int rgb) {
+    return (rgb >> 9 & 0x7C00) | (rgb >> 6 & 0x3E0) | (rgb >> 3 & 0x1F);
+  }
+
+  /**
+   * Reduces the given colors to the given number by repeatedly splitting the group of colors with
+   * the widest range of a channel at it's median, and averaging each group.
+   *
+   * @param colors the packed 0xRRGGBB colors
+   * @param count  the number of colors to reduce to
+   * @return the reduced colors
+   */
+  static ArrayList<Integer> medianCut(ArrayList<Integer> colors, int count) {
+    ArrayList<ArrayList<Integer>> boxes = new ArrayList<>();
+    boxes.add(colors);
+
+    while (boxes.size() < count) {
+      //finds the box and channel with the widest range
+      int widest = -1;
+      int widestShift = 0;
+      int widestRange = 0;
+      for (int i = 0; i < boxes.size(); i++) {
+        for (int shift = 0; shift <= 16; shift += 8) {
+          int range = range(boxes.get(i), shift);
+          if (range > widestRange) {
+            widest = i;
+            widestShift = shift;
+            widestRange = range;
+          }
+        }
+      }
+      if (widest == -1) {
+        break;
+      }
+
+      int shift = widestShift;
+      ArrayList<Integer> box = boxes.get(widest);
+      box.sort(Comparator.comparingInt(c -> c >> shift & 0xFF));
+      int half = box.size() / 2;
+      boxes.set(widest, new ArrayList<>(box.subList(0, half)));
+      boxes.add(new ArrayList<>(box.subList(half, box.size())));
+    }
+
+    ArrayList<Integer> reduced = new ArrayList<>();
+    for (ArrayList<Integer> box : boxes) {
+      long r = 0;
+      long g = 0;
+      long b = 0;
+      for (int c : box) {
+        r += c >> 16 & 0xFF;
+        g += c >> 8 & 0xFF;
+        b += c & 0xFF;
+      }
+      int n = box.size();
+      reduced.add((int) ((r + n / 2) / n) << 16 | (int) ((g + n / 2) / n) << 8
+              | (int) ((b + n / 2) / n));
+    }
+    return reduced;
+  }
+
+  /**
+   * Gets the difference between the largest and smallest value of the given channel of the given
+   * colors.
+   *
+   * @param colors the packed 0xRRGGBB colors
+   * @param shift  the shift of the channel
+   * @return the range of the channel
+   */
+  private static int range(ArrayList<Integer> colors, int shift) {
+    int least = 255;
+    int greatest = 0;
+    for (int c : colors) {
+      int v = c >> shift & 0xFF;
+      least = Math.min(least, v);
+      greatest = Math.max(greatest, v);
+    }
+    return greatest - least;
+  }
+}
@@ -0,0 +1,192 @@
+package cs3500.animator.view;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.IndexColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.FileImageOutputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.swing.Timer;
+
+import cs3500.animator.model.ImmutableModel;
+
+/**
+ * Represents an animation drawn offscreen and written as an animated GIF that loops forever.
+ * Frames are drawn the same way as by a {@link VisualView}, quantized to a {@link GIFPalette}
+ * chosen once for the whole animation, and shown for as long as the ticks they represent last at
+ * the speed of the animation. Frames are rendered and quantized on many threads at once while
+ * earlier frames are compressed and written, and only a few frames are held in memory at a time.
+ */
+public class GIFView implements View {
+
+  //represents the name of the native metadata format of GIF images
+  private static final String FORMAT = "javax_imageio_gif_image_1.0";
+
+  private ImmutableModel model;
+  private File file;
+  private FrameRange range;
+  private int speed;
+
+  //represents the number of threads frames are rendered and quantized on
+  private int threads;
+
+  /**
+   * Constructor initializes a new GIF view given an immutable model, the file to write to, the
+   * range of ticks to render, and the speed of the animation.
+   *
+   * @param model an immutable model
+   * @param file  the file the GIF is written to
+   * @param range the range of ticks to render, or null to render every tick of the animation
+   * @param speed the speed of the animation in ticks per second
+   * @throws IllegalArgumentException if the model or file is null, or speed isn't greater than
+   *                                  zero
+   */
+  public GIFView(ImmutableModel model, File file, FrameRange range, int speed)
+          throws IllegalArgumentException {
+    this(model, file, range, speed, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructor initializes a new GIF view given an immutable model, the file to write to, the
+   * range of ticks to render, the speed of the animation, and the number of threads to render
+   * frames on.
+   *
+   * @param model   an immutable model
+   * @param file    the file the GIF is written to
+   * @param range   the range of ticks to render, or null to render every tick of the animation
+   * @param speed   the speed of the animation in ticks per second
+   * @param threads the number of threads frames are rendered and quantized on
+   * @throws IllegalArgumentException if the model or file is null, or speed or threads isn't
+   *                                  greater than zero
+   */
+  public GIFView(ImmutableModel model, File file, FrameRange range, int speed, int threads)
+          throws IllegalArgumentException {
+    if (model == null || file == null) {
+      throw new IllegalArgumentException("Model and file can't be null.");
+    } else if (speed <= 0) {
+      throw new IllegalArgumentException("Speed must be greater than zero.");
+    } else if (threads <= 0) {
+      throw new IllegalArgumentException("Threads must be greater than zero.");
+    }
+
+    this.model = model;
+    this.file = file;
+    this.range = range == null ? new FrameRange(0, Integer.MAX_VALUE, 1) : range;
+    this.speed = speed;
+    this.threads = threads;
+  }
+
+  @Override
+  public void makeVisible() throws IllegalStateException {
+    GIFPalette palette = new GIFPalette(this.model);
+    IndexColorModel colorModel = palette.getColorModel();
+    int width = this.model.getCanvas().getWidth();
+    int height = this.model.getCanvas().getHeight();
+
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+    try (RandomAccessFile raf = new RandomAccessFile(this.file, "rw");
+         ImageOutputStream out = new FileImageOutputStream(raf)) {
+      //discards any longer file written before
+      raf.setLength(0);
+      writer.setOutput(out);
+      writer.prepareWriteSequence(null);
+      ImageWriteParam param = writer.getDefaultWriteParam();
+
+      new FramePipeline<byte[]>(this.model, this.threads, this.threads * 2).run(this.range,
+              new FramePipeline.FrameEncoder<byte[]>() {
+                //represents the index of the next frame written
+                private int frame = 0;
+
+                @Override
+                public byte[] encode(int tick, BufferedImage image) {
+                  int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+                  byte[] indices = new byte[pixels.length];
+                  palette.quantize(pixels, indices);
+                  return indices;
+                }
+
+                @Override
+                public void write(int tick, byte[] encoded) throws IOException {
+                  WritableRaster raster = Raster.createInterleavedRaster(
+                          new DataBufferByte(encoded, encoded.length), width, height, width, 1,
+                          new int[]{0}, null);
+                  BufferedImage image = new BufferedImage(colorModel, raster, false, null);
+
+                  IIOMetadata metadata = writer.getDefaultImageMetadata(
+                          new ImageTypeSpecifier(image), param);
+                  metadata.mergeTree(FORMAT, GIFView.this.frameMetadata(this.frame));
+                  writer.writeToSequence(new IIOImage(image, null, metadata), param);
+                  this.frame++;
+                }
+              });
+
+      writer.endWriteSequence();
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to successfully transmit output.");
+    } finally {
+      writer.dispose();
+    }
+  }
+
+  @Override
+  public void animate(Timer timer) throws UnsupportedOperationException {
+    throw new UnsupportedOperationException("GIF view has no graphical display to animate on.");
+  }
+
+  /**
+   * Gets the delay after the given frame in hundredths of a second. GIF delays are whole
+   * hundredths, so each frame's delay is rounded such that the total delay of the frames so far
+   * stays as close as possible to the time they represent.
+   *
+   * @param frame the index of the frame
+   * @return the delay
+   */
+  int getDelay(int frame) {
+    long ticks = this.range.getStride();
+    return (int) (Math.round((frame + 1) * ticks * 100.0 / this.speed)
+            - Math.round(frame * ticks * 100.0 / this.speed));
+  }
+
+  /**
+   * Builds the native metadata of the given frame, setting it's delay, and making the first frame
+   * loop the animation forever.
+   *
+   * @param frame the index of the frame
+   * @return the root of the metadata
+   */
+  private IIOMetadataNode frameMetadata(int frame) {
+    IIOMetadataNode root = new IIOMetadataNode(FORMAT);
+
+    IIOMetadataNode control = new IIOMetadataNode("GraphicControlExtension");
+    control.setAttribute("disposalMethod", "none");
+    control.setAttribute("userInputFlag", "FALSE");
+    control.setAttribute("transparentColorFlag", "FALSE");
+    control.setAttribute("delayTime", Integer.toString(Math.min(this.getDelay(frame), 0xFFFF)));
+    control.setAttribute("transparentColorIndex", "0");
+    root.appendChild(control);
+
+    if (frame == 0) {
+      IIOMetadataNode extensions = new IIOMetadataNode("ApplicationExtensions");
+      IIOMetadataNode loop = new IIOMetadataNode("ApplicationExtension");
+      loop.setAttribute("applicationID", "NETSCAPE");
+      loop.setAttribute("authenticationCode", "2.0");
+      loop.setUserObject(new byte[]{1, 0, 0});
+      extensions.appendChild(loop);
+      root.appendChild(extensions);
+    }
+    return root;
+  }
+}
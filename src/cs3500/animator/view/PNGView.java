@@ -0,0 +1,114 @@
+package cs3500.animator.view;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import javax.swing.Timer;
+
+import cs3500.animator.model.ImmutableModel;
+
+/**
+ * Represents an animation drawn offscreen and written as a sequence of PNG images to a directory,
+ * one image per rendered tick, so that it can be rendered without a display. Frames are drawn the
+ * same way as by a {@link VisualView} and are named by their tick, as {@code frame-000042.png}.
+ * Frames are rendered and compressed on many threads at once while earlier frames are written.
+ */
+public class PNGView implements View {
+
+  private ImmutableModel model;
+  private File directory;
+  private FrameRange range;
+
+  //represents the number of threads frames are rendered and compressed on
+  private int threads;
+
+  /**
+   * Constructor initializes a new PNG view given an immutable model, the directory to write frames
+   * to, and the range of ticks to render.
+   *
+   * @param model     an immutable model
+   * @param directory the directory frames are written to, which is created if it doesn't exist
+   * @param range     the range of ticks to render, or null to render every tick of the animation
+   * @throws IllegalArgumentException if the model or directory is null
+   */
+  public PNGView(ImmutableModel model, File directory, FrameRange range)
+          throws IllegalArgumentException {
+    this(model, directory, range, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructor initializes a new PNG view given an immutable model, the directory to write frames
+   * to, the range of ticks to render, and the number of threads to render frames on.
+   *
+   * @param model     an immutable model
+   * @param directory the directory frames are written to, which is created if it doesn't exist
+   * @param range     the range of ticks to render, or null to render every tick of the animation
+   * @param threads   the number of threads frames are rendered and compressed on
+   * @throws IllegalArgumentException if the model or directory is null, or threads isn't greater
+   *                                  than zero
+   */
+  public PNGView(ImmutableModel model, File directory, FrameRange range, int threads)
+          throws IllegalArgumentException {
+    if (model == null || directory == null) {
+      throw new IllegalArgumentException("Model and directory can't be null.");
+    } else if (threads <= 0) {
+      throw new IllegalArgumentException("Threads must be greater than zero.");
+    }
+
+    this.model = model;
+    this.directory = directory;
+    this.range = range == null ? new FrameRange(0, Integer.MAX_VALUE, 1) : range;
+    this.threads = threads;
+  }
+
+  @Override
+  public void makeVisible() throws IllegalStateException {
+    if (!this.directory.isDirectory() && !this.directory.mkdirs()) {
+      throw new IllegalStateException("Unable to create directory " + this.directory + ".");
+    }
+
+    //compresses frames on the rendering threads, and writes them to disk on this one
+    try {
+      new FramePipeline<byte[]>(this.model, this.threads, this.threads * 2).run(this.range,
+              new FramePipeline.FrameEncoder<byte[]>() {
+                @Override
+                public byte[] encode(int tick, BufferedImage image) throws IOException {
+                  //compresses in memory rather than through a temporary file
+                  ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                  try (ImageOutputStream out = new MemoryCacheImageOutputStream(bytes)) {
+                    ImageIO.write(image, "png", out);
+                  }
+                  return bytes.toByteArray();
+                }
+
+                @Override
+                public void write(int tick, byte[] encoded) throws IOException {
+                  Files.write(new File(PNGView.this.directory, fileName(tick)).toPath(), encoded);
+                }
+              });
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to successfully transmit output.");
+    }
+  }
+
+  @Override
+  public void animate(Timer timer) throws UnsupportedOperationException {
+    throw new UnsupportedOperationException("PNG view has no graphical display to animate on.");
+  }
+
+  /**
+   * Gets the name of the file the frame at the given tick is written to.
+   *
+   * @param tick the tick
+   * @return the file name
+   */
+  static String fileName(int tick) {
+    return String.format("frame-%06d.png", tick);
+  }
+}
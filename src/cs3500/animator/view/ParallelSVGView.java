@@ -0,0 +1,206 @@
+package cs3500.animator.view;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import javax.swing.Timer;
+
+import cs3500.animator.model.ImmutableModel;
+import cs3500.animator.model.KeyFrameModel;
+import cs3500.animator.model.ShapeModel;
+
+/**
+ * Represents an SVG view that formats shapes on many threads at once. Consecutive shapes are
+ * grouped into chunks, each chunk is formatted on a fork join pool into a pooled string builder,
+ * and the chunks are written to the appendable object in the same layer order as an {@link
+ * SVGView}, so the output is identical to it's output. At most a few chunks per thread are
+ * formatted ahead of the writing, so memory use doesn't grow with the size of the animation.
+ */
+public class ParallelSVGView implements View {
+
+  //represents the smallest number of key frames worth formatting in it's own task
+  private static final int MIN_CHUNK = 512;
+
+  //represents the largest capacity of a string builder returned to the pool
+  private static final int MAX_POOLED = 1 << 20;
+
+  private SVGView svg;
+  private ImmutableModel model;
+  private Appendable ap;
+  private ForkJoinPool pool;
+
+  //represents the string builders not being used by any chunk
+  private final ConcurrentLinkedQueue<StringBuilder> buffers;
+
+  /**
+   * Constructor initializes a new parallel SVG view given an immutable model and an appendable
+   * object, formatting shapes on the common pool.
+   *
+   * @param model an immutable model
+   * @param ap    an appendable object
+   * @param speed the speed of the animation
+   * @throws IllegalArgumentException if the model or appendable object is null, or if speed isn't
+   *                                  greater than zero
+   */
+  public ParallelSVGView(ImmutableModel model, Appendable ap, int speed)
+          throws IllegalArgumentException {
+    this(model, ap, speed, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructor initializes a new parallel SVG view given an immutable model, an appendable object,
+   * and the pool shapes are formatted on.
+   *
+   * @param model an immutable model
+   * @param ap    an appendable object
+   * @param speed the speed of the animation
+   * @param pool  the pool shapes are formatted on
+   * @throws IllegalArgumentException if the model, appendable object, or pool is null, or if speed
+   *                                  isn't greater than zero
+   */
+  public ParallelSVGView(ImmutableModel model, Appendable ap, int speed, ForkJoinPool pool)
+          throws IllegalArgumentException {
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool can't be null.");
+    }
+
+    this.svg = new SVGView(model, ap, speed);
+    this.model = model;
+    this.ap = ap;
+    this.pool = pool;
+    this.buffers = new ConcurrentLinkedQueue<>();
+  }
+
+  @Override
+  public void makeVisible() throws IllegalArgumentException, IllegalStateException {
+    if (this.pool.getParallelism() < 2) {
+      this.svg.makeVisible();
+      return;
+    }
+
+    int ahead = this.pool.getParallelism() * 2;
+    ArrayDeque<Chunk> chunks = new ArrayDeque<>();
+
+    try {
+      StringBuilder sb = new StringBuilder();
+      this.svg.appendHeader(sb);
+      this.ap.append(sb);
+
+      Chunk next = new Chunk();
+      for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry :
+              this.model.getShapeKeyFrameRepresentation().entrySet()) {
+        next.add(entry.getKey(), entry.getValue());
+        if (next.frames >= MIN_CHUNK) {
+          //writes the oldest chunk before submitting another if enough are already ahead
+          if (chunks.size() >= ahead) {
+            this.write(chunks.remove());
+          }
+          this.pool.execute(next);
+          chunks.add(next);
+          next = new Chunk();
+        }
+      }
+
+      if (!next.shapes.isEmpty()) {
+        this.pool.execute(next);
+        chunks.add(next);
+      }
+      while (!chunks.isEmpty()) {
+        this.write(chunks.remove());
+      }
+
+      this.ap.append("</svg>");
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to successfully transmit output.");
+    } finally {
+      for (Chunk c : chunks) {
+        c.cancel(false);
+      }
+    }
+  }
+
+  @Override
+  public void animate(Timer timer) throws UnsupportedOperationException {
+    throw new UnsupportedOperationException("SVG view has no graphical display to animate on.");
+  }
+
+  /**
+   * Waits for the given chunk to be formatted, writes it to the appendable object, and returns
+   * it's string builder to the pool.
+   *
+   * @param chunk the chunk
+   * @throws IOException              if the appendable object can't be written to
+   * @throws IllegalArgumentException if the chunk has an unsupported shape
+   */
+  private void write(Chunk chunk) throws IOException, IllegalArgumentException {
+    chunk.join();
+    if (chunk.error != null) {
+      throw chunk.error;
+    }
+    this.ap.append(chunk.sb);
+    if (chunk.sb.capacity() <= MAX_POOLED) {
+      chunk.sb.setLength(0);
+      this.buffers.add(chunk.sb);
+    }
+    chunk.sb = null;
+  }
+
+  /**
+   * Represents a task that formats consecutive shapes into a string builder.
+   */
+  private final class Chunk extends RecursiveAction {
+
+    //represents the shapes of the chunk, in order, and their key frames
+    private final ArrayList<ShapeModel> shapes;
+    private final ArrayList<ArrayList<KeyFrameModel>> keyFrames;
+
+    //represents the number of key frames of all the shapes of the chunk
+    private int frames;
+
+    //represents the formatted shapes
+    private StringBuilder sb;
+
+    //represents the error formatting the shapes, or null if there was none
+    private IllegalArgumentException error;
+
+    /**
+     * Constructs an empty chunk.
+     */
+    Chunk() {
+      this.shapes = new ArrayList<>();
+      this.keyFrames = new ArrayList<>();
+    }
+
+    /**
+     * Adds the given shape and it's key frames to the end of the chunk.
+     *
+     * @param shape  the shape
+     * @param frames the shape's key frames
+     */
+    void add(ShapeModel shape, ArrayList<KeyFrameModel> frames) {
+      this.shapes.add(shape);
+      this.keyFrames.add(frames);
+      this.frames += frames.size() + 1;
+    }
+
+    @Override
+    protected void compute() {
+      StringBuilder b = ParallelSVGView.this.buffers.poll();
+      this.sb = b == null ? new StringBuilder() : b;
+      try {
+        for (int i = 0; i < this.shapes.size(); i++) {
+          ParallelSVGView.this.svg.appendShape(this.sb, this.shapes.get(i),
+                  this.keyFrames.get(i));
+        }
+      } catch (IllegalArgumentException e) {
+        //kept to be thrown by the writing thread with it's original message
+        this.error = e;
+      }
+    }
+  }
+}
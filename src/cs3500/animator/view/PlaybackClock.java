@@ -0,0 +1,145 @@
+package cs3500.animator.view;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Represents the clock an animation is played back by, deriving the current tick from how much
+ * time has passed rather than from how many frames have been drawn. A frame drawn late shows the
+ * tick it's drawn at, skipping the ticks in between, so playback keeps up with real time however
+ * long frames take to draw. The clock starts the first time it's read, and is re-anchored at the
+ * current time whenever it's speed, direction, or tick is changed.
+ */
+final class PlaybackClock {
+
+  //represents the number of nanoseconds in a second
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  //represents the source of the current time in nanoseconds
+  private final LongSupplier nanoTime;
+
+  private int ticksPerSecond;
+  private int direction;
+
+  //represents the time in ticks the clock was at when it was last anchored, and the time in
+  //nanoseconds it was anchored at, which is only set once the clock is first read
+  private double anchorTime;
+  private long anchorNanos;
+  private boolean anchored;
+
+  /**
+   * Constructs a clock reading the system's nanosecond timer, starting at tick zero and running
+   * forwards.
+   *
+   * @param ticksPerSecond the speed of the animation
+   * @throws IllegalArgumentException if ticks per second isn't greater than zero
+   */
+  PlaybackClock(int ticksPerSecond) throws IllegalArgumentException {
+    this(ticksPerSecond, System::nanoTime);
+  }
+
+  /**
+   * Constructs a clock reading the given source of time, starting at tick zero and running
+   * forwards.
+   *
+   * @param ticksPerSecond the speed of the animation
+   * @param nanoTime       the source of the current time in nanoseconds
+   * @throws IllegalArgumentException if ticks per second isn't greater than zero, or the source of
+   *                                  time is null
+   */
+  PlaybackClock(int ticksPerSecond, LongSupplier nanoTime) throws IllegalArgumentException {
+    if (ticksPerSecond <= 0) {
+      throw new IllegalArgumentException("Ticks per second must be greater than zero.");
+    } else if (nanoTime == null) {
+      throw new IllegalArgumentException("Time source can't be null.");
+    }
+
+    this.nanoTime = nanoTime;
+    this.ticksPerSecond = ticksPerSecond;
+    this.direction = 1;
+  }
+
+  /**
+   * Gets the current tick, starting the clock if it hasn't been read yet.
+   *
+   * @return the current tick
+   */
+  int getTick() {
+    double tick = Math.floor(this.getTime());
+    return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, tick));
+  }
+
+  /**
+   * Gets the current time in ticks, including how far the clock is between two ticks, starting
+   * the clock if it hasn't been read yet.
+   *
+   * @return the current time
+   */
+  double getTime() {
+    long now = this.nanoTime.getAsLong();
+    if (!this.anchored) {
+      this.anchorNanos = now;
+      this.anchored = true;
+    }
+    return this.timeAt(now);
+  }
+
+  /**
+   * Moves the clock to the given tick, from which it continues at the same speed and direction.
+   *
+   * @param tick the tick
+   */
+  void setTick(int tick) {
+    this.anchorTime = tick;
+    this.anchorNanos = this.nanoTime.getAsLong();
+    this.anchored = true;
+  }
+
+  /**
+   * Sets the speed of the clock, continuing from the current time.
+   *
+   * @param ticksPerSecond the speed of the animation
+   * @throws IllegalArgumentException if ticks per second isn't greater than zero
+   */
+  void setTicksPerSecond(int ticksPerSecond) throws IllegalArgumentException {
+    if (ticksPerSecond <= 0) {
+      throw new IllegalArgumentException("Ticks per second must be greater than zero.");
+    }
+
+    this.reanchor();
+    this.ticksPerSecond = ticksPerSecond;
+  }
+
+  /**
+   * Sets the direction of the clock, where 1 runs forwards, 0 is paused, and -1 runs backwards,
+   * continuing from the current time.
+   *
+   * @param direction the direction
+   */
+  void setDirection(int direction) {
+    this.reanchor();
+    this.direction = direction;
+  }
+
+  /**
+   * Anchors the clock at the current time, keeping how far it is between two ticks, if it has been
+   * started.
+   */
+  private void reanchor() {
+    if (this.anchored) {
+      long now = this.nanoTime.getAsLong();
+      this.anchorTime = this.timeAt(now);
+      this.anchorNanos = now;
+    }
+  }
+
+  /**
+   * Gets the time in ticks the clock is at when the nanosecond timer reads the given time.
+   *
+   * @param now the time in nanoseconds
+   * @return the time in ticks
+   */
+  private double timeAt(long now) {
+    double elapsed = (double) (now - this.anchorNanos) * this.ticksPerSecond / NANOS_PER_SECOND;
+    return this.anchorTime + this.direction * elapsed;
+  }
+}
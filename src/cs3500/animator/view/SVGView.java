@@ -1,5 +1,7 @@
 package cs3500.animator.view;
 
+import java.awt.Color;
+import java.awt.geom.Point2D;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Map;
@@ -8,13 +10,11 @@ import javax.swing.Timer;
 
 import cs3500.animator.model.ImmutableModel;
 import cs3500.animator.model.KeyFrameModel;
-import cs3500.animator.model.Motion;
-import cs3500.animator.model.MotionModel;
-import cs3500.animator.model.Shape;
 import cs3500.animator.model.ShapeModel;
 
 /**
- * Represents a textual description of an animation compliant with the SVG file format.
+ * Represents a textual description of an animation compliant with the SVG file format. The
+ * description is written to the appendable object one shape at a time as it's formatted.
  */
 public class SVGView implements View {
 
@@ -44,38 +44,20 @@ public class SVGView implements View {
   public void makeVisible() throws IllegalArgumentException {
     StringBuilder sb = new StringBuilder();
 
-    sb.append(String.format("<svg width=\"%1d\" height=\"%2d\" version=\"1.1\" xmlns="
-                    + "\"http://www.w3.org/2000/svg\">", this.model.getCanvas().getWidth(),
-            this.model.getCanvas().getHeight())).append("\n");
-
-    //Stores shape and animation information using the SVG file format in a string builder
-    for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry :
-            this.model.getShapeKeyFrameRepresentation().entrySet()) {
-      ShapeModel shape = entry.getKey();
-      ArrayList<KeyFrameModel> value = entry.getValue();
-      sb.append(this.shapeAsSVG(shape)).append("\n");
+    try {
+      this.appendHeader(sb);
 
-      for (int i = 0; i < value.size() - 1; i++) {
-        sb.append(this.motionAsSVG(new Motion(value.get(i), value.get(i + 1)))).append("\n");
-      }
-      switch (shape.getType()) {
-        case "Rectangle":
-          sb.append("</rect>");
-          break;
-        case "Ellipse":
-          sb.append("</ellipse>");
-          break;
-        default:
-          throw new IllegalArgumentException("Unsupported shape type.");
+      //writes each shape and it's motions as soon as they're formatted, so only one shape's
+      //motions are held in memory at a time
+      for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry :
+              this.model.getShapeKeyFrameRepresentation().entrySet()) {
+        this.appendShape(sb, entry.getKey(), entry.getValue());
+        this.ap.append(sb);
+        sb.setLength(0);
       }
-      sb.append("\n");
-    }
 
-    sb.append("</svg>");
-
-    //tries to append the string builder's information onto the appendable object.
-    try {
-      ap.append(sb.toString());
+      sb.append("</svg>");
+      this.ap.append(sb);
     } catch (IOException e) {
       throw new IllegalStateException("Unable to successfully transmit output.");
     }
@@ -87,118 +69,204 @@ public class SVGView implements View {
   }
 
   /**
-   * Constructs a string representation for a shape using the SVG file format.
+   * Appends the opening tag of the SVG document to the given string builder.
+   *
+   * @param sb the string builder
+   */
+  void appendHeader(StringBuilder sb) {
+    sb.append("<svg width=\"");
+    FixedFormat.appendInt(sb, this.model.getCanvas().getWidth(), 1);
+    sb.append("\" height=\"");
+    FixedFormat.appendInt(sb, this.model.getCanvas().getHeight(), 2);
+    sb.append("\" version=\"1.1\" xmlns=\"http://www.w3.org/2000/svg\">\n");
+  }
+
+  /**
+   * Appends a shape and all of it's motions using the SVG file format to the given string builder.
+   *
+   * @param sb     the string builder
+   * @param shape  the shape
+   * @param frames the shape's key frames, sorted by time
+   * @throws IllegalArgumentException if given an unsupported shape
+   */
+  void appendShape(StringBuilder sb, ShapeModel shape, ArrayList<KeyFrameModel> frames)
+          throws IllegalArgumentException {
+    this.shapeAsSVG(sb, shape);
+    sb.append("\n");
+
+    for (int i = 0; i < frames.size() - 1; i++) {
+      this.motionAsSVG(sb, frames.get(i), frames.get(i + 1));
+      sb.append("\n");
+    }
+    switch (shape.getType()) {
+      case "Rectangle":
+        sb.append("</rect>");
+        break;
+      case "Ellipse":
+        sb.append("</ellipse>");
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported shape type.");
+    }
+    sb.append("\n");
+  }
+
+  /**
+   * Appends a shape using the SVG file format to the given string builder.
    *
+   * @param sb    the string builder
    * @param shape the given shape
-   * @return a string representation
    * @throws IllegalArgumentException if given an unsupported shape
    */
-  private String shapeAsSVG(ShapeModel shape) throws IllegalArgumentException {
+  private void shapeAsSVG(StringBuilder sb, ShapeModel shape) throws IllegalArgumentException {
+    Point2D.Double point = shape.getPointTopLeft();
+    Point2D.Double dimensions = shape.getDimensions();
     switch (shape.getType()) {
       case "Rectangle":
-        return String.format("<rect x=\"%1f\" y=\"%2f\" width=\"%3f\" height=\"%4f\""
-                        + " fill=\"rgb(%5d,%6d,%7d)\" visibility=\"visible\" >",
-                shape.getPointTopLeft().x, shape.getPointTopLeft().y, shape.getDimensions().x,
-                shape.getDimensions().y, shape.getColor().getRed(), shape.getColor().getGreen(),
-                shape.getColor().getBlue());
+        sb.append("<rect x=\"");
+        FixedFormat.appendFixed(sb, point.x);
+        sb.append("\" y=\"");
+        FixedFormat.appendFixed(sb, point.y);
+        sb.append("\" width=\"");
+        FixedFormat.appendFixed(sb, dimensions.x);
+        sb.append("\" height=\"");
+        FixedFormat.appendFixed(sb, dimensions.y);
+        break;
       case "Ellipse":
-        return String.format("<ellipse cx=\"%1f\" cy=\"%2f\" rx=\"%3f\" ry=\"%4f\""
-                        + " fill=\"rgb(%5d,%6d,%7d)\" visibility=\"visible\" >",
-                shape.getPointTopLeft().x + (shape.getDimensions().x / 2),
-                shape.getPointTopLeft().y + (shape.getDimensions().y / 2),
-                shape.getDimensions().x / 2, shape.getDimensions().y / 2, shape.getColor().getRed(),
-                shape.getColor().getGreen(), shape.getColor().getBlue());
+        sb.append("<ellipse cx=\"");
+        FixedFormat.appendFixed(sb, point.x + (dimensions.x / 2));
+        sb.append("\" cy=\"");
+        FixedFormat.appendFixed(sb, point.y + (dimensions.y / 2));
+        sb.append("\" rx=\"");
+        FixedFormat.appendFixed(sb, dimensions.x / 2);
+        sb.append("\" ry=\"");
+        FixedFormat.appendFixed(sb, dimensions.y / 2);
+        break;
       default:
         throw new IllegalArgumentException("Unsupported shape type.");
     }
+
+    Color color = shape.getColor();
+    sb.append("\" fill=\"rgb(");
+    FixedFormat.appendInt(sb, color.getRed(), 5);
+    sb.append(',');
+    FixedFormat.appendInt(sb, color.getGreen(), 6);
+    sb.append(',');
+    FixedFormat.appendInt(sb, color.getBlue(), 7);
+    sb.append(")\" visibility=\"visible\" >");
   }
 
   /**
-   * Constructs a string representation for a motion using the SVG file format.
+   * Appends the motion between two key frames using the SVG file format to the given string
+   * builder.
    *
-   * @param motion the motion shape
-   * @return a string representation
+   * @param sb the string builder
+   * @param k1 the initial key frame
+   * @param k2 the final key frame
    * @throws IllegalArgumentException if given an unsupported shape for the motion
    */
-  private String motionAsSVG(MotionModel motion) throws IllegalArgumentException {
-    StringBuilder sb = new StringBuilder();
+  private void motionAsSVG(StringBuilder sb, KeyFrameModel k1, KeyFrameModel k2)
+          throws IllegalArgumentException {
+    ShapeModel initialShape = k1.getShape();
+    ShapeModel finalShape = k2.getShape();
+    Point2D.Double initialPoint = initialShape.getPointTopLeft();
+    Point2D.Double finalPoint = finalShape.getPointTopLeft();
+    Point2D.Double initialDimensions = initialShape.getDimensions();
+    Point2D.Double finalDimensions = finalShape.getDimensions();
+    int canvasX = this.model.getCanvas().getX();
+    int canvasY = this.model.getCanvas().getY();
 
-    Shape initialShape = (Shape) motion.getInitial().getShape();
-    Shape finalShape = (Shape) motion.getFinal().getShape();
-
-    double initialTime = motion.getTimeInterval().x * (1 / (double) this.speed);
-    double duration = (motion.getTimeInterval().y - motion.getTimeInterval().x)
-            * (1 / (double) this.speed);
+    double initialTime = k1.getTime() * (1 / (double) this.speed);
+    double duration = (k2.getTime() - k1.getTime()) * (1 / (double) this.speed);
 
     //sets attributes specific to shape type
     switch (initialShape.getType()) {
       case "Rectangle":
-        sb.append(String.format("<animate attributeName=\"%1s\" attributeType=\"XML\""
-                        + " begin=\"%2fs\" dur=\"%3fs\" fill=\"freeze\" from=\"%4f\" to=\"%5f\" />",
-                "x", initialTime, duration,
-                initialShape.getPointTopLeft().x - this.model.getCanvas().getX(),
-                finalShape.getPointTopLeft().x - this.model.getCanvas().getX())).append("\n");
-        sb.append(String.format("<animate attributeName=\"%1s\" attributeType=\"XML\""
-                        + " begin=\"%2fs\" dur=\"%3fs\" fill=\"freeze\" from=\"%4f\" to=\"%5f\" />",
-                "y", initialTime, duration,
-                initialShape.getPointTopLeft().y - this.model.getCanvas().getY(),
-                finalShape.getPointTopLeft().y - this.model.getCanvas().getY())).append("\n");
-        sb.append(String.format("<animate attributeName=\"width\" attributeType=\"XML\""
-                        + " begin=\"%1fs\" dur=\"%2fs\" fill=\"freeze\" from=\"%3f\" to=\"%4f\" />",
-                initialTime, duration, initialShape.getDimensions().x,
-                finalShape.getDimensions().x)).append("\n");
-        sb.append(String.format("<animate attributeName=\"height\" attributeType=\"XML\""
-                        + " begin=\"%1fs\" dur=\"%2fs\" fill=\"freeze\" from=\"%3f\" to=\"%4f\" />",
-                initialTime, duration, initialShape.getDimensions().y,
-                finalShape.getDimensions().y)).append("\n");
+        this.animateAsSVG(sb, "x", initialTime, duration, initialPoint.x - canvasX,
+                finalPoint.x - canvasX);
+        this.animateAsSVG(sb, "y", initialTime, duration, initialPoint.y - canvasY,
+                finalPoint.y - canvasY);
+        this.animateAsSVG(sb, "width", initialTime, duration, initialDimensions.x,
+                finalDimensions.x);
+        this.animateAsSVG(sb, "height", initialTime, duration, initialDimensions.y,
+                finalDimensions.y);
         break;
       case "Ellipse":
-        sb.append(String.format("<animate attributeName=\"%1s\" attributeType=\"XML\""
-                        + " begin=\"%2fs\" dur=\"%3fs\" fill=\"freeze\" from=\"%4f\" to=\"%5f\" />",
-                "cx", initialTime, duration,
-                initialShape.getPointTopLeft().x - this.model.getCanvas().getX()
-                        + (initialShape.getDimensions().x / 2),
-                finalShape.getPointTopLeft().x - this.model.getCanvas().getX()
-                        + (finalShape.getDimensions().x / 2))).append("\n");
-        sb.append(String.format("<animate attributeName=\"%1s\" attributeType=\"XML\""
-                        + " begin=\"%2fs\" dur=\"%3fs\" fill=\"freeze\" from=\"%4f\" to=\"%5f\" />",
-                "cy", initialTime, duration,
-                initialShape.getPointTopLeft().y - this.model.getCanvas().getY()
-                        + (initialShape.getDimensions().y / 2),
-                finalShape.getPointTopLeft().y - this.model.getCanvas().getY()
-                        + (finalShape.getDimensions().y / 2))).append("\n");
-        sb.append(String.format("<animate attributeName=\"rx\" attributeType=\"XML\""
-                        + " begin=\"%1fs\" dur=\"%2fs\" fill=\"freeze\" from=\"%3f\" to=\"%4f\" />",
-                initialTime, duration, initialShape.getDimensions().x / 2,
-                finalShape.getDimensions().x / 2)).append("\n");
-        sb.append(String.format("<animate attributeName=\"ry\" attributeType=\"XML\""
-                        + " begin=\"%1fs\" dur=\"%2fs\" fill=\"freeze\" from=\"%3f\" to=\"%4f\" />",
-                initialTime, duration, initialShape.getDimensions().y / 2,
-                finalShape.getDimensions().y / 2)).append("\n");
+        this.animateAsSVG(sb, "cx", initialTime, duration,
+                initialPoint.x - canvasX + (initialDimensions.x / 2),
+                finalPoint.x - canvasX + (finalDimensions.x / 2));
+        this.animateAsSVG(sb, "cy", initialTime, duration,
+                initialPoint.y - canvasY + (initialDimensions.y / 2),
+                finalPoint.y - canvasY + (finalDimensions.y / 2));
+        this.animateAsSVG(sb, "rx", initialTime, duration, initialDimensions.x / 2,
+                finalDimensions.x / 2);
+        this.animateAsSVG(sb, "ry", initialTime, duration, initialDimensions.y / 2,
+                finalDimensions.y / 2);
         break;
       default:
         throw new IllegalArgumentException("Unsupported shape type.");
     }
 
-    sb.append(String.format("<animate attributeName=\"fill\" attributeType=\"CSS\""
-                    + " from=\"rgb(%1d,%2d,%3d)\" to =\"rgb(%4d,%5d,%6d)\""
-                    + " begin = \"%7fs\" dur = \"%8fs\" fill = \"freeze\" />",
-            initialShape.getColor().getRed(), initialShape.getColor().getGreen(),
-            initialShape.getColor().getBlue(), finalShape.getColor().getRed(),
-            finalShape.getColor().getGreen(), finalShape.getColor().getBlue(),
-            initialTime, duration)).append("\n");
-
-    sb.append(String.format("<animateTransform attributeName=\"transform\" attributeType=\"XML\""
-                    + " type=\"rotate\" from=\"%1f %2f %3f\" to=\"%4f %5f %6f\" dur=\"%7fs\""
-                    + " repeatCount=\"0\"/>",
-            initialShape.getTheta(),
-            initialShape.getPointTopLeft().x + initialShape.getDimensions().x / 2,
-            initialShape.getPointTopLeft().y + initialShape.getDimensions().y / 2,
-            finalShape.getTheta(),
-            finalShape.getPointTopLeft().x + finalShape.getDimensions().x / 2,
-            finalShape.getPointTopLeft().y + finalShape.getDimensions().y / 2,
-            duration)).append("\n");
-
-    return sb.toString();
+    Color initialColor = initialShape.getColor();
+    Color finalColor = finalShape.getColor();
+    sb.append("<animate attributeName=\"fill\" attributeType=\"CSS\" from=\"rgb(");
+    FixedFormat.appendInt(sb, initialColor.getRed(), 1);
+    sb.append(',');
+    FixedFormat.appendInt(sb, initialColor.getGreen(), 2);
+    sb.append(',');
+    FixedFormat.appendInt(sb, initialColor.getBlue(), 3);
+    sb.append(")\" to =\"rgb(");
+    FixedFormat.appendInt(sb, finalColor.getRed(), 4);
+    sb.append(',');
+    FixedFormat.appendInt(sb, finalColor.getGreen(), 5);
+    sb.append(',');
+    FixedFormat.appendInt(sb, finalColor.getBlue(), 6);
+    sb.append(")\" begin = \"");
+    FixedFormat.appendFixed(sb, initialTime);
+    sb.append("s\" dur = \"");
+    FixedFormat.appendFixed(sb, duration);
+    sb.append("s\" fill = \"freeze\" />\n");
+
+    sb.append("<animateTransform attributeName=\"transform\" attributeType=\"XML\""
+            + " type=\"rotate\" from=\"");
+    FixedFormat.appendFixed(sb, initialShape.getTheta());
+    sb.append(' ');
+    FixedFormat.appendFixed(sb, initialPoint.x + initialDimensions.x / 2);
+    sb.append(' ');
+    FixedFormat.appendFixed(sb, initialPoint.y + initialDimensions.y / 2);
+    sb.append("\" to=\"");
+    FixedFormat.appendFixed(sb, finalShape.getTheta());
+    sb.append(' ');
+    FixedFormat.appendFixed(sb, finalPoint.x + finalDimensions.x / 2);
+    sb.append(' ');
+    FixedFormat.appendFixed(sb, finalPoint.y + finalDimensions.y / 2);
+    sb.append("\" dur=\"");
+    FixedFormat.appendFixed(sb, duration);
+    sb.append("s\" repeatCount=\"0\"/>\n");
+  }
+
+  /**
+   * Appends an animation of a single XML attribute using the SVG file format to the given string
+   * builder.
+   *
+   * @param sb          the string builder
+   * @param attribute   the name of the attribute
+   * @param initialTime the time the animation begins, in seconds
+   * @param duration    the duration of the animation, in seconds
+   * @param from        the initial value of the attribute
+   * @param to          the final value of the attribute
+   */
+  private void animateAsSVG(StringBuilder sb, String attribute, double initialTime,
+                            double duration, double from, double to) {
+    sb.append("<animate attributeName=\"").append(attribute)
+            .append("\" attributeType=\"XML\" begin=\"");
+    FixedFormat.appendFixed(sb, initialTime);
+    sb.append("s\" dur=\"");
+    FixedFormat.appendFixed(sb, duration);
+    sb.append("s\" fill=\"freeze\" from=\"");
+    FixedFormat.appendFixed(sb, from);
+    sb.append("\" to=\"");
+    FixedFormat.appendFixed(sb, to);
+    sb.append("\" />\n");
   }
 }
@@ -1,15 +1,11 @@
 package cs3500.animator.view;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Map;
 
 import javax.swing.Timer;
 
 import cs3500.animator.model.ImmutableModel;
-import cs3500.animator.model.KeyFrameModel;
-import cs3500.animator.model.Motion;
-import cs3500.animator.model.ShapeModel;
+import cs3500.animator.model.TextExporter;
 
 /**
  * A text based view of the shapes and animations of an animation model.
@@ -37,33 +33,9 @@ public class TextView implements View {
 
   @Override
   public void makeVisible() throws IllegalStateException {
-    StringBuilder sb = new StringBuilder();
-
-    //Stores shape and animation information in a string builder
-    for (Map.Entry<ShapeModel, ArrayList<KeyFrameModel>> entry :
-            this.model.getShapeKeyFrameRepresentation().entrySet()) {
-      ShapeModel shape = entry.getKey();
-      ArrayList<KeyFrameModel> value = entry.getValue();
-
-      sb.append("Shape ").append(shape.getKey()).append(" ")
-              .append(shape.getType()).append("\n");
-      for (int i = 0; i < value.size() - 1; i++) {
-        sb.append(new Motion(value.get(i), value.get(i + 1)).toString());
-      }
-      sb.append("\n");
-    }
-
-    //removes the last 2 \n characters
-    for (int i = 0; i < 2; i++) {
-      int last = sb.lastIndexOf("\n");
-      if (last >= 0) {
-        sb.delete(last, sb.length());
-      }
-    }
-
-    //tries to append the string builder's information onto the appendable object.
+    //tries to write the shape and animation information onto the appendable object
     try {
-      ap.append(sb.toString());
+      TextExporter.write(this.model.getShapeKeyFrameRepresentation(), this.ap);
     } catch (IOException e) {
       throw new IllegalStateException("Unable to successfully transmit output.");
     }
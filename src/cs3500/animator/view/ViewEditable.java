@@ -115,11 +115,13 @@ public interface ViewEditable extends View {
 
   /**
    * Opens a popup that prompts the user to select a file type and location, returning the view's
-   * type and path if it can be found.
+   * type and the path of the file. The file isn't opened, so a save already running to it isn't
+   * interrupted.
    *
-   * @return the view type and out location as a hash map
+   * @return the view type and file path as a hash map, where an empty path saves to the console
+   *         and a null type means the popup was closed
    */
-  HashMap<String, Appendable> savePopup();
+  HashMap<String, String> savePopup();
 
   /**
    * Opens a popup that prompts the user to select a file type and location, saving the view if the
@@ -1,5 +1,8 @@
 package cs3500.animator.view;
 
+import java.io.File;
+import java.io.OutputStream;
+
 import cs3500.animator.model.ImmutableModel;
 
 /**
@@ -33,10 +36,112 @@ public class ViewFactory {
         return new VisualView(model, speed);
       case "svg":
         return new SVGView(model, out, speed);
+      case "svg-parallel":
+        return new ParallelSVGView(model, out, speed);
+      case "visual-threaded":
+        return new VisualView(model, speed, true);
       case "edit":
         return new VisualViewEditable(new VisualView(model, speed));
+      case "edit-threaded":
+        return new VisualViewEditable(new VisualView(model, speed, true));
+      default:
+        throw new IllegalArgumentException("Invalid view type.");
+    }
+  }
+
+  /**
+   * Creates a specific view that writes bytes rather than text based on the type, using the other
+   * fields given to instantiate it.
+   *
+   * @param type  the type of view
+   * @param model an immutable model
+   * @param out   the output stream
+   * @param range the range of ticks to render for views writing frames, or null to render every
+   *              tick of the animation
+   * @param speed the speed of the animation
+   * @return a view
+   * @throws IllegalArgumentException if any null inputs are given, if given an invalid view type,
+   *                                  or if speed isn't greater than zero
+   */
+  public static View getStreamView(String type, ImmutableModel model, OutputStream out,
+                                   FrameRange range, int speed) throws IllegalArgumentException {
+    if (type == null || model == null || out == null) {
+      throw new IllegalArgumentException("View type, model, and output stream can't be null.");
+    } else if (speed <= 0) {
+      throw new IllegalArgumentException("Speed must be greater than zero.");
+    }
+
+    switch (type) {
+      case "bin":
+        return new BinaryView(model, out);
+      case "y4m":
+        return new Y4MView(model, out, range, speed);
+      default:
+        throw new IllegalArgumentException("Invalid view type.");
+    }
+  }
+
+  /**
+   * Returns true if the given type of view writes bytes, so must be created with {@link
+   * #getStreamView} rather than {@link #getView}.
+   *
+   * @param type the type of view
+   * @return if the view writes bytes
+   */
+  public static boolean isStreamView(String type) {
+    return "bin".equals(type) || "y4m".equals(type);
+  }
+
+  /**
+   * Creates a specific view that renders frames of the animation offscreen to the given file or
+   * directory based on the type, using the other fields given to instantiate it.
+   *
+   * @param type  the type of view
+   * @param model an immutable model
+   * @param out   the file or directory frames are written to
+   * @param range the range of ticks to render, or null to render every tick of the animation
+   * @param speed the speed of the animation
+   * @return a view
+   * @throws IllegalArgumentException if the type, model, or output is null, if given an invalid
+   *                                  view type, or if speed isn't greater than zero
+   */
+  public static View getFrameView(String type, ImmutableModel model, File out, FrameRange range,
+                                  int speed) throws IllegalArgumentException {
+    if (type == null || model == null || out == null) {
+      throw new IllegalArgumentException("View type, model, and output file can't be null.");
+    } else if (speed <= 0) {
+      throw new IllegalArgumentException("Speed must be greater than zero.");
+    }
+
+    switch (type) {
+      case "png":
+        return new PNGView(model, out, range);
+      case "gif":
+        return new GIFView(model, out, range, speed);
       default:
         throw new IllegalArgumentException("Invalid view type.");
     }
   }
+
+  /**
+   * Returns true if the given type of view renders frames to a file or directory, so must be
+   * created with {@link #getFrameView} rather than {@link #getView}.
+   *
+   * @param type the type of view
+   * @return if the view renders frames
+   */
+  public static boolean isFrameView(String type) {
+    return "png".equals(type) || "gif".equals(type);
+  }
+
+  /**
+   * Returns true if the given type of view lets the user edit the animation, so it's model is
+   * changed while the view displays it.
+   *
+   * @param type the type of view
+   * @return if the view edits the animation
+   */
+  public static boolean isEditView(String type) {
+    return "edit".equals(type) || "edit-threaded".equals(type);
+  }
 }
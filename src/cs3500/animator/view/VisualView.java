@@ -26,13 +26,30 @@ public class VisualView extends JFrame implements View {
    *                                  zero
    */
   public VisualView(ImmutableModel model, int ticksPerSecond) throws IllegalArgumentException {
+    this(model, ticksPerSecond, false);
+  }
+
+  /**
+   * Constructor takes in an immutable animation model, and whether frames are drawn by a dedicated
+   * render thread, so that drawing large animations doesn't hold up the rest of the window. Assumes
+   * that the user specified a canvas when building the model.
+   *
+   * @param model          the immutable animation model
+   * @param ticksPerSecond the speed of the animation
+   * @param renderThread   if frames are drawn by a render thread rather than while painting
+   * @throws IllegalArgumentException if the model is null or ticks per second is not greater than
+   *                                  zero
+   */
+  public VisualView(ImmutableModel model, int ticksPerSecond, boolean renderThread)
+          throws IllegalArgumentException {
     if (model == null) {
       throw new IllegalArgumentException("Model can't be null.");
     } else if (ticksPerSecond <= 0) {
       throw new IllegalArgumentException("Ticks per second must be greater than zero");
     }
 
-    this.animationPanel = new AnimationPanel(model);
+    this.animationPanel = renderThread ? new BufferedAnimationPanel(model, ticksPerSecond)
+            : new AnimationPanel(model, ticksPerSecond);
     this.ticksPerSecond = ticksPerSecond;
 
     this.animationPanel.setPreferredSize(new Dimension(model.getCanvas().getWidth(),
@@ -3,8 +3,6 @@ package cs3500.animator.view;
 import java.awt.Dimension;
 import java.awt.Component;
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -75,6 +73,8 @@ public class VisualViewEditable extends JFrame implements ViewEditable {
 
   private JButton saveAnimation;
   private JButton loadFile;
+  private JButton cancelSave;
+  private JButton cancelLoad;
 
   private JPanel undoRedoPanel;
   private JButton undo;
@@ -122,9 +122,13 @@ public class VisualViewEditable extends JFrame implements ViewEditable {
 
     this.saveAnimation = new JButton("Save Animation");
     this.loadFile = new JButton("Load File");
+    this.cancelSave = new JButton("Cancel Save");
+    this.cancelLoad = new JButton("Cancel Load");
 
     saveAndLoadPanel.add(this.saveAnimation);
+    saveAndLoadPanel.add(this.cancelSave);
     saveAndLoadPanel.add(this.loadFile);
+    saveAndLoadPanel.add(this.cancelLoad);
 
     this.setTimePanel();
     this.setSpeedPanel();
@@ -383,17 +387,14 @@ public class VisualViewEditable extends JFrame implements ViewEditable {
 
   @Override
   public void applyModelUpdate(ImmutableModel model) {
-    this.animationPanel.model = model;
-    this.animationPanel.repaint();
+    this.animationPanel.setModel(model);
   }
 
   @Override
   public void applyAnimationUpdate(int ticksPerSecond, State state, EndOperation endOperation)
           throws UnsupportedOperationException {
     this.ticksPerSecond = ticksPerSecond;
-    this.animationPanel.state = state;
-    this.animationPanel.endOperation = endOperation;
-    this.animationPanel.repaint();
+    this.animationPanel.setAnimation(ticksPerSecond, state, endOperation);
   }
 
   @Override
@@ -416,7 +417,7 @@ public class VisualViewEditable extends JFrame implements ViewEditable {
 
   @Override
   public void setTime(int time) {
-    this.animationPanel.time = time;
+    this.animationPanel.setTime(time);
   }
 
   @Override
@@ -448,6 +449,8 @@ public class VisualViewEditable extends JFrame implements ViewEditable {
     this.timeSlider.addChangeListener(listener);
     this.saveAnimation.addActionListener(listener);
     this.loadFile.addActionListener(listener);
+    this.cancelSave.addActionListener(listener);
+    this.cancelLoad.addActionListener(listener);
 
     this.undo.addActionListener(listener);
     this.redo.addActionListener(listener);
@@ -618,7 +621,7 @@ public class VisualViewEditable extends JFrame implements ViewEditable {
   }
 
   @Override
-  public HashMap<String, Appendable> savePopup() {
+  public HashMap<String, String> savePopup() {
     JPanel popupMenu = new JPanel();
     popupMenu.setLayout(new BoxLayout(popupMenu, BoxLayout.Y_AXIS));
 
@@ -641,24 +644,14 @@ public class VisualViewEditable extends JFrame implements ViewEditable {
             JOptionPane.DEFAULT_OPTION,
             JOptionPane.UNDEFINED_CONDITION, null, null, null);
 
-    //sets out
-    Appendable out = System.out;
-    if (!giveName.getText().equals("")) {
-      try {
-        out = new FileWriter(new File(giveName.getText()));
-      } catch (IOException ignore) {
-        out = null;
-      }
-    }
-
-    //Sets the return map to the type and out
-    HashMap<String, Appendable> map = new HashMap<>();
+    //Sets the return map to the type and path, which isn't opened until the save runs
+    HashMap<String, String> map = new HashMap<>();
     if (j == -1) {
-      map.put(null, out);
+      map.put(null, giveName.getText());
     } else if (fileType.getSelectedItem().equals("Svg")) {
-      map.put("Svg", out);
+      map.put("Svg", giveName.getText());
     } else {
-      map.put("Text", out);
+      map.put("Text", giveName.getText());
     }
     return map;
   }
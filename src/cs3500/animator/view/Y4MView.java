@@ -0,0 +1,145 @@
+package cs3500.animator.view;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.swing.Timer;
+
+import cs3500.animator.model.FrameBuffer;
+import cs3500.animator.model.ImmutableModel;
+
+/**
+ * Represents an animation drawn offscreen and written as uncompressed YUV4MPEG2 video, so that it
+ * can be piped into an external video encoder. Frames are drawn the same way as by a {@link
+ * VisualView} and converted to full resolution BT.601 studio range YUV, written as the Y, U, and V
+ * planes of each frame in turn. One image, frame, and plane buffer are reused for every frame.
+ */
+public class Y4MView implements View {
+
+  //represents the header of each frame
+  private static final byte[] FRAME = "FRAME\n".getBytes(StandardCharsets.US_ASCII);
+
+  private ImmutableModel model;
+  private OutputStream out;
+  private FrameRange range;
+  private int speed;
+
+  /**
+   * Constructor initializes a new Y4M view given an immutable model, an output stream, the range
+   * of ticks to render, and the speed of the animation.
+   *
+   * @param model an immutable model
+   * @param out   an output stream
+   * @param range the range of ticks to render, or null to render every tick of the animation
+   * @param speed the speed of the animation in ticks per second
+   * @throws IllegalArgumentException if the model or output stream is null, or speed isn't greater
+   *                                  than zero
+   */
+  public Y4MView(ImmutableModel model, OutputStream out, FrameRange range, int speed)
+          throws IllegalArgumentException {
+    if (model == null || out == null) {
+      throw new IllegalArgumentException("Model and output stream can't be null.");
+    } else if (speed <= 0) {
+      throw new IllegalArgumentException("Speed must be greater than zero.");
+    }
+
+    this.model = model;
+    this.out = out;
+    this.range = range == null ? new FrameRange(0, Integer.MAX_VALUE, 1) : range;
+    this.speed = speed;
+  }
+
+  @Override
+  public void makeVisible() throws IllegalStateException {
+    int width = this.model.getCanvas().getWidth();
+    int height = this.model.getCanvas().getHeight();
+
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    byte[] planes = new byte[pixels.length * 3];
+    Graphics2D g2d = image.createGraphics();
+    FrameBuffer frame = new FrameBuffer();
+    FrameRenderer renderer = new FrameRenderer();
+
+    try {
+      this.out.write(this.header(width, height).getBytes(StandardCharsets.US_ASCII));
+
+      int count = this.range.count(this.model.getEndTime());
+      for (int i = 0; i < count; i++) {
+        this.model.getFrame(this.range.getTick(i), frame);
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, width, height);
+        renderer.paint(g2d, frame, this.model.getCanvas());
+
+        toYUV(pixels, planes);
+        this.out.write(FRAME);
+        this.out.write(planes);
+      }
+      this.out.flush();
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to successfully transmit output.");
+    } finally {
+      g2d.dispose();
+    }
+  }
+
+  @Override
+  public void animate(Timer timer) throws UnsupportedOperationException {
+    throw new UnsupportedOperationException("Y4M view has no graphical display to animate on.");
+  }
+
+  /**
+   * Builds the stream header, giving the frame rate as the speed over the stride in lowest terms.
+   *
+   * @param width  the width of a frame
+   * @param height the height of a frame
+   * @return the header
+   */
+  String header(int width, int height) {
+    int stride = this.range.getStride();
+    int gcd = gcd(this.speed, stride);
+    return "YUV4MPEG2 W" + width + " H" + height + " F" + (this.speed / gcd) + ":"
+            + (stride / gcd) + " Ip A1:1 C444\n";
+  }
+
+  /**
+   * Converts the given packed 0xRRGGBB pixels to planar YUV, writing every Y sample, then every U
+   * sample, then every V sample.
+   *
+   * @param pixels the pixels
+   * @param planes the array the planes are written to, three times as long as the pixels
+   */
+  static void toYUV(int[] pixels, byte[] planes) {
+    int n = pixels.length;
+    for (int i = 0; i < n; i++) {
+      int rgb = pixels[i];
+      int r = rgb >> 16 & 0xFF;
+      int g = rgb >> 8 & 0xFF;
+      int b = rgb & 0xFF;
+      planes[i] = (byte) (((66 * r + 129 * g + 25 * b + 128) >> 8) + 16);
+      planes[n + i] = (byte) (((-38 * r - 74 * g + 112 * b + 128) >> 8) + 128);
+      planes[n + n + i] = (byte) (((112 * r - 94 * g - 18 * b + 128) >> 8) + 128);
+    }
+  }
+
+  /**
+   * Gets the greatest common divisor of the given positive integers.
+   *
+   * @param a the first integer
+   * @param b the second integer
+   * @return the greatest common divisor
+   */
+  private static int gcd(int a, int b) {
+    while (b != 0) {
+      int t = a % b;
+      a = b;
+      b = t;
+    }
+    return a;
+  }
+}
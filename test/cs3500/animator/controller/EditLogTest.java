@@ -0,0 +1,350 @@
+package cs3500.animator.controller;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import cs3500.animator.model.Animation;
+import cs3500.animator.model.AnimationModel;
+import cs3500.animator.model.ColumnarAnimation;
+import cs3500.animator.model.Ellipse;
+import cs3500.animator.model.KeyFrame;
+import cs3500.animator.model.KeyFrameModel;
+import cs3500.animator.model.Rectangle;
+import cs3500.animator.model.Shape;
+import cs3500.animator.util.AnimationReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Represents tests for the edit log and the edits it records, which should undo and redo edits to
+ * a model exactly.
+ */
+public class EditLogTest {
+
+  private AnimationModel model;
+  private EditLog log;
+
+  //represents the string representation of the model before any edits
+  private String original;
+
+  /**
+   * Initializes private variables by reading a sample file into a new model.
+   *
+   * @param columnar if the model is a columnar animation rather than an animation
+   */
+  private void init(boolean columnar) {
+    try {
+      if (columnar) {
+        this.model = AnimationReader.parseFile(new FileReader("samples/toh-3.txt"),
+                new ColumnarAnimation.Builder());
+      } else {
+        this.model = AnimationReader.parseFile(new FileReader("samples/toh-3.txt"),
+                new Animation.Builder());
+      }
+    } catch (FileNotFoundException e) {
+      throw new IllegalStateException("Sample file not found.");
+    }
+    this.log = new EditLog();
+    this.original = this.model.getStringRepresentation();
+  }
+
+  /**
+   * Undoes every edit in the log, checking the model is back to it's original state, then redoes
+   * every edit, checking the model is back to the given state.
+   *
+   * @param edited the string representation of the model after every edit
+   */
+  private void assertUndoRedo(String edited) {
+    assertEquals(edited, this.model.getStringRepresentation());
+    while (this.log.canUndo()) {
+      this.model = this.log.undo(this.model);
+    }
+    assertEquals(this.original, this.model.getStringRepresentation());
+    while (this.log.canRedo()) {
+      this.model = this.log.redo(this.model);
+    }
+    assertEquals(edited, this.model.getStringRepresentation());
+  }
+
+  @Test
+  public void testAddShape() {
+    this.init(false);
+    Ellipse e = new Ellipse(new Shape.ShapeBuilder().setKey("new"));
+    this.log.record(ShapeEdit.apply(this.model, Collections.singletonList("new"),
+            m -> m.addShape(e)));
+    KeyFrame k = new KeyFrame(3, e);
+    this.model.addKeyFrame("new", k);
+    this.log.record(new KeyFrameEdit("new", null, k));
+
+    assertEquals(4, this.model.getShapes().size());
+    this.assertUndoRedo(this.model.getStringRepresentation());
+  }
+
+  @Test
+  public void testRemoveShape() {
+    for (boolean columnar : Arrays.asList(false, true)) {
+      this.init(columnar);
+      this.log.record(ShapeEdit.apply(this.model, Collections.singletonList("disk2"),
+              m -> m.removeShape("disk2")));
+
+      assertEquals(2, this.model.getShapes().size());
+      this.assertUndoRedo(this.model.getStringRepresentation());
+    }
+  }
+
+  @Test
+  public void testRemoveShapeRestoresPosition() {
+    this.init(false);
+    this.log.record(ShapeEdit.apply(this.model, Collections.singletonList("disk2"),
+            m -> m.removeShape("disk2")));
+    this.model = this.log.undo(this.model);
+
+    assertEquals("disk1", this.model.getShapes().get(0).getKey());
+    assertEquals("disk2", this.model.getShapes().get(1).getKey());
+    assertEquals("disk3", this.model.getShapes().get(2).getKey());
+    assertEquals(this.original, this.model.getStringRepresentation());
+  }
+
+  @Test
+  public void testLayers() {
+    for (boolean columnar : Arrays.asList(false, true)) {
+      this.init(columnar);
+      this.log.record(ShapeEdit.apply(this.model, Collections.singletonList("disk1"),
+              m -> m.addShapeToLayer("disk1", 3)));
+      this.log.record(ShapeEdit.apply(this.model, ShapeEdit.keysOnLayer(this.model, 0),
+              m -> m.reorderLayer(0, 2)));
+      assertEquals(3, this.model.getShapes().get(2).getLayer());
+      assertEquals(2, this.model.getShapes().get(0).getLayer());
+
+      this.log.record(ShapeEdit.apply(this.model, ShapeEdit.keysOnLayer(this.model, 2),
+              m -> m.deleteLayer(2)));
+      assertEquals(1, this.model.getShapes().size());
+
+      String edited = this.model.getStringRepresentation();
+      this.model = this.log.undo(this.model);
+      this.model = this.log.undo(this.model);
+      this.model = this.log.undo(this.model);
+      assertEquals(0, this.model.getShapes().get(0).getLayer());
+      assertEquals("disk1", this.model.getShapes().get(0).getKey());
+
+      while (this.log.canRedo()) {
+        this.model = this.log.redo(this.model);
+      }
+      this.assertUndoRedo(edited);
+    }
+  }
+
+  @Test
+  public void testKeyFrames() {
+    for (boolean columnar : Arrays.asList(false, true)) {
+      this.init(columnar);
+      KeyFrameModel first = this.model.getKeyFrames("disk1").get(0);
+      Rectangle r = new Rectangle(new Shape.ShapeBuilder().setKey("disk1").setX(5).setY(5));
+      KeyFrameModel modified = new KeyFrame(first.getTime(), r);
+      KeyFrameModel added = new KeyFrame(500, r);
+
+      this.model.addKeyFrame("disk1", added);
+      this.log.record(new KeyFrameEdit("disk1", null, added));
+      this.model.removeKeyFrame("disk1", first);
+      this.model.addKeyFrame("disk1", modified);
+      this.log.record(new KeyFrameEdit("disk1", first, modified));
+      KeyFrameModel last = this.model.getKeyFrames("disk3").get(1);
+      this.model.removeKeyFrame("disk3", last);
+      this.log.record(new KeyFrameEdit("disk3", last, null));
+
+      assertEquals(500, this.model.getEndTime());
+      this.assertUndoRedo(this.model.getStringRepresentation());
+    }
+  }
+
+  @Test
+  public void testModelEdit() {
+    this.init(false);
+    AnimationModel loaded = new Animation();
+    this.log.record(new ModelEdit(this.model, loaded));
+
+    assertSame(this.model, this.log.undo(loaded));
+    assertEquals(loaded.getStringRepresentation(),
+            this.log.redo(this.model).getStringRepresentation());
+  }
+
+  @Test
+  public void testCompressedEdits() {
+    for (boolean columnar : Arrays.asList(false, true)) {
+      this.init(columnar);
+      //keeps no recent edits, so every edit is compressed as soon as it's recorded
+      this.log = new EditLog(0, 100, 1L << 20);
+
+      KeyFrameModel first = this.model.getKeyFrames("disk1").get(0);
+      KeyFrameModel modified = new KeyFrame(first.getTime(),
+              new Rectangle(new Shape.ShapeBuilder().setKey("disk1").setX(5.25).setY(5)));
+      this.model.removeKeyFrame("disk1", first);
+      this.model.addKeyFrame("disk1", modified);
+      this.log.record(new KeyFrameEdit("disk1", first, modified));
+      this.log.record(ShapeEdit.apply(this.model, Collections.singletonList("disk2"),
+              m -> m.removeShape("disk2")));
+      this.log.record(ShapeEdit.apply(this.model, ShapeEdit.keysOnLayer(this.model, 0),
+              m -> m.reorderLayer(0, 2)));
+
+      this.assertUndoRedo(this.model.getStringRepresentation());
+    }
+  }
+
+  @Test
+  public void testModelEditNotCompressed() {
+    this.init(false);
+    this.log = new EditLog(0, 100, 1L << 30);
+    AnimationModel previous = this.model;
+    this.model = new Animation();
+    this.log.record(new ModelEdit(previous, this.model));
+    this.log.record(ShapeEdit.apply(this.model, Collections.singletonList("new"),
+            m -> m.addShape(new Ellipse(new Shape.ShapeBuilder().setKey("new")))));
+
+    //a compressed edit would read back a new model rather than the one replaced
+    this.model = this.log.undo(this.model);
+    assertSame(previous, this.log.undo(this.model));
+  }
+
+  @Test
+  public void testCompressedModelEdit() {
+    this.init(false);
+    Edit edit = CompressedEdit.compress(new ModelEdit(this.model, new Animation()));
+
+    AnimationModel loaded = edit.redo(this.model);
+    assertEquals(0, loaded.getShapes().size());
+    assertEquals(this.original, edit.undo(loaded).getStringRepresentation());
+  }
+
+  @Test
+  public void testCompressedEditSmaller() {
+    this.init(false);
+    Edit edit = ShapeEdit.apply(this.model, Collections.singletonList("disk1"),
+            m -> m.removeShape("disk1"));
+
+    assertTrue(CompressedEdit.compress(edit).getSize() < edit.getSize());
+  }
+
+  @Test
+  public void testDepthLimit() {
+    this.init(false);
+    this.log = new EditLog(1, 2, 1L << 20);
+    for (String key : Arrays.asList("disk1", "disk2", "disk3")) {
+      this.log.record(ShapeEdit.apply(this.model, Collections.singletonList(key),
+              m -> m.removeShape(key)));
+    }
+    assertEquals(2, this.log.getDepth());
+
+    this.model = this.log.undo(this.model);
+    this.model = this.log.undo(this.model);
+    assertFalse(this.log.canUndo());
+    assertEquals(2, this.model.getShapes().size());
+    assertEquals("disk2", this.model.getShapes().get(0).getKey());
+  }
+
+  @Test
+  public void testBudgetLimit() {
+    this.init(false);
+    Rectangle r = new Rectangle(new Shape.ShapeBuilder().setKey("disk1"));
+    this.log = new EditLog(10, 100, 2 * EditCodec.KEY_FRAME_SIZE);
+    for (int i = 0; i < 5; i++) {
+      KeyFrame k = new KeyFrame(500 + i, r);
+      this.model.addKeyFrame("disk1", k);
+      this.log.record(new KeyFrameEdit("disk1", null, k));
+    }
+    assertEquals(2, this.log.getDepth());
+    assertTrue(this.log.getSize() <= 2 * EditCodec.KEY_FRAME_SIZE);
+
+    //the most recent edit is kept even when it's over the budget on it's own
+    this.log = new EditLog(10, 100, 1);
+    this.log.record(new KeyFrameEdit("disk1", null, new KeyFrame(600, r)));
+    assertEquals(1, this.log.getDepth());
+  }
+
+  @Test
+  public void testRecordClearsRedo() {
+    this.init(false);
+    assertFalse(this.log.canUndo());
+    this.log.record(ShapeEdit.apply(this.model, Collections.singletonList("disk1"),
+            m -> m.removeShape("disk1")));
+    assertTrue(this.log.canUndo());
+
+    this.model = this.log.undo(this.model);
+    assertFalse(this.log.canUndo());
+    assertTrue(this.log.canRedo());
+
+    this.log.record(ShapeEdit.apply(this.model, Collections.singletonList("disk2"),
+            m -> m.removeShape("disk2")));
+    assertFalse(this.log.canRedo());
+    assertEquals("disk1", this.model.getShapes().get(0).getKey());
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testUndoEmpty() {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("No undo history.");
+    this.init(false);
+    this.log.undo(this.model);
+  }
+
+  @Test
+  public void testRedoEmpty() {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("No redo history.");
+    this.init(false);
+    this.log.redo(this.model);
+  }
+
+  @Test
+  public void testFailedEditNotRecorded() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("The given key doesn't exist.");
+    this.init(false);
+    try {
+      this.log.record(ShapeEdit.apply(this.model, Collections.singletonList("none"),
+              m -> m.removeShape("none")));
+    } finally {
+      assertFalse(this.log.canUndo());
+    }
+  }
+
+  @Test
+  public void testFailedUndoKeepsHistory() {
+    thrown.expect(IllegalArgumentException.class);
+    this.init(false);
+    this.log.record(new KeyFrameEdit("none", null,
+            new KeyFrame(3, new Ellipse(new Shape.ShapeBuilder().setKey("none")))));
+    try {
+      this.log.undo(this.model);
+    } finally {
+      assertTrue(this.log.canUndo());
+      assertFalse(this.log.canRedo());
+      assertEquals(1, this.log.getDepth());
+    }
+  }
+
+  @Test
+  public void testEditLogNoDepth() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Depth and budget must be greater than zero.");
+    new EditLog(1, 0, 1);
+  }
+
+  @Test
+  public void testKeyFrameEditNoFrames() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Removed and added key frames can't both be null.");
+    new KeyFrameEdit("disk1", null, null);
+  }
+}
@@ -0,0 +1,171 @@
+package cs3500.animator.controller;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import cs3500.animator.model.Animation;
+import cs3500.animator.model.AnimationModel;
+import cs3500.animator.model.PersistentAnimation;
+import cs3500.animator.util.AnimationReader;
+import cs3500.animator.view.ViewEditable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Represents tests for loading an animation in the background, which should load the same
+ * animation as parsing the file directly, and give no animation when the load is cancelled or
+ * fails.
+ */
+public class LoadTaskTest {
+
+  //represents the messages displayed to the user, in order
+  private ArrayList<String> messages;
+  private ViewEditable view;
+
+  //represents the animation given once the file is loaded, or null if none was given
+  private AnimationModel loaded;
+
+  /**
+   * Initializes private variables, creating an editor that only records the messages it's given.
+   */
+  private void init() {
+    this.messages = new ArrayList<>();
+    this.loaded = null;
+    InvocationHandler handler = (proxy, method, args) -> {
+      if (method.getName().equals("displayMessage")) {
+        this.messages.add((String) args[0]);
+      }
+      return null;
+    };
+    this.view = (ViewEditable) Proxy.newProxyInstance(ViewEditable.class.getClassLoader(),
+            new Class<?>[]{ViewEditable.class}, handler);
+  }
+
+  /**
+   * Runs a load of the given file, waiting until it's done and it's messages have been displayed.
+   *
+   * @param file   the file
+   * @param cancel if the load is cancelled before it starts
+   */
+  private void load(File file, boolean cancel) {
+    CountDownLatch done = new CountDownLatch(1);
+    LoadTask load = new LoadTask(file, this.view, m -> this.loaded = m, done::countDown);
+    if (cancel) {
+      load.cancel(false);
+    }
+    load.execute();
+
+    try {
+      assertTrue(done.await(30, TimeUnit.SECONDS));
+      SwingUtilities.invokeAndWait(() -> { });
+    } catch (Exception e) {
+      throw new IllegalStateException("Load didn't finish.");
+    }
+  }
+
+  /**
+   * Parses the given file directly.
+   *
+   * @param file the path of the file
+   * @return the string representation of the animation
+   */
+  private static String parse(String file) {
+    try {
+      return AnimationReader.parseFile(new FileReader(file), new Animation.Builder())
+              .getStringRepresentation();
+    } catch (FileNotFoundException e) {
+      throw new IllegalStateException("Sample file not found.");
+    }
+  }
+
+  @Test
+  public void testLoad() {
+    this.init();
+    this.load(new File("samples/toh-3.txt"), false);
+
+    assertTrue(this.loaded instanceof PersistentAnimation);
+    assertEquals(parse("samples/toh-3.txt"), this.loaded.getStringRepresentation());
+  }
+
+  @Test
+  public void testLoadReportsProgress() {
+    this.init();
+    this.load(new File("samples/big-bang-big-crunch.txt"), false);
+
+    assertEquals(parse("samples/big-bang-big-crunch.txt"),
+            this.loaded.getStringRepresentation());
+    //reports of progress are combined and displayed after a short delay, which may be after the
+    //load is done
+    boolean reported = false;
+    for (int i = 0; i < 100 && !reported; i++) {
+      try {
+        Thread.sleep(10);
+        SwingUtilities.invokeAndWait(() -> { });
+      } catch (Exception e) {
+        throw new IllegalStateException("Progress wasn't reported.");
+      }
+      for (String message : this.messages) {
+        reported |= message.matches("Loading big-bang-big-crunch.txt, [0-9]+ lines parsed");
+      }
+    }
+    assertTrue(reported);
+  }
+
+  @Test
+  public void testCancel() {
+    this.init();
+    this.load(new File("samples/toh-12.txt"), true);
+
+    assertNull(this.loaded);
+    assertEquals("File load cancelled", this.messages.get(this.messages.size() - 1));
+  }
+
+  @Test
+  public void testMissingFile() {
+    this.init();
+    this.load(new File("samples/missing.txt"), false);
+
+    assertNull(this.loaded);
+    assertEquals("Specified file not found.", this.messages.get(this.messages.size() - 1));
+  }
+
+  @Test
+  public void testMalformedFile() throws IOException {
+    this.init();
+    File file = File.createTempFile("load", ".txt");
+    file.deleteOnExit();
+    Files.write(file.toPath(), "shape disk1 rectangle\nunknown".getBytes(StandardCharsets.UTF_8));
+    this.load(file, false);
+
+    assertNull(this.loaded);
+    assertTrue(this.messages.get(this.messages.size() - 1).startsWith("Unexpected keyword"));
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testNullFile() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("File, view and callbacks can't be null.");
+    this.init();
+    new LoadTask(null, this.view, m -> { }, () -> { });
+  }
+}
@@ -0,0 +1,209 @@
+package cs3500.animator.controller;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import cs3500.animator.model.ImmutableAnimation;
+import cs3500.animator.model.PersistentAnimation;
+import cs3500.animator.util.AnimationReader;
+import cs3500.animator.view.SVGView;
+import cs3500.animator.view.TextView;
+import cs3500.animator.view.ViewEditable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Represents tests for saving an animation in the background, which should write the same output
+ * as saving it directly, and leave the file as it was when the save is cancelled or fails.
+ */
+public class SaveTaskTest {
+
+  private PersistentAnimation model;
+
+  //represents the messages displayed to the user, in order
+  private ArrayList<String> messages;
+  private ViewEditable view;
+
+  /**
+   * Initializes private variables by reading a sample file, and creating an editor that only
+   * records the messages it's given.
+   */
+  private void init() {
+    try {
+      this.model = AnimationReader.parseFile(new FileReader("samples/buildings.txt"),
+              new PersistentAnimation.Builder());
+    } catch (FileNotFoundException e) {
+      throw new IllegalStateException("Sample file not found.");
+    }
+
+    this.messages = new ArrayList<>();
+    InvocationHandler handler = (proxy, method, args) -> {
+      if (method.getName().equals("displayMessage")) {
+        this.messages.add((String) args[0]);
+      }
+      return null;
+    };
+    this.view = (ViewEditable) Proxy.newProxyInstance(ViewEditable.class.getClassLoader(),
+            new Class<?>[]{ViewEditable.class}, handler);
+  }
+
+  /**
+   * Runs a save of the model to the given file, waiting until it's done and it's messages have
+   * been displayed.
+   *
+   * @param type   the type of view to save
+   * @param file   the file
+   * @param cancel if the save is cancelled before it starts
+   */
+  private void save(String type, File file, boolean cancel) {
+    CountDownLatch done = new CountDownLatch(1);
+    SaveTask save = new SaveTask(type, file, new ImmutableAnimation(this.model.makeCopy()), 20,
+            this.view, done::countDown);
+    if (cancel) {
+      save.cancel(false);
+    }
+    save.execute();
+
+    try {
+      assertTrue(done.await(30, TimeUnit.SECONDS));
+      SwingUtilities.invokeAndWait(() -> { });
+    } catch (Exception e) {
+      throw new IllegalStateException("Save didn't finish.");
+    }
+  }
+
+  /**
+   * Reads the given file.
+   *
+   * @param file the file
+   * @return the contents of the file
+   */
+  private static String read(File file) {
+    try {
+      return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new IllegalStateException("File couldn't be read.");
+    }
+  }
+
+  @Test
+  public void testSaveSvg() throws IOException {
+    this.init();
+    File file = File.createTempFile("save", ".svg");
+    file.deleteOnExit();
+
+    this.save("Svg", file, false);
+    StringBuilder expected = new StringBuilder();
+    new SVGView(new ImmutableAnimation(this.model), expected, 20).makeVisible();
+    assertEquals(expected.toString(), read(file));
+    assertEquals("Svg file has been saved", this.messages.get(this.messages.size() - 1));
+  }
+
+  @Test
+  public void testSaveText() throws IOException {
+    this.init();
+    File file = File.createTempFile("save", ".txt");
+    file.deleteOnExit();
+
+    this.save("Text", file, false);
+    StringBuilder expected = new StringBuilder();
+    new TextView(new ImmutableAnimation(this.model), expected).makeVisible();
+    assertEquals(expected.toString(), read(file));
+  }
+
+  @Test
+  public void testSnapshotUnchangedByEdits() throws IOException {
+    this.init();
+    File file = File.createTempFile("save", ".txt");
+    file.deleteOnExit();
+    StringBuilder expected = new StringBuilder();
+    new TextView(new ImmutableAnimation(this.model), expected).makeVisible();
+
+    CountDownLatch done = new CountDownLatch(1);
+    SaveTask save = new SaveTask("Text", file, new ImmutableAnimation(this.model.makeCopy()), 20,
+            this.view, done::countDown);
+    this.model.deleteLayer(0);
+    save.execute();
+    try {
+      assertTrue(done.await(30, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      throw new IllegalStateException("Save didn't finish.");
+    }
+    assertEquals(expected.toString(), read(file));
+  }
+
+  @Test
+  public void testCancelLeavesFile() throws IOException {
+    this.init();
+    File file = File.createTempFile("save", ".svg");
+    file.deleteOnExit();
+    Files.write(file.toPath(), "original".getBytes(StandardCharsets.UTF_8));
+
+    this.save("Svg", file, true);
+    assertEquals("original", read(file));
+    assertEquals("Svg file save cancelled", this.messages.get(this.messages.size() - 1));
+  }
+
+  @Test
+  public void testSaveKeepsPermissions() throws IOException {
+    this.init();
+    File file = File.createTempFile("save", ".svg");
+    file.deleteOnExit();
+    Files.setPosixFilePermissions(file.toPath(), PosixFilePermissions.fromString("rw-r-----"));
+
+    this.save("Svg", file, false);
+    assertEquals("rw-r-----",
+            PosixFilePermissions.toString(Files.getPosixFilePermissions(file.toPath())));
+  }
+
+  @Test
+  public void testSaveNewFileDefaultPermissions() throws IOException {
+    this.init();
+    File directory = Files.createTempDirectory("save").toFile();
+    directory.deleteOnExit();
+    File file = new File(directory, "save.svg");
+    file.deleteOnExit();
+    Path created = Files.createFile(new File(directory, "created.svg").toPath());
+    created.toFile().deleteOnExit();
+
+    this.save("Svg", file, false);
+    assertEquals(Files.getPosixFilePermissions(created),
+            Files.getPosixFilePermissions(file.toPath()));
+  }
+
+  @Test
+  public void testMissingDirectory() {
+    this.init();
+    this.save("Svg", new File("missing-directory/save.svg"), false);
+    assertEquals("File path not found", this.messages.get(this.messages.size() - 1));
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testNullSnapshot() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Type, snapshot, view and callback can't be null.");
+    this.init();
+    new SaveTask("Svg", null, null, 20, this.view, () -> { });
+  }
+}
@@ -0,0 +1,97 @@
+package cs3500.animator.model;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+
+import cs3500.animator.util.AnimationReader;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for building and loading large animations, bounding the time they take so that
+ * building in quadratic time fails.
+ */
+public class AnimationScaleTest {
+
+  /**
+   * Creates the text of an animation file with the given number of shapes, each with one motion.
+   *
+   * @param shapes the number of shapes
+   * @return the animation file's text
+   */
+  private String makeShapeScript(int shapes) {
+    StringBuilder sb = new StringBuilder("canvas 0 0 500 500\n");
+    for (int i = 0; i < shapes; i++) {
+      sb.append("shape s").append(i).append(i % 2 == 0 ? " rectangle\n" : " ellipse\n");
+      sb.append("motion s").append(i).append(" 0 1 2 3 4 5 6 7 10 11 12 13 14 15 16 17\n");
+    }
+    return sb.toString();
+  }
+
+  @Test(timeout = 10000)
+  public void testBuildRotatedInOrderKeyFrames() {
+    Animation.Builder b = new Animation.Builder();
+    b.declareShape("s", "rectangle");
+    for (int t = 0; t < 100000; t++) {
+      b.addMotion("s", t, t, t, 10, 10, 0, 0, 0, t + 1, t + 1, t + 1, 10, 10, 0, 0, 0);
+      b.rotateKeyFrame("s", t, t % 360);
+    }
+    Animation a = b.build();
+
+    //every key frame is rotated, so building must not copy or scan the key frames per rotation
+    assertEquals(100001, a.getKeyFrames().size());
+    assertEquals(0, (int) a.getKeyFrames().get(0).getTime());
+    assertEquals(99990 % 360, a.getKeyFrames().get(99990).getShape().getTheta(), 0);
+    assertEquals(100000, (int) a.getKeyFrames().get(100000).getTime());
+  }
+
+  @Test(timeout = 10000)
+  public void testBuildRotatedOutOfOrderKeyFrames() {
+    Animation.Builder b = new Animation.Builder();
+    b.declareShape("s", "rectangle");
+    for (int t = 1; t <= 100000; t++) {
+      b.addKeyframe("s", t, t, t, 10, 10, 0, 0, 0);
+    }
+    b.addKeyframe("s", 0, 0, 0, 10, 10, 0, 0, 0);
+    for (int t = 0; t <= 100000; t++) {
+      b.rotateKeyFrame("s", t, 45);
+    }
+    Animation a = b.build();
+
+    //the key frames are sorted by the first rotation, and stay sorted through the rest
+    assertEquals(100001, a.getKeyFrames().size());
+    assertEquals(0, (int) a.getKeyFrames().get(0).getTime());
+    assertEquals(45, a.getKeyFrames().get(1000).getShape().getTheta(), 0);
+    assertEquals(45, a.getKeyFrames().get(100000).getShape().getTheta(), 0);
+  }
+
+  @Test(timeout = 10000)
+  public void testBuildLargeKeyFrameCount() {
+    Animation.Builder b = new Animation.Builder();
+    b.declareShape("s", "ellipse");
+
+    //adds key frames from last to first, so they must be sorted when built
+    for (int t = 100000; t > 0; t--) {
+      b.addKeyframe("s", t, t, t, 10, 10, 0, 0, 0);
+    }
+    b.rotateKeyFrame("s", 50000, 45);
+    b.addKeyframe("s", 100000, 1, 2, 3, 4, 5, 6, 7);
+    Animation a = b.build();
+
+    assertEquals(100000, a.getKeyFrames().size());
+    assertEquals(1, (int) a.getKeyFrames().get(0).getTime());
+    assertEquals(45, a.getKeyFrames().get(49999).getShape().getTheta(), 0);
+    assertEquals(1, a.getKeyFrames().get(99999).getShape().getPointTopLeft().x, 0);
+  }
+
+  @Test(timeout = 10000)
+  public void testLoadLargeShapeCount() {
+    Animation a = AnimationReader.parseFile(new StringReader(this.makeShapeScript(20000)),
+            new Animation.Builder());
+
+    assertEquals(20000, a.getShapes().size());
+    assertEquals(40000, a.getKeyFrames().size());
+    assertEquals("s19999", a.getShapes().get(19999).getKey());
+  }
+}
@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 /**
  * Represents tests for an Animation's constructors and public methods.
@@ -159,6 +160,34 @@ public class AnimationTest {
     assertEquals(8, this.am2.getKeyFrames().size());
   }
 
+  @Test
+  public void testGetStartAndEndTime() {
+    this.init();
+
+    assertEquals(0, this.am1.getStartTime());
+    assertEquals(0, this.am1.getEndTime());
+    assertEquals(0, this.am2.getStartTime());
+    assertEquals(60, this.am2.getEndTime());
+
+    this.am1.addShape(this.sRectangleDefault);
+    this.am1.addMotion("Default", new Motion(new KeyFrame(5, this.sRectangleDefault),
+            new KeyFrame(15, this.sRectangleDefault)));
+    assertEquals(5, this.am1.getStartTime());
+    assertEquals(15, this.am1.getEndTime());
+    this.am1.addKeyFrame("Default", new KeyFrame(30, this.sRectangleDefault));
+    assertEquals(30, this.am1.getEndTime());
+
+    this.am2.removeMotion("Oh hi there grader", new Motion(this.aSizeK1, this.aSizeK2));
+    assertEquals(20, this.am2.getEndTime());
+    this.am2.removeKeyFrame("Oh hi there grader", this.am2.getKeyFrames().get(0));
+    assertEquals(0, this.am2.getStartTime());
+    this.am2.removeShape("Oh hi there grader");
+    assertEquals(0, this.am2.getStartTime());
+    assertEquals(12, this.am2.getEndTime());
+    this.am2.deleteLayer(0);
+    assertEquals(0, this.am2.getEndTime());
+  }
+
   @Test
   public void testGetShapesAtTime() {
     this.init();
@@ -179,6 +208,107 @@ public class AnimationTest {
             this.am2.getShapes(1).get(0).toString());
   }
 
+  @Test
+  public void testGetShapesAtTimeManyKeyFrames() {
+    Animation.Builder b = new Animation.Builder();
+    b.declareShape("r", "rectangle");
+    for (int t = 0; t < 1000; t += 10) {
+      b.addMotion("r", t, t, 0, 1, 1, 0, 0, 0, t + 10, t + 10, 0, 1, 1, 0, 0, 0);
+    }
+    Animation a = b.build();
+
+    //between key frames, on a shared key frame, and on the last key frame
+    assertEquals(505.0, a.getShapes(505).get(0).getPointTopLeft().x, 0.0001);
+    assertEquals(500.0, a.getShapes(500).get(0).getPointTopLeft().x, 0.0001);
+    assertEquals(1000.0, a.getShapes(1000).get(0).getPointTopLeft().x, 0.0001);
+    assertEquals(0.0, a.getShapes(0).get(0).getPointTopLeft().x, 0.0001);
+  }
+
+  @Test
+  public void testGetShapesBetweenTicks() {
+    Animation a = new Animation.Builder().declareShape("r", "rectangle")
+            .addMotion("r", 0, 0, 0, 10, 10, 0, 0, 0, 10, 100, 0, 10, 10, 0, 0, 0).build();
+
+    assertEquals(25.0, a.getShapes(2.5).get(0).getPointTopLeft().x, 0.0001);
+    assertEquals(99.0, a.getShapes(9.9).get(0).getPointTopLeft().x, 0.0001);
+    assertEquals(a.getShapes(3).toString(), a.getShapes(3.0).toString());
+  }
+
+  @Test
+  public void testGetFrameBetweenTicks() {
+    this.init();
+
+    //a frame between two ticks lies between the frames at those ticks
+    FrameBuffer before = new FrameBuffer();
+    FrameBuffer between = new FrameBuffer();
+    FrameBuffer after = new FrameBuffer();
+    this.am2.getFrame(1, before);
+    this.am2.getFrame(1.5, between);
+    this.am2.getFrame(2, after);
+
+    assertEquals(before.size(), between.size());
+    for (int i = 0; i < between.size(); i++) {
+      assertEquals((before.getX(i) + after.getX(i)) / 2, between.getX(i), 0.0001);
+      assertEquals((before.getWidth(i) + after.getWidth(i)) / 2, between.getWidth(i), 0.0001);
+    }
+  }
+
+  @Test
+  public void testGetFrameBetweenTicksPastEnd() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("The final time of the last motion has been reached.");
+    this.init();
+    this.am2.getFrame(this.am2.getEndTime() + 0.5, new FrameBuffer());
+  }
+
+  @Test
+  public void testGetShapesBeforeFirstKeyFrame() {
+    Animation a = new Animation.Builder().declareShape("r", "rectangle")
+            .addMotion("r", 5, 1, 1, 1, 1, 0, 0, 0, 10, 2, 2, 1, 1, 0, 0, 0).build();
+
+    assertEquals(0, a.getShapes(4).size());
+    assertEquals(1, a.getShapes(5).size());
+  }
+
+  @Test
+  public void testGetFrameMatchesGetShapes() {
+    this.init();
+
+    FrameBuffer frame = new FrameBuffer(0);
+    for (int t = 0; t <= this.am2.getEndTime(); t++) {
+      this.am2.getFrame(t, frame);
+      ArrayList<ShapeModel> shapes = this.am2.getShapes(t);
+
+      assertEquals(shapes.size(), frame.size());
+      for (int i = 0; i < frame.size(); i++) {
+        ShapeModel s = shapes.get(i);
+        assertEquals(s.getKey(), frame.getShape(i).getKey());
+        assertEquals(s.getPointTopLeft().x, frame.getX(i), 0);
+        assertEquals(s.getPointTopLeft().y, frame.getY(i), 0);
+        assertEquals(s.getDimensions().x, frame.getWidth(i), 0);
+        assertEquals(s.getDimensions().y, frame.getHeight(i), 0);
+        assertEquals(s.getColor().getRGB() & 0xFFFFFF, frame.getRGB(i));
+        assertEquals(s.getTheta(), frame.getTheta(i), 0);
+      }
+    }
+  }
+
+  @Test
+  public void testGetFrameNullFrame() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Frame can't be null.");
+    this.init();
+    this.am2.getFrame(0, null);
+  }
+
+  @Test
+  public void testGetFrameTimeBelowZero() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Time can't be negative.");
+    this.init();
+    this.am2.getFrame(-1, new FrameBuffer());
+  }
+
   @Test
   public void testGetStringRepresentation() {
     this.init();
@@ -249,6 +379,102 @@ public class AnimationTest {
     }
   }
 
+  @Test
+  public void testGetKeyFramesOfShape() {
+    this.init();
+
+    ArrayList<KeyFrameModel> frames = this.am2.getKeyFrames("Oh hi there grader2");
+    assertEquals(3, frames.size());
+    assertEquals(this.aColor2K1, frames.get(0));
+
+    //the returned list is a copy, which doesn't change the model's key frames
+    frames.clear();
+    assertEquals(3, this.am2.getKeyFrames("Oh hi there grader2").size());
+  }
+
+  @Test
+  public void testInsertShape() {
+    this.init();
+
+    ArrayList<ShapeModel> shapes = this.am2.getShapes();
+    ArrayList<KeyFrameModel> frames = this.am2.getKeyFrames("Oh hi there grader2");
+    this.am2.removeShape("Oh hi there grader2");
+    assertEquals(2, this.am2.getShapes().size());
+
+    this.am2.insertShape(1, this.sEllipse, frames);
+    assertEquals(shapes, this.am2.getShapes());
+    assertEquals(frames, this.am2.getKeyFrames("Oh hi there grader2"));
+    assertEquals(60, this.am2.getEndTime());
+
+    this.am2.removeShape("Oh hi there grader2");
+    this.am2.insertShape(2, this.sEllipse, new ArrayList<>());
+    assertEquals(new ArrayList<>(Arrays.asList(shapes.get(0), shapes.get(2), this.sEllipse)),
+            this.am2.getShapes());
+  }
+
+  /**
+   * Asserts that every shape of the given animation is found by it's key, with the key frames the
+   * animation holds for that shape, and that none of the given keys are found.
+   *
+   * @param a       the animation
+   * @param removed the keys of shapes no longer in the animation
+   */
+  private void assertKeysIndexed(Animation a, String... removed) {
+    LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> rep = a.getShapeKeyFrameRepresentation();
+    for (ShapeModel s : a.getShapes()) {
+      assertEquals(rep.get(s), a.getKeyFrames(s.getKey()));
+    }
+    for (String key : removed) {
+      try {
+        a.getKeyFrames(key);
+        fail("Removed key " + key + " was still found.");
+      } catch (IllegalArgumentException e) {
+        assertEquals("key doesn't exist", e.getMessage());
+      }
+    }
+  }
+
+  @Test
+  public void testKeysIndexedAfterAddAndRemove() {
+    this.init();
+    this.assertKeysIndexed(this.am2);
+
+    this.am2.removeShape("Oh hi there grader2");
+    this.assertKeysIndexed(this.am2, "Oh hi there grader2");
+
+    this.am2.addShape(this.sEllipse);
+    this.am2.addKeyFrame("Oh hi there grader2", this.aColor2K1);
+    this.assertKeysIndexed(this.am2);
+    assertEquals(1, this.am2.getKeyFrames("Oh hi there grader2").size());
+
+    this.am2.removeShape("Oh hi there grader2");
+    this.am2.insertShape(0, this.sEllipse, new ArrayList<>());
+    this.assertKeysIndexed(this.am2);
+  }
+
+  @Test
+  public void testKeysIndexedAfterLayerChanges() {
+    this.init();
+
+    //moving a shape to another layer replaces the shape, which must still be found by it's key
+    this.am2.addShapeToLayer("Oh hi there grader", 10);
+    this.assertKeysIndexed(this.am2);
+    this.am2.addKeyFrame("Oh hi there grader", new KeyFrame(70, this.sRectangle));
+    this.assertKeysIndexed(this.am2);
+    assertEquals(10, this.am2.getShapes().get(2).getLayer());
+
+    this.am2.reorderLayer(0, 5);
+    this.assertKeysIndexed(this.am2);
+
+    this.am2.deleteLayer(10);
+    this.assertKeysIndexed(this.am2, "Oh hi there grader");
+
+    this.am2.deleteLayer(5);
+    this.assertKeysIndexed(this.am2, "Oh hi there grader", "Oh hi there grader2", "Default");
+    this.am2.addShape(this.sRectangle);
+    this.assertKeysIndexed(this.am2, "Oh hi there grader2", "Default");
+  }
+
   @Rule
   public ExpectedException thrown = ExpectedException.none();
 
@@ -447,4 +673,36 @@ public class AnimationTest {
     this.am2.reorderLayer(-6, -1);
   }
 
-}
\ No newline at end of file
+
+  @Test
+  public void testGetKeyFramesOfShapeInvalidKey() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("key doesn't exist");
+    this.init();
+    this.am1.getKeyFrames("non-existent key");
+  }
+
+  @Test
+  public void testInsertShapeNullFrames() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Shape and key frames can't be null.");
+    this.init();
+    this.am1.insertShape(0, this.sEllipse, null);
+  }
+
+  @Test
+  public void testInsertShapeExistingKey() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Shape's key already exists, try a different key.");
+    this.init();
+    this.am2.insertShape(0, this.sEllipse.makeCopy(), new ArrayList<>());
+  }
+
+  @Test
+  public void testInsertShapeIndexOutOfBounds() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Index is out of bounds.");
+    this.init();
+    this.am1.insertShape(1, this.sEllipse, new ArrayList<>());
+  }
+}
@@ -0,0 +1,333 @@
+package cs3500.animator.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.Random;
+
+import cs3500.animator.util.AnimationBuilder;
+import cs3500.animator.util.AnimationReader;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for a ColumnarAnimation's constructors and public methods, which are expected to
+ * behave the same as an Animation's.
+ */
+public class ColumnarAnimationTest {
+
+  private Animation animation;
+  private ColumnarAnimation columnar;
+
+  /**
+   * Initializes private variables by reading the same file into both models.
+   *
+   * @param file the path of the file
+   */
+  private void init(String file) {
+    try {
+      this.animation = AnimationReader.parseFile(new FileReader(file), new Animation.Builder());
+      this.columnar = AnimationReader.parseFile(new FileReader(file),
+              new ColumnarAnimation.Builder());
+    } catch (FileNotFoundException e) {
+      throw new IllegalStateException("Sample file not found.");
+    }
+  }
+
+  /**
+   * Asserts that the two models have the same shapes at every time of the animation.
+   */
+  private void assertSameShapes() {
+    assertEquals(this.animation.getStartTime(), this.columnar.getStartTime());
+    assertEquals(this.animation.getEndTime(), this.columnar.getEndTime());
+    assertEquals(this.animation.getShapes().toString(), this.columnar.getShapes().toString());
+    for (int t = 0; t <= this.animation.getEndTime(); t++) {
+      assertEquals(this.animation.getShapes(t).toString(), this.columnar.getShapes(t).toString());
+    }
+  }
+
+  @Test
+  public void testBuilder() {
+    this.init("samples/toh-3.txt");
+
+    assertEquals(this.animation.getStringRepresentation(),
+            this.columnar.getStringRepresentation());
+    assertEquals(this.animation.getKeyFrames().size(), this.columnar.getKeyFrames().size());
+    this.assertSameShapes();
+  }
+
+  @Test
+  public void testBuilderRotationsAndLayers() {
+    this.init("samples/RotationExample.txt");
+    assertEquals(this.animation.getStringRepresentation(),
+            this.columnar.getStringRepresentation());
+    this.assertSameShapes();
+
+    this.init("samples/LayerExample.txt");
+    assertEquals(this.animation.getStringRepresentation(),
+            this.columnar.getStringRepresentation());
+    this.assertSameShapes();
+  }
+
+  @Test
+  public void testRotationKeptExactly() {
+    //0.1 has no exact float, so a rotation stored as one would come back changed
+    ColumnarAnimation c = new ColumnarAnimation.Builder()
+            .declareShape("R", "rectangle").addKeyframe("R", 1, 1, 2, 3, 4, 5, 6, 7)
+            .rotateKeyFrame("R", 1, 0.1).build();
+
+    assertEquals(0.1, c.getKeyFrames().get(0).getShape().getTheta(), 0);
+  }
+
+  @Test
+  public void testBuilderRotatesEarliestGivenKeyFrame() {
+    AnimationBuilder<ColumnarAnimation> b = new ColumnarAnimation.Builder()
+            .declareShape("R", "rectangle").addKeyframe("R", 1, 1, 2, 3, 4, 5, 6, 7)
+            .addKeyframe("R", 1, 10, 20, 30, 40, 50, 60, 70);
+
+    //rotating moves the earliest given key frame at the time after the others
+    b.rotateKeyFrame("R", 1, 45);
+    assertEquals(1, b.build().getKeyFrames().get(0).getShape().getPointTopLeft().x, 0);
+    b.rotateKeyFrame("R", 1, 90);
+    ColumnarAnimation c = b.build();
+
+    assertEquals(1, c.getKeyFrames().size());
+    assertEquals(10, c.getKeyFrames().get(0).getShape().getPointTopLeft().x, 0);
+    assertEquals(90, c.getKeyFrames().get(0).getShape().getTheta(), 0);
+  }
+
+  @Test
+  public void testBuilderRotatesLikeAnimation() {
+    Random random = new Random(7);
+    for (int run = 0; run < 200; run++) {
+      Animation.Builder b1 = new Animation.Builder();
+      ColumnarAnimation.Builder b2 = new ColumnarAnimation.Builder();
+      b1.declareShape("R", "rectangle");
+      b2.declareShape("R", "rectangle");
+
+      //gives key frames at a few times out of order, rotating key frames that were given
+      ArrayList<Integer> times = new ArrayList<>();
+      for (int i = 0; i < 30; i++) {
+        if (times.isEmpty() || random.nextBoolean()) {
+          int t = random.nextInt(6);
+          b1.addKeyframe("R", t, i, i, 1, 1, 0, 0, 0);
+          b2.addKeyframe("R", t, i, i, 1, 1, 0, 0, 0);
+          times.add(t);
+        } else {
+          int t = times.get(random.nextInt(times.size()));
+          b1.rotateKeyFrame("R", t, i);
+          b2.rotateKeyFrame("R", t, i);
+        }
+      }
+
+      ArrayList<KeyFrameModel> expected = b1.build().getKeyFrames();
+      ArrayList<KeyFrameModel> actual = b2.build().getKeyFrames();
+      assertEquals(expected.size(), actual.size());
+      for (int i = 0; i < expected.size(); i++) {
+        assertEquals(expected.get(i).getTime(), actual.get(i).getTime(), 0);
+        assertEquals(expected.get(i).getShape().getPointTopLeft().x,
+                actual.get(i).getShape().getPointTopLeft().x, 0);
+        assertEquals(expected.get(i).getShape().getTheta(),
+                actual.get(i).getShape().getTheta(), 0);
+      }
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void testBuilderRotatedLargeKeyFrameCount() {
+    ColumnarAnimation.Builder b = new ColumnarAnimation.Builder();
+    b.declareShape("s", "rectangle");
+    for (int t = 0; t < 100000; t++) {
+      b.addMotion("s", t, t, t, 10, 10, 0, 0, 0, t + 1, t + 1, t + 1, 10, 10, 0, 0, 0);
+      b.rotateKeyFrame("s", t, t % 360);
+    }
+    ColumnarAnimation c = b.build();
+
+    assertEquals(100001, c.getKeyFrames().size());
+    assertEquals(99990 % 360, c.getKeyFrames().get(99990).getShape().getTheta(), 0);
+    assertEquals(0, c.getKeyFrames().get(100000).getShape().getTheta(), 0);
+  }
+
+  @Test
+  public void testCopyConstructor() {
+    this.init("samples/buildings.txt");
+    ColumnarAnimation copy = new ColumnarAnimation(this.animation);
+
+    assertEquals(this.animation.getStringRepresentation(), copy.getStringRepresentation());
+    assertEquals(this.columnar.getStringRepresentation(), copy.getStringRepresentation());
+  }
+
+  @Test
+  public void testGetFrame() {
+    this.init("samples/toh-3.txt");
+
+    FrameBuffer f1 = new FrameBuffer();
+    FrameBuffer f2 = new FrameBuffer();
+    for (int t = 0; t <= this.animation.getEndTime(); t++) {
+      this.animation.getFrame(t, f1);
+      this.columnar.getFrame(t, f2);
+
+      assertEquals(f1.size(), f2.size());
+      for (int i = 0; i < f1.size(); i++) {
+        assertEquals(f1.getShape(i).getKey(), f2.getShape(i).getKey());
+        assertEquals(f1.getX(i), f2.getX(i), 0);
+        assertEquals(f1.getY(i), f2.getY(i), 0);
+        assertEquals(f1.getRGB(i), f2.getRGB(i));
+      }
+    }
+  }
+
+  @Test
+  public void testGetFrameBetweenTicks() {
+    this.init("samples/toh-3.txt");
+
+    FrameBuffer f1 = new FrameBuffer();
+    FrameBuffer f2 = new FrameBuffer();
+    for (double t = 0; t <= this.animation.getEndTime(); t += 0.37) {
+      this.animation.getFrame(t, f1);
+      this.columnar.getFrame(t, f2);
+
+      assertEquals(f1.size(), f2.size());
+      for (int i = 0; i < f1.size(); i++) {
+        assertEquals(f1.getShape(i).getKey(), f2.getShape(i).getKey());
+        assertEquals(f1.getX(i), f2.getX(i), 0);
+        assertEquals(f1.getY(i), f2.getY(i), 0);
+        assertEquals(f1.getRGB(i), f2.getRGB(i));
+      }
+    }
+  }
+
+  @Test
+  public void testAddAndRemoveKeyFrame() {
+    this.init("samples/toh-3.txt");
+
+    KeyFrame k = new KeyFrame(500, new Rectangle(new Shape.ShapeBuilder().setKey("disk1")
+            .setX(3).setY(4).setWidth(5).setHeight(6).setRed(7).setGreen(8).setBlue(9)));
+    this.animation.addKeyFrame("disk1", k);
+    this.columnar.addKeyFrame("disk1", k);
+    assertEquals(this.animation.getStringRepresentation(),
+            this.columnar.getStringRepresentation());
+    this.assertSameShapes();
+
+    //key frames are removed by their time and attributes, as the model doesn't store them
+    this.animation.removeKeyFrame("disk1", k);
+    this.columnar.removeKeyFrame("disk1", new KeyFrame(500, k.getShape().makeCopy()));
+    assertEquals(this.animation.getStringRepresentation(),
+            this.columnar.getStringRepresentation());
+  }
+
+  @Test
+  public void testAddAndRemoveShape() {
+    this.init("samples/toh-3.txt");
+
+    Ellipse e = new Ellipse(new Shape.ShapeBuilder().setKey("new").setLayer(0));
+    this.animation.addShape(e);
+    this.columnar.addShape(e.makeCopy());
+    this.animation.addMotion("new", new Motion(new KeyFrame(2, e), new KeyFrame(8, e)));
+    this.columnar.addMotion("new", new Motion(new KeyFrame(2, e), new KeyFrame(8, e)));
+    assertEquals(this.animation.getStringRepresentation(),
+            this.columnar.getStringRepresentation());
+
+    this.animation.removeShape("disk2");
+    this.columnar.removeShape("disk2");
+    assertEquals(this.animation.getStringRepresentation(),
+            this.columnar.getStringRepresentation());
+    this.assertSameShapes();
+  }
+
+  @Test
+  public void testInsertShape() {
+    this.init("samples/toh-3.txt");
+    String original = this.columnar.getStringRepresentation();
+
+    ShapeModel disk2 = this.columnar.getShapes().get(1);
+    ArrayList<KeyFrameModel> frames = this.columnar.getKeyFrames("disk2");
+    this.animation.removeShape("disk2");
+    this.columnar.removeShape("disk2");
+    this.animation.insertShape(1, disk2.makeCopy(), frames);
+    this.columnar.insertShape(1, disk2, frames);
+
+    assertEquals(original, this.columnar.getStringRepresentation());
+    assertEquals(this.animation.getStringRepresentation(),
+            this.columnar.getStringRepresentation());
+    this.assertSameShapes();
+  }
+
+  @Test
+  public void testLayers() {
+    this.init("samples/toh-3.txt");
+
+    this.animation.addShapeToLayer("disk1", 3);
+    this.columnar.addShapeToLayer("disk1", 3);
+    this.animation.reorderLayer(0, 2);
+    this.columnar.reorderLayer(0, 2);
+    assertEquals(this.animation.getShapes().toString(), this.columnar.getShapes().toString());
+    assertEquals(3, this.columnar.getShapes().get(2).getLayer());
+
+    this.animation.deleteLayer(2);
+    this.columnar.deleteLayer(2);
+    assertEquals(this.animation.getStringRepresentation(),
+            this.columnar.getStringRepresentation());
+  }
+
+  @Test
+  public void testMakeCopy() {
+    this.init("samples/toh-3.txt");
+    ColumnarAnimation copy = this.columnar.makeCopy();
+    copy.removeShape("disk1");
+
+    assertEquals(3, this.columnar.getShapes().size());
+    assertEquals(2, copy.getShapes().size());
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testAddKeyFrameOverlappingTime() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Key frame at time 1.0 already exists.");
+    this.init("samples/toh-3.txt");
+    this.columnar.addKeyFrame("disk1", this.columnar.getKeyFrames().get(0));
+  }
+
+  @Test
+  public void testAddKeyFrameFractionalTime() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Key frame times must be whole ticks.");
+    this.init("samples/toh-3.txt");
+    this.columnar.addKeyFrame("disk1", new KeyFrame(0.5, new Rectangle(
+            new Shape.ShapeBuilder().setKey("disk1"))));
+  }
+
+  @Test
+  public void testRemoveKeyFrameNotContained() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Key frame isn't contained in this shape's list of key frames.");
+    this.init("samples/toh-3.txt");
+    this.columnar.removeKeyFrame("disk1", new KeyFrame(1, new Rectangle(
+            new Shape.ShapeBuilder().setKey("disk1"))));
+  }
+
+  @Test
+  public void testBuilderRotateMissingKeyFrame() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Key frame at time 3 doesn't exist.");
+    new ColumnarAnimation.Builder().declareShape("r", "rectangle").rotateKeyFrame("r", 3, 90);
+  }
+
+  @Test
+  public void testInsertShapeFractionalTime() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Key frame times must be whole ticks.");
+    this.init("samples/toh-3.txt");
+    Ellipse e = new Ellipse(new Shape.ShapeBuilder().setKey("new"));
+    ArrayList<KeyFrameModel> frames = new ArrayList<>();
+    frames.add(new KeyFrame(2.5, e));
+    this.columnar.insertShape(0, e, frames);
+  }
+}
@@ -31,6 +31,16 @@ public class MotionTest {
 
   }
 
+  @Test
+  public void testGetShapeBetweenTicks() {
+    //the shapes are copied, as the given shape is also the initial key frame's shape
+    ShapeModel s1 = this.motionModel.getShape(this.sRectangle.makeCopy(), 2.5);
+    ShapeModel s2 = this.motionModel.getShape(this.sRectangle.makeCopy(), 5.0);
+
+    assertEquals("75.0 75.0 7.5 7.5 63.75 63.75 63.75 90.0", s1.toString());
+    assertEquals("50.0 50.0 5.0 5.0 127.5 127.5 127.5 180.0", s2.toString());
+  }
+
   @Test
   public void testToString() {
     assertEquals("motion Oh hi there grader 0.0 100.0 100.0 10.0 10.0 0.0 0.0 0.0 0.0"
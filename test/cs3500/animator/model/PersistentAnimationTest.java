@@ -0,0 +1,289 @@
+package cs3500.animator.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.util.ArrayList;
+
+import cs3500.animator.util.AnimationReader;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for a PersistentAnimation's constructors and public methods, which are expected
+ * to behave the same as an Animation's, and for the copies it makes, which are expected to be
+ * unchanged by later edits.
+ */
+public class PersistentAnimationTest {
+
+  private Animation animation;
+  private PersistentAnimation persistent;
+
+  /**
+   * Initializes private variables by reading the same file into both models.
+   *
+   * @param file the path of the file
+   */
+  private void init(String file) {
+    try {
+      this.animation = AnimationReader.parseFile(new FileReader(file), new Animation.Builder());
+      this.persistent = AnimationReader.parseFile(new FileReader(file),
+              new PersistentAnimation.Builder());
+    } catch (FileNotFoundException e) {
+      throw new IllegalStateException("Sample file not found.");
+    }
+  }
+
+  /**
+   * Asserts that the two models have the same shapes and key frames at every time of the
+   * animation.
+   */
+  private void assertSame() {
+    assertEquals(this.animation.getStringRepresentation(),
+            this.persistent.getStringRepresentation());
+    assertEquals(this.animation.getStartTime(), this.persistent.getStartTime());
+    assertEquals(this.animation.getEndTime(), this.persistent.getEndTime());
+    assertEquals(this.animation.getShapes().size(), this.persistent.getShapes().size());
+    for (int i = 0; i < this.animation.getShapes().size(); i++) {
+      assertEquals(this.animation.getShapes().get(i).getKey(),
+              this.persistent.getShapes().get(i).getKey());
+      assertEquals(this.animation.getShapes().get(i).getLayer(),
+              this.persistent.getShapes().get(i).getLayer());
+    }
+    for (int t = 0; t <= this.animation.getEndTime(); t++) {
+      assertEquals(this.animation.getShapes(t).toString(),
+              this.persistent.getShapes(t).toString());
+    }
+  }
+
+  @Test
+  public void testBuilder() {
+    this.init("samples/toh-3.txt");
+    this.assertSame();
+    assertEquals(this.animation.getKeyFrames().size(), this.persistent.getKeyFrames().size());
+
+    this.init("samples/RotationExample.txt");
+    this.assertSame();
+
+    this.init("samples/LayerExample.txt");
+    this.assertSame();
+  }
+
+  @Test
+  public void testCopyConstructor() {
+    this.init("samples/buildings.txt");
+    PersistentAnimation copy = new PersistentAnimation(this.animation);
+
+    assertEquals(this.animation.getStringRepresentation(), copy.getStringRepresentation());
+  }
+
+  @Test
+  public void testGetFrameBetweenTicks() {
+    this.init("samples/toh-3.txt");
+
+    FrameBuffer f1 = new FrameBuffer();
+    FrameBuffer f2 = new FrameBuffer();
+    for (double t = 0; t <= this.animation.getEndTime(); t += 0.37) {
+      this.animation.getFrame(t, f1);
+      this.persistent.getFrame(t, f2);
+
+      assertEquals(f1.size(), f2.size());
+      for (int i = 0; i < f1.size(); i++) {
+        assertEquals(f1.getShape(i).getKey(), f2.getShape(i).getKey());
+        assertEquals(f1.getX(i), f2.getX(i), 0);
+        assertEquals(f1.getY(i), f2.getY(i), 0);
+        assertEquals(f1.getRGB(i), f2.getRGB(i));
+      }
+    }
+  }
+
+  @Test
+  public void testAddAndRemoveKeyFrame() {
+    this.init("samples/toh-3.txt");
+
+    KeyFrame k = new KeyFrame(500, new Rectangle(new Shape.ShapeBuilder().setKey("disk1")
+            .setX(3).setY(4).setWidth(5).setHeight(6).setRed(7).setGreen(8).setBlue(9)));
+    this.animation.addKeyFrame("disk1", k);
+    this.persistent.addKeyFrame("disk1", k);
+    this.assertSame();
+    assertEquals(500, this.persistent.getEndTime());
+
+    this.animation.removeKeyFrame("disk1", k);
+    this.persistent.removeKeyFrame("disk1", k);
+    this.assertSame();
+  }
+
+  @Test
+  public void testAddAndRemoveMotion() {
+    this.init("samples/toh-3.txt");
+
+    Rectangle r = new Rectangle(new Shape.ShapeBuilder().setKey("disk2"));
+    Motion m = new Motion(new KeyFrame(300, r), new KeyFrame(400, r));
+    this.animation.addMotion("disk2", m);
+    this.persistent.addMotion("disk2", m);
+    this.assertSame();
+
+    this.animation.removeMotion("disk2", m);
+    this.persistent.removeMotion("disk2", m);
+    this.assertSame();
+  }
+
+  @Test
+  public void testAddAndRemoveShape() {
+    this.init("samples/toh-3.txt");
+
+    Ellipse e = new Ellipse(new Shape.ShapeBuilder().setKey("new").setLayer(0));
+    this.animation.addShape(e);
+    this.persistent.addShape(e.makeCopy());
+    this.animation.addMotion("new", new Motion(new KeyFrame(2, e), new KeyFrame(8, e)));
+    this.persistent.addMotion("new", new Motion(new KeyFrame(2, e), new KeyFrame(8, e)));
+    this.assertSame();
+
+    this.animation.removeShape("disk2");
+    this.persistent.removeShape("disk2");
+    this.assertSame();
+  }
+
+  @Test
+  public void testInsertShape() {
+    this.init("samples/toh-3.txt");
+    String original = this.persistent.getStringRepresentation();
+
+    //inserts repeatedly between the same two shapes, until they're renumbered
+    for (int i = 0; i < 100; i++) {
+      ShapeModel disk2 = this.persistent.getShapes().get(1);
+      ArrayList<KeyFrameModel> frames = this.persistent.getKeyFrames("disk2");
+      this.persistent.removeShape("disk2");
+      this.persistent.insertShape(1, disk2, frames);
+
+      ShapeModel disk1 = this.persistent.getShapes().get(0);
+      frames = this.persistent.getKeyFrames("disk1");
+      this.persistent.removeShape("disk1");
+      this.persistent.insertShape(0, disk1, frames);
+    }
+    assertEquals(original, this.persistent.getStringRepresentation());
+  }
+
+  @Test
+  public void testLayers() {
+    this.init("samples/toh-3.txt");
+
+    this.animation.addShapeToLayer("disk1", 3);
+    this.persistent.addShapeToLayer("disk1", 3);
+    this.animation.reorderLayer(0, 2);
+    this.persistent.reorderLayer(0, 2);
+    this.assertSame();
+    assertEquals(3, this.persistent.getShapes().get(2).getLayer());
+
+    this.animation.deleteLayer(2);
+    this.persistent.deleteLayer(2);
+    this.assertSame();
+    assertEquals(1, this.persistent.getShapes().size());
+  }
+
+  @Test
+  public void testMakeCopy() {
+    this.init("samples/toh-3.txt");
+    String original = this.persistent.getStringRepresentation();
+    PersistentAnimation copy = this.persistent.makeCopy();
+
+    this.persistent.removeShape("disk1");
+    this.persistent.addKeyFrame("disk2", new KeyFrame(500,
+            new Rectangle(new Shape.ShapeBuilder().setKey("disk2"))));
+    this.persistent.addShapeToLayer("disk3", 4);
+    copy.deleteLayer(0);
+
+    assertEquals(2, this.persistent.getShapes().size());
+    assertEquals(500, this.persistent.getEndTime());
+    assertEquals(0, copy.getShapes().size());
+
+    this.init("samples/toh-3.txt");
+    copy = this.persistent.makeCopy();
+    this.persistent.deleteLayer(0);
+    assertEquals(original, copy.getStringRepresentation());
+  }
+
+  @Test
+  public void testGetShapesDoesNotChangeCopies() {
+    this.init("samples/toh-3.txt");
+    PersistentAnimation copy = this.persistent.makeCopy();
+    String shapes = copy.getShapes().toString();
+
+    this.persistent.getShapes(10);
+    this.persistent.getShapes(50.5);
+    assertEquals(shapes, copy.getShapes().toString());
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testCopyConstructorNullModel() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Model can't be null.");
+    new PersistentAnimation(null);
+  }
+
+  @Test
+  public void testAddKeyFrameOverlappingTime() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Key frame at time 1.0 already exists.");
+    this.init("samples/toh-3.txt");
+    this.persistent.addKeyFrame("disk1", new KeyFrame(1,
+            new Rectangle(new Shape.ShapeBuilder().setKey("disk1"))));
+  }
+
+  @Test
+  public void testRemoveKeyFrameNotContained() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Key frame isn't contained in this shape's list of key frames.");
+    this.init("samples/toh-3.txt");
+    this.persistent.removeKeyFrame("disk1", new KeyFrame(1,
+            new Rectangle(new Shape.ShapeBuilder().setKey("disk1"))));
+  }
+
+  @Test
+  public void testRemoveMotionNotContained() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Motion isn't contained in this shape's list of key frames.");
+    this.init("samples/toh-3.txt");
+    Rectangle r = new Rectangle(new Shape.ShapeBuilder().setKey("disk1"));
+    this.persistent.removeMotion("disk1", new Motion(new KeyFrame(1, r), new KeyFrame(2, r)));
+  }
+
+  @Test
+  public void testAddShapeExistingKey() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Shape's key already exists, try a different key.");
+    this.init("samples/toh-3.txt");
+    this.persistent.addShape(new Rectangle(new Shape.ShapeBuilder().setKey("disk1")));
+  }
+
+  @Test
+  public void testInsertShapeIndexOutOfBounds() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Index is out of bounds.");
+    this.init("samples/toh-3.txt");
+    this.persistent.insertShape(4, new Rectangle(new Shape.ShapeBuilder().setKey("new")),
+            new ArrayList<>());
+  }
+
+  @Test
+  public void testAddShapeToLayerNegativeLayer() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Layer can't be negative.");
+    this.init("samples/toh-3.txt");
+    this.persistent.addShapeToLayer("disk1", -1);
+  }
+
+  @Test
+  public void testGetShapesAfterEnd() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("The final time of the last motion has been reached.");
+    this.init("samples/toh-3.txt");
+    this.persistent.getShapes(this.persistent.getEndTime() + 1);
+  }
+}
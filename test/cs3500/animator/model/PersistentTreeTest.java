@@ -0,0 +1,149 @@
+package cs3500.animator.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Represents tests for a persistent tree, which is expected to behave the same as a sorted map
+ * while leaving earlier versions of itself unchanged.
+ */
+public class PersistentTreeTest {
+
+  /**
+   * Asserts that the given tree has the same entries in the same order as the given map.
+   *
+   * @param expected the map
+   * @param tree     the tree
+   */
+  private void assertSameEntries(TreeMap<Integer, String> expected,
+                                 PersistentTree<Integer, String> tree) {
+    assertEquals(expected.size(), tree.size());
+    assertEquals(new ArrayList<>(expected.values()), tree.values());
+    ArrayList<String> visited = new ArrayList<>();
+    tree.forEachValue(visited::add);
+    assertEquals(tree.values(), visited);
+
+    int i = 0;
+    for (Integer key : expected.keySet()) {
+      assertEquals(key, tree.keyAt(i));
+      assertEquals(expected.get(key), tree.valueAt(i));
+      assertEquals(i, tree.headSize(key, false));
+      assertEquals(i + 1, tree.headSize(key, true));
+      i++;
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    PersistentTree<Integer, String> tree = PersistentTree.empty();
+
+    assertTrue(tree.isEmpty());
+    assertEquals(0, tree.size());
+    assertNull(tree.get(1));
+    assertFalse(tree.containsKey(1));
+    assertEquals(0, tree.headSize(1, true));
+  }
+
+  @Test
+  public void testPutAndRemove() {
+    Random random = new Random(7);
+    TreeMap<Integer, String> expected = new TreeMap<>();
+    PersistentTree<Integer, String> tree = PersistentTree.empty();
+
+    for (int i = 0; i < 2000; i++) {
+      int key = random.nextInt(500);
+      if (random.nextInt(3) == 0) {
+        expected.remove(key);
+        tree = tree.remove(key);
+      } else {
+        expected.put(key, "v" + i);
+        tree = tree.put(key, "v" + i);
+      }
+      assertEquals(expected.get(key), tree.get(key));
+    }
+
+    this.assertSameEntries(expected, tree);
+    assertEquals(expected.firstKey(), tree.firstKey());
+    assertEquals(expected.lastKey(), tree.lastKey());
+  }
+
+  @Test
+  public void testOldVersionsUnchanged() {
+    PersistentTree<Integer, String> tree = PersistentTree.empty();
+    for (int i = 0; i < 100; i++) {
+      tree = tree.put(i, "a" + i);
+    }
+
+    TreeMap<Integer, String> expected = new TreeMap<>();
+    for (int i = 0; i < 100; i++) {
+      expected.put(i, "a" + i);
+    }
+
+    PersistentTree<Integer, String> edited = tree;
+    for (int i = 0; i < 100; i += 2) {
+      edited = edited.remove(i).put(i + 1, "b");
+    }
+
+    this.assertSameEntries(expected, tree);
+    assertEquals(50, edited.size());
+    assertEquals("b", edited.get(51));
+  }
+
+  @Test
+  public void testRemoveMissingKey() {
+    PersistentTree<Integer, String> tree = PersistentTree.<Integer, String>empty().put(1, "a");
+    assertSame(tree, tree.remove(2));
+  }
+
+  @Test
+  public void testBalanced() {
+    //increasing keys are the worst case for an unbalanced tree, where each put would be linear
+    PersistentTree<Integer, String> tree = PersistentTree.empty();
+    for (int i = 0; i < 1 << 16; i++) {
+      tree = tree.put(i, "");
+    }
+
+    assertEquals(1 << 16, tree.values().size());
+    assertEquals(1 << 15, tree.headSize(1 << 15, false));
+  }
+
+  @Test
+  public void testHeadSizeOfTimes() {
+    PersistentTree<Double, String> tree = PersistentTree.empty();
+    for (int t = 0; t < 100; t += 2) {
+      tree = tree.put((double) t, "t" + t);
+    }
+
+    for (double t = -1; t < 101; t += 0.5) {
+      assertEquals(tree.headSize(t, true), PersistentTree.headSize(tree, t));
+    }
+    assertEquals(0, PersistentTree.headSize(PersistentTree.<Double, String>empty(), 1));
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testKeyAtOutOfBounds() {
+    thrown.expect(IndexOutOfBoundsException.class);
+    thrown.expectMessage("Index 1 is out of bounds.");
+    PersistentTree.<Integer, String>empty().put(1, "a").keyAt(1);
+  }
+
+  @Test
+  public void testFirstKeyEmpty() {
+    thrown.expect(IndexOutOfBoundsException.class);
+    PersistentTree.<Integer, String>empty().firstKey();
+  }
+}
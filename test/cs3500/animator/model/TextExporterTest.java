@@ -0,0 +1,120 @@
+package cs3500.animator.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for writing the textual description of an animation with the text exporter.
+ */
+public class TextExporterTest {
+
+  private final Animation animation = new Animation.Builder()
+          .declareShape("R", "rectangle").declareShape("Empty", "ellipse")
+          .declareShape("C", "ellipse")
+          .addMotion("R", 1, 10, 20, 5, 5, 0, 0, 0, 3, 30, 40, 5, 5, 10, 20, 30)
+          .addKeyframe("R", 7, 1, 2, 3, 4, 5, 6, 7)
+          .addMotion("C", 2, 10, 20, 4, 6, 255, 0, 0, 5, 10, 20, 4, 6, 255, 0, 0)
+          .rotateKeyFrame("C", 5, 45.5).build();
+
+  /**
+   * Represents an appendable object that records each piece of output written to it.
+   */
+  private static class RecordingAppendable implements Appendable {
+
+    private final ArrayList<String> writes = new ArrayList<>();
+
+    @Override
+    public Appendable append(CharSequence csq) {
+      this.writes.add(csq.toString());
+      return this;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) {
+      return this.append(csq.subSequence(start, end));
+    }
+
+    @Override
+    public Appendable append(char c) {
+      return this.append(String.valueOf(c));
+    }
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals("Shape R Rectangle\n"
+            + "motion R 1.0 10.0 20.0 5.0 5.0 0.0 0.0 0.0 0.0 3.0 30.0 40.0 5.0 5.0 10.0 20.0 30.0"
+            + " 0.0\n"
+            + "motion R 3.0 30.0 40.0 5.0 5.0 10.0 20.0 30.0 0.0 7.0 1.0 2.0 3.0 4.0 5.0 6.0 7.0"
+            + " 0.0\n"
+            + "\n"
+            + "Shape Empty Ellipse\n"
+            + "\n"
+            + "Shape C Ellipse\n"
+            + "motion C 2.0 10.0 20.0 4.0 6.0 255.0 0.0 0.0 0.0 5.0 10.0 20.0 4.0 6.0 255.0 0.0 0.0"
+            + " 45.5", TextExporter.toString(this.animation.getShapeKeyFrameRepresentation()));
+  }
+
+  @Test
+  public void testToStringEmpty() {
+    assertEquals("", TextExporter.toString(new LinkedHashMap<>()));
+    assertEquals("Shape Empty Ellipse", new Animation.Builder()
+            .declareShape("Empty", "ellipse").build().getStringRepresentation());
+  }
+
+  @Test
+  public void testToStringMatchesMotions() {
+    LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> keyFrames =
+            this.animation.getShapeKeyFrameRepresentation();
+    ArrayList<KeyFrameModel> frames = keyFrames.get(keyFrames.keySet().iterator().next());
+    assertEquals("Shape R Rectangle\n" + new Motion(frames.get(0), frames.get(1))
+                    + new Motion(frames.get(1), frames.get(2)),
+            TextExporter.toString(keyFrames).substring(0,
+                    TextExporter.toString(keyFrames).indexOf("\n\n") + 1));
+  }
+
+  @Test
+  public void testWriteEachLine() throws IOException {
+    RecordingAppendable ap = new RecordingAppendable();
+    TextExporter.write(this.animation.getShapeKeyFrameRepresentation(), ap);
+
+    assertEquals(6, ap.writes.size());
+    assertEquals("Shape R Rectangle", ap.writes.get(0));
+    assertEquals("\nmotion R 1.0 10.0 20.0 5.0 5.0 0.0 0.0 0.0 0.0 3.0 30.0 40.0 5.0 5.0 10.0 20.0"
+            + " 30.0 0.0", ap.writes.get(1));
+    assertEquals("\n\nShape Empty Ellipse", ap.writes.get(3));
+    assertEquals(TextExporter.toString(this.animation.getShapeKeyFrameRepresentation()),
+            String.join("", ap.writes));
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testWriteIOException() throws IOException {
+    thrown.expect(IOException.class);
+    TextExporter.write(this.animation.getShapeKeyFrameRepresentation(), new Appendable() {
+      @Override
+      public Appendable append(CharSequence csq) throws IOException {
+        throw new IOException();
+      }
+
+      @Override
+      public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        throw new IOException();
+      }
+
+      @Override
+      public Appendable append(char c) throws IOException {
+        throw new IOException();
+      }
+    });
+  }
+}
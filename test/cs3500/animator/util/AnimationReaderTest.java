@@ -0,0 +1,181 @@
+package cs3500.animator.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import cs3500.animator.model.Animation;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for reading animation files with an AnimationReader.
+ */
+public class AnimationReaderTest {
+
+  /**
+   * Reads the given animation file text into an animation.
+   *
+   * @param text the animation file's text
+   * @return the animation
+   */
+  private Animation read(String text) {
+    return AnimationReader.parseFile(new StringReader(text), new Animation.Builder());
+  }
+
+  @Test
+  public void testParseFile() {
+    Animation a = this.read("canvas 10 20 300 400\n"
+            + "shape R rectangle\n"
+            + "motion R 1 2 3 4 5 6 7 8   10 20 30 40 50 60 70 80\n");
+
+    assertEquals(10, a.getCanvas().getX());
+    assertEquals(400, a.getCanvas().getHeight());
+    assertEquals("Shape R Rectangle\n"
+            + "motion R 1.0 2.0 3.0 4.0 5.0 6.0 7.0 8.0 0.0 10.0 20.0 30.0 40.0 50.0 60.0 70.0 80.0"
+            + " 0.0", a.getStringRepresentation());
+  }
+
+  @Test
+  public void testParseFileCommentsAndWhitespace() {
+    Animation a = this.read("# a comment\r\n"
+            + "canvas 0 0 100 100 #trailing comment\n"
+            + "\tshape   R rectangle#comment touching a token\n"
+            + "\n\n"
+            + "motion R 1 2 3 4 5 6 7 8\n"
+            + "         10 20 30 40 50 60 70 80 # motions may span lines\n"
+            + "#");
+
+    assertEquals("Shape R Rectangle\n"
+            + "motion R 1.0 2.0 3.0 4.0 5.0 6.0 7.0 8.0 0.0 10.0 20.0 30.0 40.0 50.0 60.0 70.0 80.0"
+            + " 0.0", a.getStringRepresentation());
+  }
+
+  @Test
+  public void testParseFileLayersAndRotations() {
+    Animation a = this.read("shape A rectangle 2\n"
+            + "shape B ellipse\n"
+            + "motion A 1 0 0 1 1 0 0 0 5 0 0 1 1 0 0 0\n"
+            + "motion B 1 0 0 1 1 0 0 0 5 0 0 1 1 0 0 0\n"
+            + "rotation A 5 -45.5\n");
+
+    assertEquals("B", a.getShapes().get(0).getKey());
+    assertEquals(2, a.getShapes().get(1).getLayer());
+    assertEquals("Shape B Ellipse\n"
+            + "motion B 1.0 0.0 0.0 1.0 1.0 0.0 0.0 0.0 0.0 5.0 0.0 0.0 1.0 1.0 0.0 0.0 0.0 0.0\n"
+            + "\n"
+            + "Shape A Rectangle\n"
+            + "motion A 1.0 0.0 0.0 1.0 1.0 0.0 0.0 0.0 0.0 5.0 0.0 0.0 1.0 1.0 0.0 0.0 0.0 -45.5",
+            a.getStringRepresentation());
+  }
+
+  @Test
+  public void testParseFileSignedIntegers() {
+    Animation a = this.read("canvas -10 +20 100 100\n");
+
+    assertEquals(-10, a.getCanvas().getX());
+    assertEquals(20, a.getCanvas().getY());
+  }
+
+  @Test
+  public void testParseFileSample() throws FileNotFoundException {
+    Animation a = AnimationReader.parseFile(new FileReader("samples/toh-12.txt"),
+            new Animation.Builder());
+
+    assertEquals(12, a.getShapes().size());
+    assertEquals(12, a.getShapes(1).size());
+  }
+
+  @Test
+  public void testParseMappedFileSamples() throws IOException {
+    for (String name : new String[]{"toh-3.txt", "toh-12.txt", "buildings.txt",
+        "RotationExample.txt", "LayerExample.txt", "smalldemo.txt"}) {
+      File file = new File("samples/" + name);
+      Animation read = AnimationReader.parseFile(new FileReader(file), new Animation.Builder());
+      Animation mapped = AnimationReader.parseFile(file, new Animation.Builder());
+
+      assertEquals(read.getStringRepresentation(), mapped.getStringRepresentation());
+    }
+  }
+
+  @Test
+  public void testParseMappedFileUnicode() throws IOException {
+    File file = File.createTempFile("animation", ".txt");
+    file.deleteOnExit();
+    Files.write(file.toPath(), ("# caf\u00e9 \u2603\n"
+            + "shape \u00e9t\u00e9 rectangle\n"
+            + "motion \u00e9t\u00e9 1 2 3 4 5 6 7 8 10 20 30 40 50 60 70 80\n")
+            .getBytes(StandardCharsets.UTF_8));
+    String expected = AnimationReader.parseFile(new StringReader(new String(
+            Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8)), new Animation.Builder())
+            .getStringRepresentation();
+
+    assertEquals(expected, AnimationReader.parseFile(file, new Animation.Builder())
+            .getStringRepresentation());
+
+    //maps a few bytes at a time, so that characters are split across windows
+    for (int window = 4; window < 12; window++) {
+      try (MappedFileSource source = new MappedFileSource(
+              new FileInputStream(file).getChannel(), window)) {
+        assertEquals(expected, AnimationReader.parseFile(source, new Animation.Builder())
+                .getStringRepresentation());
+      }
+    }
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testParseFileUnexpectedKeyword() {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Unexpected keyword at line 2, column 3: moton R 1 2");
+    this.read("shape R rectangle\n  moton R 1 2\nmotion R");
+  }
+
+  @Test
+  public void testParseFileNotAnInteger() {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Motion: expected integer for initial width at line 3, column 16, got: "
+            + "4.5");
+    this.read("shape R rectangle\n#comment\nmotion R 1 2 3 4.5 5 6 7 8 10 20 30 40 50 60 70 80\n");
+  }
+
+  @Test
+  public void testParseFileIntegerOverflow() {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Canvas: expected integer for width at line 1, column 12, got: "
+            + "2147483648");
+    this.read("canvas 0 0 2147483648 10");
+  }
+
+  @Test
+  public void testParseFileMissingInput() {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Canvas: expected integer for height, but no more input available");
+    this.read("canvas 0 0 10 # no height");
+  }
+
+  @Test
+  public void testParseFileRotationNotADouble() {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Rotation: Expected a theta at line 1, column 14, but not given a "
+            + "double");
+    this.read("rotation R 1 degrees");
+  }
+
+  @Test
+  public void testParseMappedFileNotFound() throws IOException {
+    thrown.expect(FileNotFoundException.class);
+    AnimationReader.parseFile(new File("samples/missing.txt"), new Animation.Builder());
+  }
+}
@@ -0,0 +1,102 @@
+package cs3500.animator.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import cs3500.animator.model.Animation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Represents tests for reading binary animations with a BinaryAnimationReader.
+ */
+public class BinaryAnimationReaderTest {
+
+  /**
+   * Reads the given bytes as a binary animation.
+   *
+   * @param bytes the bytes, as ints for readability
+   * @return the animation
+   * @throws IOException if the bytes can't be read
+   */
+  private Animation read(int... bytes) throws IOException {
+    byte[] b = new byte[bytes.length];
+    for (int i = 0; i < bytes.length; i++) {
+      b[i] = (byte) bytes[i];
+    }
+    return BinaryAnimationReader.parse(new ByteArrayInputStream(b), new Animation.Builder());
+  }
+
+  @Test
+  public void testParse() throws IOException {
+    Animation a = this.read('A', 'N', 'I', 'M', 1,
+            //canvas of -1, 2, 300, 4
+            1, 4, 0xD8, 0x04, 8,
+            //string table of "R", "rectangle"
+            2, 1, 'R', 9, 'r', 'e', 'c', 't', 'a', 'n', 'g', 'l', 'e',
+            //one shape named R of type rectangle on layer 1
+            1, 0, 1, 2,
+            //two key frames at times 1 and 11, the second rotated 90 degrees
+            2,
+            2, 2, 4, 6, 8, 10, 20, 30,
+            21, 3, 4, 6, 8, 11, 21, 31, 0x40, 0x56, 0x80, 0, 0, 0, 0, 0);
+
+    assertEquals(-1, a.getCanvas().getX());
+    assertEquals(300, a.getCanvas().getWidth());
+    assertEquals(1, a.getShapes().get(0).getLayer());
+    assertEquals("Shape R Rectangle\n"
+            + "motion R 1.0 1.0 2.0 3.0 4.0 10.0 20.0 30.0 0.0 11.0 -2.0 2.0 3.0 4.0 11.0 21.0"
+            + " 31.0 90.0", a.getStringRepresentation());
+  }
+
+  @Test
+  public void testIsBinaryFile() {
+    assertTrue(BinaryAnimationReader.isBinaryFile("samples/toh-3.anim"));
+    assertEquals(false, BinaryAnimationReader.isBinaryFile("samples/toh-3.txt"));
+    assertEquals(false, BinaryAnimationReader.isBinaryFile(null));
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testParseNotBinary() throws IOException {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Not a binary animation.");
+    this.read('c', 'a', 'n', 'v', 'a', 's');
+  }
+
+  @Test
+  public void testParseUnsupportedVersion() throws IOException {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Unsupported binary animation version: 2.");
+    this.read('A', 'N', 'I', 'M', 2);
+  }
+
+  @Test
+  public void testParseTruncated() throws IOException {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Unexpected end of binary animation.");
+    this.read('A', 'N', 'I', 'M', 1, 0, 0);
+  }
+
+  @Test
+  public void testParseInvalidStringIndex() throws IOException {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Invalid string index: 3.");
+    this.read('A', 'N', 'I', 'M', 1, 0, 0, 4, 4, 0, 1, 3, 0, 0);
+  }
+
+  @Test
+  public void testParseTimeOutOfRange() throws IOException {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Key frame time is out of range: 2147483648.");
+    this.read('A', 'N', 'I', 'M', 1, 0, 0, 4, 4, 2, 1, 'R', 9, 'r', 'e', 'c', 't', 'a', 'n', 'g',
+            'l', 'e', 1, 0, 1, 0, 1, 0x80, 0x80, 0x80, 0x80, 0x10);
+  }
+}
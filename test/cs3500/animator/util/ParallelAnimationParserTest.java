@@ -0,0 +1,106 @@
+package cs3500.animator.util;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.ForkJoinPool;
+
+import cs3500.animator.model.Animation;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for parsing animation files on many threads with a ParallelAnimationParser.
+ */
+public class ParallelAnimationParserTest {
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  /**
+   * Shuts down the pool's worker threads.
+   */
+  @After
+  public void shutdown() {
+    this.pool.shutdown();
+  }
+
+  /**
+   * Writes the given text to a temporary file.
+   *
+   * @param text the text
+   * @return the file
+   * @throws IOException if the file can't be written
+   */
+  private File write(String text) throws IOException {
+    File file = File.createTempFile("animation", ".txt");
+    file.deleteOnExit();
+    Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  @Test
+  public void testParseSamples() throws IOException {
+    for (String name : new String[]{"toh-3.txt", "toh-8.txt", "buildings.txt",
+        "RotationExample.txt", "LayerExample.txt", "smalldemo.txt"}) {
+      File file = new File("samples/" + name);
+      String expected = AnimationReader.parseFile(new FileReader(file), new Animation.Builder())
+              .getStringRepresentation();
+
+      //splits the file at nearly every line, and maps it a few kilobytes at a time
+      for (int chunk : new int[]{1, 100, 0}) {
+        ParallelAnimationParser parser = new ParallelAnimationParser(this.pool, 4096, chunk);
+        assertEquals(name, expected, parser.parse(file, new Animation.Builder())
+                .getStringRepresentation());
+      }
+      assertEquals(name, expected, AnimationReader.parseFileParallel(file,
+              new Animation.Builder(), this.pool).getStringRepresentation());
+    }
+  }
+
+  @Test
+  public void testParseStatementSpanningLines() throws IOException {
+    //a chunk starting at the second line would split the first statement
+    File file = this.write("shape\n"
+            + "motion rectangle\n"
+            + "motion motion 1 2 3 4 5 6 7 8\n"
+            + "  20 30 40 50 60 70 80 90\n");
+
+    ParallelAnimationParser parser = new ParallelAnimationParser(this.pool, 4096, 1);
+    assertEquals("Shape motion Rectangle\n"
+            + "motion motion 1.0 2.0 3.0 4.0 5.0 6.0 7.0 8.0 0.0 20.0 30.0 40.0 50.0 60.0 70.0"
+            + " 80.0 90.0 0.0",
+            parser.parse(file, new Animation.Builder()).getStringRepresentation());
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testParseErrorLine() throws IOException {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Motion: expected integer for final time at line 5, column 26, got: x");
+    File file = this.write("canvas 0 0 10 10\n"
+            + "shape R rectangle\n"
+            + "# a comment\n"
+            + "motion R 1 2 3 4 5 6 7 8 9 2 3 4 5 6 7 8\n"
+            + "motion R 9 2 3 4 5 6 7 8 x 2 3 4 5 6 7 8\n");
+
+    new ParallelAnimationParser(this.pool, 4096, 1).parse(file, new Animation.Builder());
+  }
+
+  @Test
+  public void testParseBuilderErrorBeforeParseError() throws IOException {
+    thrown.expect(IllegalArgumentException.class);
+    File file = this.write("motion Missing 1 2 3 4 5 6 7 8 9 2 3 4 5 6 7 8\n"
+            + "motion R 9 2 3 4 5 6 7 8 x 2 3 4 5 6 7 8\n");
+
+    new ParallelAnimationParser(this.pool, 4096, 1).parse(file, new Animation.Builder());
+  }
+}
@@ -0,0 +1,99 @@
+package cs3500.animator.view;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+import cs3500.animator.model.Animation;
+import cs3500.animator.model.ImmutableAnimation;
+import cs3500.animator.util.AnimationReader;
+import cs3500.animator.util.BinaryAnimationReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Represents tests for methods and constructors in the binary view class.
+ */
+public class BinaryViewTest {
+
+  /**
+   * Writes the given animation in the binary format.
+   *
+   * @param a the animation
+   * @return the bytes of the binary animation
+   */
+  private byte[] write(Animation a) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new BinaryView(new ImmutableAnimation(a), out).makeVisible();
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testMakeVisibleRoundTrip() throws IOException {
+    for (String name : new String[]{"toh-3.txt", "toh-8.txt", "buildings.txt",
+        "RotationExample.txt", "LayerExample.txt", "big-bang-big-crunch.txt"}) {
+      File file = new File("samples/" + name);
+      Animation text = AnimationReader.parseFile(file, new Animation.Builder());
+      byte[] bytes = this.write(text);
+      Animation binary = BinaryAnimationReader.parse(new ByteArrayInputStream(bytes),
+              new Animation.Builder());
+
+      assertEquals(name, text.getStringRepresentation(), binary.getStringRepresentation());
+      assertEquals(name, text.getShapes().toString(), binary.getShapes().toString());
+      assertEquals(name, text.getCanvas().getWidth(), binary.getCanvas().getWidth());
+      assertTrue(name + " is " + bytes.length + " bytes", bytes.length < file.length() / 2);
+    }
+  }
+
+  @Test
+  public void testMakeVisibleLargeTimeDifference() throws IOException {
+    //a difference of 2^30 or more between key frame times overflows an int once it's shifted
+    Animation a = new Animation.Builder().declareShape("R", "rectangle")
+            .addMotion("R", 0, 1, 2, 3, 4, 5, 6, 7, Integer.MAX_VALUE, 8, 9, 10, 11, 12, 13, 14)
+            .rotateKeyFrame("R", Integer.MAX_VALUE, 45).build();
+    Animation binary = BinaryAnimationReader.parse(new ByteArrayInputStream(this.write(a)),
+            new Animation.Builder());
+
+    assertEquals(a.getStringRepresentation(), binary.getStringRepresentation());
+    assertEquals(Integer.MAX_VALUE, binary.getEndTime());
+  }
+
+  @Test
+  public void testMakeVisibleHeader() {
+    byte[] bytes = this.write(new Animation());
+
+    assertEquals("ANIM", new String(bytes, 0, 4));
+    assertEquals(BinaryAnimationReader.VERSION, bytes[4]);
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testConstructorNullModel() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Model and output stream can't be null.");
+    new BinaryView(null, new ByteArrayOutputStream());
+  }
+
+  @Test
+  public void testConstructorNullOutputStream() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Model and output stream can't be null.");
+    new BinaryView(new ImmutableAnimation(new Animation()), null);
+  }
+
+  @Test
+  public void testAnimate() {
+    thrown.expect(UnsupportedOperationException.class);
+    thrown.expectMessage("Binary view has no graphical display to animate on.");
+    new BinaryView(new ImmutableAnimation(new Animation()), new ByteArrayOutputStream())
+            .animate(null);
+  }
+}
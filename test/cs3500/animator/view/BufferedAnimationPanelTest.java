@@ -0,0 +1,186 @@
+package cs3500.animator.view;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import cs3500.animator.controller.EndOperation;
+import cs3500.animator.controller.State;
+import cs3500.animator.model.Animation;
+import cs3500.animator.model.ImmutableAnimation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Represents tests for drawing frames of an animation on a render thread.
+ */
+public class BufferedAnimationPanelTest {
+
+  private final Animation model = ViewFixtures.makeModel();
+
+  /**
+   * Waits for the render thread of the given panel to complete the given number of frames.
+   *
+   * @param panel  the panel
+   * @param frames the number of frames
+   * @throws InterruptedException if interrupted while waiting
+   */
+  private void await(BufferedAnimationPanel panel, int frames) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (panel.getFramesRendered() < frames) {
+      assertTrue("Render thread didn't complete a frame.",
+              System.currentTimeMillis() < deadline);
+      Thread.sleep(1);
+    }
+  }
+
+  /**
+   * Paints the given panel onto an image the size of the canvas.
+   *
+   * @param panel the panel
+   * @return the image
+   */
+  private BufferedImage paint(BufferedAnimationPanel panel) {
+    BufferedImage image = new BufferedImage(40, 30, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g2d = image.createGraphics();
+    panel.setSize(40, 30);
+    panel.paintComponent(g2d);
+    g2d.dispose();
+    return image;
+  }
+
+  @Test
+  public void testFirstFrame() throws InterruptedException {
+    BufferedAnimationPanel panel = new BufferedAnimationPanel(
+            new ImmutableAnimation(this.model), 1);
+    this.await(panel, 1);
+
+    BufferedImage image = this.paint(panel);
+    assertEquals(0xFF0000, image.getRGB(5, 5) & 0xFFFFFF);
+    assertEquals(panel.getBackground().getRGB() & 0xFFFFFF, image.getRGB(25, 5) & 0xFFFFFF);
+  }
+
+  @Test
+  public void testTimeAdvancesOnRenderThread() throws InterruptedException {
+    BufferedAnimationPanel panel = new BufferedAnimationPanel(
+            new ImmutableAnimation(this.model), 1);
+    this.await(panel, 1);
+
+    //painting only copies the latest frame, so doesn't advance the animation
+    this.paint(panel);
+    this.paint(panel);
+    assertEquals(0xFF0000, this.paint(panel).getRGB(5, 5) & 0xFFFFFF);
+
+    panel.setTime(10);
+    this.await(panel, 2);
+
+    BufferedImage image = this.paint(panel);
+    assertEquals(0xFF0000, image.getRGB(25, 5) & 0xFFFFFF);
+    assertEquals(0x0000FF, image.getRGB(25, 15) & 0xFFFFFF);
+  }
+
+  @Test
+  public void testDrawsCopyOfModel() throws InterruptedException {
+    BufferedAnimationPanel panel = new BufferedAnimationPanel(
+            new ImmutableAnimation(this.model), 1);
+    this.await(panel, 1);
+    panel.setAnimation(1, State.PAUSE, EndOperation.OPEN);
+    this.await(panel, 2);
+
+    //edits to the model aren't drawn until the model is updated
+    this.model.removeShape("R");
+    panel.setTime(0);
+    this.await(panel, 3);
+    assertEquals(0xFF0000, this.paint(panel).getRGB(5, 5) & 0xFFFFFF);
+
+    panel.setModel(new ImmutableAnimation(this.model));
+    this.await(panel, 4);
+    assertEquals(panel.getBackground().getRGB() & 0xFFFFFF,
+            this.paint(panel).getRGB(5, 5) & 0xFFFFFF);
+  }
+
+  @Test
+  public void testDrawsAtFrameRateWhilePlaying() throws InterruptedException {
+    BufferedAnimationPanel panel = new BufferedAnimationPanel(
+            new ImmutableAnimation(this.model), 1, 200);
+
+    //frames keep being drawn without being asked for until the animation is paused
+    this.await(panel, 10);
+    panel.setAnimation(1, State.PAUSE, EndOperation.OPEN);
+    Thread.sleep(50);
+    int paused = panel.getFramesRendered();
+    Thread.sleep(100);
+    assertEquals(paused, panel.getFramesRendered());
+  }
+
+  @Test
+  public void testStopsDrawingOnceClosed() throws InterruptedException {
+    BufferedAnimationPanel panel = new BufferedAnimationPanel(
+            new ImmutableAnimation(this.model), 1, 200);
+    this.await(panel, 1);
+
+    //the animation closes at it's end, after which frames are only drawn when asked for
+    panel.setAnimation(1, State.RUN, EndOperation.CLOSE);
+    panel.setTime(this.model.getEndTime() + 1);
+    Thread.sleep(50);
+    int closed = panel.getFramesRendered();
+    Thread.sleep(100);
+    assertEquals(closed, panel.getFramesRendered());
+
+    panel.setTime(0);
+    this.await(panel, closed + 2);
+  }
+
+  @Test
+  public void testDrawsBackgroundSetOnPanel() throws InterruptedException {
+    BufferedAnimationPanel panel = new BufferedAnimationPanel(
+            new ImmutableAnimation(this.model), 1);
+    this.await(panel, 1);
+    panel.setAnimation(1, State.PAUSE, EndOperation.OPEN);
+    this.await(panel, 2);
+
+    panel.setBackground(Color.GREEN);
+    panel.setTime(0);
+    this.await(panel, 3);
+    assertEquals(0x00FF00, this.paint(panel).getRGB(25, 5) & 0xFFFFFF);
+  }
+
+  @Test
+  public void testStopEndsRenderThread() throws InterruptedException {
+    BufferedAnimationPanel panel = new BufferedAnimationPanel(
+            new ImmutableAnimation(this.model), 1, 200);
+    this.await(panel, 1);
+
+    //no frames are drawn once the render thread is stopped, until it's started again
+    panel.stop();
+    int stopped = panel.getFramesRendered();
+    panel.setTime(10);
+    Thread.sleep(100);
+    assertEquals(stopped, panel.getFramesRendered());
+
+    panel.start();
+    this.await(panel, stopped + 1);
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testConstructorNullModel() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Model can't be null.");
+    new BufferedAnimationPanel(null, 1);
+  }
+
+  @Test
+  public void testConstructorInvalidFrameRate() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Frame rate must be greater than zero.");
+    new BufferedAnimationPanel(new ImmutableAnimation(this.model), 1, 0);
+  }
+}
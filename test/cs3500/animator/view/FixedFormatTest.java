@@ -0,0 +1,77 @@
+package cs3500.animator.view;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for formatting numbers like String.format with the fixed format helper.
+ */
+public class FixedFormatTest {
+
+  /**
+   * Asserts that the given value is formatted like {@code %f}.
+   *
+   * @param v the value
+   */
+  private static void assertFixed(double v) {
+    StringBuilder sb = new StringBuilder();
+    FixedFormat.appendFixed(sb, v);
+    assertEquals(Double.toString(v), String.format("%f", v), sb.toString());
+  }
+
+  /**
+   * Asserts that the given integer is formatted like {@code %Nd} with the given width.
+   *
+   * @param v     the integer
+   * @param width the width
+   */
+  private static void assertInt(int v, int width) {
+    StringBuilder sb = new StringBuilder();
+    FixedFormat.appendInt(sb, v, width);
+    assertEquals(String.format("%" + width + "d", v), sb.toString());
+  }
+
+  @Test
+  public void testAppendFixedSpecialValues() {
+    for (double v : new double[]{0.0, -0.0, 1.0, -1.0, 0.5, 0.0000005, -0.0000005, 0.0000004999,
+        0.0000015, 2.5e-7, -1e-7, 0.1, 0.2, 0.3, 1.0 / 3, 2.0 / 3, 123456.7890125, 999999.9999995,
+        1e6, 1e7 + 0.5, 1e15, 1e20, 1e300, -1e300, Double.MIN_VALUE, Double.MAX_VALUE,
+        Long.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}) {
+      assertFixed(v);
+    }
+  }
+
+  @Test
+  public void testAppendFixedTimesAtSpeeds() {
+    for (int speed = 1; speed <= 100; speed++) {
+      for (int t = 0; t <= 1000; t++) {
+        assertFixed(t * (1 / (double) speed));
+      }
+    }
+  }
+
+  @Test
+  public void testAppendFixedRandomValues() {
+    Random random = new Random(3500);
+    for (int i = 0; i < 200000; i++) {
+      //covers values near a half in the seventh digit, and values of many magnitudes
+      assertFixed((random.nextInt(2000000000) - 1000000000) / 1e7 + 5e-8);
+      assertFixed((random.nextInt(20000000) - 10000000) / 1e7);
+      assertFixed(random.nextGaussian() * Math.pow(10, random.nextInt(20) - 8));
+      assertFixed(Double.longBitsToDouble(random.nextLong()));
+    }
+  }
+
+  @Test
+  public void testAppendInt() {
+    for (int width = 1; width <= 12; width++) {
+      for (int v : new int[]{0, 1, -1, 9, 10, -10, 99, 255, -255, 1000, 65536, Integer.MAX_VALUE,
+          Integer.MIN_VALUE}) {
+        assertInt(v, width);
+      }
+    }
+  }
+}
@@ -0,0 +1,200 @@
+package cs3500.animator.view;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cs3500.animator.model.Animation;
+import cs3500.animator.model.ImmutableAnimation;
+import cs3500.animator.model.ImmutableModel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Represents tests for rendering frames on many threads with the frame pipeline.
+ */
+public class FramePipelineTest {
+
+  private final ImmutableModel model = new ImmutableAnimation(new Animation.Builder()
+          .setBounds(0, 0, 200, 20).declareShape("R", "rectangle")
+          .addMotion("R", 0, 0, 0, 1, 20, 255, 0, 0, 199, 199, 0, 1, 20, 255, 0, 0).build());
+
+  /**
+   * Represents an encoder that encodes each frame as the column the rectangle was drawn in, and
+   * records the frames written and the most frames ever waiting to be written.
+   */
+  private static class ColumnEncoder implements FramePipeline.FrameEncoder<int[]> {
+
+    private final ArrayList<Integer> ticks = new ArrayList<>();
+    private final ArrayList<Integer> columns = new ArrayList<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger mostWaiting = new AtomicInteger();
+
+    @Override
+    public int[] encode(int tick, BufferedImage image) {
+      //slows down some frames so they finish out of order
+      if (tick % 7 == 0) {
+        Thread.yield();
+      }
+
+      int column = -1;
+      for (int x = 0; x < image.getWidth(); x++) {
+        if ((image.getRGB(x, 10) & 0xFFFFFF) == 0xFF0000) {
+          column = x;
+        }
+      }
+      this.mostWaiting.accumulateAndGet(this.waiting.incrementAndGet(), Math::max);
+      return new int[]{tick, column};
+    }
+
+    @Override
+    public void write(int tick, int[] encoded) {
+      this.waiting.decrementAndGet();
+      assertEquals(tick, encoded[0]);
+      this.ticks.add(tick);
+      this.columns.add(encoded[1]);
+    }
+  }
+
+  @Test
+  public void testRunInOrder() throws IOException {
+    for (int threads : new int[]{1, 2, 4, 8}) {
+      ColumnEncoder encoder = new ColumnEncoder();
+      new FramePipeline<int[]>(this.model, threads, 3).run(new FrameRange(0, 199, 1), encoder);
+
+      assertEquals(200, encoder.ticks.size());
+      for (int i = 0; i < 200; i++) {
+        assertEquals(i, (int) encoder.ticks.get(i));
+        assertEquals(i, (int) encoder.columns.get(i));
+      }
+      assertTrue(encoder.mostWaiting.get() <= 3);
+    }
+  }
+
+  @Test
+  public void testRunRange() throws IOException {
+    ColumnEncoder encoder = new ColumnEncoder();
+    new FramePipeline<int[]>(this.model, 4, 8).run(new FrameRange(10, 1000, 30), encoder);
+
+    ArrayList<Integer> expected = new ArrayList<>();
+    for (int t = 10; t <= 199; t += 30) {
+      expected.add(t);
+    }
+    assertEquals(expected, encoder.ticks);
+    assertEquals(expected, encoder.columns);
+
+    encoder = new ColumnEncoder();
+    new FramePipeline<int[]>(this.model, 4, 8).run(new FrameRange(500, 1000, 1), encoder);
+    assertEquals(0, encoder.ticks.size());
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testRunEncodeError() throws IOException {
+    thrown.expect(IOException.class);
+    thrown.expectMessage("Can't encode tick 50.");
+
+    new FramePipeline<Integer>(this.model, 4, 4).run(new FrameRange(0, 199, 1),
+            new FramePipeline.FrameEncoder<Integer>() {
+              @Override
+              public Integer encode(int tick, BufferedImage image) throws IOException {
+                if (tick == 50) {
+                  throw new IOException("Can't encode tick 50.");
+                }
+                return tick;
+              }
+
+              @Override
+              public void write(int tick, Integer encoded) {
+                //writes nothing
+              }
+            });
+  }
+
+  @Test(timeout = 10000)
+  public void testRunImageError() throws IOException {
+    thrown.expect(NegativeArraySizeException.class);
+
+    //no worker can create an image this large, so each fails before rendering it's first frame
+    ImmutableModel huge = new ImmutableAnimation(new Animation.Builder()
+            .setBounds(0, 0, 50000, 50000).declareShape("R", "rectangle")
+            .addMotion("R", 0, 0, 0, 1, 20, 255, 0, 0, 9, 9, 0, 1, 20, 255, 0, 0).build());
+    new FramePipeline<Integer>(huge, 4, 4).run(new FrameRange(0, 9, 1),
+            new FramePipeline.FrameEncoder<Integer>() {
+              @Override
+              public Integer encode(int tick, BufferedImage image) {
+                return tick;
+              }
+
+              @Override
+              public void write(int tick, Integer encoded) {
+                //writes nothing
+              }
+            });
+  }
+
+  @Test(timeout = 10000)
+  public void testRunEncodeThrowsError() throws IOException {
+    thrown.expect(OutOfMemoryError.class);
+    thrown.expectMessage("No room to encode tick 0.");
+
+    new FramePipeline<Integer>(this.model, 4, 4).run(new FrameRange(0, 199, 1),
+            new FramePipeline.FrameEncoder<Integer>() {
+              @Override
+              public Integer encode(int tick, BufferedImage image) {
+                if (tick == 0) {
+                  throw new OutOfMemoryError("No room to encode tick 0.");
+                }
+                return tick;
+              }
+
+              @Override
+              public void write(int tick, Integer encoded) {
+                //writes nothing
+              }
+            });
+  }
+
+  @Test
+  public void testRunWriteError() throws IOException {
+    thrown.expect(IOException.class);
+    thrown.expectMessage("Can't write tick 3.");
+
+    new FramePipeline<Integer>(this.model, 4, 4).run(new FrameRange(0, 199, 1),
+            new FramePipeline.FrameEncoder<Integer>() {
+              @Override
+              public Integer encode(int tick, BufferedImage image) {
+                return tick;
+              }
+
+              @Override
+              public void write(int tick, Integer encoded) throws IOException {
+                if (tick == 3) {
+                  throw new IOException("Can't write tick 3.");
+                }
+              }
+            });
+  }
+
+  @Test
+  public void testConstructorInvalidThreads() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Threads and queue size must be greater than zero.");
+    new FramePipeline<Integer>(this.model, 0, 1);
+  }
+
+  @Test
+  public void testConstructorNullModel() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Model can't be null.");
+    new FramePipeline<Integer>(null, 1, 1);
+  }
+}
@@ -0,0 +1,93 @@
+package cs3500.animator.view;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for parsing and counting the ticks of a frame range.
+ */
+public class FrameRangeTest {
+
+  @Test
+  public void testParse() {
+    FrameRange range = FrameRange.parse("5:20");
+    assertEquals(5, range.getStart());
+    assertEquals(20, range.getEnd());
+    assertEquals(1, range.getStride());
+
+    range = FrameRange.parse("0:100:10");
+    assertEquals(0, range.getStart());
+    assertEquals(100, range.getEnd());
+    assertEquals(10, range.getStride());
+  }
+
+  @Test
+  public void testCount() {
+    FrameRange range = new FrameRange(5, 20, 5);
+    assertEquals(4, range.count(100));
+    assertEquals(4, range.count(20));
+    assertEquals(3, range.count(19));
+    assertEquals(1, range.count(5));
+    assertEquals(0, range.count(4));
+    assertEquals(5, range.getTick(0));
+    assertEquals(20, range.getTick(3));
+
+    assertEquals(3, new FrameRange(0, 7, 3).count(100));
+    assertEquals(1, new FrameRange(3, 3, 1).count(3));
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testParseNull() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Frame range can't be null.");
+    FrameRange.parse(null);
+  }
+
+  @Test
+  public void testParseMissingEnd() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Frame range must be start:end or start:end:stride.");
+    FrameRange.parse("5");
+  }
+
+  @Test
+  public void testParseTooManyParts() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Frame range must be start:end or start:end:stride.");
+    FrameRange.parse("1:2:3:4");
+  }
+
+  @Test
+  public void testParseNotIntegers() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Frame range must be made of integers.");
+    FrameRange.parse("1:x");
+  }
+
+  @Test
+  public void testNegativeStart() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Start tick can't be negative.");
+    FrameRange.parse("-1:5");
+  }
+
+  @Test
+  public void testEndBeforeStart() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("End tick can't be less than start tick.");
+    new FrameRange(5, 4, 1);
+  }
+
+  @Test
+  public void testZeroStride() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Stride must be greater than zero.");
+    FrameRange.parse("0:5:0");
+  }
+}
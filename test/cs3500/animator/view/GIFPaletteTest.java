@@ -0,0 +1,80 @@
+package cs3500.animator.view;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import cs3500.animator.model.Animation;
+import cs3500.animator.model.ImmutableAnimation;
+import cs3500.animator.util.AnimationBuilder;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for the palette animations are quantized to when written as GIFs.
+ */
+public class GIFPaletteTest {
+
+  @Test
+  public void testKeyFrameColorsMapToThemselves() {
+    GIFPalette palette = new GIFPalette(new ImmutableAnimation(new Animation.Builder()
+            .setBounds(0, 0, 10, 10).declareShape("R", "rectangle")
+            .addMotion("R", 0, 0, 0, 5, 5, 200, 10, 10, 10, 0, 0, 5, 5, 201, 10, 10).build()));
+
+    //white, the two key frame colors, and the color cube, which already has white
+    assertEquals(218, palette.size());
+    assertEquals(0xFFFFFF, palette.getColor(0));
+    assertEquals(0xFFFFFF, palette.getColor(palette.indexOf(0xFFFFFF)));
+    assertEquals(0xC80A0A, palette.getColor(palette.indexOf(0xC80A0A)));
+
+    //colors sharing a bucket with a key frame color map to it
+    assertEquals(0xC80A0A, palette.getColor(palette.indexOf(0xC90A0A)));
+  }
+
+  @Test
+  public void testQuantize() {
+    GIFPalette palette = new GIFPalette(new ImmutableAnimation(new Animation.Builder()
+            .setBounds(0, 0, 10, 10).declareShape("R", "rectangle")
+            .addMotion("R", 0, 0, 0, 5, 5, 1, 2, 3, 10, 0, 0, 5, 5, 1, 2, 3).build()));
+    byte[] indices = new byte[4];
+    palette.quantize(new int[]{0xFFFFFF, 0x010203, 0x010203, 0xFFFFFF}, indices);
+
+    assertEquals(0xFFFFFF, palette.getColor(indices[0] & 0xFF));
+    assertEquals(0x010203, palette.getColor(indices[1] & 0xFF));
+    assertEquals(0x010203, palette.getColor(indices[2] & 0xFF));
+    assertEquals(0xFFFFFF, palette.getColor(indices[3] & 0xFF));
+  }
+
+  @Test
+  public void testManyKeyFrameColors() {
+    AnimationBuilder<Animation> builder = new Animation.Builder().setBounds(0, 0, 10, 10);
+    for (int i = 0; i < 1000; i++) {
+      builder.declareShape("R" + i, "rectangle").addMotion("R" + i, 0, 0, 0, 5, 5,
+              i % 10 * 25, i / 10 % 10 * 25, i / 100 * 25, 1, 0, 0, 5, 5,
+              i % 10 * 25, i / 10 % 10 * 25, i / 100 * 25);
+    }
+    GIFPalette palette = new GIFPalette(new ImmutableAnimation(builder.build()));
+
+    assertEquals(256, palette.size());
+    assertEquals(0xFFFFFF, palette.getColor(0));
+  }
+
+  @Test
+  public void testMedianCut() {
+    ArrayList<Integer> colors = new ArrayList<>(Arrays.asList(0x000000, 0x000002, 0xFF0000,
+            0xFF0002));
+    ArrayList<Integer> reduced = GIFPalette.medianCut(colors, 2);
+
+    assertEquals(new HashSet<>(Arrays.asList(0x000001, 0xFF0001)), new HashSet<>(reduced));
+  }
+
+  @Test
+  public void testMedianCutFewerColors() {
+    ArrayList<Integer> reduced = GIFPalette.medianCut(new ArrayList<>(Arrays.asList(0x123456)),
+            5);
+
+    assertEquals(Arrays.asList(0x123456), reduced);
+  }
+}
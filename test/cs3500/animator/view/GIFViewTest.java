@@ -0,0 +1,190 @@
+package cs3500.animator.view;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.swing.Timer;
+
+import cs3500.animator.model.Animation;
+import cs3500.animator.model.ImmutableAnimation;
+import cs3500.animator.model.ImmutableModel;
+import cs3500.animator.util.AnimationReader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for writing animated GIFs with the gif view.
+ */
+public class GIFViewTest {
+
+  private final ImmutableModel model = new ImmutableAnimation(ViewFixtures.makeModel());
+
+  /**
+   * Reads the frames of the given GIF.
+   *
+   * @param file the GIF
+   * @return the frames
+   * @throws IOException if the GIF can't be read
+   */
+  private BufferedImage[] frames(File file) throws IOException {
+    ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
+    try (ImageInputStream in = ImageIO.createImageInputStream(file)) {
+      reader.setInput(in);
+      BufferedImage[] frames = new BufferedImage[reader.getNumImages(true)];
+      for (int i = 0; i < frames.length; i++) {
+        frames[i] = reader.read(i);
+      }
+      return frames;
+    } finally {
+      reader.dispose();
+    }
+  }
+
+  /**
+   * Reads the delays of the frames of the given GIF.
+   *
+   * @param file the GIF
+   * @return the delays in hundredths of a second
+   * @throws IOException if the GIF can't be read
+   */
+  private int[] delays(File file) throws IOException {
+    ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
+    try (ImageInputStream in = ImageIO.createImageInputStream(file)) {
+      reader.setInput(in);
+      int[] delays = new int[reader.getNumImages(true)];
+      for (int i = 0; i < delays.length; i++) {
+        IIOMetadataNode root = (IIOMetadataNode) reader.getImageMetadata(i)
+                .getAsTree("javax_imageio_gif_image_1.0");
+        IIOMetadataNode control = (IIOMetadataNode) root
+                .getElementsByTagName("GraphicControlExtension").item(0);
+        delays[i] = Integer.parseInt(control.getAttribute("delayTime"));
+      }
+      return delays;
+    } finally {
+      reader.dispose();
+    }
+  }
+
+  @Test
+  public void testMakeVisibleEveryTick() throws IOException {
+    File file = ViewFixtures.tempFile("animation", ".gif");
+    new GIFView(this.model, file, null, 10).makeVisible();
+
+    BufferedImage[] frames = this.frames(file);
+    assertEquals(11, frames.length);
+
+    //the rectangle starts at the top left corner of the canvas and moves right
+    assertEquals(40, frames[0].getWidth());
+    assertEquals(30, frames[0].getHeight());
+    assertEquals(0xFF0000, frames[0].getRGB(5, 5) & 0xFFFFFF);
+    assertEquals(0xFFFFFF, frames[0].getRGB(25, 5) & 0xFFFFFF);
+    assertEquals(0xFFFFFF, frames[0].getRGB(25, 15) & 0xFFFFFF);
+
+    assertEquals(0xFFFFFF, frames[10].getRGB(5, 5) & 0xFFFFFF);
+    assertEquals(0xFF0000, frames[10].getRGB(25, 5) & 0xFFFFFF);
+    assertEquals(0x0000FF, frames[10].getRGB(25, 15) & 0xFFFFFF);
+
+    assertArrayEquals(new int[]{10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10}, this.delays(file));
+  }
+
+  @Test
+  public void testMakeVisibleRange() throws IOException {
+    File file = ViewFixtures.tempFile("animation", ".gif");
+    new GIFView(this.model, file, FrameRange.parse("2:100:4"), 3).makeVisible();
+
+    //each frame lasts 4 ticks at 3 ticks per second
+    assertEquals(3, this.frames(file).length);
+    assertArrayEquals(new int[]{133, 134, 133}, this.delays(file));
+  }
+
+  @Test
+  public void testMakeVisibleOverwritesLongerFile() throws IOException {
+    File file = ViewFixtures.tempFile("animation", ".gif");
+    Files.write(file.toPath(), new byte[100000]);
+    new GIFView(this.model, file, FrameRange.parse("0:0"), 1).makeVisible();
+
+    assertEquals(1, this.frames(file).length);
+    assertEquals(true, file.length() < 100000);
+  }
+
+  @Test
+  public void testMakeVisibleSameOnAnyThreads() throws IOException {
+    ImmutableModel toh = new ImmutableAnimation(AnimationReader.parseFile(
+            new File("samples/toh-3.txt"), new Animation.Builder()));
+    File one = ViewFixtures.tempFile("animation", ".gif");
+    File many = ViewFixtures.tempFile("animation", ".gif");
+    new GIFView(toh, one, FrameRange.parse("0:300:7"), 20, 1).makeVisible();
+    new GIFView(toh, many, FrameRange.parse("0:300:7"), 20, 4).makeVisible();
+
+    assertArrayEquals(Files.readAllBytes(one.toPath()), Files.readAllBytes(many.toPath()));
+  }
+
+  @Test
+  public void testGetDelay() {
+    GIFView view = new GIFView(this.model, new File("animation.gif"), null, 3);
+    assertEquals(33, view.getDelay(0));
+    assertEquals(34, view.getDelay(1));
+    assertEquals(33, view.getDelay(2));
+
+    //frames longer than a tick last for the whole stride
+    view = new GIFView(this.model, new File("animation.gif"), FrameRange.parse("0:10:5"), 20);
+    assertEquals(25, view.getDelay(0));
+    assertEquals(25, view.getDelay(7));
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testConstructorNullModel() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Model and file can't be null.");
+    new GIFView(null, new File("animation.gif"), null, 1);
+  }
+
+  @Test
+  public void testConstructorNullFile() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Model and file can't be null.");
+    new GIFView(this.model, null, null, 1);
+  }
+
+  @Test
+  public void testConstructorInvalidSpeed() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Speed must be greater than zero.");
+    new GIFView(this.model, new File("animation.gif"), null, 0);
+  }
+
+  @Test
+  public void testConstructorInvalidThreads() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Threads must be greater than zero.");
+    new GIFView(this.model, new File("animation.gif"), null, 1, 0);
+  }
+
+  @Test
+  public void testMakeVisibleDirectory() throws IOException {
+    thrown.expect(IllegalStateException.class);
+    File directory = ViewFixtures.tempDirectory("animation");
+    new GIFView(this.model, directory, null, 1).makeVisible();
+  }
+
+  @Test
+  public void testAnimateException() {
+    thrown.expect(UnsupportedOperationException.class);
+    thrown.expectMessage("GIF view has no graphical display to animate on.");
+    new GIFView(this.model, new File("animation.gif"), null, 1).animate(new Timer(0, null));
+  }
+}
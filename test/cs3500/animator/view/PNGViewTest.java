@@ -0,0 +1,135 @@
+package cs3500.animator.view;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import javax.imageio.ImageIO;
+import javax.swing.Timer;
+
+import cs3500.animator.model.Animation;
+import cs3500.animator.model.ImmutableAnimation;
+import cs3500.animator.model.ImmutableModel;
+import cs3500.animator.util.AnimationReader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for rendering frames offscreen with the png view.
+ */
+public class PNGViewTest {
+
+  private final ImmutableModel model = new ImmutableAnimation(ViewFixtures.makeModel());
+
+  @Test
+  public void testMakeVisibleEveryTick() throws IOException {
+    File directory = ViewFixtures.tempDirectory("frames");
+    new PNGView(this.model, directory, null).makeVisible();
+
+    String[] names = ViewFixtures.names(directory);
+    assertEquals(11, names.length);
+    assertEquals("frame-000000.png", names[0]);
+    assertEquals("frame-000010.png", names[10]);
+
+    //the rectangle starts at the top left corner of the canvas and moves right
+    BufferedImage first = ImageIO.read(new File(directory, names[0]));
+    assertEquals(40, first.getWidth());
+    assertEquals(30, first.getHeight());
+    assertEquals(0xFF0000, first.getRGB(5, 5) & 0xFFFFFF);
+    assertEquals(0xFFFFFF, first.getRGB(25, 5) & 0xFFFFFF);
+    assertEquals(0xFFFFFF, first.getRGB(25, 15) & 0xFFFFFF);
+
+    BufferedImage last = ImageIO.read(new File(directory, names[10]));
+    assertEquals(0xFFFFFF, last.getRGB(5, 5) & 0xFFFFFF);
+    assertEquals(0xFF0000, last.getRGB(25, 5) & 0xFFFFFF);
+    assertEquals(0x0000FF, last.getRGB(25, 15) & 0xFFFFFF);
+  }
+
+  @Test
+  public void testMakeVisibleRange() throws IOException {
+    File directory = new File(ViewFixtures.tempDirectory("frames"), "nested");
+    directory.deleteOnExit();
+    new PNGView(this.model, directory, FrameRange.parse("2:100:4")).makeVisible();
+
+    assertArrayEquals(new String[]{"frame-000002.png", "frame-000006.png", "frame-000010.png"},
+            ViewFixtures.names(directory));
+  }
+
+  @Test
+  public void testMakeVisibleRotation() throws IOException {
+    File directory = ViewFixtures.tempDirectory("frames");
+    ImmutableModel rotated = new ImmutableAnimation(new Animation.Builder()
+            .setBounds(0, 0, 40, 40).declareShape("R", "rectangle").declareShape("S", "rectangle")
+            .addMotion("R", 1, 0, 15, 40, 10, 0, 255, 0, 2, 0, 15, 40, 10, 0, 255, 0)
+            .rotateKeyFrame("R", 1, 90).rotateKeyFrame("R", 2, 90)
+            .addMotion("S", 1, 0, 0, 10, 10, 0, 0, 255, 2, 0, 0, 10, 10, 0, 0, 255).build());
+    new PNGView(rotated, directory, FrameRange.parse("1:1")).makeVisible();
+
+    //the first rectangle is vertical, and the rotation doesn't apply to the second
+    BufferedImage image = ImageIO.read(new File(directory, ViewFixtures.names(directory)[0]));
+    assertEquals(0x00FF00, image.getRGB(20, 2) & 0xFFFFFF);
+    assertEquals(0xFFFFFF, image.getRGB(2, 20) & 0xFFFFFF);
+    assertEquals(0x0000FF, image.getRGB(5, 5) & 0xFFFFFF);
+  }
+
+  @Test
+  public void testMakeVisibleSameOnAnyThreads() throws IOException {
+    ImmutableModel toh = new ImmutableAnimation(AnimationReader.parseFile(
+            new File("samples/toh-3.txt"), new Animation.Builder()));
+    File one = ViewFixtures.tempDirectory("frames");
+    File many = ViewFixtures.tempDirectory("frames");
+    new PNGView(toh, one, FrameRange.parse("0:300:7"), 1).makeVisible();
+    new PNGView(toh, many, FrameRange.parse("0:300:7"), 4).makeVisible();
+
+    String[] names = ViewFixtures.names(one);
+    assertArrayEquals(names, ViewFixtures.names(many));
+    for (String name : names) {
+      assertArrayEquals(name, Files.readAllBytes(new File(one, name).toPath()),
+              Files.readAllBytes(new File(many, name).toPath()));
+    }
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testConstructorNullModel() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Model and directory can't be null.");
+    new PNGView(null, new File("frames"), null);
+  }
+
+  @Test
+  public void testConstructorNullDirectory() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Model and directory can't be null.");
+    new PNGView(this.model, null, null);
+  }
+
+  @Test
+  public void testMakeVisibleNotADirectory() throws IOException {
+    thrown.expect(IllegalStateException.class);
+    File file = ViewFixtures.tempFile("frames", ".txt");
+    new PNGView(this.model, file, null).makeVisible();
+  }
+
+  @Test
+  public void testConstructorInvalidThreads() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Threads must be greater than zero.");
+    new PNGView(this.model, new File("frames"), null, 0);
+  }
+
+  @Test
+  public void testAnimateException() {
+    thrown.expect(UnsupportedOperationException.class);
+    thrown.expectMessage("PNG view has no graphical display to animate on.");
+    new PNGView(this.model, new File("frames"), null).animate(new Timer(0, null));
+  }
+}
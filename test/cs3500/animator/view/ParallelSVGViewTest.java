@@ -0,0 +1,127 @@
+package cs3500.animator.view;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.swing.Timer;
+
+import cs3500.animator.model.Animation;
+import cs3500.animator.model.Canvas;
+import cs3500.animator.model.ImmutableAnimation;
+import cs3500.animator.model.ImmutableModel;
+import cs3500.animator.model.KeyFrame;
+import cs3500.animator.model.KeyFrameModel;
+import cs3500.animator.model.Rectangle;
+import cs3500.animator.model.Shape;
+import cs3500.animator.model.ShapeModel;
+import cs3500.animator.util.AnimationReader;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for formatting shapes on many threads with the parallel svg view.
+ */
+public class ParallelSVGViewTest {
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @Test
+  public void testMakeVisibleSamples() throws IOException {
+    for (String name : new String[]{"toh-3.txt", "toh-8.txt", "buildings.txt",
+        "RotationExample.txt", "LayerExample.txt", "smalldemo.txt", "hanoi.txt"}) {
+      ImmutableModel model = new ImmutableAnimation(AnimationReader.parseFile(
+              new File("samples/" + name), new Animation.Builder()));
+
+      for (int speed : new int[]{1, 3, 20}) {
+        StringBuilder expected = new StringBuilder();
+        new SVGView(model, expected, speed).makeVisible();
+
+        StringBuilder actual = new StringBuilder();
+        new ParallelSVGView(model, actual, speed, this.pool).makeVisible();
+        assertEquals(name, expected.toString(), actual.toString());
+
+        //a single thread formats the shapes sequentially
+        actual = new StringBuilder();
+        new ParallelSVGView(model, actual, speed, new ForkJoinPool(1)).makeVisible();
+        assertEquals(name, expected.toString(), actual.toString());
+      }
+    }
+  }
+
+  @Test
+  public void testMakeVisibleManyChunks() {
+    Animation.Builder builder = new Animation.Builder();
+    builder.setBounds(0, 0, 100, 100);
+    for (int s = 0; s < 200; s++) {
+      builder.declareShapeWithLayer("S" + s, s % 2 == 0 ? "rectangle" : "ellipse", s % 7);
+      for (int t = 0; t < 50; t++) {
+        builder.addKeyframe("S" + s, t * 3, s + t, s - t, 10 + t, 20 + s, s % 256, t, 7);
+      }
+    }
+    ImmutableModel model = new ImmutableAnimation(builder.build());
+
+    StringBuilder expected = new StringBuilder();
+    new SVGView(model, expected, 7).makeVisible();
+    StringBuilder actual = new StringBuilder();
+    ParallelSVGView view = new ParallelSVGView(model, actual, 7, this.pool);
+    view.makeVisible();
+    assertEquals(expected.toString(), actual.toString());
+
+    //reuses the pooled string builders
+    actual.setLength(0);
+    view.makeVisible();
+    assertEquals(expected.toString(), actual.toString());
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testMakeVisibleUnsupportedShape() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Unsupported shape type.");
+
+    Shape triangle = new Rectangle(new Shape.ShapeBuilder().setKey("T")) {
+      @Override
+      public String getType() {
+        return "Triangle";
+      }
+    };
+    LinkedHashMap<ShapeModel, ArrayList<KeyFrameModel>> map = new LinkedHashMap<>();
+    ArrayList<KeyFrameModel> frames = new ArrayList<>();
+    frames.add(new KeyFrame(1, triangle));
+    map.put(triangle, frames);
+
+    new ParallelSVGView(new ImmutableAnimation(new Animation(map, new Canvas())),
+            new StringBuilder(), 1, this.pool).makeVisible();
+  }
+
+  @Test
+  public void testConstructorNullPool() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Pool can't be null.");
+    new ParallelSVGView(new ImmutableAnimation(new Animation()), new StringBuilder(), 1, null);
+  }
+
+  @Test
+  public void testConstructorNullModel() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Model and appendable object can't be null.");
+    new ParallelSVGView(null, new StringBuilder(), 1, this.pool);
+  }
+
+  @Test
+  public void testAnimateException() {
+    thrown.expect(UnsupportedOperationException.class);
+    thrown.expectMessage("SVG view has no graphical display to animate on.");
+    new ParallelSVGView(new ImmutableAnimation(new Animation()), new StringBuilder(), 1,
+            this.pool).animate(new Timer(0, null));
+  }
+}
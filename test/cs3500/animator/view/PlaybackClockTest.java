@@ -0,0 +1,142 @@
+package cs3500.animator.view;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for the clock animations are played back by.
+ */
+public class PlaybackClockTest {
+
+  //represents the time read by the clocks under test, in nanoseconds
+  private long now = 5_000_000_000L;
+
+  /**
+   * Advances the time read by the clocks under test.
+   *
+   * @param millis the number of milliseconds to advance by
+   */
+  private void advance(long millis) {
+    this.now += millis * 1_000_000L;
+  }
+
+  @Test
+  public void testStartsWhenFirstRead() {
+    PlaybackClock clock = new PlaybackClock(10, () -> this.now);
+    this.advance(1000);
+
+    assertEquals(0, clock.getTick());
+    this.advance(99);
+    assertEquals(0, clock.getTick());
+    this.advance(1);
+    assertEquals(1, clock.getTick());
+  }
+
+  @Test
+  public void testSkipsLateFrames() {
+    PlaybackClock clock = new PlaybackClock(20, () -> this.now);
+    assertEquals(0, clock.getTick());
+
+    //a frame drawn half a second late shows the tick it's drawn at
+    this.advance(550);
+    assertEquals(11, clock.getTick());
+    this.advance(50);
+    assertEquals(12, clock.getTick());
+  }
+
+  @Test
+  public void testGetTimeBetweenTicks() {
+    PlaybackClock clock = new PlaybackClock(10, () -> this.now);
+    assertEquals(0, clock.getTime(), 0);
+
+    this.advance(125);
+    assertEquals(1.25, clock.getTime(), 0.0001);
+    assertEquals(1, clock.getTick());
+
+    //changing speed or direction keeps how far the clock is between two ticks
+    clock.setDirection(-1);
+    assertEquals(1.25, clock.getTime(), 0.0001);
+    this.advance(50);
+    assertEquals(0.75, clock.getTime(), 0.0001);
+    assertEquals(0, clock.getTick());
+  }
+
+  @Test
+  public void testSetTick() {
+    PlaybackClock clock = new PlaybackClock(10, () -> this.now);
+    this.advance(500);
+    clock.setTick(40);
+
+    assertEquals(40, clock.getTick());
+    this.advance(300);
+    assertEquals(43, clock.getTick());
+  }
+
+  @Test
+  public void testSetDirection() {
+    PlaybackClock clock = new PlaybackClock(10, () -> this.now);
+    clock.getTick();
+    this.advance(1000);
+    clock.setDirection(0);
+
+    this.advance(5000);
+    assertEquals(10, clock.getTick());
+
+    clock.setDirection(-1);
+    this.advance(300);
+    assertEquals(7, clock.getTick());
+    this.advance(1000);
+    assertEquals(-3, clock.getTick());
+  }
+
+  @Test
+  public void testSetTicksPerSecond() {
+    PlaybackClock clock = new PlaybackClock(10, () -> this.now);
+    clock.getTick();
+    this.advance(1000);
+    clock.setTicksPerSecond(100);
+
+    assertEquals(10, clock.getTick());
+    this.advance(1000);
+    assertEquals(110, clock.getTick());
+  }
+
+  @Test
+  public void testChangesBeforeStarting() {
+    PlaybackClock clock = new PlaybackClock(10, () -> this.now);
+    clock.setTicksPerSecond(20);
+    clock.setDirection(-1);
+    this.advance(1000);
+
+    assertEquals(0, clock.getTick());
+    this.advance(1000);
+    assertEquals(-20, clock.getTick());
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testConstructorInvalidTicksPerSecond() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Ticks per second must be greater than zero.");
+    new PlaybackClock(0);
+  }
+
+  @Test
+  public void testConstructorNullTimeSource() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Time source can't be null.");
+    new PlaybackClock(1, null);
+  }
+
+  @Test
+  public void testSetTicksPerSecondInvalid() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Ticks per second must be greater than zero.");
+    new PlaybackClock(1).setTicksPerSecond(-1);
+  }
+}
@@ -162,6 +162,61 @@ public class SVGViewTest {
           + "</svg>", ap.toString());
   }
 
+  @Test
+  public void testMakeVisibleWritesEachShape() throws IOException {
+    Animation animation = new Animation.Builder().setBounds(10, 20, 100, 50)
+            .declareShape("R", "rectangle").declareShape("E", "ellipse")
+            .addMotion("R", 1, 10, 20, 5, 5, 0, 0, 0, 3, 30, 40, 5, 5, 10, 20, 30)
+            .addMotion("E", 2, 10, 20, 4, 6, 255, 0, 0, 5, 10, 20, 4, 6, 255, 0, 0).build();
+
+    //records each piece of output written to the appendable object
+    ArrayList<String> writes = new ArrayList<>();
+    StringBuilder sb = new StringBuilder();
+    Appendable ap = new Appendable() {
+      @Override
+      public Appendable append(CharSequence csq) {
+        writes.add(csq.toString());
+        sb.append(csq);
+        return this;
+      }
+
+      @Override
+      public Appendable append(CharSequence csq, int start, int end) {
+        return this.append(csq.subSequence(start, end));
+      }
+
+      @Override
+      public Appendable append(char c) {
+        return this.append(String.valueOf(c));
+      }
+    };
+
+    new SVGView(new ImmutableAnimation(animation), ap, 3).makeVisible();
+    assertEquals(3, writes.size());
+    assertEquals("<svg width=\"100\" height=\"50\" version=\"1.1\""
+            + " xmlns=\"http://www.w3.org/2000/svg\">\n"
+            + "<rect x=\"0.000000\" y=\"0.000000\" width=\"0.000000\" height=\"0.000000\""
+            + " fill=\"rgb(    0,     0,      0)\" visibility=\"visible\" >\n"
+            + "<animate attributeName=\"x\" attributeType=\"XML\" begin=\"0.333333s\""
+            + " dur=\"0.666667s\" fill=\"freeze\" from=\"0.000000\" to=\"20.000000\" />\n"
+            + "<animate attributeName=\"y\" attributeType=\"XML\" begin=\"0.333333s\""
+            + " dur=\"0.666667s\" fill=\"freeze\" from=\"0.000000\" to=\"20.000000\" />\n"
+            + "<animate attributeName=\"width\" attributeType=\"XML\" begin=\"0.333333s\""
+            + " dur=\"0.666667s\" fill=\"freeze\" from=\"5.000000\" to=\"5.000000\" />\n"
+            + "<animate attributeName=\"height\" attributeType=\"XML\" begin=\"0.333333s\""
+            + " dur=\"0.666667s\" fill=\"freeze\" from=\"5.000000\" to=\"5.000000\" />\n"
+            + "<animate attributeName=\"fill\" attributeType=\"CSS\" from=\"rgb(0, 0,  0)\""
+            + " to =\"rgb(  10,   20,    30)\" begin = \"0.333333s\" dur = \"0.666667s\""
+            + " fill = \"freeze\" />\n"
+            + "<animateTransform attributeName=\"transform\" attributeType=\"XML\""
+            + " type=\"rotate\" from=\"0.000000 12.500000 22.500000\""
+            + " to=\"0.000000 32.500000 42.500000\" dur=\"0.666667s\" repeatCount=\"0\"/>\n"
+            + "\n"
+            + "</rect>\n", writes.get(0));
+    assertEquals("</svg>", writes.get(2));
+    assertEquals(writes.get(0) + writes.get(1) + writes.get(2), sb.toString());
+  }
+
   @Rule
   public ExpectedException thrown = ExpectedException.none();
 
@@ -4,6 +4,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+
 import cs3500.animator.model.Animation;
 import cs3500.animator.model.ImmutableAnimation;
 
@@ -37,6 +40,84 @@ public class ViewFactoryTest {
     assertEquals(v4.getClass(), VisualViewEditable.class);
   }
 
+  @Test
+  public void testGetThreadedView() {
+    View v1 = ViewFactory.getView("visual-threaded", new ImmutableAnimation(new Animation()),
+            new StringBuilder(), 1);
+    View v2 = ViewFactory.getView("edit-threaded", new ImmutableAnimation(new Animation()),
+            new StringBuilder(), 1);
+
+    assertEquals(v1.getClass(), VisualView.class);
+    assertEquals(v2.getClass(), VisualViewEditable.class);
+  }
+
+  @Test
+  public void testGetParallelSVGView() {
+    View v = ViewFactory.getView("svg-parallel", new ImmutableAnimation(new Animation()),
+            new StringBuilder(), 1);
+
+    assertEquals(v.getClass(), ParallelSVGView.class);
+  }
+
+  @Test
+  public void testGetFrameView() {
+    View v = ViewFactory.getFrameView("png", new ImmutableAnimation(new Animation()),
+            new File("frames"), null, 1);
+    View gif = ViewFactory.getFrameView("gif", new ImmutableAnimation(new Animation()),
+            new File("animation.gif"), null, 1);
+
+    assertEquals(v.getClass(), PNGView.class);
+    assertEquals(gif.getClass(), GIFView.class);
+    assertEquals(true, ViewFactory.isFrameView("png"));
+    assertEquals(true, ViewFactory.isFrameView("gif"));
+    assertEquals(false, ViewFactory.isFrameView("svg"));
+  }
+
+  @Test
+  public void testGetFrameViewNullOutput() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("View type, model, and output file can't be null.");
+    ViewFactory.getFrameView("png", new ImmutableAnimation(new Animation()), null, null, 1);
+  }
+
+  @Test
+  public void testGetFrameViewInvalidType() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Invalid view type.");
+    ViewFactory.getFrameView("svg", new ImmutableAnimation(new Animation()), new File("frames"),
+            null, 1);
+  }
+
+  @Test
+  public void testGetFrameViewInvalidSpeed() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Speed must be greater than zero.");
+    ViewFactory.getFrameView("gif", new ImmutableAnimation(new Animation()),
+            new File("animation.gif"), null, 0);
+  }
+
+  @Test
+  public void testGetStreamView() {
+    View v = ViewFactory.getStreamView("bin", new ImmutableAnimation(new Animation()),
+            new ByteArrayOutputStream(), null, 1);
+    View y4m = ViewFactory.getStreamView("y4m", new ImmutableAnimation(new Animation()),
+            new ByteArrayOutputStream(), null, 1);
+
+    assertEquals(v.getClass(), BinaryView.class);
+    assertEquals(y4m.getClass(), Y4MView.class);
+    assertEquals(true, ViewFactory.isStreamView("bin"));
+    assertEquals(true, ViewFactory.isStreamView("y4m"));
+    assertEquals(false, ViewFactory.isStreamView("svg"));
+  }
+
+  @Test
+  public void testIsEditView() {
+    assertEquals(true, ViewFactory.isEditView("edit"));
+    assertEquals(true, ViewFactory.isEditView("edit-threaded"));
+    assertEquals(false, ViewFactory.isEditView("visual"));
+    assertEquals(false, ViewFactory.isEditView(null));
+  }
+
   @Rule
   public ExpectedException thrown = ExpectedException.none();
 
@@ -77,4 +158,27 @@ public class ViewFactoryTest {
     ViewFactory.getView("triangle", new ImmutableAnimation(new Animation()), new StringBuilder(),
             1);
   }
+
+  @Test
+  public void testGetStreamViewNullOutputStream() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("View type, model, and output stream can't be null.");
+    ViewFactory.getStreamView("bin", new ImmutableAnimation(new Animation()), null, null, 1);
+  }
+
+  @Test
+  public void testGetStreamViewInvalidType() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Invalid view type.");
+    ViewFactory.getStreamView("svg", new ImmutableAnimation(new Animation()),
+            new ByteArrayOutputStream(), null, 1);
+  }
+
+  @Test
+  public void testGetStreamViewInvalidSpeed() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Speed must be greater than zero.");
+    ViewFactory.getStreamView("y4m", new ImmutableAnimation(new Animation()),
+            new ByteArrayOutputStream(), null, 0);
+  }
 }
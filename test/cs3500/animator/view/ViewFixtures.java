@@ -0,0 +1,77 @@
+package cs3500.animator.view;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import cs3500.animator.model.Animation;
+
+/**
+ * Represents the animation and temporary files shared by the tests of views that render frames.
+ */
+final class ViewFixtures {
+
+  /**
+   * Prevents the fixtures from being instantiated.
+   */
+  private ViewFixtures() {
+  }
+
+  /**
+   * Creates a 40 by 30 animation whose canvas starts at (10, 20), with a red rectangle moving
+   * right from the top left corner over ticks 0 to 10, and a blue ellipse below it's final
+   * position from tick 5 to 10.
+   *
+   * @return a new animation, which can be edited without changing any other test's animation
+   */
+  static Animation makeModel() {
+    return new Animation.Builder()
+            .setBounds(10, 20, 40, 30).declareShape("R", "rectangle").declareShape("E", "ellipse")
+            .addMotion("R", 0, 10, 20, 10, 10, 255, 0, 0, 10, 30, 20, 10, 10, 255, 0, 0)
+            .addMotion("E", 5, 30, 30, 10, 10, 0, 0, 255, 10, 30, 30, 10, 10, 0, 0, 255).build();
+  }
+
+  /**
+   * Creates an empty temporary file, which is deleted when the tests exit.
+   *
+   * @param prefix the start of the file's name
+   * @param suffix the end of the file's name
+   * @return the file
+   * @throws IOException if the file can't be created
+   */
+  static File tempFile(String prefix, String suffix) throws IOException {
+    File file = File.createTempFile(prefix, suffix);
+    file.deleteOnExit();
+    return file;
+  }
+
+  /**
+   * Creates an empty temporary directory, which is deleted when the tests exit if it's empty.
+   *
+   * @param prefix the start of the directory's name
+   * @return the directory
+   * @throws IOException if the directory can't be created
+   */
+  static File tempDirectory(String prefix) throws IOException {
+    File directory = Files.createTempDirectory(prefix).toFile();
+    directory.deleteOnExit();
+    return directory;
+  }
+
+  /**
+   * Gets the names of the files in the given directory, sorted, and marks each file to be deleted
+   * when the tests exit.
+   *
+   * @param directory the directory
+   * @return the file names
+   */
+  static String[] names(File directory) {
+    String[] names = directory.list();
+    Arrays.sort(names);
+    for (String name : names) {
+      new File(directory, name).deleteOnExit();
+    }
+    return names;
+  }
+}
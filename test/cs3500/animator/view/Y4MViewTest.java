@@ -0,0 +1,137 @@
+package cs3500.animator.view;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.swing.Timer;
+
+import cs3500.animator.model.ImmutableAnimation;
+import cs3500.animator.model.ImmutableModel;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Represents tests for writing raw video with the y4m view.
+ */
+public class Y4MViewTest {
+
+  private final ImmutableModel model = new ImmutableAnimation(ViewFixtures.makeModel());
+
+  //represents the length of the stream header
+  private static final int HEADER = "YUV4MPEG2 W40 H30 F10:1 Ip A1:1 C444\n".length();
+
+  //represents the length of each frame, with it's header
+  private static final int FRAME = "FRAME\n".length() + 40 * 30 * 3;
+
+  /**
+   * Gets the Y, U, and V samples of the pixel at the given position of the given frame.
+   *
+   * @param bytes the written video
+   * @param frame the index of the frame
+   * @param x     the x position of the pixel
+   * @param y     the y position of the pixel
+   * @return the samples
+   */
+  private int[] yuv(byte[] bytes, int frame, int x, int y) {
+    int plane = 40 * 30;
+    int i = HEADER + frame * FRAME + "FRAME\n".length() + y * 40 + x;
+    return new int[]{bytes[i] & 0xFF, bytes[i + plane] & 0xFF, bytes[i + plane * 2] & 0xFF};
+  }
+
+  @Test
+  public void testMakeVisibleEveryTick() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new Y4MView(this.model, out, null, 10).makeVisible();
+    byte[] bytes = out.toByteArray();
+
+    assertEquals("YUV4MPEG2 W40 H30 F10:1 Ip A1:1 C444\n",
+            new String(bytes, 0, HEADER, StandardCharsets.US_ASCII));
+    assertEquals(HEADER + FRAME * 11, bytes.length);
+    assertEquals("FRAME\n", new String(bytes, HEADER + FRAME * 10, 6, StandardCharsets.US_ASCII));
+
+    //the rectangle starts at the top left corner of the canvas and moves right
+    assertArrayEquals(new int[]{82, 90, 240}, this.yuv(bytes, 0, 5, 5));
+    assertArrayEquals(new int[]{235, 128, 128}, this.yuv(bytes, 0, 25, 5));
+    assertArrayEquals(new int[]{235, 128, 128}, this.yuv(bytes, 0, 25, 15));
+
+    assertArrayEquals(new int[]{235, 128, 128}, this.yuv(bytes, 10, 5, 5));
+    assertArrayEquals(new int[]{82, 90, 240}, this.yuv(bytes, 10, 25, 5));
+    assertArrayEquals(new int[]{41, 240, 110}, this.yuv(bytes, 10, 25, 15));
+  }
+
+  @Test
+  public void testMakeVisibleRange() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new Y4MView(this.model, out, FrameRange.parse("2:100:4"), 6).makeVisible();
+    byte[] bytes = out.toByteArray();
+
+    //each frame lasts 4 ticks at 6 ticks per second
+    assertEquals("YUV4MPEG2 W40 H30 F3:2 Ip A1:1 C444\n",
+            new String(bytes, 0, HEADER - 1, StandardCharsets.US_ASCII));
+    assertEquals(HEADER - 1 + FRAME * 3, bytes.length);
+  }
+
+  @Test
+  public void testToYUV() {
+    byte[] planes = new byte[12];
+    Y4MView.toYUV(new int[]{0x000000, 0xFFFFFF, 0x00FF00, 0x808080}, planes);
+
+    int[] samples = new int[12];
+    for (int i = 0; i < planes.length; i++) {
+      samples[i] = planes[i] & 0xFF;
+    }
+    assertEquals("[16, 235, 144, 126, 128, 128, 54, 128, 128, 128, 34, 128]",
+            Arrays.toString(samples));
+  }
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void testConstructorNullModel() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Model and output stream can't be null.");
+    new Y4MView(null, new ByteArrayOutputStream(), null, 1);
+  }
+
+  @Test
+  public void testConstructorNullOutputStream() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Model and output stream can't be null.");
+    new Y4MView(this.model, null, null, 1);
+  }
+
+  @Test
+  public void testConstructorInvalidSpeed() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("Speed must be greater than zero.");
+    new Y4MView(this.model, new ByteArrayOutputStream(), null, 0);
+  }
+
+  @Test
+  public void testIOException() {
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Unable to successfully transmit output.");
+    new Y4MView(this.model, new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException();
+      }
+    }, null, 1).makeVisible();
+  }
+
+  @Test
+  public void testAnimateException() {
+    thrown.expect(UnsupportedOperationException.class);
+    thrown.expectMessage("Y4M view has no graphical display to animate on.");
+    new Y4MView(this.model, new ByteArrayOutputStream(), null, 1).animate(new Timer(0, null));
+  }
+}